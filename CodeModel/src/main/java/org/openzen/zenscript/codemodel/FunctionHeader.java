@@ -120,6 +120,14 @@ public class FunctionHeader {
 		return false;
 	}
 
+	/**
+	 * Checks if all parameter and return types of this header are known. Unlike
+	 * hasUnknowns, this takes a return type inferred after construction into account.
+	 */
+	public boolean isResolved() {
+		return !hasUnknowns(parameters, returnType);
+	}
+
 	public boolean isVariadic() {
 		return parameters.length > 0 && parameters[parameters.length - 1].variadic;
 	}
@@ -1,9 +1,15 @@
 package org.openzen.zenscript.codemodel;
 
+import org.openzen.zencode.shared.SourceFileTable;
+
 public class Module {
 	public static final Module BUILTIN = new Module("builtin");
 
 	public final String name;
+	/**
+	 * Source files of this module, used to resolve packed positions.
+	 */
+	public final SourceFileTable sourceFiles = new SourceFileTable();
 
 	public Module(String name) {
 		this.name = name;
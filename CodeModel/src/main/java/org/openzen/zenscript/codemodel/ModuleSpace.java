@@ -37,6 +37,7 @@ public final class ModuleSpace {
 		modules.put(name, dependency);
 		rootPackage.add(name, dependency.modulePackage);
 		dependency.definitions.registerExpansionsTo(expansions);
+		registry.shareMembers(this, expansions);
 
 		for (Map.Entry<String, ISymbol> globalEntry : dependency.globals.entrySet()) {
 			if (globals.containsKey(globalEntry.getKey()))
@@ -115,7 +115,7 @@ public class StatementContext extends TypeContext {
 			if (loops[i] == loop)
 				return i;
 
-		throw new IllegalArgumentException("Loop@" + loop.position + " not in scope");
+		throw new IllegalArgumentException("Loop@" + loop.getPosition() + " not in scope");
 	}
 
 	public int getParameterIndex(FunctionParameter parameter) {
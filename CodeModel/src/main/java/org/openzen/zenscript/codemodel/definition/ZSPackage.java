@@ -134,7 +134,13 @@ public class ZSPackage {
 		return result;
 	}
 
-	public void register(HighLevelDefinition definition) {
+	/**
+	 * Registers a definition to this package. Definitions register themselves
+	 * while being parsed, which can happen on multiple threads at once.
+	 *
+	 * @param definition definition to register
+	 */
+	public synchronized void register(HighLevelDefinition definition) {
 		types.put(definition.name, definition);
 	}
 }
@@ -31,11 +31,11 @@ public class AndAndExpression extends Expression {
 		Expression tRight = right.transform(transformer);
 		return tLeft == left && tRight == right
 				? this
-				: new AndAndExpression(position, tLeft, tRight);
+				: new AndAndExpression(getPosition(), tLeft, tRight);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new AndAndExpression(position, left.normalize(scope), right.normalize(scope));
+		return new AndAndExpression(getPosition(), left.normalize(scope), right.normalize(scope));
 	}
 }
@@ -29,7 +29,7 @@ public class ArrayExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression[] tExpressions = Expression.transform(expressions, transformer);
-		return tExpressions == expressions ? this : new ArrayExpression(position, tExpressions, type);
+		return tExpressions == expressions ? this : new ArrayExpression(getPosition(), tExpressions, type);
 	}
 
 	@Override
@@ -37,6 +37,6 @@ public class ArrayExpression extends Expression {
 		Expression[] normalized = new Expression[expressions.length];
 		for (int i = 0; i < normalized.length; i++)
 			normalized[i] = expressions[i].normalize(scope);
-		return new ArrayExpression(position, normalized, type.getNormalized());
+		return new ArrayExpression(getPosition(), normalized, type.getNormalized());
 	}
 }
@@ -40,7 +40,7 @@ public class CallExpression extends Expression {
 		CallArguments tArguments = arguments.transform(transformer);
 		return tTarget == target && tArguments == arguments
 				? this
-				: new CallExpression(position, tTarget, member, instancedHeader, tArguments);
+				: new CallExpression(getPosition(), tTarget, member, instancedHeader, tArguments);
 	}
 
 	@Override
@@ -59,10 +59,10 @@ public class CallExpression extends Expression {
 	@Override
 	public Expression normalize(TypeScope scope) {
 		return new CallExpression(
-				position,
+				getPosition(),
 				target.normalize(scope),
 				member,
 				instancedHeader.normalize(scope.getTypeRegistry()),
-				arguments.normalize(position, scope, instancedHeader));
+				arguments.normalize(getPosition(), scope, instancedHeader));
 	}
 }
@@ -34,16 +34,16 @@ public class CallStaticExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		CallArguments tArguments = arguments.transform(transformer);
-		return arguments == tArguments ? this : new CallStaticExpression(position, target, member, instancedHeader, tArguments);
+		return arguments == tArguments ? this : new CallStaticExpression(getPosition(), target, member, instancedHeader, tArguments);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
 		return new CallStaticExpression(
-				position,
+				getPosition(),
 				target.getNormalized(),
 				member,
 				instancedHeader.normalize(scope.getTypeRegistry()),
-				arguments.normalize(position, scope, instancedHeader));
+				arguments.normalize(getPosition(), scope, instancedHeader));
 	}
 }
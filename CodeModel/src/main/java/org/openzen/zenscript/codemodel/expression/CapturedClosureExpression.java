@@ -33,12 +33,12 @@ public class CapturedClosureExpression extends CapturedExpression {
 		if (!(tValue instanceof CapturedExpression)) {
 			throw new IllegalStateException("Transformed CapturedExpression must also be a CapturedExpression!");
 		} else {
-			return tValue == value ? this : new CapturedClosureExpression(position, (CapturedExpression) tValue, closure);
+			return tValue == value ? this : new CapturedClosureExpression(getPosition(), (CapturedExpression) tValue, closure);
 		}
 	}
 
 	@Override
 	public CapturedExpression normalize(TypeScope scope) {
-		return new CapturedClosureExpression(position, value.normalize(scope), closure);
+		return new CapturedClosureExpression(getPosition(), value.normalize(scope), closure);
 	}
 }
@@ -29,11 +29,11 @@ public class CapturedDirectExpression extends CapturedExpression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tValue = transformer.transform(value);
-		return tValue == value ? this : new CapturedDirectExpression(position, closure, tValue);
+		return tValue == value ? this : new CapturedDirectExpression(getPosition(), closure, tValue);
 	}
 
 	@Override
 	public CapturedExpression normalize(TypeScope scope) {
-		return new CapturedDirectExpression(position, closure, value.normalize(scope));
+		return new CapturedDirectExpression(getPosition(), closure, value.normalize(scope));
 	}
 }
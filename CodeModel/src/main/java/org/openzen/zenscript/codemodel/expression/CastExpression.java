@@ -30,11 +30,11 @@ public class CastExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tTarget = target.transform(transformer);
-		return target == tTarget ? this : new CastExpression(position, tTarget, member, isImplicit);
+		return target == tTarget ? this : new CastExpression(getPosition(), tTarget, member, isImplicit);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new CastExpression(position, target.normalize(scope), member, isImplicit);
+		return new CastExpression(getPosition(), target.normalize(scope), member, isImplicit);
 	}
 }
@@ -28,11 +28,11 @@ public class CheckNullExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tValue = transformer.transform(value);
-		return value == tValue ? this : new CheckNullExpression(position, tValue);
+		return value == tValue ? this : new CheckNullExpression(getPosition(), tValue);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new CheckNullExpression(position, value.normalize(scope));
+		return new CheckNullExpression(getPosition(), value.normalize(scope));
 	}
 }
@@ -28,11 +28,11 @@ public class CoalesceExpression extends Expression {
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tLeft = left.transform(transformer);
 		Expression tRight = right.transform(transformer);
-		return tLeft == left && tRight == right ? this : new CoalesceExpression(position, tLeft, tRight);
+		return tLeft == left && tRight == right ? this : new CoalesceExpression(getPosition(), tLeft, tRight);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new CoalesceExpression(position, left.normalize(scope), right.normalize(scope));
+		return new CoalesceExpression(getPosition(), left.normalize(scope), right.normalize(scope));
 	}
 }
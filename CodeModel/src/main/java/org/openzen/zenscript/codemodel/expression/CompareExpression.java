@@ -39,15 +39,15 @@ public class CompareExpression extends Expression {
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tLeft = left.transform(transformer);
 		Expression tRight = right.transform(transformer);
-		return left == tLeft && right == tRight ? this : new CompareExpression(position, tLeft, tRight, operator, comparison);
+		return left == tLeft && right == tRight ? this : new CompareExpression(getPosition(), tLeft, tRight, operator, comparison);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
 		return new CompareExpression(
-				position,
+				getPosition(),
 				left.normalize(scope),
-				right.normalize(scope).castImplicit(position, scope, operator.getHeader().parameters[0].type),
+				right.normalize(scope).castImplicit(getPosition(), scope, operator.getHeader().parameters[0].type),
 				operator,
 				comparison);
 	}
@@ -42,11 +42,11 @@ public class ConditionalExpression extends Expression {
 		Expression tIfElse = transformer.transform(ifElse);
 		return tCondition == condition && tIfThen == ifThen && tIfElse == ifElse
 				? this
-				: new ConditionalExpression(position, tCondition, tIfThen, tIfElse, type);
+				: new ConditionalExpression(getPosition(), tCondition, tIfThen, tIfElse, type);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new ConditionalExpression(position, condition.normalize(scope), ifThen.normalize(scope), ifElse.normalize(scope), type.getNormalized());
+		return new ConditionalExpression(getPosition(), condition.normalize(scope), ifThen.normalize(scope), ifElse.normalize(scope), type.getNormalized());
 	}
 }
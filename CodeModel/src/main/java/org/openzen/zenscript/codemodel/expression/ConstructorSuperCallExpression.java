@@ -32,11 +32,11 @@ public class ConstructorSuperCallExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		CallArguments tArguments = arguments.transform(transformer);
-		return tArguments == arguments ? this : new ConstructorSuperCallExpression(position, type, constructor, tArguments);
+		return tArguments == arguments ? this : new ConstructorSuperCallExpression(getPosition(), type, constructor, tArguments);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new ConstructorSuperCallExpression(position, type.getNormalized(), constructor, arguments.normalize(position, scope, constructor.getHeader()));
+		return new ConstructorSuperCallExpression(getPosition(), type.getNormalized(), constructor, arguments.normalize(getPosition(), scope, constructor.getHeader()));
 	}
 }
@@ -35,11 +35,11 @@ public class ConstructorThisCallExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		CallArguments tArguments = arguments.transform(transformer);
-		return tArguments == arguments ? this : new ConstructorThisCallExpression(position, objectType, constructor, tArguments);
+		return tArguments == arguments ? this : new ConstructorThisCallExpression(getPosition(), objectType, constructor, tArguments);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new ConstructorThisCallExpression(position, objectType, constructor, arguments.normalize(position, scope, constructor.getHeader()));
+		return new ConstructorThisCallExpression(getPosition(), objectType, constructor, arguments.normalize(getPosition(), scope, constructor.getHeader()));
 	}
 }
@@ -3,6 +3,7 @@ package org.openzen.zenscript.codemodel.expression;
 import org.openzen.zencode.shared.CodePosition;
 import org.openzen.zencode.shared.CompileException;
 import org.openzen.zencode.shared.CompileExceptionCode;
+import org.openzen.zencode.shared.SourceFile;
 import org.openzen.zenscript.codemodel.FunctionHeader;
 import org.openzen.zenscript.codemodel.GenericName;
 import org.openzen.zenscript.codemodel.OperatorType;
@@ -24,7 +25,12 @@ import java.util.stream.Collectors;
 public abstract class Expression implements IPartialExpression {
 	public static final Expression[] NONE = new Expression[0];
 
-	public final CodePosition position;
+	/* stored inline rather than as a CodePosition object, see getPosition() */
+	private final SourceFile file;
+	private final int fromLine;
+	private final int fromLineOffset;
+	private final int toLine;
+	private final int toLineOffset;
 	public final TypeID type;
 	public final TypeID thrownType;
 
@@ -34,11 +40,28 @@ public abstract class Expression implements IPartialExpression {
 		//if (type.type == BasicTypeID.UNDETERMINED)
 		//	throw new IllegalArgumentException(position + ": Cannot use undetermined type as expression type");
 
-		this.position = position;
+		if (position == null) {
+			this.file = null;
+			this.fromLine = this.fromLineOffset = this.toLine = this.toLineOffset = 0;
+		} else {
+			this.file = position.file;
+			this.fromLine = position.fromLine;
+			this.fromLineOffset = position.fromLineOffset;
+			this.toLine = position.toLine;
+			this.toLineOffset = position.toLineOffset;
+		}
 		this.type = type.getNormalized();
 		this.thrownType = thrownType;
 	}
 
+	/**
+	 * Creates the position of this expression. Nodes don't keep a CodePosition
+	 * around, since there are a lot of them, so every call creates a new one.
+	 */
+	public CodePosition getPosition() {
+		return file == null ? null : new CodePosition(file, fromLine, fromLineOffset, toLine, toLineOffset);
+	}
+
 	public static TypeID binaryThrow(CodePosition position, TypeID left, TypeID right) {
 		if (left == right)
 			return left;
@@ -82,7 +105,7 @@ public abstract class Expression implements IPartialExpression {
 				if (body == function.body)
 					return function;
 
-				return new FunctionExpression(function.position, function.type, function.closure, function.header, body);
+				return new FunctionExpression(function.getPosition(), function.type, function.closure, function.header, body);
 			} else {
 				return expression;
 			}
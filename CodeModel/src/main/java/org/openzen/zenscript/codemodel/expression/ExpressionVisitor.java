@@ -86,11 +86,11 @@ public interface ExpressionVisitor<T> {
 	T visitInterfaceCast(InterfaceCastExpression expression);
 
 	default T visitInvalid(InvalidExpression expression) {
-		throw new RuntimeException("Invalid expression @ " + expression.position + ": " + expression.message);
+		throw new RuntimeException("Invalid expression @ " + expression.getPosition() + ": " + expression.message);
 	}
 
 	default T visitInvalidAssign(InvalidAssignExpression expression) {
-		throw new RuntimeException("Invalid expression @ " + expression.position + ": " + expression.target.message);
+		throw new RuntimeException("Invalid expression @ " + expression.getPosition() + ": " + expression.target.message);
 	}
 
 	T visitIs(IsExpression expression);
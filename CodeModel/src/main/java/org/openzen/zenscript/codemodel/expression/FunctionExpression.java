@@ -46,7 +46,7 @@ public class FunctionExpression extends Expression {
 	@Override
 	public FunctionExpression transform(ExpressionTransformer transformer) {
 		Statement tBody = body.transform(transformer, ConcatMap.empty(LoopStatement.class, LoopStatement.class));
-		return tBody == body ? this : new FunctionExpression(position, type, closure, header, tBody);
+		return tBody == body ? this : new FunctionExpression(getPosition(), type, closure, header, tBody);
 	}
 
 	@Override
@@ -75,7 +75,7 @@ public class FunctionExpression extends Expression {
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new FunctionExpression(position, type, closure, header, body.normalize(scope, ConcatMap.empty(LoopStatement.class, LoopStatement.class)));
+		return new FunctionExpression(getPosition(), type, closure, header, body.normalize(scope, ConcatMap.empty(LoopStatement.class, LoopStatement.class)));
 	}
 
 	private static class ReturnExpressionTransformer implements ExpressionTransformer {
@@ -48,7 +48,7 @@ public class GetFieldExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tTarget = target.transform(transformer);
-		return tTarget == target ? this : new GetFieldExpression(position, tTarget, field);
+		return tTarget == target ? this : new GetFieldExpression(getPosition(), tTarget, field);
 	}
 
 	@Override
@@ -58,6 +58,6 @@ public class GetFieldExpression extends Expression {
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new GetFieldExpression(position, target.normalize(scope), field);
+		return new GetFieldExpression(getPosition(), target.normalize(scope), field);
 	}
 }
@@ -29,12 +29,12 @@ public class GetterExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tTarget = target.transform(transformer);
-		return target == tTarget ? this : new GetterExpression(position, tTarget, getter);
+		return target == tTarget ? this : new GetterExpression(getPosition(), tTarget, getter);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new GetterExpression(position, target.normalize(scope), getter);
+		return new GetterExpression(getPosition(), target.normalize(scope), getter);
 	}
 
 	@Override
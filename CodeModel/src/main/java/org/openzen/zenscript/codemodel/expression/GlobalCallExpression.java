@@ -30,11 +30,11 @@ public class GlobalCallExpression extends Expression {
 	public Expression transform(ExpressionTransformer transformer) {
 		CallArguments tArguments = arguments.transform(transformer);
 		Expression tResolution = resolution.transform(transformer);
-		return tArguments == arguments && tResolution == resolution ? this : new GlobalCallExpression(position, name, tArguments, tResolution);
+		return tArguments == arguments && tResolution == resolution ? this : new GlobalCallExpression(getPosition(), name, tArguments, tResolution);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new GlobalCallExpression(position, name, arguments, resolution.normalize(scope));
+		return new GlobalCallExpression(getPosition(), name, arguments, resolution.normalize(scope));
 	}
 }
@@ -27,11 +27,11 @@ public class GlobalExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tResolution = resolution.transform(transformer);
-		return resolution == tResolution ? this : new GlobalExpression(position, name, resolution);
+		return resolution == tResolution ? this : new GlobalExpression(getPosition(), name, resolution);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new GlobalExpression(position, name, resolution.normalize(scope));
+		return new GlobalExpression(getPosition(), name, resolution.normalize(scope));
 	}
 }
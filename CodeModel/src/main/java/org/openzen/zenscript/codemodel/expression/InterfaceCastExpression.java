@@ -28,11 +28,11 @@ public class InterfaceCastExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tValue = value.transform(transformer);
-		return value == tValue ? this : new InterfaceCastExpression(position, tValue, implementation);
+		return value == tValue ? this : new InterfaceCastExpression(getPosition(), tValue, implementation);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new InterfaceCastExpression(position, value.normalize(scope), implementation);
+		return new InterfaceCastExpression(getPosition(), value.normalize(scope), implementation);
 	}
 }
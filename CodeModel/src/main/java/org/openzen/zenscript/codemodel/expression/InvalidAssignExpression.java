@@ -27,13 +27,13 @@ public class InvalidAssignExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		return new InvalidAssignExpression(
-				position,
+				getPosition(),
 				target,
 				transformer.transform(source));
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new InvalidAssignExpression(position, target, source.normalize(scope));
+		return new InvalidAssignExpression(getPosition(), target, source.normalize(scope));
 	}
 }
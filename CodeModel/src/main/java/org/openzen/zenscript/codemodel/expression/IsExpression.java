@@ -29,11 +29,11 @@ public class IsExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tValue = value.transform(transformer);
-		return tValue == value ? this : new IsExpression(position, tValue, isType);
+		return tValue == value ? this : new IsExpression(getPosition(), tValue, isType);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new IsExpression(position, value.normalize(scope), isType.getNormalized());
+		return new IsExpression(getPosition(), value.normalize(scope), isType.getNormalized());
 	}
 }
@@ -26,11 +26,11 @@ public class MakeConstExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tValue = value.transform(transformer);
-		return tValue == value ? this : new MakeConstExpression(position, tValue, type);
+		return tValue == value ? this : new MakeConstExpression(getPosition(), tValue, type);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new MakeConstExpression(position, value.normalize(scope), type.getNormalized());
+		return new MakeConstExpression(getPosition(), value.normalize(scope), type.getNormalized());
 	}
 }
@@ -33,7 +33,7 @@ public class MapExpression extends Expression {
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression[] tKeys = Expression.transform(keys, transformer);
 		Expression[] tValues = Expression.transform(values, transformer);
-		return tKeys == keys && tValues == values ? this : new MapExpression(position, tKeys, tValues, type);
+		return tKeys == keys && tValues == values ? this : new MapExpression(getPosition(), tKeys, tValues, type);
 	}
 
 	@Override
@@ -46,6 +46,6 @@ public class MapExpression extends Expression {
 		for (int i = 0; i < normalizedValues.length; i++)
 			normalizedValues[i] = values[i].normalize(scope);
 
-		return new MapExpression(position, normalizedKeys, normalizedValues, type.getNormalized());
+		return new MapExpression(getPosition(), normalizedKeys, normalizedValues, type.getNormalized());
 	}
 }
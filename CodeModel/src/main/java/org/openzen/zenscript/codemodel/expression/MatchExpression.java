@@ -51,7 +51,7 @@ public class MatchExpression extends Expression {
 			tCases[i] = cases[i].transform(transformer);
 			unmodified &= tCases[i] == cases[i];
 		}
-		return unmodified && tValue == value ? this : new MatchExpression(position, tValue, type, tCases);
+		return unmodified && tValue == value ? this : new MatchExpression(getPosition(), tValue, type, tCases);
 	}
 
 	@Override
@@ -59,12 +59,12 @@ public class MatchExpression extends Expression {
 		Case[] normalizedCases = new Case[cases.length];
 		for (int i = 0; i < cases.length; i++)
 			normalizedCases[i] = cases[i].normalize(scope);
-		return new MatchExpression(position, value.normalize(scope), type, normalizedCases);
+		return new MatchExpression(getPosition(), value.normalize(scope), type, normalizedCases);
 	}
 
 	public SwitchedMatch convertToSwitch(String tempVariable) {
-		VarStatement result = new VarStatement(position, new VariableID(), tempVariable, type, null, false);
-		SwitchStatement switchStatement = new SwitchStatement(position, null, value);
+		VarStatement result = new VarStatement(getPosition(), new VariableID(), tempVariable, type, null, false);
+		SwitchStatement switchStatement = new SwitchStatement(getPosition(), null, value);
 		boolean hasDefault = false;
 		for (MatchExpression.Case matchCase : cases) {
 			Expression caseExpression;
@@ -73,12 +73,12 @@ public class MatchExpression extends Expression {
 				caseExpression = matchCase.value;
 				reachable = false;
 			} else {
-				caseExpression = new SetLocalVariableExpression(matchCase.value.position, result, matchCase.value);
+				caseExpression = new SetLocalVariableExpression(matchCase.value.getPosition(), result, matchCase.value);
 			}
 			List<Statement> statements = new ArrayList<>();
-			statements.add(new ExpressionStatement(matchCase.value.position, caseExpression));
+			statements.add(new ExpressionStatement(matchCase.value.getPosition(), caseExpression));
 			if (reachable)
-				statements.add(new BreakStatement(matchCase.value.position, switchStatement));
+				statements.add(new BreakStatement(matchCase.value.getPosition(), switchStatement));
 			SwitchCase switchCase = new SwitchCase(matchCase.key, statements.toArray(new Statement[statements.size()]));
 			switchStatement.cases.add(switchCase);
 
@@ -86,7 +86,7 @@ public class MatchExpression extends Expression {
 				hasDefault = true;
 		}
 		if (!hasDefault) {
-			Statement defaultCase = new ExpressionStatement(position, new PanicExpression(position, BasicTypeID.VOID, new ConstantStringExpression(position, "Missing case")));
+			Statement defaultCase = new ExpressionStatement(getPosition(), new PanicExpression(getPosition(), BasicTypeID.VOID, new ConstantStringExpression(getPosition(), "Missing case")));
 			switchStatement.cases.add(new SwitchCase(null, new Statement[]{defaultCase}));
 		}
 		return new SwitchedMatch(result, switchStatement);
@@ -45,11 +45,11 @@ public class NewExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		CallArguments tArguments = arguments.transform(transformer);
-		return tArguments == arguments ? this : new NewExpression(position, type, constructor, tArguments, instancedHeader);
+		return tArguments == arguments ? this : new NewExpression(getPosition(), type, constructor, tArguments, instancedHeader);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new NewExpression(position, type.getNormalized(), constructor, arguments.normalize(position, scope, instancedHeader), instancedHeader);
+		return new NewExpression(getPosition(), type.getNormalized(), constructor, arguments.normalize(getPosition(), scope, instancedHeader), instancedHeader);
 	}
 }
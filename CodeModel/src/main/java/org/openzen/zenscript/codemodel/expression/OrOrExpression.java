@@ -29,11 +29,11 @@ public class OrOrExpression extends Expression {
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tLeft = left.transform(transformer);
 		Expression tRight = right.transform(transformer);
-		return tLeft == left && tRight == right ? this : new OrOrExpression(position, tLeft, tRight);
+		return tLeft == left && tRight == right ? this : new OrOrExpression(getPosition(), tLeft, tRight);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new OrOrExpression(position, left.normalize(scope), right.normalize(scope));
+		return new OrOrExpression(getPosition(), left.normalize(scope), right.normalize(scope));
 	}
 }
@@ -30,11 +30,11 @@ public class PanicExpression extends Expression {
 
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
-		return new PanicExpression(position, type, transformer.transform(value));
+		return new PanicExpression(getPosition(), type, transformer.transform(value));
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new PanicExpression(position, type, value.normalize(scope));
+		return new PanicExpression(getPosition(), type, value.normalize(scope));
 	}
 }
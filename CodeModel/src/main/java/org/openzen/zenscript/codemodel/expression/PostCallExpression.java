@@ -38,11 +38,11 @@ public class PostCallExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tTarget = target.transform(transformer);
-		return target == tTarget ? this : new PostCallExpression(position, tTarget, member, instancedHeader);
+		return target == tTarget ? this : new PostCallExpression(getPosition(), tTarget, member, instancedHeader);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new PostCallExpression(position, target.normalize(scope), member, instancedHeader.normalize(scope.getTypeRegistry()));
+		return new PostCallExpression(getPosition(), target.normalize(scope), member, instancedHeader.normalize(scope.getTypeRegistry()));
 	}
 }
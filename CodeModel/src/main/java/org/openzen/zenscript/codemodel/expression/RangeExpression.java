@@ -37,16 +37,16 @@ public class RangeExpression extends Expression {
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tFrom = from.transform(transformer);
 		Expression tTo = to.transform(transformer);
-		return tFrom == from && tTo == to ? this : new RangeExpression(position, type, tFrom, tTo, thrownType);
+		return tFrom == from && tTo == to ? this : new RangeExpression(getPosition(), type, tFrom, tTo, thrownType);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
 		TypeID baseType = ((RangeTypeID) type).baseType;
 		return new RangeExpression(
-				position,
+				getPosition(),
 				type.getNormalized(),
-				from.normalize(scope).castImplicit(position, scope, baseType),
-				to.normalize(scope).castImplicit(position, scope, baseType));
+				from.normalize(scope).castImplicit(getPosition(), scope, baseType),
+				to.normalize(scope).castImplicit(getPosition(), scope, baseType));
 	}
 }
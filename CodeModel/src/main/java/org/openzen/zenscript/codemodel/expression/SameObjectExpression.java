@@ -31,11 +31,11 @@ public class SameObjectExpression extends Expression {
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tLeft = left.transform(transformer);
 		Expression tRight = right.transform(transformer);
-		return tLeft == left && tRight == right ? this : new SameObjectExpression(position, tLeft, tRight, inverted);
+		return tLeft == left && tRight == right ? this : new SameObjectExpression(getPosition(), tLeft, tRight, inverted);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new SameObjectExpression(position, left.normalize(scope), right.normalize(scope), inverted);
+		return new SameObjectExpression(getPosition(), left.normalize(scope), right.normalize(scope), inverted);
 	}
 }
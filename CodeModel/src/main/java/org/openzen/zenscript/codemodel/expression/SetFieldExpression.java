@@ -36,11 +36,11 @@ public class SetFieldExpression extends Expression {
 		Expression tValue = value.transform(transformer);
 		return tTarget == target && tValue == value
 				? this
-				: new SetFieldExpression(position, tTarget, field, tValue);
+				: new SetFieldExpression(getPosition(), tTarget, field, tValue);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new SetFieldExpression(position, target, field, value.normalize(scope));
+		return new SetFieldExpression(getPosition(), target, field, value.normalize(scope));
 	}
 }
@@ -28,11 +28,11 @@ public class SetFunctionParameterExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tValue = value.transform(transformer);
-		return tValue == value ? this : new SetFunctionParameterExpression(position, parameter, tValue);
+		return tValue == value ? this : new SetFunctionParameterExpression(getPosition(), parameter, tValue);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new SetFunctionParameterExpression(position, parameter, value.normalize(scope));
+		return new SetFunctionParameterExpression(getPosition(), parameter, value.normalize(scope));
 	}
 }
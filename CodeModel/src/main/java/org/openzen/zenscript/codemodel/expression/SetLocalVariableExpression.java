@@ -28,11 +28,11 @@ public class SetLocalVariableExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tValue = value.transform(transformer);
-		return tValue == value ? this : new SetLocalVariableExpression(position, variable, tValue);
+		return tValue == value ? this : new SetLocalVariableExpression(getPosition(), variable, tValue);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new SetLocalVariableExpression(position, variable, value.normalize(scope));
+		return new SetLocalVariableExpression(getPosition(), variable, value.normalize(scope));
 	}
 }
@@ -28,11 +28,11 @@ public class SetStaticFieldExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tValue = value.transform(transformer);
-		return value == tValue ? this : new SetStaticFieldExpression(position, field, tValue);
+		return value == tValue ? this : new SetStaticFieldExpression(getPosition(), field, tValue);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new SetStaticFieldExpression(position, field, value.normalize(scope));
+		return new SetStaticFieldExpression(getPosition(), field, value.normalize(scope));
 	}
 }
@@ -31,11 +31,11 @@ public class SetterExpression extends Expression {
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tTarget = target.transform(transformer);
 		Expression tValue = value.transform(transformer);
-		return tTarget == target && tValue == value ? this : new SetterExpression(position, tTarget, setter, tValue);
+		return tTarget == target && tValue == value ? this : new SetterExpression(getPosition(), tTarget, setter, tValue);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new SetterExpression(position, target.normalize(scope), setter, value.normalize(scope));
+		return new SetterExpression(getPosition(), target.normalize(scope), setter, value.normalize(scope));
 	}
 }
@@ -28,11 +28,11 @@ public class StaticSetterExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tValue = value.transform(transformer);
-		return tValue == value ? this : new StaticSetterExpression(position, setter, tValue);
+		return tValue == value ? this : new StaticSetterExpression(getPosition(), setter, tValue);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new StaticSetterExpression(position, setter, value.normalize(scope));
+		return new StaticSetterExpression(getPosition(), setter, value.normalize(scope));
 	}
 }
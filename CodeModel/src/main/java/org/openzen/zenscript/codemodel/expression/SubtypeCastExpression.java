@@ -29,11 +29,11 @@ public class SubtypeCastExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tValue = value.transform(transformer);
-		return tValue == value ? this : new SubtypeCastExpression(position, tValue, type);
+		return tValue == value ? this : new SubtypeCastExpression(getPosition(), tValue, type);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new SubtypeCastExpression(position, value.normalize(scope), type.getNormalized());
+		return new SubtypeCastExpression(getPosition(), value.normalize(scope), type.getNormalized());
 	}
 }
@@ -29,11 +29,11 @@ public class SupertypeCastExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tValue = value.transform(transformer);
-		return tValue == value ? this : new SupertypeCastExpression(position, tValue, type);
+		return tValue == value ? this : new SupertypeCastExpression(getPosition(), tValue, type);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new SupertypeCastExpression(position, value.normalize(scope), type.getNormalized());
+		return new SupertypeCastExpression(getPosition(), value.normalize(scope), type.getNormalized());
 	}
 }
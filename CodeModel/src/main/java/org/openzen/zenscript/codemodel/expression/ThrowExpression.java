@@ -31,11 +31,11 @@ public class ThrowExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tValue = transformer.transform(value);
-		return tValue == value ? this : new ThrowExpression(position, type, value);
+		return tValue == value ? this : new ThrowExpression(getPosition(), type, value);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new ThrowExpression(position, type, value.normalize(scope));
+		return new ThrowExpression(getPosition(), type, value.normalize(scope));
 	}
 }
@@ -26,11 +26,11 @@ public class TryConvertExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tValue = value.transform(transformer);
-		return tValue == value ? this : new TryConvertExpression(position, type, tValue);
+		return tValue == value ? this : new TryConvertExpression(getPosition(), type, tValue);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new TryConvertExpression(position, type, value.normalize(scope));
+		return new TryConvertExpression(getPosition(), type, value.normalize(scope));
 	}
 }
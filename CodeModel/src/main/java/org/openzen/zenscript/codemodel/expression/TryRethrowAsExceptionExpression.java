@@ -26,11 +26,11 @@ public class TryRethrowAsExceptionExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tValue = value.transform(transformer);
-		return tValue == value ? this : new TryRethrowAsExceptionExpression(position, type, tValue, thrownType);
+		return tValue == value ? this : new TryRethrowAsExceptionExpression(getPosition(), type, tValue, thrownType);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new TryRethrowAsExceptionExpression(position, type, value.normalize(scope), thrownType.getNormalized());
+		return new TryRethrowAsExceptionExpression(getPosition(), type, value.normalize(scope), thrownType.getNormalized());
 	}
 }
@@ -26,11 +26,11 @@ public class TryRethrowAsResultExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tValue = value.transform(transformer);
-		return tValue == value ? this : new TryRethrowAsResultExpression(position, type, tValue);
+		return tValue == value ? this : new TryRethrowAsResultExpression(getPosition(), type, tValue);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new TryRethrowAsResultExpression(position, type, value.normalize(scope));
+		return new TryRethrowAsResultExpression(getPosition(), type, value.normalize(scope));
 	}
 }
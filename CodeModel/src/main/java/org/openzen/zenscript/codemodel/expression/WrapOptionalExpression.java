@@ -29,11 +29,11 @@ public class WrapOptionalExpression extends Expression {
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
 		Expression tValue = value.transform(transformer);
-		return tValue == value ? this : new WrapOptionalExpression(position, tValue, type);
+		return tValue == value ? this : new WrapOptionalExpression(getPosition(), tValue, type);
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new WrapOptionalExpression(position, value.normalize(scope), type);
+		return new WrapOptionalExpression(getPosition(), value.normalize(scope), type);
 	}
 }
@@ -28,7 +28,7 @@ public class FunctionalMemberRef implements DefinitionMemberRef {
 		this.target = target;
 		this.type = type;
 
-		if (target.header.hasUnknowns) {
+		if (!target.header.isResolved()) {
 			header = null;
 			this.mapper = mapper;
 		} else {
@@ -44,7 +44,7 @@ public class FunctionalMemberRef implements DefinitionMemberRef {
 	@Override
 	public FunctionHeader getHeader() {
 		if (header == null) {
-			if (target.header.hasUnknowns)
+			if (!target.header.isResolved())
 				throw new IllegalStateException("member is not yet resolved!");
 
 			header = mapper == null ? target.header : mapper.map(target.header);
@@ -77,8 +77,9 @@ public class PartialMemberGroupExpression implements IPartialExpression {
 	}
 
 	@Override
-	public List<FunctionHeader> getPossibleFunctionHeaders(TypeScope scope, List<TypeID> hints, int arguments) {
+	public List<FunctionHeader> getPossibleFunctionHeaders(TypeScope scope, List<TypeID> hints, int arguments) throws CompileException {
 		List<FunctionHeader> results = new ArrayList<>();
+		CompileException error = null;
 		for (TypeMember<FunctionalMemberRef> method : group.getMethodMembers()) {
 			if (!method.member.accepts(arguments) || method.member.isStatic())
 				continue;
@@ -87,9 +88,14 @@ public class PartialMemberGroupExpression implements IPartialExpression {
 				scope.getPreparer().prepare(method.member.getTarget());
 				results.add(method.member.getHeader());
 			} catch (CompileException ex) {
-				// ignore this here
+				// ignore this here, unless no other overload is left
+				if (error == null)
+					error = ex;
 			}
 		}
+		if (results.isEmpty() && error != null)
+			throw error;
+
 		//if (results.isEmpty())
 		//	System.out.println("!");
 		return results;
@@ -6,13 +6,15 @@ import org.openzen.zenscript.codemodel.FunctionHeader;
 import org.openzen.zenscript.codemodel.GenericName;
 import org.openzen.zenscript.codemodel.expression.CallArguments;
 import org.openzen.zenscript.codemodel.expression.Expression;
+import org.openzen.zenscript.codemodel.member.ref.FunctionalMemberRef;
 import org.openzen.zenscript.codemodel.scope.TypeScope;
 import org.openzen.zenscript.codemodel.type.TypeID;
+import org.openzen.zenscript.codemodel.type.member.TypeMember;
 import org.openzen.zenscript.codemodel.type.member.TypeMemberGroup;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class PartialStaticMemberGroupExpression implements IPartialExpression {
 	private final CodePosition position;
@@ -40,11 +42,26 @@ public class PartialStaticMemberGroupExpression implements IPartialExpression {
 	}
 
 	@Override
-	public List<FunctionHeader> getPossibleFunctionHeaders(TypeScope scope, List<TypeID> hints, int arguments) {
-		return group.getMethodMembers().stream()
-				.filter(method -> method.member.getHeader().accepts(arguments) && method.member.isStatic())
-				.map(method -> method.member.getHeader())
-				.collect(Collectors.toList());
+	public List<FunctionHeader> getPossibleFunctionHeaders(TypeScope scope, List<TypeID> hints, int arguments) throws CompileException {
+		List<FunctionHeader> results = new ArrayList<>();
+		CompileException error = null;
+		for (TypeMember<FunctionalMemberRef> method : group.getMethodMembers()) {
+			if (!method.member.accepts(arguments) || !method.member.isStatic())
+				continue;
+
+			try {
+				scope.getPreparer().prepare(method.member.getTarget());
+				results.add(method.member.getHeader());
+			} catch (CompileException ex) {
+				// ignore this here, unless no other overload is left
+				if (error == null)
+					error = ex;
+			}
+		}
+		if (results.isEmpty() && error != null)
+			throw error;
+
+		return results;
 	}
 
 	@Override
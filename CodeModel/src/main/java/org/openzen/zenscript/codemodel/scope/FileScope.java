@@ -17,6 +17,7 @@ import org.openzen.zenscript.codemodel.partial.PartialTypeExpression;
 import org.openzen.zenscript.codemodel.statement.LoopStatement;
 import org.openzen.zenscript.codemodel.type.BasicTypeID;
 import org.openzen.zenscript.codemodel.type.ISymbol;
+import org.openzen.zenscript.codemodel.type.InvalidTypeID;
 import org.openzen.zenscript.codemodel.type.TypeID;
 import org.openzen.zenscript.codemodel.type.member.LocalMemberCache;
 import org.openzen.zenscript.codemodel.type.member.TypeMemberPreparer;
@@ -24,6 +25,7 @@ import org.openzen.zenscript.codemodel.type.member.TypeMemberPreparer;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class FileScope extends BaseScope {
 	private final TypeResolutionContext context;
@@ -31,6 +33,9 @@ public class FileScope extends BaseScope {
 	private final LocalMemberCache memberCache;
 	private final Map<String, ISymbol> globals;
 	private final TypeMemberPreparer preparer;
+	// names without type arguments; imports, globals and packages don't change
+	// while the scope is in use. Script blocks may be compiled concurrently.
+	private final Map<String, Resolution> resolutions = new ConcurrentHashMap<>();
 
 	public FileScope(
 			TypeResolutionContext context,
@@ -65,14 +70,26 @@ public class FileScope extends BaseScope {
 
 	@Override
 	public IPartialExpression get(CodePosition position, GenericName name) {
-		TypeID type = context.getType(position, Collections.singletonList(name));
-		if (type != null)
-			return new PartialTypeExpression(position, type, name.arguments);
+		Resolution resolution;
+		if (name.hasNoArguments()) {
+			resolution = resolutions.get(name.name);
+			if (resolution == null) {
+				resolution = resolve(position, name);
+				// invalid types carry the position they were looked up at
+				if (!(resolution.type instanceof InvalidTypeID))
+					resolutions.put(name.name, resolution);
+			}
+		} else {
+			resolution = resolve(position, name);
+		}
 
-		if (globals.containsKey(name.name)) {
-			IPartialExpression resolution = globals.get(name.name).getExpression(position, this, name.arguments);
-			return new PartialGlobalExpression(position, name.name, resolution, name.arguments);
-		} else if (root.contains(name.name)) {
+		if (resolution.type != null)
+			return new PartialTypeExpression(position, resolution.type, name.arguments);
+
+		if (resolution.global != null) {
+			IPartialExpression expression = resolution.global.getExpression(position, this, name.arguments);
+			return new PartialGlobalExpression(position, name.name, expression, name.arguments);
+		} else if (resolution.inRoot) {
 			try {
 				return root.getMember(position, context.getTypeRegistry(), name);
 			} catch (CompileException ex) {
@@ -83,6 +100,18 @@ public class FileScope extends BaseScope {
 		return null;
 	}
 
+	private Resolution resolve(CodePosition position, GenericName name) {
+		TypeID type = context.getType(position, Collections.singletonList(name));
+		if (type != null)
+			return new Resolution(type, null, false);
+
+		ISymbol global = globals.get(name.name);
+		if (global != null)
+			return new Resolution(null, global, false);
+
+		return root.contains(name.name) ? Resolution.ROOT : Resolution.NONE;
+	}
+
 	@Override
 	public TypeID getType(CodePosition position, List<GenericName> name) {
 		TypeID type = context.getType(position, name);
@@ -143,4 +172,19 @@ public class FileScope extends BaseScope {
 	public GenericMapper getLocalTypeParameters() {
 		return GenericMapper.EMPTY;
 	}
+
+	private static final class Resolution {
+		static final Resolution ROOT = new Resolution(null, null, true);
+		static final Resolution NONE = new Resolution(null, null, false);
+
+		final TypeID type;
+		final ISymbol global;
+		final boolean inRoot;
+
+		Resolution(TypeID type, ISymbol global, boolean inRoot) {
+			this.type = type;
+			this.global = global;
+			this.inRoot = inRoot;
+		}
+	}
 }
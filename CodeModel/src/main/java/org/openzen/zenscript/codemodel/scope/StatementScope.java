@@ -19,9 +19,10 @@ public abstract class StatementScope extends BaseScope {
 
 	@Override
 	public IPartialExpression get(CodePosition position, GenericName name) throws CompileException {
-		if (variables.containsKey(name.name) && name.hasNoArguments())
-			return new GetLocalVariableExpression(position, variables.get(name.name));
+		if (!name.hasNoArguments())
+			return null;
 
-		return null;
+		VarStatement variable = variables.get(name.name);
+		return variable == null ? null : new GetLocalVariableExpression(position, variable);
 	}
 }
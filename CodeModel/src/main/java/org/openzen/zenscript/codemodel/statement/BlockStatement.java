@@ -25,7 +25,7 @@ public class BlockStatement extends Statement {
 	private static TypeID getThrownType(Statement[] statements) {
 		TypeID result = null;
 		for (Statement statement : statements)
-			result = Expression.binaryThrow(statement.position, result, statement.thrownType);
+			result = Expression.binaryThrow(statement.getPosition(), result, statement.thrownType);
 		return result;
 	}
 
@@ -57,7 +57,7 @@ public class BlockStatement extends Statement {
 			unchanged &= statement == tStatement;
 			tStatements[i] = statement;
 		}
-		return unchanged ? this : new BlockStatement(position, tStatements);
+		return unchanged ? this : new BlockStatement(getPosition(), tStatements);
 	}
 
 	@Override
@@ -69,7 +69,7 @@ public class BlockStatement extends Statement {
 			unchanged &= statements[i] == tStatement;
 			tStatements[i] = tStatement;
 		}
-		return unchanged ? this : new BlockStatement(position, tStatements);
+		return unchanged ? this : new BlockStatement(getPosition(), tStatements);
 	}
 
 	@Override
@@ -78,7 +78,7 @@ public class BlockStatement extends Statement {
 		int i = 0;
 		for (Statement statement : statements)
 			normalized[i++] = statement.normalize(scope, modified);
-		return new BlockStatement(position, normalized);
+		return new BlockStatement(getPosition(), normalized);
 	}
 
 	@Override
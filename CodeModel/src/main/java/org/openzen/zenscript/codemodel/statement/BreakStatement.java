@@ -33,16 +33,16 @@ public class BreakStatement extends Statement {
 
 	@Override
 	public Statement transform(StatementTransformer transformer, ConcatMap<LoopStatement, LoopStatement> modified) {
-		return modified.contains(target) ? new BreakStatement(position, modified.getAt(target)) : this;
+		return modified.contains(target) ? new BreakStatement(getPosition(), modified.getAt(target)) : this;
 	}
 
 	@Override
 	public Statement transform(ExpressionTransformer transformer, ConcatMap<LoopStatement, LoopStatement> modified) {
-		return modified.contains(target) ? new BreakStatement(position, modified.getAt(target)) : this;
+		return modified.contains(target) ? new BreakStatement(getPosition(), modified.getAt(target)) : this;
 	}
 
 	@Override
 	public Statement normalize(TypeScope scope, ConcatMap<LoopStatement, LoopStatement> modified) {
-		return modified.contains(target) ? new BreakStatement(position, modified.getAt(target)) : this;
+		return modified.contains(target) ? new BreakStatement(getPosition(), modified.getAt(target)) : this;
 	}
 }
@@ -42,7 +42,7 @@ public class DoWhileStatement extends LoopStatement {
 		if (tCondition == condition && tContent == content)
 			return this;
 
-		DoWhileStatement result = new DoWhileStatement(position, label, condition);
+		DoWhileStatement result = new DoWhileStatement(getPosition(), label, condition);
 		result.content = content.transform(transformer, modified.concat(this, result));
 		return result;
 	}
@@ -54,14 +54,14 @@ public class DoWhileStatement extends LoopStatement {
 		if (tCondition == condition && tContent == content)
 			return this;
 
-		DoWhileStatement result = new DoWhileStatement(position, label, tCondition);
+		DoWhileStatement result = new DoWhileStatement(getPosition(), label, tCondition);
 		result.content = content.transform(transformer, modified.concat(this, result));
 		return result;
 	}
 
 	@Override
 	public Statement normalize(TypeScope scope, ConcatMap<LoopStatement, LoopStatement> modified) {
-		DoWhileStatement result = new DoWhileStatement(position, label, condition.normalize(scope));
+		DoWhileStatement result = new DoWhileStatement(getPosition(), label, condition.normalize(scope));
 		result.content = content.normalize(scope, modified.concat(this, result));
 		return result;
 	}
@@ -36,17 +36,17 @@ public class ExpressionStatement extends Statement {
 	@Override
 	public Statement transform(StatementTransformer transformer, ConcatMap<LoopStatement, LoopStatement> modified) {
 		Expression tExpression = expression.transform(transformer);
-		return tExpression == expression ? this : new ExpressionStatement(position, tExpression);
+		return tExpression == expression ? this : new ExpressionStatement(getPosition(), tExpression);
 	}
 
 	@Override
 	public Statement transform(ExpressionTransformer transformer, ConcatMap<LoopStatement, LoopStatement> modified) {
 		Expression tExpression = expression.transform(transformer);
-		return tExpression == expression ? this : new ExpressionStatement(position, tExpression);
+		return tExpression == expression ? this : new ExpressionStatement(getPosition(), tExpression);
 	}
 
 	@Override
 	public Statement normalize(TypeScope scope, ConcatMap<LoopStatement, LoopStatement> modified) {
-		return new ExpressionStatement(position, expression.normalize(scope));
+		return new ExpressionStatement(getPosition(), expression.normalize(scope));
 	}
 }
@@ -47,7 +47,7 @@ public class ForeachStatement extends LoopStatement {
 		if (tList == list && tContent == content)
 			return this;
 
-		ForeachStatement result = new ForeachStatement(position, loopVariables, iterator, tList);
+		ForeachStatement result = new ForeachStatement(getPosition(), loopVariables, iterator, tList);
 		result.content = content.transform(transformer, modified.concat(this, result));
 		return result;
 	}
@@ -59,14 +59,14 @@ public class ForeachStatement extends LoopStatement {
 		if (tList == list && tContent == content)
 			return this;
 
-		ForeachStatement result = new ForeachStatement(position, loopVariables, iterator, tList);
+		ForeachStatement result = new ForeachStatement(getPosition(), loopVariables, iterator, tList);
 		result.content = content.transform(transformer, modified.concat(this, result));
 		return result;
 	}
 
 	@Override
 	public Statement normalize(TypeScope scope, ConcatMap<LoopStatement, LoopStatement> modified) {
-		ForeachStatement result = new ForeachStatement(position, loopVariables, iterator, list.normalize(scope));
+		ForeachStatement result = new ForeachStatement(getPosition(), loopVariables, iterator, list.normalize(scope));
 		result.content = content.normalize(scope, modified.concat(this, result));
 		return result;
 	}
@@ -23,9 +23,9 @@ public class IfStatement extends Statement {
 	}
 
 	private static TypeID getThrownType(Expression condition, Statement onThen, Statement onElse) {
-		TypeID result = Expression.binaryThrow(onThen.position, condition.thrownType, onThen.thrownType);
+		TypeID result = Expression.binaryThrow(onThen.getPosition(), condition.thrownType, onThen.thrownType);
 		if (onElse != null)
-			result = Expression.binaryThrow(onElse.position, result, onElse.thrownType);
+			result = Expression.binaryThrow(onElse.getPosition(), result, onElse.thrownType);
 		return result;
 	}
 
@@ -54,7 +54,7 @@ public class IfStatement extends Statement {
 		Statement tOnElse = onElse == null ? null : onElse.transform(transformer, modified);
 		return tCondition == condition && onThen == tOnThen && onElse == tOnElse
 				? this
-				: new IfStatement(position, tCondition, tOnThen, tOnElse);
+				: new IfStatement(getPosition(), tCondition, tOnThen, tOnElse);
 	}
 
 	@Override
@@ -64,13 +64,13 @@ public class IfStatement extends Statement {
 		Statement tOnElse = onElse == null ? null : onElse.transform(transformer, modified);
 		return tCondition == condition && onThen == tOnThen && onElse == tOnElse
 				? this
-				: new IfStatement(position, tCondition, tOnThen, tOnElse);
+				: new IfStatement(getPosition(), tCondition, tOnThen, tOnElse);
 	}
 
 	@Override
 	public Statement normalize(TypeScope scope, ConcatMap<LoopStatement, LoopStatement> modified) {
 		return new IfStatement(
-				position,
+				getPosition(),
 				condition.normalize(scope),
 				onThen.normalize(scope, modified),
 				onElse == null ? null : onElse.normalize(scope, modified));
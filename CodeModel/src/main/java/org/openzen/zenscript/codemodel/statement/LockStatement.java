@@ -39,18 +39,18 @@ public class LockStatement extends Statement {
 	public Statement transform(StatementTransformer transformer, ConcatMap<LoopStatement, LoopStatement> modified) {
 		Expression tObject = object.transform(transformer);
 		Statement tContent = content.transform(transformer, modified);
-		return tObject == object && tContent == content ? this : new LockStatement(position, tObject, tContent);
+		return tObject == object && tContent == content ? this : new LockStatement(getPosition(), tObject, tContent);
 	}
 
 	@Override
 	public Statement transform(ExpressionTransformer transformer, ConcatMap<LoopStatement, LoopStatement> modified) {
 		Expression tObject = object.transform(transformer);
 		Statement tContent = content.transform(transformer, modified);
-		return tObject == object && tContent == content ? this : new LockStatement(position, tObject, tContent);
+		return tObject == object && tContent == content ? this : new LockStatement(getPosition(), tObject, tContent);
 	}
 
 	@Override
 	public Statement normalize(TypeScope scope, ConcatMap<LoopStatement, LoopStatement> modified) {
-		return new LockStatement(position, object.normalize(scope), content.normalize(scope, modified));
+		return new LockStatement(getPosition(), object.normalize(scope), content.normalize(scope, modified));
 	}
 }
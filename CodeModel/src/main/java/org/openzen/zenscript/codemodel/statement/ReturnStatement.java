@@ -31,7 +31,7 @@ public class ReturnStatement extends Statement {
 
 	@Override
 	public Statement withReturnType(TypeScope scope, TypeID returnType) {
-		return new ReturnStatement(position, value == null ? null : value.castImplicit(position, scope, returnType));
+		return new ReturnStatement(getPosition(), value == null ? null : value.castImplicit(getPosition(), scope, returnType));
 	}
 
 	@Override
@@ -47,17 +47,17 @@ public class ReturnStatement extends Statement {
 	@Override
 	public Statement transform(StatementTransformer transformer, ConcatMap<LoopStatement, LoopStatement> modified) {
 		Expression tValue = value == null ? null : value.transform(transformer);
-		return tValue == value ? this : new ReturnStatement(position, tValue);
+		return tValue == value ? this : new ReturnStatement(getPosition(), tValue);
 	}
 
 	@Override
 	public Statement transform(ExpressionTransformer transformer, ConcatMap<LoopStatement, LoopStatement> modified) {
 		Expression tValue = value == null ? null : value.transform(transformer);
-		return tValue == value ? this : new ReturnStatement(position, tValue);
+		return tValue == value ? this : new ReturnStatement(getPosition(), tValue);
 	}
 
 	@Override
 	public Statement normalize(TypeScope scope, ConcatMap<LoopStatement, LoopStatement> modified) {
-		return new ReturnStatement(position, value == null ? null : value.normalize(scope));
+		return new ReturnStatement(getPosition(), value == null ? null : value.normalize(scope));
 	}
 }
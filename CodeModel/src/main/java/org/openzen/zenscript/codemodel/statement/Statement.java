@@ -2,6 +2,7 @@ package org.openzen.zenscript.codemodel.statement;
 
 import org.openzen.zencode.shared.CodePosition;
 import org.openzen.zencode.shared.ConcatMap;
+import org.openzen.zencode.shared.SourceFile;
 import org.openzen.zencode.shared.Taggable;
 import org.openzen.zenscript.codemodel.annotations.StatementAnnotation;
 import org.openzen.zenscript.codemodel.expression.ExpressionTransformer;
@@ -11,15 +12,37 @@ import org.openzen.zenscript.codemodel.type.TypeID;
 import java.util.function.Consumer;
 
 public abstract class Statement extends Taggable {
-	public final CodePosition position;
+	/* stored inline rather than as a CodePosition object, see getPosition() */
+	private final SourceFile file;
+	private final int fromLine;
+	private final int fromLineOffset;
+	private final int toLine;
+	private final int toLineOffset;
 	public final TypeID thrownType;
 	public StatementAnnotation[] annotations = StatementAnnotation.NONE;
 
 	public Statement(CodePosition position, TypeID thrownType) {
-		this.position = position;
+		if (position == null) {
+			this.file = null;
+			this.fromLine = this.fromLineOffset = this.toLine = this.toLineOffset = 0;
+		} else {
+			this.file = position.file;
+			this.fromLine = position.fromLine;
+			this.fromLineOffset = position.fromLineOffset;
+			this.toLine = position.toLine;
+			this.toLineOffset = position.toLineOffset;
+		}
 		this.thrownType = thrownType;
 	}
 
+	/**
+	 * Creates the position of this statement. Nodes don't keep a CodePosition
+	 * around, since there are a lot of them, so every call creates a new one.
+	 */
+	public CodePosition getPosition() {
+		return file == null ? null : new CodePosition(file, fromLine, fromLineOffset, toLine, toLineOffset);
+	}
+
 	public TypeID getReturnType() {
 		return null;
 	}
@@ -46,7 +46,7 @@ public class SwitchStatement extends LoopStatement {
 	@Override
 	public Statement transform(StatementTransformer transformer, ConcatMap<LoopStatement, LoopStatement> modified) {
 		Expression tValue = value.transform(transformer);
-		SwitchStatement result = new SwitchStatement(position, label, tValue);
+		SwitchStatement result = new SwitchStatement(getPosition(), label, tValue);
 		ConcatMap<LoopStatement, LoopStatement> tModified = modified.concat(this, result);
 		for (SwitchCase case_ : cases) {
 			result.cases.add(case_.transform(transformer, tModified));
@@ -57,7 +57,7 @@ public class SwitchStatement extends LoopStatement {
 	@Override
 	public Statement transform(ExpressionTransformer transformer, ConcatMap<LoopStatement, LoopStatement> modified) {
 		Expression tValue = value.transform(transformer);
-		SwitchStatement result = new SwitchStatement(position, label, tValue);
+		SwitchStatement result = new SwitchStatement(getPosition(), label, tValue);
 		ConcatMap<LoopStatement, LoopStatement> tModified = modified.concat(this, result);
 		for (SwitchCase case_ : cases) {
 			result.cases.add(case_.transform(transformer, tModified));
@@ -67,7 +67,7 @@ public class SwitchStatement extends LoopStatement {
 
 	@Override
 	public Statement normalize(TypeScope scope, ConcatMap<LoopStatement, LoopStatement> modified) {
-		SwitchStatement result = new SwitchStatement(position, label, value.normalize(scope));
+		SwitchStatement result = new SwitchStatement(getPosition(), label, value.normalize(scope));
 		ConcatMap<LoopStatement, LoopStatement> tModified = modified.concat(this, result);
 		for (SwitchCase case_ : cases) {
 			result.cases.add(case_.normalize(scope, tModified));
@@ -35,17 +35,17 @@ public class ThrowStatement extends Statement {
 	@Override
 	public Statement transform(StatementTransformer transformer, ConcatMap<LoopStatement, LoopStatement> modified) {
 		Expression tValue = value.transform(transformer);
-		return tValue == value ? this : new ThrowStatement(position, value);
+		return tValue == value ? this : new ThrowStatement(getPosition(), value);
 	}
 
 	@Override
 	public Statement transform(ExpressionTransformer transformer, ConcatMap<LoopStatement, LoopStatement> modified) {
 		Expression tValue = value.transform(transformer);
-		return tValue == value ? this : new ThrowStatement(position, value);
+		return tValue == value ? this : new ThrowStatement(getPosition(), value);
 	}
 
 	@Override
 	public Statement normalize(TypeScope scope, ConcatMap<LoopStatement, LoopStatement> modified) {
-		return new ThrowStatement(position, value.normalize(scope));
+		return new ThrowStatement(getPosition(), value.normalize(scope));
 	}
 }
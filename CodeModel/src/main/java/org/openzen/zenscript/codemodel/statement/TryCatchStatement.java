@@ -58,7 +58,7 @@ public class TryCatchStatement extends Statement {
 		for (CatchClause clause : catchClauses)
 			tCatchClauses.add(clause.transform(transformer, modified));
 		Statement tFinallyClause = finallyClause == null ? null : finallyClause.transform(transformer, modified);
-		return new TryCatchStatement(position, tResource, tContent, tCatchClauses, tFinallyClause);
+		return new TryCatchStatement(getPosition(), tResource, tContent, tCatchClauses, tFinallyClause);
 	}
 
 	@Override
@@ -69,7 +69,7 @@ public class TryCatchStatement extends Statement {
 		for (CatchClause clause : catchClauses)
 			tCatchClauses.add(clause.transform(transformer, modified));
 		Statement tFinallyClause = finallyClause == null ? null : finallyClause.transform(transformer, modified);
-		return new TryCatchStatement(position, tResource, tContent, tCatchClauses, tFinallyClause);
+		return new TryCatchStatement(getPosition(), tResource, tContent, tCatchClauses, tFinallyClause);
 	}
 
 	@Override
@@ -80,7 +80,7 @@ public class TryCatchStatement extends Statement {
 		for (CatchClause clause : catchClauses)
 			tCatchClauses.add(clause.normalize(scope, modified));
 		Statement tFinallyClause = finallyClause == null ? null : finallyClause.normalize(scope, modified);
-		return new TryCatchStatement(position, tResource, tContent, tCatchClauses, tFinallyClause);
+		return new TryCatchStatement(getPosition(), tResource, tContent, tCatchClauses, tFinallyClause);
 	}
 
 	@Override
@@ -44,17 +44,17 @@ public class VarStatement extends Statement {
 	@Override
 	public VarStatement transform(StatementTransformer transformer, ConcatMap<LoopStatement, LoopStatement> modified) {
 		Expression tInitializer = initializer == null ? null : initializer.transform(transformer);
-		return tInitializer == initializer ? this : new VarStatement(position, variable, name, type, tInitializer, isFinal);
+		return tInitializer == initializer ? this : new VarStatement(getPosition(), variable, name, type, tInitializer, isFinal);
 	}
 
 	@Override
 	public VarStatement transform(ExpressionTransformer transformer, ConcatMap<LoopStatement, LoopStatement> modified) {
 		Expression tInitializer = initializer == null ? null : initializer.transform(transformer);
-		return tInitializer == initializer ? this : new VarStatement(position, variable, name, type, tInitializer, isFinal);
+		return tInitializer == initializer ? this : new VarStatement(getPosition(), variable, name, type, tInitializer, isFinal);
 	}
 
 	@Override
 	public VarStatement normalize(TypeScope scope, ConcatMap<LoopStatement, LoopStatement> modified) {
-		return new VarStatement(position, variable, name, type.getNormalized(), initializer == null ? null : initializer.normalize(scope), isFinal);
+		return new VarStatement(getPosition(), variable, name, type.getNormalized(), initializer == null ? null : initializer.normalize(scope), isFinal);
 	}
 }
@@ -42,7 +42,7 @@ public class WhileStatement extends LoopStatement {
 		if (condition == tCondition && content == tContent)
 			return this;
 
-		WhileStatement result = new WhileStatement(position, label, tCondition);
+		WhileStatement result = new WhileStatement(getPosition(), label, tCondition);
 		result.content = content.transform(transformer, modified.concat(this, result));
 		return result;
 	}
@@ -54,14 +54,14 @@ public class WhileStatement extends LoopStatement {
 		if (condition == tCondition && content == tContent)
 			return this;
 
-		WhileStatement result = new WhileStatement(position, label, tCondition);
+		WhileStatement result = new WhileStatement(getPosition(), label, tCondition);
 		result.content = content.transform(transformer, modified.concat(this, result));
 		return result;
 	}
 
 	@Override
 	public Statement normalize(TypeScope scope, ConcatMap<LoopStatement, LoopStatement> modified) {
-		WhileStatement result = new WhileStatement(position, label, condition.normalize(scope));
+		WhileStatement result = new WhileStatement(getPosition(), label, condition.normalize(scope));
 		result.content = content.normalize(scope, modified.concat(this, result));
 		return result;
 	}
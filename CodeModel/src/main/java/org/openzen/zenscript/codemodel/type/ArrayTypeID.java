@@ -15,17 +15,21 @@ public class ArrayTypeID implements TypeID {
 	public final TypeID elementType;
 	public final int dimension;
 	private final ArrayTypeID normalized;
+	final boolean cacheHashCode;
+	private int hashCode;
 
 	private ArrayTypeID(TypeID elementType, int dimension) {
 		this.elementType = elementType;
 		this.dimension = dimension;
 		this.normalized = this;
+		this.cacheHashCode = TypeHashCodes.isCacheable(elementType);
 	}
 
 	public ArrayTypeID(GlobalTypeRegistry registry, TypeID elementType, int dimension) {
 		this.elementType = elementType;
 		this.dimension = dimension;
 		this.normalized = elementType.getNormalized() == elementType ? this : registry.getArray(elementType.getNormalized(), dimension);
+		this.cacheHashCode = TypeHashCodes.isCacheable(elementType);
 	}
 
 	@Override
@@ -80,9 +84,14 @@ public class ArrayTypeID implements TypeID {
 
 	@Override
 	public int hashCode() {
-		int hash = 7;
-		hash = 79 * hash + elementType.hashCode();
-		hash = 79 * hash + dimension;
+		int hash = hashCode;
+		if (hash == 0) {
+			hash = 7;
+			hash = 79 * hash + elementType.hashCode();
+			hash = 79 * hash + dimension;
+			if (cacheHashCode)
+				hashCode = hash;
+		}
 		return hash;
 	}
 
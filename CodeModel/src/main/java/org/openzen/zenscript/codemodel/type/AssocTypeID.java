@@ -9,6 +9,8 @@ public class AssocTypeID implements TypeID {
 	public final TypeID keyType;
 	public final TypeID valueType;
 	private final AssocTypeID normalized;
+	final boolean cacheHashCode;
+	private int hashCode;
 
 	public AssocTypeID(GlobalTypeRegistry typeRegistry, TypeID keyType, TypeID valueType) {
 		this.keyType = keyType;
@@ -18,6 +20,8 @@ public class AssocTypeID implements TypeID {
 			normalized = typeRegistry.getAssociative(keyType.getNormalized(), valueType.getNormalized());
 		else
 			normalized = this;
+
+		cacheHashCode = TypeHashCodes.isCacheable(keyType) && TypeHashCodes.isCacheable(valueType);
 	}
 
 	@Override
@@ -70,9 +74,14 @@ public class AssocTypeID implements TypeID {
 
 	@Override
 	public int hashCode() {
-		int hash = 7;
-		hash = 29 * hash + keyType.hashCode();
-		hash = 29 * hash + valueType.hashCode();
+		int hash = hashCode;
+		if (hash == 0) {
+			hash = 7;
+			hash = 29 * hash + keyType.hashCode();
+			hash = 29 * hash + valueType.hashCode();
+			if (cacheHashCode)
+				hashCode = hash;
+		}
 		return hash;
 	}
 
@@ -22,6 +22,8 @@ public class DefinitionTypeID implements TypeID {
 	public final TypeID[] typeArguments;
 	public final DefinitionTypeID outer;
 	private TypeID normalized;
+	final boolean cacheHashCode;
+	private int hashCode;
 
 	public DefinitionTypeID(GlobalTypeRegistry typeRegistry, HighLevelDefinition definition, TypeID[] typeArguments) {
 		this(typeRegistry, definition, typeArguments, null);
@@ -41,6 +43,7 @@ public class DefinitionTypeID implements TypeID {
 		this.definition = definition;
 		this.typeArguments = typeArguments;
 		this.outer = outer;
+		this.cacheHashCode = TypeHashCodes.isCacheable(typeArguments) && TypeHashCodes.isCacheable(outer);
 
 		normalized = isDenormalized() ? normalize(typeRegistry) : this;
 		if (normalized instanceof DefinitionTypeID && ((DefinitionTypeID) normalized).isDenormalized())
@@ -51,6 +54,7 @@ public class DefinitionTypeID implements TypeID {
 		this.definition = definition;
 		this.typeArguments = TypeID.NONE;
 		this.outer = null;
+		this.cacheHashCode = true;
 	}
 
 	private boolean isDenormalized() {
@@ -58,10 +62,10 @@ public class DefinitionTypeID implements TypeID {
 			return true;
 
 		for (TypeID typeArgument : typeArguments)
-			if (!typeArgument.getNormalized().equals(typeArgument))
+			if (typeArgument.getNormalized() != typeArgument)
 				return true;
 
-		return outer != null && !outer.getNormalized().equals(outer);
+		return outer != null && outer.getNormalized() != outer;
 	}
 
 	private TypeID normalize(GlobalTypeRegistry typeRegistry) {
@@ -186,10 +190,15 @@ public class DefinitionTypeID implements TypeID {
 
 	@Override
 	public int hashCode() {
-		int hash = 7;
-		hash = 97 * hash + definition.hashCode();
-		hash = 97 * hash + Arrays.deepHashCode(typeArguments);
-		hash = 97 * hash + Objects.hashCode(outer);
+		int hash = hashCode;
+		if (hash == 0) {
+			hash = 7;
+			hash = 97 * hash + definition.hashCode();
+			hash = 97 * hash + Arrays.deepHashCode(typeArguments);
+			hash = 97 * hash + Objects.hashCode(outer);
+			if (cacheHashCode)
+				hashCode = hash;
+		}
 		return hash;
 	}
 
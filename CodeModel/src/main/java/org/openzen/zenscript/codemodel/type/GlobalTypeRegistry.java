@@ -2,68 +2,110 @@ package org.openzen.zenscript.codemodel.type;
 
 import org.openzen.zenscript.codemodel.FunctionHeader;
 import org.openzen.zenscript.codemodel.HighLevelDefinition;
+import org.openzen.zenscript.codemodel.definition.ExpansionDefinition;
 import org.openzen.zenscript.codemodel.definition.ZSPackage;
 import org.openzen.zenscript.codemodel.generic.TypeParameter;
+import org.openzen.zenscript.codemodel.type.member.SharedMemberCache;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-
+import java.util.WeakHashMap;
+
+/**
+ * Interns type IDs, so that equal types are represented by the same instance
+ * and can be compared by identity.
+ * <p>
+ * The registry can be used from multiple threads at once. A type ID is
+ * constructed before it is interned, and its constructor may intern other
+ * types (such as its normalized form), so type ID constructors must only
+ * depend on their arguments and never on which types are already interned.
+ * If two threads intern equal types at the same time, both construct an
+ * instance but the same one is returned to both; the other is discarded.
+ * Type IDs are immutable, so the returned instance can be shared freely.
+ * <p>
+ * By default, interned types are kept for the lifetime of the registry. A
+ * registry that outlives the modules using it (such as one that is kept while
+ * scripts are reloaded) should be created with weak interning, which drops
+ * types that are no longer referenced, such as the types of unloaded script
+ * definitions.
+ */
 public class GlobalTypeRegistry {
 	public final ZSPackage stdlib;
-	private final Map<ArrayTypeID, ArrayTypeID> arrayTypes = new HashMap<>();
-	private final Map<AssocTypeID, AssocTypeID> assocTypes = new HashMap<>();
-	private final Map<GenericMapTypeID, GenericMapTypeID> genericMapTypes = new HashMap<>();
-	private final Map<IteratorTypeID, IteratorTypeID> iteratorTypes = new HashMap<>();
-	private final Map<FunctionTypeID, FunctionTypeID> functionTypes = new HashMap<>();
-	private final Map<RangeTypeID, RangeTypeID> rangeTypes = new HashMap<>();
-	private final Map<DefinitionTypeID, DefinitionTypeID> definitionTypes = new HashMap<>();
-	private final Map<GenericTypeID, GenericTypeID> genericTypes = new HashMap<>();
-	private final Map<OptionalTypeID, OptionalTypeID> optionalTypes = new HashMap<>();
+	private final TypeInterner<ArrayTypeID> arrayTypes;
+	private final TypeInterner<AssocTypeID> assocTypes;
+	private final TypeInterner<GenericMapTypeID> genericMapTypes;
+	private final TypeInterner<IteratorTypeID> iteratorTypes;
+	private final TypeInterner<FunctionTypeID> functionTypes;
+	private final TypeInterner<RangeTypeID> rangeTypes;
+	private final TypeInterner<DefinitionTypeID> definitionTypes;
+	private final TypeInterner<GenericTypeID> genericTypes;
+	private final TypeInterner<OptionalTypeID> optionalTypes;
+	/* shared member caches by owner, held weakly so dropped module spaces release their members */
+	private final Map<Object, SharedMembers> sharedMembers = new WeakHashMap<>();
 
 	public GlobalTypeRegistry(ZSPackage stdlib) {
-		this.stdlib = stdlib;
+		this(stdlib, false);
+	}
 
-		arrayTypes.put(ArrayTypeID.INT, ArrayTypeID.INT);
-		arrayTypes.put(ArrayTypeID.CHAR, ArrayTypeID.CHAR);
+	/**
+	 * Creates a registry. If weakInterning is set, interned types are dropped
+	 * once they are no longer referenced from outside the registry.
+	 */
+	public GlobalTypeRegistry(ZSPackage stdlib, boolean weakInterning) {
+		this.stdlib = stdlib;
 
-		rangeTypes.put(RangeTypeID.INT, RangeTypeID.INT);
-		rangeTypes.put(RangeTypeID.USIZE, RangeTypeID.USIZE);
+		arrayTypes = TypeInterner.create(weakInterning);
+		assocTypes = TypeInterner.create(weakInterning);
+		genericMapTypes = TypeInterner.create(weakInterning);
+		iteratorTypes = TypeInterner.create(weakInterning);
+		functionTypes = TypeInterner.create(weakInterning);
+		rangeTypes = TypeInterner.create(weakInterning);
+		definitionTypes = TypeInterner.create(weakInterning);
+		genericTypes = TypeInterner.create(weakInterning);
+		optionalTypes = TypeInterner.create(weakInterning);
+
+		arrayTypes.intern(ArrayTypeID.INT);
+		arrayTypes.intern(ArrayTypeID.CHAR);
+
+		rangeTypes.intern(RangeTypeID.INT);
+		rangeTypes.intern(RangeTypeID.USIZE);
 	}
 
 	public ArrayTypeID getArray(TypeID baseType, int dimension) {
 		ArrayTypeID id = new ArrayTypeID(this, baseType, dimension);
-		return internalize(arrayTypes, id);
+		return arrayTypes.intern(id);
 	}
 
 	public AssocTypeID getAssociative(TypeID keyType, TypeID valueType) {
 		AssocTypeID id = new AssocTypeID(this, keyType, valueType);
-		return internalize(assocTypes, id);
+		return assocTypes.intern(id);
 	}
 
 	public GenericMapTypeID getGenericMap(TypeID valueType, TypeParameter key) {
 		GenericMapTypeID id = new GenericMapTypeID(this, valueType, key);
-		return internalize(genericMapTypes, id);
+		return genericMapTypes.intern(id);
 	}
 
 	public IteratorTypeID getIterator(TypeID[] loopTypes) {
 		IteratorTypeID id = new IteratorTypeID(this, loopTypes);
-		return internalize(iteratorTypes, id);
+		return iteratorTypes.intern(id);
 	}
 
 	public FunctionTypeID getFunction(FunctionHeader header) {
 		FunctionTypeID id = new FunctionTypeID(this, header);
-		return internalize(functionTypes, id);
+		return functionTypes.intern(id);
 	}
 
 	public RangeTypeID getRange(TypeID type) {
 		RangeTypeID id = new RangeTypeID(this, type);
-		return internalize(rangeTypes, id);
+		return rangeTypes.intern(id);
 	}
 
 	public GenericTypeID getGeneric(TypeParameter parameter) {
 		GenericTypeID id = new GenericTypeID(parameter);
-		return internalize(genericTypes, id);
+		return genericTypes.intern(id);
 	}
 
 	public DefinitionTypeID getForMyDefinition(HighLevelDefinition definition) {
@@ -86,23 +128,88 @@ public class GlobalTypeRegistry {
 
 	public DefinitionTypeID getForDefinition(HighLevelDefinition definition, TypeID[] typeArguments, DefinitionTypeID outer) {
 		DefinitionTypeID id = new DefinitionTypeID(this, definition, typeArguments, definition.isStatic() ? null : outer);
-		return internalize(definitionTypes, id);
+		return definitionTypes.intern(id);
 	}
 
 	public TypeID getOptional(TypeID original) {
-		return internalize(optionalTypes, new OptionalTypeID(this, original));
+		return optionalTypes.intern(new OptionalTypeID(this, original));
+	}
+
+	/**
+	 * Returns all interned definition types. If types are interned
+	 * concurrently, they may or may not be included.
+	 */
+	public Collection<DefinitionTypeID> getDefinitions() {
+		return definitionTypes.getAll();
+	}
+
+	/**
+	 * Returns the number of interned types, which is mostly useful to monitor
+	 * the size of the registry.
+	 */
+	public int getInternedTypeCount() {
+		return arrayTypes.size()
+				+ assocTypes.size()
+				+ genericMapTypes.size()
+				+ iteratorTypes.size()
+				+ functionTypes.size()
+				+ rangeTypes.size()
+				+ definitionTypes.size()
+				+ genericTypes.size()
+				+ optionalTypes.size();
 	}
 
-	private <T> T internalize(Map<T, T> identityMap, T id) {
-		if (identityMap.containsKey(id)) {
-			return identityMap.get(id);
-		} else {
-			identityMap.put(id, id);
-			return id;
+	/**
+	 * Shares the members of builtin types between all member caches using
+	 * exactly the given expansions. Must only be called once the modules
+	 * declaring these expansions have been fully compiled.
+	 * <p>
+	 * Members are shared per owner (usually a module space): sharing members
+	 * again for the same owner replaces its previously shared members. Shared
+	 * members are released once their owner is no longer referenced.
+	 *
+	 * @param owner      owner of the expansions
+	 * @param expansions expansions of the owner
+	 */
+	public void shareMembers(Object owner, List<ExpansionDefinition> expansions) {
+		List<ExpansionDefinition> key = new ArrayList<>(expansions);
+		synchronized (sharedMembers) {
+			SharedMembers existing = sharedMembers.get(owner);
+			if (existing == null || !existing.expansions.equals(key))
+				sharedMembers.put(owner, new SharedMembers(key, new SharedMemberCache(this, key)));
 		}
 	}
 
-	public Collection<DefinitionTypeID> getDefinitions() {
-		return definitionTypes.keySet();
+	/**
+	 * Shares the members of builtin types for the given expansions, with this
+	 * registry as owner.
+	 *
+	 * @see #shareMembers(Object, List)
+	 */
+	public void shareMembers(List<ExpansionDefinition> expansions) {
+		shareMembers(this, expansions);
+	}
+
+	/**
+	 * Returns the shared member cache for the given expansions, or null if
+	 * their members are not shared.
+	 */
+	public SharedMemberCache getSharedMemberCache(List<ExpansionDefinition> expansions) {
+		synchronized (sharedMembers) {
+			for (SharedMembers entry : sharedMembers.values())
+				if (entry.expansions.equals(expansions))
+					return entry.cache;
+		}
+		return null;
+	}
+
+	private static class SharedMembers {
+		final List<ExpansionDefinition> expansions;
+		final SharedMemberCache cache;
+
+		SharedMembers(List<ExpansionDefinition> expansions, SharedMemberCache cache) {
+			this.expansions = expansions;
+			this.cache = cache;
+		}
 	}
 }
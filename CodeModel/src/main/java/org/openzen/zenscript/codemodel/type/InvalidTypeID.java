@@ -1,6 +1,7 @@
 package org.openzen.zenscript.codemodel.type;
 
 import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zencode.shared.CompileException;
 import org.openzen.zencode.shared.CompileExceptionCode;
 import org.openzen.zenscript.codemodel.GenericMapper;
 import org.openzen.zenscript.codemodel.generic.TypeParameter;
@@ -11,11 +12,26 @@ public class InvalidTypeID implements TypeID {
 	public final CodePosition position;
 	public final CompileExceptionCode code;
 	public final String message;
+	// set if the error is reported elsewhere, so it isn't reported again for this type
+	public final boolean reported;
 
 	public InvalidTypeID(CodePosition position, CompileExceptionCode code, String message) {
+		this(position, code, message, false);
+	}
+
+	private InvalidTypeID(CodePosition position, CompileExceptionCode code, String message, boolean reported) {
 		this.position = position;
 		this.code = code;
 		this.message = message;
+		this.reported = reported;
+	}
+
+	/**
+	 * Creates the type of something that is invalid because of the given error,
+	 * which is reported elsewhere.
+	 */
+	public static InvalidTypeID reportedElsewhere(CompileException error) {
+		return new InvalidTypeID(error.position, error.code, error.message, true);
 	}
 
 	@Override
@@ -9,11 +9,14 @@ import java.util.List;
 public class IteratorTypeID implements TypeID {
 	public final TypeID[] iteratorTypes;
 	private final IteratorTypeID normalized;
+	final boolean cacheHashCode;
+	private int hashCode;
 
 	public IteratorTypeID(GlobalTypeRegistry registry, TypeID[] iteratorTypes) {
 		this.iteratorTypes = iteratorTypes;
 
 		normalized = isDenormalized() ? normalize(registry) : this;
+		cacheHashCode = TypeHashCodes.isCacheable(iteratorTypes);
 	}
 
 	@Override
@@ -84,8 +87,13 @@ public class IteratorTypeID implements TypeID {
 
 	@Override
 	public int hashCode() {
-		int hash = 5;
-		hash = 13 * hash + Arrays.deepHashCode(this.iteratorTypes);
+		int hash = hashCode;
+		if (hash == 0) {
+			hash = 5;
+			hash = 13 * hash + Arrays.deepHashCode(this.iteratorTypes);
+			if (cacheHashCode)
+				hashCode = hash;
+		}
 		return hash;
 	}
 
@@ -12,11 +12,14 @@ import java.util.Objects;
 public class OptionalTypeID implements TypeID {
 	public final TypeID baseType;
 	private final TypeID normalized;
+	final boolean cacheHashCode;
+	private int hashCode;
 
 	public OptionalTypeID(GlobalTypeRegistry registry, TypeID baseType) {
 		this.baseType = baseType;
 
 		normalized = baseType.getNormalized() == baseType ? this : registry.getOptional(baseType.getNormalized());
+		cacheHashCode = TypeHashCodes.isCacheable(baseType);
 	}
 
 	@Override
@@ -77,8 +80,13 @@ public class OptionalTypeID implements TypeID {
 
 	@Override
 	public int hashCode() {
-		int hash = 3;
-		hash = 79 * hash + Objects.hashCode(this.baseType);
+		int hash = hashCode;
+		if (hash == 0) {
+			hash = 3;
+			hash = 79 * hash + Objects.hashCode(this.baseType);
+			if (cacheHashCode)
+				hashCode = hash;
+		}
 		return hash;
 	}
 
@@ -11,15 +11,19 @@ public class RangeTypeID implements TypeID {
 
 	public final TypeID baseType;
 	private final RangeTypeID normalized;
+	final boolean cacheHashCode;
+	private int hashCode;
 
 	public RangeTypeID(GlobalTypeRegistry registry, TypeID baseType) {
 		this.baseType = baseType;
 
-		if (baseType.getNormalized().equals(baseType)) {
+		if (baseType.getNormalized() == baseType) {
 			normalized = this;
 		} else {
 			normalized = registry.getRange(baseType.getNormalized());
 		}
+
+		cacheHashCode = TypeHashCodes.isCacheable(baseType);
 	}
 
 	@Override
@@ -69,8 +73,13 @@ public class RangeTypeID implements TypeID {
 
 	@Override
 	public int hashCode() {
-		int hash = 5;
-		hash = 89 * hash + baseType.hashCode();
+		int hash = hashCode;
+		if (hash == 0) {
+			hash = 5;
+			hash = 89 * hash + baseType.hashCode();
+			if (cacheHashCode)
+				hashCode = hash;
+		}
 		return hash;
 	}
 
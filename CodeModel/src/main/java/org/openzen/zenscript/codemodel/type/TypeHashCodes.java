@@ -0,0 +1,47 @@
+package org.openzen.zenscript.codemodel.type;
+
+/**
+ * Decides which type IDs may cache their hash code.
+ * <p>
+ * Type IDs are immutable, but the hash code of a type parameter includes its
+ * bounds, and bounds are sometimes added after types using the parameter have
+ * been created (for instance, for bounds that refer to the parameter itself).
+ * Types that contain type parameters therefore compute their hash code every
+ * time, as do function types, since the return type of a function header can
+ * be set after it was created. All other types compute it once.
+ * <p>
+ * Each type checks its direct components when it is created, so this never
+ * walks more than one level deep.
+ */
+final class TypeHashCodes {
+	private TypeHashCodes() {
+	}
+
+	static boolean isCacheable(TypeID type) {
+		if (type == null || type instanceof BasicTypeID || type instanceof InvalidTypeID)
+			return true;
+		if (type instanceof ArrayTypeID)
+			return ((ArrayTypeID) type).cacheHashCode;
+		if (type instanceof AssocTypeID)
+			return ((AssocTypeID) type).cacheHashCode;
+		if (type instanceof DefinitionTypeID)
+			return ((DefinitionTypeID) type).cacheHashCode;
+		if (type instanceof IteratorTypeID)
+			return ((IteratorTypeID) type).cacheHashCode;
+		if (type instanceof OptionalTypeID)
+			return ((OptionalTypeID) type).cacheHashCode;
+		if (type instanceof RangeTypeID)
+			return ((RangeTypeID) type).cacheHashCode;
+
+		// generic types, generic maps and function types
+		return false;
+	}
+
+	static boolean isCacheable(TypeID[] types) {
+		for (TypeID type : types)
+			if (!isCacheable(type))
+				return false;
+
+		return true;
+	}
+}
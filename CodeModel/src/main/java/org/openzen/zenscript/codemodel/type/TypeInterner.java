@@ -0,0 +1,109 @@
+package org.openzen.zenscript.codemodel.type;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interning table for a single kind of type ID, as used by
+ * {@link GlobalTypeRegistry}. Implementations are thread-safe.
+ */
+abstract class TypeInterner<T> {
+	static <T> TypeInterner<T> create(boolean weak) {
+		return weak ? new Weak<>() : new Strong<>();
+	}
+
+	/**
+	 * Returns the interned instance equal to the given id, interning the given
+	 * id if there is none.
+	 */
+	abstract T intern(T id);
+
+	abstract Collection<T> getAll();
+
+	abstract int size();
+
+	/**
+	 * Keeps interned types for the lifetime of the table.
+	 */
+	private static final class Strong<T> extends TypeInterner<T> {
+		private final Map<T, T> types = new ConcurrentHashMap<>();
+
+		@Override
+		T intern(T id) {
+			T existing = types.putIfAbsent(id, id);
+			return existing == null ? id : existing;
+		}
+
+		@Override
+		Collection<T> getAll() {
+			return types.keySet();
+		}
+
+		@Override
+		int size() {
+			return types.size();
+		}
+	}
+
+	/**
+	 * Keeps interned types only as long as they are referenced from elsewhere.
+	 * The table is split in stripes with their own lock, so that threads
+	 * interning different types rarely wait for each other.
+	 */
+	private static final class Weak<T> extends TypeInterner<T> {
+		private static final int STRIPES = 16;
+
+		private final List<Map<T, WeakReference<T>>> stripes = new ArrayList<>(STRIPES);
+
+		Weak() {
+			for (int i = 0; i < STRIPES; i++)
+				stripes.add(new WeakHashMap<>());
+		}
+
+		@Override
+		T intern(T id) {
+			Map<T, WeakReference<T>> stripe = getStripe(id);
+			synchronized (stripe) {
+				WeakReference<T> reference = stripe.get(id);
+				T existing = reference == null ? null : reference.get();
+				if (existing != null)
+					return existing;
+
+				stripe.put(id, new WeakReference<>(id));
+				return id;
+			}
+		}
+
+		@Override
+		Collection<T> getAll() {
+			List<T> result = new ArrayList<>();
+			for (Map<T, WeakReference<T>> stripe : stripes) {
+				synchronized (stripe) {
+					result.addAll(stripe.keySet());
+				}
+			}
+			return result;
+		}
+
+		@Override
+		int size() {
+			int result = 0;
+			for (Map<T, WeakReference<T>> stripe : stripes) {
+				synchronized (stripe) {
+					result += stripe.size();
+				}
+			}
+			return result;
+		}
+
+		private Map<T, WeakReference<T>> getStripe(T id) {
+			int hash = id.hashCode();
+			return stripes.get((hash ^ (hash >>> 16)) & (STRIPES - 1));
+		}
+	}
+}
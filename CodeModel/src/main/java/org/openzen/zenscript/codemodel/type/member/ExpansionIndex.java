@@ -0,0 +1,69 @@
+package org.openzen.zenscript.codemodel.type.member;
+
+import org.openzen.zenscript.codemodel.definition.ExpansionDefinition;
+import org.openzen.zenscript.codemodel.type.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Buckets expansions by the outer shape of their target type, so that building
+ * the members of a type only has to consider expansions that could match it.
+ * <p>
+ * Targets are keyed by their {@link TypeShape}. Expansions whose target is a
+ * type parameter can match any type and are kept in a separate list. Candidates
+ * are returned in the order the expansions were given in.
+ */
+class ExpansionIndex {
+	private final Map<Object, List<Entry>> buckets = new HashMap<>();
+	private final List<Entry> wildcards = new ArrayList<>();
+
+	ExpansionIndex(List<ExpansionDefinition> expansions) {
+		for (int i = 0; i < expansions.size(); i++) {
+			ExpansionDefinition expansion = expansions.get(i);
+			if (expansion.target == null)
+				throw new RuntimeException(expansion.position.toString() + ": Missing expansion target");
+
+			Entry entry = new Entry(i, expansion);
+			Object key = TypeShape.of(expansion.target);
+			if (key == null)
+				wildcards.add(entry);
+			else
+				buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+		}
+	}
+
+	/**
+	 * Returns the expansions whose target could match the given type.
+	 */
+	List<ExpansionDefinition> getCandidates(TypeID type) {
+		Object key = TypeShape.of(type);
+		List<Entry> bucket = key == null ? Collections.emptyList() : buckets.getOrDefault(key, Collections.emptyList());
+		if (bucket.isEmpty() && wildcards.isEmpty())
+			return Collections.emptyList();
+
+		List<ExpansionDefinition> result = new ArrayList<>(bucket.size() + wildcards.size());
+		int i = 0;
+		int j = 0;
+		while (i < bucket.size() || j < wildcards.size()) {
+			if (j == wildcards.size() || (i < bucket.size() && bucket.get(i).order < wildcards.get(j).order))
+				result.add(bucket.get(i++).expansion);
+			else
+				result.add(wildcards.get(j++).expansion);
+		}
+		return result;
+	}
+
+	private static final class Entry {
+		final int order;
+		final ExpansionDefinition expansion;
+
+		Entry(int order, ExpansionDefinition expansion) {
+			this.order = order;
+			this.expansion = expansion;
+		}
+	}
+}
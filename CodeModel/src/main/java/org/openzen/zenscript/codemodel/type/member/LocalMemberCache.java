@@ -13,12 +13,23 @@ public class LocalMemberCache {
 	private final GlobalTypeRegistry registry;
 	private final Map<TypeID, TypeMembers> types = new HashMap<>();
 	private final List<ExpansionDefinition> expansions = new ArrayList<>();
+	private final SharedMemberCache shared;
+	private ExpansionIndex expansionIndex;
+	private int implementationVersion;
 
 	public LocalMemberCache(
 			GlobalTypeRegistry registry,
 			List<ExpansionDefinition> expansions) {
+		this(registry, expansions, registry.getSharedMemberCache(expansions));
+	}
+
+	LocalMemberCache(
+			GlobalTypeRegistry registry,
+			List<ExpansionDefinition> expansions,
+			SharedMemberCache shared) {
 		this.registry = registry;
 		this.expansions.addAll(expansions);
+		this.shared = shared;
 	}
 
 	public GlobalTypeRegistry getRegistry() {
@@ -29,6 +40,11 @@ public class LocalMemberCache {
 		type = type.getNormalized();
 		if (types.containsKey(type)) {
 			return types.get(type);
+		} else if (shared != null && SharedMemberCache.isShareable(type)) {
+			TypeMembers members = new TypeMembers(this, type);
+			shared.get(type).copyAllTo(members);
+			types.put(type, members);
+			return members;
 		} else {
 			TypeMembers members = new TypeMembers(this, type);
 			types.put(type, members);
@@ -41,7 +57,32 @@ public class LocalMemberCache {
 		members.type.accept(null, new TypeMemberBuilder(registry, members, this));
 	}
 
+	/**
+	 * Returns a number that changes whenever an implementation is added to a
+	 * type in this cache, so cached type hierarchies can tell if they are
+	 * still valid.
+	 */
+	int getImplementationVersion() {
+		return implementationVersion;
+	}
+
+	void onImplementationAdded() {
+		implementationVersion++;
+	}
+
 	public List<ExpansionDefinition> getExpansions() {
 		return expansions;
 	}
+
+	/**
+	 * Returns the expansions whose target could match the given type. Targets
+	 * are only resolved after the cache has been created, so the index is built
+	 * when it is first needed.
+	 */
+	public List<ExpansionDefinition> getExpansions(TypeID type) {
+		if (expansionIndex == null)
+			expansionIndex = new ExpansionIndex(expansions);
+
+		return expansionIndex.getCandidates(type);
+	}
 }
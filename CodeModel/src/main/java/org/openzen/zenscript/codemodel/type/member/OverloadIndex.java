@@ -0,0 +1,203 @@
+package org.openzen.zenscript.codemodel.type.member;
+
+import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zenscript.codemodel.FunctionHeader;
+import org.openzen.zenscript.codemodel.GenericMapper;
+import org.openzen.zenscript.codemodel.expression.CallArguments;
+import org.openzen.zenscript.codemodel.member.ref.FunctionalMemberRef;
+import org.openzen.zenscript.codemodel.scope.TypeScope;
+import org.openzen.zenscript.codemodel.type.TypeID;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the methods in a {@link TypeMemberGroup}, used to select overloads
+ * without checking every method for every call.
+ * <p>
+ * Methods are bucketed by the number of arguments they accept. Within a bucket,
+ * exact matching skips methods whose first parameter has a different
+ * {@link TypeShape} than the first argument. Both the outcome of exact matching
+ * and the method finally selected for a call are remembered per call site
+ * shape: the argument types, type arguments and allowed static usage. Outcomes
+ * are not remembered for buckets with variadic or unresolved methods, since
+ * these may match differently later on. Failed selections are never
+ * remembered, so their errors are reported in full every time.
+ * <p>
+ * The index must be discarded when methods are added to the group.
+ */
+class OverloadIndex {
+	private static final TypeMember<FunctionalMemberRef> NO_MATCH = new TypeMember<>(TypeMemberPriority.SPECIFIED, null);
+
+	private final List<TypeMember<FunctionalMemberRef>> methods;
+	private final Map<Integer, Bucket> buckets = new HashMap<>();
+
+	OverloadIndex(List<TypeMember<FunctionalMemberRef>> methods) {
+		this.methods = methods;
+	}
+
+	/**
+	 * Returns the methods that accept the given number of arguments.
+	 */
+	Bucket get(int arguments) {
+		return buckets.computeIfAbsent(arguments, this::createBucket);
+	}
+
+	private Bucket createBucket(int arguments) {
+		List<TypeMember<FunctionalMemberRef>> candidates = new ArrayList<>();
+		List<Object> firstShapes = new ArrayList<>();
+		boolean cacheable = true;
+		for (TypeMember<FunctionalMemberRef> method : methods) {
+			if (!method.member.accepts(arguments))
+				continue;
+
+			candidates.add(method);
+			if (method.member.getTarget().header.hasUnknowns) {
+				firstShapes.add(null);
+				cacheable = false;
+				continue;
+			}
+
+			FunctionHeader header = method.member.getHeader();
+			if (header.isVariadic())
+				cacheable = false;
+
+			if (arguments == 0 || (header.isVariadic() && header.parameters.length == 1))
+				firstShapes.add(null);
+			else
+				firstShapes.add(TypeShape.of(header.parameters[0].type.getNormalized()));
+		}
+
+		return new Bucket(candidates, firstShapes.toArray(), cacheable);
+	}
+
+	static final class Bucket {
+		final List<TypeMember<FunctionalMemberRef>> methods;
+		private final Object[] firstShapes;
+		private final boolean cacheable;
+		private final Map<CallKey, TypeMember<FunctionalMemberRef>> exactMatches = new HashMap<>();
+		private final Map<CallKey, SelectedCall> selectedCalls = new HashMap<>();
+
+		private Bucket(List<TypeMember<FunctionalMemberRef>> methods, Object[] firstShapes, boolean cacheable) {
+			this.methods = methods;
+			this.firstShapes = firstShapes;
+			this.cacheable = cacheable;
+		}
+
+		/**
+		 * Returns the key under which selections for the given call are
+		 * remembered, or null if they cannot be remembered.
+		 */
+		CallKey getKey(TypeScope scope, CallArguments arguments, boolean allowNonStatic, boolean allowStatic) {
+			return cacheable ? new CallKey(scope, arguments, allowNonStatic, allowStatic) : null;
+		}
+
+		SelectedCall getSelected(CallKey key) {
+			return key == null ? null : selectedCalls.get(key);
+		}
+
+		void setSelected(CallKey key, SelectedCall selected) {
+			if (key != null)
+				selectedCalls.put(key, selected);
+		}
+
+		/**
+		 * Selects the method whose parameter types are exactly the argument
+		 * types, or returns null if there is none.
+		 */
+		TypeMember<FunctionalMemberRef> selectExact(CodePosition position, TypeScope scope, CallArguments arguments, CallKey key, boolean allowNonStatic, boolean allowStatic) {
+			if (key != null) {
+				TypeMember<FunctionalMemberRef> cached = exactMatches.get(key);
+				if (cached != null)
+					return cached == NO_MATCH ? null : cached;
+			}
+
+			// type arguments may change the parameter types, and thus their shape
+			boolean indexed = arguments.getNumberOfTypeArguments() == 0;
+			Object firstShape = indexed && arguments.arguments.length > 0 ? TypeShape.of(arguments.arguments[0].type.getNormalized()) : null;
+			TypeMember<FunctionalMemberRef> selected = null;
+			for (int i = 0; i < methods.size(); i++) {
+				TypeMember<FunctionalMemberRef> method = methods.get(i);
+				if (!(method.member.isStatic() ? allowStatic : allowNonStatic))
+					continue;
+				if (firstShape != null && firstShapes[i] != null && !firstShape.equals(firstShapes[i]))
+					continue;
+
+				FunctionHeader header = method.member.getHeader().instanceForCall(position, scope.getTypeRegistry(), arguments);
+				if (header.matchesExactly(position, arguments, scope))
+					selected = selected == null ? method : selected.resolve(method);
+			}
+
+			if (key != null)
+				exactMatches.put(key, selected == null ? NO_MATCH : selected);
+			return selected;
+		}
+	}
+
+	/**
+	 * A method selected for a call, with its header instanced for the type
+	 * arguments of the call.
+	 */
+	static final class SelectedCall {
+		final FunctionalMemberRef method;
+		final FunctionHeader header;
+
+		SelectedCall(FunctionalMemberRef method, FunctionHeader header) {
+			this.method = method;
+			this.header = header;
+		}
+	}
+
+	static final class CallKey {
+		private final TypeID[] argumentTypes;
+		private final TypeID[] typeArguments;
+		private final GenericMapper localTypeParameters;
+		private final boolean allowNonStatic;
+		private final boolean allowStatic;
+
+		private CallKey(TypeScope scope, CallArguments arguments, boolean allowNonStatic, boolean allowStatic) {
+			argumentTypes = new TypeID[arguments.arguments.length];
+			for (int i = 0; i < argumentTypes.length; i++)
+				argumentTypes[i] = arguments.arguments[i].type;
+
+			// type arguments are instanced within the local type parameters of the scope
+			if (arguments.getNumberOfTypeArguments() == 0) {
+				typeArguments = TypeID.NONE;
+				localTypeParameters = null;
+			} else {
+				typeArguments = arguments.typeArguments.clone();
+				localTypeParameters = scope.getLocalTypeParameters();
+			}
+
+			this.allowNonStatic = allowNonStatic;
+			this.allowStatic = allowStatic;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o)
+				return true;
+			if (o == null || getClass() != o.getClass())
+				return false;
+
+			CallKey other = (CallKey) o;
+			return allowNonStatic == other.allowNonStatic
+					&& allowStatic == other.allowStatic
+					&& localTypeParameters == other.localTypeParameters
+					&& Arrays.equals(argumentTypes, other.argumentTypes)
+					&& Arrays.equals(typeArguments, other.typeArguments);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = Arrays.hashCode(argumentTypes);
+			result = 31 * result + Arrays.hashCode(typeArguments);
+			result = 31 * result + (allowNonStatic ? 1 : 0);
+			result = 31 * result + (allowStatic ? 1 : 0);
+			return result;
+		}
+	}
+}
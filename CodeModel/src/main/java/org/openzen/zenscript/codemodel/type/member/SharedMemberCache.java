@@ -0,0 +1,132 @@
+package org.openzen.zenscript.codemodel.type.member;
+
+import org.openzen.zenscript.codemodel.FunctionParameter;
+import org.openzen.zenscript.codemodel.definition.ExpansionDefinition;
+import org.openzen.zenscript.codemodel.type.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Type members shared between all {@link LocalMemberCache}s that use the same
+ * expansions, so builtin members and expansions don't have to be processed
+ * again for every file, module and validation pass.
+ * <p>
+ * Only types that don't contain definitions or type parameters are shared,
+ * since the members of definitions change while their module is compiled.
+ * Likewise, the expansions must come from fully compiled modules. Local caches
+ * receive a copy of the shared members, so changes made to them don't leak
+ * into other caches.
+ * <p>
+ * The cache can be used from multiple threads at once. Members are built while
+ * holding the cache lock and are never changed once they are published.
+ */
+public final class SharedMemberCache {
+	private static final ShareableVisitor SHAREABLE = new ShareableVisitor();
+
+	private final LocalMemberCache builder;
+	private final Map<TypeID, TypeMembers> types = new ConcurrentHashMap<>();
+
+	public SharedMemberCache(GlobalTypeRegistry registry, List<ExpansionDefinition> expansions) {
+		builder = new LocalMemberCache(registry, expansions, null);
+	}
+
+	/**
+	 * Checks if the members of the given (normalized) type can be shared.
+	 */
+	public static boolean isShareable(TypeID type) {
+		return type.accept(SHAREABLE);
+	}
+
+	public int size() {
+		return types.size();
+	}
+
+	/**
+	 * Retrieves the members of the given normalized, shareable type. The
+	 * returned members must not be modified.
+	 */
+	TypeMembers get(TypeID type) {
+		TypeMembers members = types.get(type);
+		if (members != null)
+			return members;
+
+		synchronized (this) {
+			members = types.get(type);
+			if (members == null) {
+				members = builder.get(type);
+				types.put(type, members);
+			}
+			return members;
+		}
+	}
+
+	private static class ShareableVisitor implements TypeVisitor<Boolean> {
+		@Override
+		public Boolean visitBasic(BasicTypeID basic) {
+			return basic != BasicTypeID.UNDETERMINED;
+		}
+
+		@Override
+		public Boolean visitArray(ArrayTypeID array) {
+			return array.elementType.accept(this);
+		}
+
+		@Override
+		public Boolean visitAssoc(AssocTypeID assoc) {
+			return assoc.keyType.accept(this) && assoc.valueType.accept(this);
+		}
+
+		@Override
+		public Boolean visitGenericMap(GenericMapTypeID map) {
+			return false;
+		}
+
+		@Override
+		public Boolean visitIterator(IteratorTypeID iterator) {
+			for (TypeID type : iterator.iteratorTypes)
+				if (!type.accept(this))
+					return false;
+
+			return true;
+		}
+
+		@Override
+		public Boolean visitFunction(FunctionTypeID function) {
+			if (function.header.typeParameters.length > 0 || !function.header.getReturnType().accept(this))
+				return false;
+
+			for (FunctionParameter parameter : function.header.parameters)
+				if (!parameter.type.accept(this))
+					return false;
+
+			return true;
+		}
+
+		@Override
+		public Boolean visitDefinition(DefinitionTypeID definition) {
+			return false;
+		}
+
+		@Override
+		public Boolean visitGeneric(GenericTypeID generic) {
+			return false;
+		}
+
+		@Override
+		public Boolean visitRange(RangeTypeID range) {
+			return range.baseType.accept(this);
+		}
+
+		@Override
+		public Boolean visitOptional(OptionalTypeID type) {
+			return type.baseType.accept(this);
+		}
+
+		@Override
+		public Boolean visitInvalid(InvalidTypeID type) {
+			return false;
+		}
+	}
+}
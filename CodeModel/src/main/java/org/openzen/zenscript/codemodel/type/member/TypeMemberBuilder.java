@@ -35,10 +35,7 @@ public class TypeMemberBuilder implements TypeVisitorWithContext<Void, Void, Run
 	}
 
 	private void processType(HighLevelDefinition definition) {
-		for (ExpansionDefinition expansion : cache.getExpansions()) {
-			if (expansion.target == null)
-				throw new RuntimeException(expansion.position.toString() + ": Missing expansion target");
-
+		for (ExpansionDefinition expansion : cache.getExpansions(type)) {
 			Map<TypeParameter, TypeID> mapping = matchType(type, expansion.target);
 			if (mapping == null)
 				continue;
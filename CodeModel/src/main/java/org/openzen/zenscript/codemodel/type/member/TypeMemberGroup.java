@@ -10,6 +10,7 @@ import org.openzen.zenscript.codemodel.generic.TypeParameter;
 import org.openzen.zenscript.codemodel.member.FunctionalMember;
 import org.openzen.zenscript.codemodel.member.ref.*;
 import org.openzen.zenscript.codemodel.scope.TypeScope;
+import org.openzen.zenscript.codemodel.type.InvalidTypeID;
 import org.openzen.zenscript.codemodel.type.TypeID;
 
 import java.util.ArrayList;
@@ -25,6 +26,7 @@ public class TypeMemberGroup {
 	private TypeMember<FieldMemberRef> field;
 	private TypeMember<GetterMemberRef> getter;
 	private TypeMember<SetterMemberRef> setter;
+	private OverloadIndex overloads;
 
 	public TypeMemberGroup(boolean isStatic, String name) {
 		this.isStatic = isStatic;
@@ -37,6 +39,16 @@ public class TypeMemberGroup {
 		return instance;
 	}
 
+	TypeMemberGroup copy() {
+		TypeMemberGroup result = new TypeMemberGroup(isStatic, name);
+		result.methods.addAll(methods);
+		result.constant = constant;
+		result.field = field;
+		result.getter = getter;
+		result.setter = setter;
+		return result;
+	}
+
 	public void merge(TypeMemberGroup other, TypeMemberPriority priority) {
 		if (other.constant != null)
 			setConst(other.constant.member, priority);
@@ -143,6 +155,7 @@ public class TypeMemberGroup {
 
 	public void addMethod(FunctionalMemberRef method, TypeMemberPriority priority) {
 		methods.add(new TypeMember<>(priority, method));
+		overloads = null;
 	}
 
 	public Expression getter(CodePosition position, TypeScope scope, Expression target, boolean allowStaticUsage) throws CompileException {
@@ -265,8 +278,13 @@ public class TypeMemberGroup {
 	}
 
 	public Expression call(CodePosition position, TypeScope scope, Expression target, CallArguments arguments, boolean allowStaticUsage) throws CompileException {
-		FunctionalMemberRef method = selectMethod(position, scope, arguments, true, allowStaticUsage);
-		FunctionHeader instancedHeader = method.getHeader().fillGenericArguments(position, scope, arguments.typeArguments);
+		Expression invalid = getReportedError(position, target.type, arguments);
+		if (invalid != null)
+			return invalid;
+
+		OverloadIndex.SelectedCall selected = select(position, scope, arguments, true, allowStaticUsage);
+		FunctionalMemberRef method = selected.method;
+		FunctionHeader instancedHeader = selected.header;
 
 		boolean isVariadicCall = instancedHeader.isVariadicCall(arguments, scope);
 		for (int i = 0; i < arguments.arguments.length; i++) {
@@ -295,48 +313,74 @@ public class TypeMemberGroup {
 			Expression target,
 			CallArguments arguments,
 			CompareType compareType) throws CompileException {
-		FunctionalMemberRef method = selectMethod(position, scope, arguments, true, false);
-		FunctionHeader instancedHeader = method.getHeader().fillGenericArguments(position, scope, arguments.typeArguments);
-		return method.callWithComparator(position, compareType, target, instancedHeader, arguments, scope);
+		Expression invalid = getReportedError(position, target.type, arguments);
+		if (invalid != null)
+			return invalid;
+
+		OverloadIndex.SelectedCall selected = select(position, scope, arguments, true, false);
+		return selected.method.callWithComparator(position, compareType, target, selected.header, arguments, scope);
 	}
 
 	public Expression callStatic(CodePosition position, TypeID target, TypeScope scope, CallArguments arguments) throws CompileException {
-		FunctionalMemberRef method = selectMethod(position, scope, arguments, false, true);
-		FunctionHeader instancedHeader = method.getHeader().fillGenericArguments(position, scope, arguments.typeArguments);
-		return method.callStatic(position, target, instancedHeader, arguments, scope);
+		Expression invalid = getReportedError(position, target, arguments);
+		if (invalid != null)
+			return invalid;
+
+		OverloadIndex.SelectedCall selected = select(position, scope, arguments, false, true);
+		return selected.method.callStatic(position, target, selected.header, arguments, scope);
 	}
 
 	public FunctionalMemberRef selectMethod(CodePosition position, TypeScope scope, CallArguments arguments, boolean allowNonStatic, boolean allowStatic) throws CompileException {
-		// try to match with exact types
-		List<TypeMember<FunctionalMemberRef>> possibleMethods = new ArrayList<>();
-		for (TypeMember<FunctionalMemberRef> method : methods) {
-			if (!(method.member.isStatic() ? allowStatic : allowNonStatic))
-				continue;
+		return select(position, scope, arguments, allowNonStatic, allowStatic).method;
+	}
 
-			FunctionHeader header = method.member.getHeader().instanceForCall(position, scope.getTypeRegistry(), arguments);
-			if (header.matchesExactly(position, arguments, scope))
-				possibleMethods.add(method);
+	/**
+	 * Returns an invalid expression if the target or an argument is invalid
+	 * because of an error that is already reported, so that using them doesn't
+	 * report more errors. Returns null otherwise.
+	 */
+	private static Expression getReportedError(CodePosition position, TypeID target, CallArguments arguments) {
+		InvalidTypeID error = isReportedError(target) ? (InvalidTypeID) target : null;
+		for (Expression argument : arguments.arguments) {
+			if (error == null && isReportedError(argument.type))
+				error = (InvalidTypeID) argument.type;
 		}
-		if (!possibleMethods.isEmpty()) {
-			TypeMember<FunctionalMemberRef> selectedMethod = null;
-			for (TypeMember<FunctionalMemberRef> method : possibleMethods) {
-				if (selectedMethod == null) {
-					selectedMethod = method;
-					continue;
-				}
 
-				selectedMethod = selectedMethod.resolve(method);
-			}
-			if (selectedMethod != null)
-				return selectedMethod.member;
+		return error == null ? null : new InvalidExpression(position, error, error.code, error.message);
+	}
+
+	private static boolean isReportedError(TypeID type) {
+		return type instanceof InvalidTypeID && ((InvalidTypeID) type).reported;
+	}
+
+	private OverloadIndex.SelectedCall select(CodePosition position, TypeScope scope, CallArguments arguments, boolean allowNonStatic, boolean allowStatic) throws CompileException {
+		if (methods.isEmpty())
+			throw new CompileException(position, CompileExceptionCode.CALL_NO_VALID_METHOD, "This type has no " + name);
+
+		if (overloads == null)
+			overloads = new OverloadIndex(methods);
+		OverloadIndex.Bucket candidates = overloads.get(arguments.arguments.length);
+		OverloadIndex.CallKey key = candidates.getKey(scope, arguments, allowNonStatic, allowStatic);
+		OverloadIndex.SelectedCall selected = candidates.getSelected(key);
+		if (selected == null) {
+			FunctionalMemberRef method = selectMethod(position, scope, candidates, key, arguments, allowNonStatic, allowStatic);
+			selected = new OverloadIndex.SelectedCall(method, method.getHeader().fillGenericArguments(position, scope, arguments.typeArguments));
+			candidates.setSelected(key, selected);
 		}
+		return selected;
+	}
+
+	private FunctionalMemberRef selectMethod(CodePosition position, TypeScope scope, OverloadIndex.Bucket candidates, OverloadIndex.CallKey key, CallArguments arguments, boolean allowNonStatic, boolean allowStatic) throws CompileException {
+		// try to match with exact types
+		TypeMember<FunctionalMemberRef> exactMethod = candidates.selectExact(position, scope, arguments, key, allowNonStatic, allowStatic);
+		if (exactMethod != null)
+			return exactMethod.member;
+
 		// try to match with approximate types
 		TypeMember<FunctionalMemberRef> selected = null;
-		for (TypeMember<FunctionalMemberRef> method : methods) {
+		for (TypeMember<FunctionalMemberRef> method : candidates.methods) {
 			if (!(method.member.isStatic() ? allowStatic : allowNonStatic))
 				continue;
-			if (arguments.arguments.length < method.member.getHeader().minParameters || arguments.arguments.length > method.member.getHeader().maxParameters)
-				continue;
 
 			scope.getPreparer().prepare(method.member.getTarget());
 
@@ -364,10 +408,6 @@ public class TypeMemberGroup {
 		if (selected == null) {
 			// let's figure out why this didn't work out
 			StringBuilder message = new StringBuilder();
-			if (methods.isEmpty()) {
-				throw new CompileException(position, CompileExceptionCode.CALL_NO_VALID_METHOD, "This type has no " + name);
-			}
-
 			for (TypeMember<FunctionalMemberRef> method : methods) {
 				if (!(method.member.isStatic() ? allowStatic : allowNonStatic)) {
 					message.append(method.member.isStatic() ? "Method must not be static" : "Method must be static").append('\n');
@@ -5,8 +5,10 @@ import org.openzen.zencode.shared.CompileException;
 import org.openzen.zencode.shared.CompileExceptionCode;
 import org.openzen.zenscript.codemodel.CompareType;
 import org.openzen.zenscript.codemodel.GenericName;
+import org.openzen.zenscript.codemodel.HighLevelDefinition;
 import org.openzen.zenscript.codemodel.OperatorType;
 import org.openzen.zenscript.codemodel.expression.*;
+import org.openzen.zenscript.codemodel.generic.TypeParameter;
 import org.openzen.zenscript.codemodel.member.EnumConstantMember;
 import org.openzen.zenscript.codemodel.member.IDefinitionMember;
 import org.openzen.zenscript.codemodel.member.InnerDefinition;
@@ -30,6 +32,9 @@ public final class TypeMembers {
 	private final Map<String, InnerDefinition> innerTypes = new HashMap<>();
 	private final Map<OperatorType, TypeMemberGroup> operators = new HashMap<>();
 
+	private Ancestors ancestors;
+	private Set<TypeID> superTypes;
+
 	public TypeMembers(LocalMemberCache cache, TypeID type) {
 		if (type == null)
 			throw new NullPointerException("Type must not be null!");
@@ -46,62 +51,72 @@ public final class TypeMembers {
 
 	public boolean extendsOrImplements(TypeID other) {
 		other = other.getNormalized();
-		checkBoundaries:
-		if (this.type instanceof DefinitionTypeID && other instanceof DefinitionTypeID) {
-			DefinitionTypeID thisTypeId = (DefinitionTypeID) this.type;
-			DefinitionTypeID otherTypeId = (DefinitionTypeID) other;
+		if (!(other instanceof DefinitionTypeID))
+			return getAncestors().types.contains(other);
 
-			if (thisTypeId.definition != otherTypeId.definition) {
-				break checkBoundaries;
-			}
+		DefinitionTypeID otherTypeId = (DefinitionTypeID) other;
+		if (this.type instanceof DefinitionTypeID && ((DefinitionTypeID) this.type).definition == otherTypeId.definition && matchesTypeArguments(otherTypeId))
+			return true;
 
-			if (thisTypeId.definition.typeParameters.length != otherTypeId.typeArguments.length) {
-				break checkBoundaries;
-			}
+		Ancestors ancestors = getAncestors();
+		return ancestors.types.contains(other)
+				|| (ancestors.definitions.contains(otherTypeId.definition) && matchesTypeArguments(otherTypeId));
+	}
 
-			for (int i = 0; i < thisTypeId.definition.typeParameters.length; i++) {
-				final TypeID type = otherTypeId.typeArguments[i];
-				if (type == BasicTypeID.UNDETERMINED) {
-					continue;
-				}
-				if (type instanceof InvalidTypeID && ((InvalidTypeID) type).code == CompileExceptionCode.TYPE_ARGUMENTS_NOT_INFERRABLE) {
-					continue;
-				}
-				if (thisTypeId.definition.typeParameters[i].matches(cache, type)) {
-					continue;
-				}
-				break checkBoundaries;
-			}
-			return true;
+	public boolean extendsType(TypeID other) {
+		other = other.getNormalized();
+		if (superTypes == null) {
+			Set<TypeID> result = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (TypeID superType = type.getSuperType(cache.getRegistry()); superType != null; superType = superType.getNormalized().getSuperType(cache.getRegistry()))
+				result.add(superType);
+			superTypes = result;
 		}
 
+		return superTypes.contains(other);
+	}
 
-		TypeID superType = type.getSuperType(cache.getRegistry());
-		if (superType != null) {
-			if (superType == other)
-				return true;
-			if (cache.get(superType).extendsOrImplements(other))
-				return true;
-		}
+	/**
+	 * Checks if a type of the other type's definition could be passed as the
+	 * other type, that is, if the type arguments of the other type (if known)
+	 * satisfy the bounds of the definition's type parameters.
+	 */
+	private boolean matchesTypeArguments(DefinitionTypeID other) {
+		TypeParameter[] typeParameters = other.definition.typeParameters;
+		if (typeParameters.length != other.typeArguments.length)
+			return false;
 
-		for (TypeMember<ImplementationMemberRef> implementation : implementations) {
-			if (implementation.member.implementsType == other)
-				return true;
-			if (cache.get(implementation.member.implementsType).extendsOrImplements(other))
-				return true;
+		for (int i = 0; i < typeParameters.length; i++) {
+			final TypeID type = other.typeArguments[i];
+			if (type == BasicTypeID.UNDETERMINED)
+				continue;
+			if (type instanceof InvalidTypeID && ((InvalidTypeID) type).code == CompileExceptionCode.TYPE_ARGUMENTS_NOT_INFERRABLE)
+				continue;
+			if (!typeParameters[i].matches(cache, type))
+				return false;
 		}
-
-		return false;
+		return true;
 	}
 
-	public boolean extendsType(TypeID other) {
-		other = other.getNormalized();
+	/**
+	 * Retrieves the supertypes and implemented types of this type, direct and
+	 * indirect. These are computed when first needed and computed again when
+	 * an implementation has been added to any type in the cache since, as
+	 * types can be queried while their members are still being built.
+	 */
+	private Ancestors getAncestors() {
+		int version = cache.getImplementationVersion();
+		if (ancestors != null && ancestors.version == version)
+			return ancestors;
+
+		Ancestors result = new Ancestors(version);
 		TypeID superType = type.getSuperType(cache.getRegistry());
-		if (superType != null) {
-			return superType == other || cache.get(superType).extendsType(other);
-		}
+		if (superType != null)
+			result.add(superType, cache.get(superType));
+		for (TypeMember<ImplementationMemberRef> implementation : implementations)
+			result.add(implementation.member.implementsType, cache.get(implementation.member.implementsType));
 
-		return false;
+		ancestors = result;
+		return result;
 	}
 
 	public GlobalTypeRegistry getTypeRegistry() {
@@ -126,6 +141,25 @@ public final class TypeMembers {
 			other.getOrCreateGroup(entry.getKey()).merge(entry.getValue(), priority);
 	}
 
+	/**
+	 * Copies all members to the given (empty) members instance, keeping their
+	 * priorities.
+	 */
+	void copyAllTo(TypeMembers other) {
+		other.casters.addAll(casters);
+		other.implementations.addAll(implementations);
+		if (!implementations.isEmpty())
+			other.cache.onImplementationAdded();
+		other.iterators.addAll(iterators);
+		other.enumMembers.putAll(enumMembers);
+		other.variantOptions.putAll(variantOptions);
+		for (Map.Entry<String, TypeMemberGroup> entry : members.entrySet())
+			other.members.put(entry.getKey(), entry.getValue().copy());
+		other.innerTypes.putAll(innerTypes);
+		for (Map.Entry<OperatorType, TypeMemberGroup> entry : operators.entrySet())
+			other.operators.put(entry.getKey(), entry.getValue().copy());
+	}
+
 	public DefinitionMemberRef getBuiltin(BuiltinID builtin) {
 		for (TypeMemberGroup group : members.values()) {
 			if (group.getConstant() != null && group.getConstant().member.builtin == builtin)
@@ -310,6 +344,7 @@ public final class TypeMembers {
 		}
 
 		implementations.add(new TypeMember<>(priority, member));
+		cache.onImplementationAdded();
 	}
 
 	public void addInnerType(String name, InnerDefinition type) {
@@ -542,6 +577,9 @@ public final class TypeMembers {
 			return value;
 		if (type == toType)
 			return value;
+		// the value or the type is invalid because of an error that is already reported
+		if (isReportedError(type) || isReportedError(toType))
+			return value;
 		if (type.canCastImplicitTo(toType))
 			return type.castImplicitTo(position, value, toType);
 		if (toType.canCastImplicitFrom(type))
@@ -568,6 +606,10 @@ public final class TypeMembers {
 		return new InvalidExpression(position, toType, CompileExceptionCode.INVALID_CAST, "Could not cast " + this + " to " + toType);
 	}
 
+	private static boolean isReportedError(TypeID type) {
+		return type instanceof InvalidTypeID && ((InvalidTypeID) type).reported;
+	}
+
 	public Expression castExplicit(CodePosition position, Expression value, TypeID toType, boolean optional) {
 		toType = toType.getNormalized();
 		if (this.canCastImplicit(toType))
@@ -648,4 +690,24 @@ public final class TypeMembers {
 	public String toString() {
 		return type.toString();
 	}
+
+	private static final class Ancestors {
+		final int version;
+		final Set<TypeID> types = Collections.newSetFromMap(new IdentityHashMap<>());
+		final Set<HighLevelDefinition> definitions = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		Ancestors(int version) {
+			this.version = version;
+		}
+
+		void add(TypeID type, TypeMembers members) {
+			types.add(type);
+			if (members.type instanceof DefinitionTypeID)
+				definitions.add(((DefinitionTypeID) members.type).definition);
+
+			Ancestors inherited = members.getAncestors();
+			types.addAll(inherited.types);
+			definitions.addAll(inherited.definitions);
+		}
+	}
 }
@@ -0,0 +1,80 @@
+package org.openzen.zenscript.codemodel.type.member;
+
+import org.openzen.zenscript.codemodel.type.*;
+
+/**
+ * Computes the outer shape of a type: its basic type, its definition, or its
+ * kind of compound type (array, optional, ...). Two types can only be equal or
+ * match (see {@link TypeMatcher}) if their shapes are equal, unless one of them
+ * is a type parameter. Type parameters have no shape.
+ */
+final class TypeShape {
+	private static final ShapeVisitor VISITOR = new ShapeVisitor();
+
+	private TypeShape() {
+	}
+
+	/**
+	 * Returns the shape of the given type, or null if it is a type parameter.
+	 */
+	static Object of(TypeID type) {
+		return type.accept(VISITOR);
+	}
+
+	private static final class ShapeVisitor implements TypeVisitor<Object> {
+		@Override
+		public Object visitBasic(BasicTypeID basic) {
+			return basic;
+		}
+
+		@Override
+		public Object visitArray(ArrayTypeID array) {
+			return ArrayTypeID.class;
+		}
+
+		@Override
+		public Object visitAssoc(AssocTypeID assoc) {
+			return AssocTypeID.class;
+		}
+
+		@Override
+		public Object visitGenericMap(GenericMapTypeID map) {
+			return map;
+		}
+
+		@Override
+		public Object visitIterator(IteratorTypeID iterator) {
+			return IteratorTypeID.class;
+		}
+
+		@Override
+		public Object visitFunction(FunctionTypeID function) {
+			return FunctionTypeID.class;
+		}
+
+		@Override
+		public Object visitDefinition(DefinitionTypeID definition) {
+			return definition.definition;
+		}
+
+		@Override
+		public Object visitGeneric(GenericTypeID generic) {
+			return null;
+		}
+
+		@Override
+		public Object visitRange(RangeTypeID range) {
+			return RangeTypeID.class;
+		}
+
+		@Override
+		public Object visitOptional(OptionalTypeID type) {
+			return OptionalTypeID.class;
+		}
+
+		@Override
+		public Object visitInvalid(InvalidTypeID type) {
+			return InvalidTypeID.class;
+		}
+	}
+}
@@ -17,12 +17,12 @@ public class JavaCapturedExpressionVisitor implements CapturedExpressionVisitor<
 
 	@Override
 	public Void visitCapturedParameter(CapturedParameterExpression expression) {
-		return new GetFunctionParameterExpression(expression.position, expression.parameter).accept(expressionVisitor);
+		return new GetFunctionParameterExpression(expression.getPosition(), expression.parameter).accept(expressionVisitor);
 	}
 
 	@Override
 	public Void visitCapturedLocal(CapturedLocalVariableExpression expression) {
-		return new GetLocalVariableExpression(expression.position, expression.variable)
+		return new GetLocalVariableExpression(expression.getPosition(), expression.variable)
 				.accept(expressionVisitor);
 	}
 
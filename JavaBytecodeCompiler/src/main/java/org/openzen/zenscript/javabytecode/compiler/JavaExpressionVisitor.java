@@ -181,7 +181,7 @@ public class JavaExpressionVisitor implements ExpressionVisitor<Void>, JavaNativ
 				return h;
 			h++;
 		}
-		throw new RuntimeException(localVariableExpression.position.toString() + ": Captured Statement error");
+		throw new RuntimeException(localVariableExpression.getPosition().toString() + ": Captured Statement error");
 	}
 
 	private static int calculateMemberPosition(CapturedParameterExpression functionParameterExpression, FunctionExpression expression) {
@@ -191,7 +191,7 @@ public class JavaExpressionVisitor implements ExpressionVisitor<Void>, JavaNativ
 				return h;
 			h++;
 		}
-		throw new RuntimeException(functionParameterExpression.position.toString() + ": Captured Statement error");
+		throw new RuntimeException(functionParameterExpression.getPosition().toString() + ": Captured Statement error");
 	}
 
 	private static boolean hasNoDefault(MatchExpression switchStatement) {
@@ -2108,7 +2108,7 @@ public class JavaExpressionVisitor implements ExpressionVisitor<Void>, JavaNativ
 		//Bridge method!!!
 		if (!Objects.equals(methodInfo.descriptor, descriptor)) {
 			final JavaMethod bridgeMethodInfo = new JavaMethod(methodInfo.cls, methodInfo.kind, methodInfo.name, methodInfo.compile, methodInfo.descriptor, methodInfo.modifiers | JavaModifiers.BRIDGE | JavaModifiers.SYNTHETIC, methodInfo.genericResult, methodInfo.typeParameterArguments);
-			final JavaWriter bridgeWriter = new JavaWriter(context.logger, expression.position, lambdaCW, bridgeMethodInfo, null, methodInfo.descriptor, null, "java/lang/Override");
+			final JavaWriter bridgeWriter = new JavaWriter(context.logger, expression.getPosition(), lambdaCW, bridgeMethodInfo, null, methodInfo.descriptor, null, "java/lang/Override");
 			bridgeWriter.start();
 
 			//This.name(parameters, casted)
@@ -2139,9 +2139,9 @@ public class JavaExpressionVisitor implements ExpressionVisitor<Void>, JavaNativ
 
 			final JavaMethod actualMethod = new JavaMethod(methodInfo.cls, methodInfo.kind, methodInfo.name, methodInfo.compile, context.getMethodDescriptor(expression.header), methodInfo.modifiers, methodInfo.genericResult, methodInfo.typeParameterArguments);
 			//No @Override
-			functionWriter = new JavaWriter(context.logger, expression.position, lambdaCW, actualMethod, null, signature, null);
+			functionWriter = new JavaWriter(context.logger, expression.getPosition(), lambdaCW, actualMethod, null, signature, null);
 		} else {
-			functionWriter = new JavaWriter(context.logger, expression.position, lambdaCW, methodInfo, null, signature, null, "java/lang/Override");
+			functionWriter = new JavaWriter(context.logger, expression.getPosition(), lambdaCW, methodInfo, null, signature, null, "java/lang/Override");
 		}
 
 		javaWriter.newObject(className);
@@ -2150,7 +2150,7 @@ public class JavaExpressionVisitor implements ExpressionVisitor<Void>, JavaNativ
 		final String constructorDesc = calcFunctionSignature(expression.closure);
 
 
-		final JavaWriter constructorWriter = new JavaWriter(context.logger, expression.position, lambdaCW, JavaMethod.getConstructor(javaWriter.method.cls, constructorDesc, Opcodes.ACC_PUBLIC), null, null, null);
+		final JavaWriter constructorWriter = new JavaWriter(context.logger, expression.getPosition(), lambdaCW, JavaMethod.getConstructor(javaWriter.method.cls, constructorDesc, Opcodes.ACC_PUBLIC), null, null, null);
 		constructorWriter.start();
 		constructorWriter.loadObject(0);
 		constructorWriter.dup();
@@ -2242,7 +2242,7 @@ public class JavaExpressionVisitor implements ExpressionVisitor<Void>, JavaNativ
 		JavaParameterInfo parameter = module.getParameterInfo(expression.parameter);
 
 		if (parameter == null)
-			throw new RuntimeException(expression.position.toString() + ": Could not resolve lambda parameter" + expression.parameter);
+			throw new RuntimeException(expression.getPosition().toString() + ": Could not resolve lambda parameter" + expression.parameter);
 
 		javaWriter.load(context.getType(expression.parameter.type), parameter.index);
 		return null;
@@ -3184,7 +3184,7 @@ public class JavaExpressionVisitor implements ExpressionVisitor<Void>, JavaNativ
 
 	private void visitFunctionalInterfaceWrapping(JavaFunctionInterfaceCastExpression expression) {
 		final FunctionCastWrapperClass wrapper = generateFunctionCastWrapperClass(
-				expression.position,
+				expression.getPosition(),
 				(FunctionTypeID) expression.value.type,
 				expression.functionType);
 
@@ -38,7 +38,7 @@ public class JavaStatementVisitor implements StatementVisitor<Boolean> {
 
 	@Override
 	public Boolean visitBlock(BlockStatement statement) {
-		javaWriter.position(statement.position.fromLine);
+		javaWriter.position(statement.getPosition().fromLine);
 		Boolean returns = false;
 		for (Statement statement1 : statement.statements) {
 			returns = statement1.accept(this);
@@ -48,21 +48,21 @@ public class JavaStatementVisitor implements StatementVisitor<Boolean> {
 
 	@Override
 	public Boolean visitBreak(BreakStatement statement) {
-		javaWriter.position(statement.position.fromLine);
+		javaWriter.position(statement.getPosition().fromLine);
 		javaWriter.goTo(javaWriter.getNamedLabel(statement.target.label + "_end"));
 		return false;
 	}
 
 	@Override
 	public Boolean visitContinue(ContinueStatement statement) {
-		javaWriter.position(statement.position.fromLine);
+		javaWriter.position(statement.getPosition().fromLine);
 		javaWriter.goTo(javaWriter.getNamedLabel(statement.target.label + "_start"));
 		return false;
 	}
 
 	@Override
 	public Boolean visitDoWhile(DoWhileStatement statement) {
-		javaWriter.position(statement.position.fromLine);
+		javaWriter.position(statement.getPosition().fromLine);
 		Label start = new Label();
 		Label end = new Label();
 		if (statement.label == null)
@@ -88,14 +88,14 @@ public class JavaStatementVisitor implements StatementVisitor<Boolean> {
 
 	@Override
 	public Boolean visitExpression(ExpressionStatement statement) {
-		javaWriter.position(statement.position.fromLine);
+		javaWriter.position(statement.getPosition().fromLine);
 		statement.expression.accept(nonPushingExpressionVisitor);
 		return false;
 	}
 
 	@Override
 	public Boolean visitForeach(ForeachStatement statement) {
-		javaWriter.position(statement.position.fromLine);
+		javaWriter.position(statement.getPosition().fromLine);
 		//Create Labels
 		Label start = new Label();
 		Label end = new Label();
@@ -159,7 +159,7 @@ public class JavaStatementVisitor implements StatementVisitor<Boolean> {
 
 	@Override
 	public Boolean visitIf(IfStatement statement) {
-		javaWriter.position(statement.position.fromLine);
+		javaWriter.position(statement.getPosition().fromLine);
 		statement.condition.accept(expressionVisitor);
 		Label onElse = null;
 		Label end = new Label();
@@ -192,7 +192,7 @@ public class JavaStatementVisitor implements StatementVisitor<Boolean> {
 
 	@Override
 	public Boolean visitReturn(ReturnStatement statement) {
-		javaWriter.position(statement.position.fromLine);
+		javaWriter.position(statement.getPosition().fromLine);
 		if (statement.value == null) {
 			javaWriter.ret();
 		} else {
@@ -205,7 +205,7 @@ public class JavaStatementVisitor implements StatementVisitor<Boolean> {
 
 	@Override
 	public Boolean visitSwitch(SwitchStatement statement) {
-		javaWriter.position(statement.position.fromLine);
+		javaWriter.position(statement.getPosition().fromLine);
 
 		final Label start = new Label();
 		final Label end = new Label();
@@ -271,7 +271,7 @@ public class JavaStatementVisitor implements StatementVisitor<Boolean> {
 
 	@Override
 	public Boolean visitThrow(ThrowStatement statement) {
-		javaWriter.position(statement.position.fromLine);
+		javaWriter.position(statement.getPosition().fromLine);
 		statement.value.accept(expressionVisitor);
 		javaWriter.aThrow();
 		return false;
@@ -279,7 +279,7 @@ public class JavaStatementVisitor implements StatementVisitor<Boolean> {
 
 	@Override
 	public Boolean visitTryCatch(TryCatchStatement statement) {
-		javaWriter.position(statement.position.fromLine);
+		javaWriter.position(statement.getPosition().fromLine);
 		final Label tryCatchStart = new Label();
 		final Label tryFinish = new Label();
 		final Label tryCatchFinish = new Label();
@@ -331,7 +331,7 @@ public class JavaStatementVisitor implements StatementVisitor<Boolean> {
 
 	@Override
 	public Boolean visitVar(VarStatement statement) {
-		javaWriter.position(statement.position.fromLine);
+		javaWriter.position(statement.getPosition().fromLine);
 		if (statement.initializer != null) {
 			statement.initializer.accept(expressionVisitor);
 		}
@@ -350,7 +350,7 @@ public class JavaStatementVisitor implements StatementVisitor<Boolean> {
 
 	@Override
 	public Boolean visitWhile(WhileStatement statement) {
-		javaWriter.position(statement.position.fromLine);
+		javaWriter.position(statement.getPosition().fromLine);
 		Label start = new Label();
 		Label end = new Label();
 
@@ -25,6 +25,8 @@ import org.openzen.zenscript.javashared.SimpleJavaCompileSpace;
 import org.openzen.zenscript.lexer.ParseException;
 import org.openzen.zenscript.parser.BracketExpressionParser;
 import org.openzen.zenscript.parser.ParsedFile;
+import org.openzen.zenscript.parser.ParsedFileCache;
+import org.openzen.zenscript.parser.SemanticModuleCache;
 import org.openzen.zenscript.parser.ZippedPackage;
 import org.openzen.zenscript.validator.Validator;
 
@@ -36,6 +38,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 /**
@@ -45,11 +48,48 @@ public class ScriptingEngine {
 	public final ScriptingEngineLogger logger;
 	private final ZSPackage root = ZSPackage.createRoot();
 	private final ZSPackage stdlib = root.getOrCreatePackage("stdlib");
-	public final GlobalTypeRegistry registry = new GlobalTypeRegistry(stdlib);
+	public final GlobalTypeRegistry registry;
 	private final ModuleSpace space;
 	private final List<JavaNativeModule> nativeModules = new ArrayList<>();
 	private final List<SemanticModule> compiledModules = new ArrayList<>();
 	public boolean debug = false;
+	/**
+	 * If set, script files are parsed concurrently on this executor. Bracket
+	 * expression parsers must then be thread-safe.
+	 */
+	public Executor parseExecutor = null;
+	/**
+	 * If set, the script blocks of script files are compiled concurrently on
+	 * this executor, after all definitions have been compiled. The logger must
+	 * then be thread-safe.
+	 */
+	public Executor compileExecutor = null;
+	/**
+	 * If set, the script blocks and definitions of scripted modules are
+	 * validated concurrently on this executor. Validation messages are still
+	 * logged in order, from the thread that creates the module.
+	 */
+	public Executor validationExecutor = null;
+	/**
+	 * If set, unchanged script files are not parsed again when a scripted
+	 * module is (re)created. Reuse the same cache between engines to only
+	 * re-parse changed scripts on reload.
+	 */
+	public ParsedFileCache parseCache = null;
+	/**
+	 * If set, function and method bodies are only parsed when they are
+	 * compiled. Syntax errors in these bodies are then reported by the
+	 * validator instead of the parser.
+	 */
+	public boolean lazyFunctionBodies = false;
+	/**
+	 * If set, a scripted module is not compiled again if its sources and
+	 * dependencies did not change since it was last created by this engine;
+	 * the previously created module is returned instead. Since compiled
+	 * modules belong to the engine that created them, only use the cache with
+	 * a single engine.
+	 */
+	public SemanticModuleCache moduleCache = null;
 
 	public ScriptingEngine() {
         this(new ScriptingEngineStreamLogger());
@@ -60,6 +100,16 @@ public class ScriptingEngine {
 	}
     
     public ScriptingEngine(ScriptingEngineLogger logger, Function<String, InputStream> resourceGetter) {
+        this(logger, resourceGetter, false);
+    }
+
+	/**
+	 * Creates an engine. Set weakTypeInterning if the engine is kept while
+	 * scripts are reloaded, so that the types of unloaded scripts can be
+	 * garbage collected.
+	 */
+	public ScriptingEngine(ScriptingEngineLogger logger, Function<String, InputStream> resourceGetter, boolean weakTypeInterning) {
+        this.registry = new GlobalTypeRegistry(stdlib, weakTypeInterning);
         this.space = new ModuleSpace(registry, new ArrayList<>());
         this.logger = logger;
         try {
@@ -115,11 +165,8 @@ public class ScriptingEngine {
 		Module scriptModule = new Module(name);
 		CompilingPackage scriptPackage = new CompilingPackage(new ZSPackage(space.rootPackage, name), scriptModule);
 
-		ParsedFile[] files = new ParsedFile[sources.length];
-		for (int i = 0; i < sources.length; i++) {
-			logger.logSourceFile(sources[i]);
-			files[i] = ParsedFile.parse(scriptPackage, bracketParser, sources[i]);
-		}
+		for (SourceFile source : sources)
+			logger.logSourceFile(source);
 
 		SemanticModule[] dependencyModules = new SemanticModule[dependencies.length + 1];
 		dependencyModules[0] = space.getModule("stdlib");
@@ -127,19 +174,42 @@ public class ScriptingEngine {
 			dependencyModules[i + 1] = space.getModule(dependencies[i]);
 		}
 
+		// the sources are read once, and parsed from the same contents they were fingerprinted with
+		char[][] contents = null;
+		SemanticModuleCache.Fingerprint fingerprint = null;
+		if (moduleCache != null) {
+			contents = new char[sources.length][];
+			for (int i = 0; i < sources.length; i++)
+				contents[i] = ParsedFile.readContents(sources[i]);
+
+			fingerprint = SemanticModuleCache.fingerprint(sources, contents, space, dependencyModules, scriptParameters, bracketParser);
+			SemanticModule cached = moduleCache.get(name, fingerprint);
+			if (cached != null)
+				return cached;
+		}
+
+		ParsedFile[] files = parseCache == null
+				? ParsedFile.parse(scriptPackage, bracketParser, sources, contents, parseExecutor, lazyFunctionBodies)
+				: parseCache.parse(scriptPackage, bracketParser, sources, contents, parseExecutor, lazyFunctionBodies);
+
 		SemanticModule scripts = ParsedFile.compileSyntaxToSemantic(
 				dependencyModules,
 				scriptPackage,
 				files,
 				space,
 				scriptParameters,
-				logger);
+				logger,
+				compileExecutor);
 		if (!scripts.isValid())
 			return scripts;
 
-		return Validator.validate(
+		SemanticModule validated = Validator.validate(
 				scripts.normalize(),
-				logger);
+				logger,
+				validationExecutor);
+		if (moduleCache != null && validated.isValid())
+			moduleCache.put(name, fingerprint, validated);
+		return validated;
 	}
 
 	public void registerCompiled(SemanticModule module) {
@@ -71,7 +71,7 @@ public class ScriptingEngineStreamLogger implements ScriptingEngineLogger {
 
 	@Override
 	public void logCompileException(CompileException exception) {
-		throwingErr("Compile Exception:", exception);
+		error(exception.getMessage());
 	}
 
 	@Override
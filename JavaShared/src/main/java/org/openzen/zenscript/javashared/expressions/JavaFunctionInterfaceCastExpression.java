@@ -31,11 +31,11 @@ public class JavaFunctionInterfaceCastExpression extends Expression {
 
 	@Override
 	public Expression transform(ExpressionTransformer transformer) {
-		return new JavaFunctionInterfaceCastExpression(position, functionType, transformer.transform(value));
+		return new JavaFunctionInterfaceCastExpression(getPosition(), functionType, transformer.transform(value));
 	}
 
 	@Override
 	public Expression normalize(TypeScope scope) {
-		return new JavaFunctionInterfaceCastExpression(position, functionType, value.normalize(scope));
+		return new JavaFunctionInterfaceCastExpression(getPosition(), functionType, value.normalize(scope));
 	}
 }
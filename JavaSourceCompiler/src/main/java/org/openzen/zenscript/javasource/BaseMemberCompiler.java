@@ -91,7 +91,7 @@ public abstract class BaseMemberCompiler implements MemberVisitor<Void> {
 			output.append(";\n");
 		} else {
 			if (!(body instanceof BlockStatement))
-				body = new BlockStatement(body.position, new Statement[]{body});
+				body = new BlockStatement(body.getPosition(), new Statement[]{body});
 
 			JavaSourceStatementScope scope = new JavaSourceStatementScope(this.scope, settings, header, indent + settings.indent, null, null, expansionTarget != null);
 			body.accept(new JavaSourceStatementCompiler(scope, output, true, false));
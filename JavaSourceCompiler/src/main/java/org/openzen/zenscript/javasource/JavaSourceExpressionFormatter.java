@@ -182,7 +182,7 @@ public class JavaSourceExpressionFormatter implements ExpressionVisitor<Expressi
 
 		JavaMethod method = context.getJavaMethod(expression.member);
 		if (method == null)
-			throw new RuntimeException(expression.position + ": No tag for caster");
+			throw new RuntimeException(expression.getPosition() + ": No tag for caster");
 
 		if (method.kind == JavaMethod.Kind.COMPILED) {
 			return (ExpressionString) method.translation.translate(expression, this);
@@ -373,7 +373,7 @@ public class JavaSourceExpressionFormatter implements ExpressionVisitor<Expressi
 	public ExpressionString visitGetStaticField(GetStaticFieldExpression expression) {
 		JavaField field = context.getJavaField(expression.field);
 		if (field == null)
-			throw new RuntimeException(expression.position + ": Missing field tag");
+			throw new RuntimeException(expression.getPosition() + ": Missing field tag");
 
 		return new ExpressionString(scope.type(field.cls) + '.' + field.name, JavaOperator.MEMBER);
 	}
@@ -562,7 +562,7 @@ public class JavaSourceExpressionFormatter implements ExpressionVisitor<Expressi
 	public ExpressionString visitSetStaticField(SetStaticFieldExpression expression) {
 		JavaField field = context.getJavaField(expression.field);
 		if (field == null)
-			throw new RuntimeException(expression.position + ": Missing field tag");
+			throw new RuntimeException(expression.getPosition() + ": Missing field tag");
 
 		if (field.cls.fullName.equals(scope.fileScope.cls.fullName) && !scope.hasLocalVariable(field.name)) {
 			return new ExpressionString(
@@ -903,9 +903,9 @@ public class JavaSourceExpressionFormatter implements ExpressionVisitor<Expressi
 	}
 
 	private Expression hoist(Expression value) {
-		VarStatement temp = new VarStatement(value.position, new VariableID(), scope.createTempVariable(), value.type, value, true);
+		VarStatement temp = new VarStatement(value.getPosition(), new VariableID(), scope.createTempVariable(), value.type, value, true);
 		new JavaSourceStatementFormatter(scope).formatVar(target, temp);
-		return new GetLocalVariableExpression(value.position, temp);
+		return new GetLocalVariableExpression(value.getPosition(), temp);
 	}
 
 	public ExpressionString hoist(ExpressionString value, String type) {
@@ -2005,7 +2005,7 @@ public class JavaSourceExpressionFormatter implements ExpressionVisitor<Expressi
 							.append(newArray(type.elementType, size))
 							.append(";")
 							.toString());
-					VarStatement tempI = new VarStatement(expression.position, new VariableID(), scope.createTempVariable(), BasicTypeID.INT, null, true);
+					VarStatement tempI = new VarStatement(expression.getPosition(), new VariableID(), scope.createTempVariable(), BasicTypeID.INT, null, true);
 					target.writeLine(new StringBuilder()
 							.append("for (int ")
 							.append(tempI.name)
@@ -2020,7 +2020,7 @@ public class JavaSourceExpressionFormatter implements ExpressionVisitor<Expressi
 
 					if (lambdaString == null) {
 						FunctionExpression lambdaFunction = (FunctionExpression) lambda;
-						Expression lambdaExpression = lambdaFunction.asReturnExpression(new GetLocalVariableExpression(expression.position, tempI));
+						Expression lambdaExpression = lambdaFunction.asReturnExpression(new GetLocalVariableExpression(expression.getPosition(), tempI));
 						if (lambdaExpression != null) {
 							// use expression directly
 							target.writeLine(new StringBuilder()
@@ -2076,7 +2076,7 @@ public class JavaSourceExpressionFormatter implements ExpressionVisitor<Expressi
 							.append(newArray(type.elementType, originalString.unaryPostfix(JavaOperator.MEMBER, ".length")))
 							.append(";")
 							.toString());
-					VarStatement tempI = new VarStatement(expression.position, new VariableID(), scope.createTempVariable(), BasicTypeID.INT, null, true);
+					VarStatement tempI = new VarStatement(expression.getPosition(), new VariableID(), scope.createTempVariable(), BasicTypeID.INT, null, true);
 					target.writeLine(new StringBuilder()
 							.append("for (int ")
 							.append(tempI.name)
@@ -2094,7 +2094,7 @@ public class JavaSourceExpressionFormatter implements ExpressionVisitor<Expressi
 						TypeMembers originalArrayTypeMembers = scope.fileScope.semanticScope.getTypeMembers(expression.arguments.arguments[0].type);
 						Expression getOriginalValue = originalArrayTypeMembers
 								.getOrCreateGroup(OperatorType.INDEXGET)
-								.call(expression.position, scope.fileScope.semanticScope, original, new CallArguments(new GetLocalVariableExpression(expression.position, tempI)), true);
+								.call(expression.getPosition(), scope.fileScope.semanticScope, original, new CallArguments(new GetLocalVariableExpression(expression.getPosition(), tempI)), true);
 						Expression lambdaExpression = lambdaFunction.asReturnExpression(getOriginalValue);
 						if (lambdaExpression != null) {
 							// use expression directly
@@ -2153,7 +2153,7 @@ public class JavaSourceExpressionFormatter implements ExpressionVisitor<Expressi
 							.append(newArray(type.elementType, originalString.unaryPostfix(JavaOperator.MEMBER, ".length")))
 							.append(";")
 							.toString());
-					VarStatement tempI = new VarStatement(expression.position, new VariableID(), scope.createTempVariable(), BasicTypeID.INT, null, true);
+					VarStatement tempI = new VarStatement(expression.getPosition(), new VariableID(), scope.createTempVariable(), BasicTypeID.INT, null, true);
 					target.writeLine(new StringBuilder()
 							.append("for (int ")
 							.append(tempI.name)
@@ -2171,10 +2171,10 @@ public class JavaSourceExpressionFormatter implements ExpressionVisitor<Expressi
 						TypeMembers originalArrayTypeMembers = scope.fileScope.semanticScope.getTypeMembers(expression.arguments.arguments[0].type);
 						Expression getOriginalValue = originalArrayTypeMembers
 								.getOrCreateGroup(OperatorType.INDEXGET)
-								.call(expression.position, scope.fileScope.semanticScope, original, new CallArguments(new GetLocalVariableExpression(expression.position, tempI)), true);
+								.call(expression.getPosition(), scope.fileScope.semanticScope, original, new CallArguments(new GetLocalVariableExpression(expression.getPosition(), tempI)), true);
 						Expression lambdaExpression = lambdaFunction.asReturnExpression(
 								getOriginalValue,
-								new GetLocalVariableExpression(expression.position, tempI));
+								new GetLocalVariableExpression(expression.getPosition(), tempI));
 						if (lambdaExpression != null) {
 							// use expression directly
 							target.writeLine(new StringBuilder()
@@ -112,8 +112,8 @@ public class JavaSourceStatementScope {
 		if (!shouldHoist)
 			return expression;
 
-		VarStatement temp = new VarStatement(expression.position, new VariableID(), createTempVariable(), expression.type, expression, true);
+		VarStatement temp = new VarStatement(expression.getPosition(), new VariableID(), createTempVariable(), expression.type, expression, true);
 		new JavaSourceStatementFormatter(this).formatVar(target, temp);
-		return new GetLocalVariableExpression(expression.position, temp);
+		return new GetLocalVariableExpression(expression.getPosition(), temp);
 	}
 }
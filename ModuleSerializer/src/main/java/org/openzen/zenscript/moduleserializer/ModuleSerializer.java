@@ -71,7 +71,7 @@ public class ModuleSerializer {
 
 			for (ScriptBlock script : module.scripts) {
 				//FIXME: Which position?
-				final CodePosition position = script.statements.isEmpty() ? CodePosition.UNKNOWN : script.statements.get(0).position;
+				final CodePosition position = script.statements.isEmpty() ? CodePosition.UNKNOWN : script.statements.get(0).getPosition();
 				StatementContext context = new StatementContext(position, moduleContext, null);
 				for (Statement statement : script.statements) {
 					tableBuilder.serialize(context, statement);
@@ -200,7 +200,7 @@ public class ModuleSerializer {
 			for (ScriptBlock script : scripts) {
 				output.writeUInt(script.statements.size());
 				//FIXME: Which position?
-				final CodePosition position = script.statements.isEmpty() ? CodePosition.UNKNOWN : script.statements.get(0).position;
+				final CodePosition position = script.statements.isEmpty() ? CodePosition.UNKNOWN : script.statements.get(0).getPosition();
 				StatementContext context = new StatementContext(position, module, null);
 				for (Statement statement : script.statements) {
 					output.serialize(context, statement);
@@ -31,7 +31,7 @@ public class ExpressionSerializer implements ExpressionVisitorWithContext<Statem
 
 	private int getFlags(Expression expression) {
 		int flags = 0;
-		if (expression.position != CodePosition.UNKNOWN && positions)
+		if (!CodePosition.UNKNOWN.equals(expression.getPosition()) && positions)
 			flags |= ExpressionEncoding.FLAG_POSITION;
 		return flags;
 	}
@@ -39,7 +39,7 @@ public class ExpressionSerializer implements ExpressionVisitorWithContext<Statem
 	private void serialize(int flags, Expression expression) {
 		output.writeUInt(flags);
 		if ((flags & ExpressionEncoding.FLAG_POSITION) > 0)
-			output.serialize(expression.position);
+			output.serialize(expression.getPosition());
 	}
 
 	@Override
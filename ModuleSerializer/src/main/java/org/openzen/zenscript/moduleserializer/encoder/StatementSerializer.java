@@ -47,7 +47,7 @@ public class StatementSerializer implements StatementVisitorWithContext<Statemen
 
 	private int getFlags(Statement statement) {
 		int flags = 0;
-		if (statement.position != CodePosition.UNKNOWN && positions)
+		if (!CodePosition.UNKNOWN.equals(statement.getPosition()) && positions)
 			flags |= StatementEncoding.FLAG_POSITION;
 
 		return flags;
@@ -55,7 +55,7 @@ public class StatementSerializer implements StatementVisitorWithContext<Statemen
 
 	private void encode(int flags, Statement statement) {
 		if ((flags & StatementEncoding.FLAG_POSITION) > 0)
-			output.serialize(statement.position);
+			output.serialize(statement.getPosition());
 	}
 
 	@Override
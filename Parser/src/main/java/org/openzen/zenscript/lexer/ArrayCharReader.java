@@ -0,0 +1,26 @@
+package org.openzen.zenscript.lexer;
+
+/**
+ * Reads characters from a character array. The lexer reads from the array
+ * directly when given an ArrayCharReader, instead of going through the
+ * CharReader methods for every character.
+ */
+public class ArrayCharReader implements CharReader {
+	final char[] data;
+	int index;
+
+	public ArrayCharReader(char[] data) {
+		this.data = data;
+		this.index = 0;
+	}
+
+	@Override
+	public int peek() {
+		return index >= data.length ? -1 : data[index];
+	}
+
+	@Override
+	public int next() {
+		return index >= data.length ? -1 : data[index++];
+	}
+}
@@ -1,22 +1,56 @@
 package org.openzen.zenscript.lexer;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Represents a compiled DFA. A compiled DFA has a compact representation and
  * is immediately usable for efficient processing.
  * <p>
- * A compiled DFA can be converted to a compact integer array. This array can
- * then be hardcoded in an application.
+ * Transitions are stored in dense primitive tables: one table for the ASCII
+ * range, and one entry per state for all other characters (which are all
+ * mapped to {@link NFA#UNICODE_PLACEHOLDER}) and for the end of the input.
+ * <p>
+ * A compiled DFA can be written as a compact integer array, which can then be
+ * shipped with an application and loaded again with
+ * {@link #loadLexerDFA(InputStream, TokenType[], Class)}.
  *
  * @param <T> final type
  */
 public class CompiledDFA<T> {
-	public Map<Integer, Integer>[] transitions;
+	/**
+	 * Returned by {@link #transition(int, int)} if there is no transition.
+	 */
+	public static final int NO_TRANSITION = -1;
+	private static final int FORMAT_VERSION = 1;
+	/**
+	 * Version of the NFA and DFA construction. Increment this whenever a change
+	 * to the construction changes the generated tables, so that serialized
+	 * DFAs generated by an older version are no longer used.
+	 */
+	private static final int GENERATOR_VERSION = 1;
+	private static final int ASCII_SIZE = NFA.UNICODE_PLACEHOLDER;
+
 	public T[] finals;
+	// built from the dense tables when first requested if this DFA was read
+	private volatile Map<Integer, Integer>[] transitions;
+
+	/* Dense transition tables, used by the lexer */
+	private final int[] asciiTransitions;
+	private final int[] unicodeTransitions;
+	private final int[] eofTransitions;
 
 	/**
 	 * Constructs a compiled DFA from the specified transition graph and finals
@@ -33,6 +67,75 @@ public class CompiledDFA<T> {
 	public CompiledDFA(Map<Integer, Integer>[] transitions, T[] finals) {
 		this.transitions = transitions;
 		this.finals = finals;
+
+		asciiTransitions = new int[transitions.length * ASCII_SIZE];
+		unicodeTransitions = new int[transitions.length];
+		eofTransitions = new int[transitions.length];
+		Arrays.fill(asciiTransitions, NO_TRANSITION);
+		Arrays.fill(unicodeTransitions, NO_TRANSITION);
+		Arrays.fill(eofTransitions, NO_TRANSITION);
+
+		for (int i = 0; i < transitions.length; i++) {
+			for (Map.Entry<Integer, Integer> transition : transitions[i].entrySet()) {
+				int label = transition.getKey();
+				if (label == -1)
+					eofTransitions[i] = transition.getValue();
+				else if (label >= 0 && label < ASCII_SIZE)
+					asciiTransitions[i * ASCII_SIZE + label] = transition.getValue();
+				else if (label == NFA.UNICODE_PLACEHOLDER)
+					unicodeTransitions[i] = transition.getValue();
+				// other labels can never be reached since all non-ascii characters map to the placeholder
+			}
+		}
+	}
+
+	/**
+	 * Constructs a compiled DFA from its transition tables, as written by
+	 * {@link #write(OutputStream, Object[])}.
+	 *
+	 * @param asciiTransitions   ASCII transitions (128 entries per state)
+	 * @param unicodeTransitions transitions for non-ASCII characters (one per state)
+	 * @param eofTransitions     transitions for the end of input (one per state)
+	 * @param finals             finals
+	 */
+	private CompiledDFA(int[] asciiTransitions, int[] unicodeTransitions, int[] eofTransitions, T[] finals) {
+		this.asciiTransitions = asciiTransitions;
+		this.unicodeTransitions = unicodeTransitions;
+		this.eofTransitions = eofTransitions;
+		this.finals = finals;
+	}
+
+	/**
+	 * Returns the transitions of each state, as a map from character (or -1
+	 * for the end of input) to the next state. For a DFA that was read from
+	 * its transition tables, these maps are only built on the first call.
+	 *
+	 * @return transitions graph
+	 */
+	public Map<Integer, Integer>[] getTransitions() {
+		Map<Integer, Integer>[] result = transitions;
+		if (result == null) {
+			result = newTransitionMaps(finals.length);
+			for (int i = 0; i < finals.length; i++) {
+				if (eofTransitions[i] != NO_TRANSITION)
+					result[i].put(-1, eofTransitions[i]);
+				for (int c = 0; c < ASCII_SIZE; c++)
+					if (asciiTransitions[i * ASCII_SIZE + c] != NO_TRANSITION)
+						result[i].put(c, asciiTransitions[i * ASCII_SIZE + c]);
+				if (unicodeTransitions[i] != NO_TRANSITION)
+					result[i].put(NFA.UNICODE_PLACEHOLDER, unicodeTransitions[i]);
+			}
+			transitions = result;
+		}
+		return result;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Map<Integer, Integer>[] newTransitionMaps(int states) {
+		Map<Integer, Integer>[] result = new HashMap[states];
+		for (int i = 0; i < states; i++)
+			result[i] = new HashMap<>();
+		return result;
 	}
 
 	public static <T extends TokenType & Comparable<T>> CompiledDFA<T> createLexerDFA(T[] tokenTypes, Class<T> tokenClass) {
@@ -48,6 +151,133 @@ public class CompiledDFA<T> {
 		return new NFA<>(regexps, tokens, tokenClass).compile();
 	}
 
+	/**
+	 * Loads a lexer DFA that was previously written with
+	 * {@link #write(OutputStream, Object[])}. If there is no such DFA, or if it
+	 * was generated from different token type definitions, the DFA is compiled
+	 * from the token types instead.
+	 *
+	 * @param input      input to read the DFA from (may be null)
+	 * @param tokenTypes token types
+	 * @param tokenClass token class
+	 * @param <T>        token type
+	 * @return the loaded or compiled DFA
+	 */
+	public static <T extends TokenType & Comparable<T>> CompiledDFA<T> loadLexerDFA(InputStream input, T[] tokenTypes, Class<T> tokenClass) {
+		if (input != null) {
+			try (InputStream in = input) {
+				CompiledDFA<T> result = read(in, tokenTypes, tokenClass);
+				if (result != null)
+					return result;
+			} catch (IOException ex) {
+				// fall back to compiling the DFA
+			}
+		}
+
+		return createLexerDFA(tokenTypes, tokenClass);
+	}
+
+	/**
+	 * Reads a compiled DFA, as written by {@link #write(OutputStream, Object[])}.
+	 * Returns null if the DFA was written for different token types.
+	 *
+	 * @param input      input to read from
+	 * @param tokenTypes token types
+	 * @param tokenClass token class
+	 * @param <T>        token type
+	 * @return the DFA, or null if the DFA doesn't match the token types
+	 * @throws IOException if the input could not be read
+	 */
+	public static <T extends TokenType> CompiledDFA<T> read(InputStream input, T[] tokenTypes, Class<T> tokenClass) throws IOException {
+		DataInputStream data = new DataInputStream(new InflaterInputStream(input));
+		if (data.readInt() != FORMAT_VERSION || data.readLong() != hashTokenTypes(tokenTypes))
+			return null;
+
+		int states = data.readInt();
+		@SuppressWarnings("unchecked")
+		T[] finals = (T[]) Array.newInstance(tokenClass, states);
+		for (int i = 0; i < states; i++) {
+			int index = data.readInt();
+			finals[i] = index < 0 ? null : tokenTypes[index];
+		}
+
+		int[] asciiTransitions = readTable(data, states * ASCII_SIZE);
+		int[] unicodeTransitions = readTable(data, states);
+		int[] eofTransitions = readTable(data, states);
+		return new CompiledDFA<>(asciiTransitions, unicodeTransitions, eofTransitions, finals);
+	}
+
+	/**
+	 * Calculates a hash of the given token types and the generator version,
+	 * used to detect if a serialized DFA is out of date.
+	 *
+	 * @param tokenTypes token types
+	 * @return token type hash
+	 */
+	public static long hashTokenTypes(TokenType[] tokenTypes) {
+		long hash = GENERATOR_VERSION;
+		for (TokenType tokenType : tokenTypes) {
+			hash = hash * 31 + tokenType.toString().hashCode();
+			hash = hash * 31 + (tokenType.getRegexp() == null ? 0 : tokenType.getRegexp().hashCode());
+		}
+		return hash;
+	}
+
+	private static int[] readTable(DataInputStream data, int size) throws IOException {
+		int[] result = new int[size];
+		for (int i = 0; i < size; i++)
+			result[i] = data.readInt();
+		return result;
+	}
+
+	/**
+	 * Writes the transition tables of this DFA in a compact form, so that it
+	 * can be loaded with {@link #read(InputStream, TokenType[], Class)}
+	 * without having to compile it again.
+	 *
+	 * @param output     output to write to
+	 * @param tokenTypes token types, finals are written as index in this array
+	 * @throws IOException if the output could not be written
+	 */
+	public void write(OutputStream output, T[] tokenTypes) throws IOException {
+		DeflaterOutputStream compressed = new DeflaterOutputStream(output);
+		DataOutputStream data = new DataOutputStream(compressed);
+		data.writeInt(FORMAT_VERSION);
+		data.writeLong(hashTokenTypes((TokenType[]) tokenTypes));
+		data.writeInt(finals.length);
+		List<T> tokenTypeList = Arrays.asList(tokenTypes);
+		for (T finalType : finals)
+			data.writeInt(finalType == null ? -1 : tokenTypeList.indexOf(finalType));
+
+		for (int transition : asciiTransitions)
+			data.writeInt(transition);
+		for (int transition : unicodeTransitions)
+			data.writeInt(transition);
+		for (int transition : eofTransitions)
+			data.writeInt(transition);
+
+		data.flush();
+		compressed.finish();
+	}
+
+	/**
+	 * Determines the next state for the given state and character. Characters
+	 * outside the ASCII range all share the same transition; -1 represents the
+	 * end of the input.
+	 *
+	 * @param state current state
+	 * @param c     character, or -1 for end of input
+	 * @return next state, or NO_TRANSITION if there is no such transition
+	 */
+	public int transition(int state, int c) {
+		if (c < 0)
+			return eofTransitions[state];
+		else if (c < ASCII_SIZE)
+			return asciiTransitions[state * ASCII_SIZE + c];
+		else
+			return unicodeTransitions[state];
+	}
+
 	/**
 	 * Determines the token type for the given token. Returns null if the
 	 * given token is not a valid token.
@@ -58,9 +288,9 @@ public class CompiledDFA<T> {
 	public T eval(String value) {
 		int state = 0;
 
-		for (char c : value.toCharArray()) {
-			state = transitions[state].get(c);
-			if (state == Integer.MIN_VALUE)
+		for (int i = 0; i < value.length(); i++) {
+			state = transition(state, value.charAt(i));
+			if (state == NO_TRANSITION)
 				return null;
 		}
 
@@ -81,6 +311,7 @@ public class CompiledDFA<T> {
 	@Override
 	public String toString() {
 		StringBuilder result = new StringBuilder();
+		Map<Integer, Integer>[] transitions = getTransitions();
 		for (int i = 0; i < transitions.length; i++) {
 			Map<Integer, Integer> map = transitions[i];
 
@@ -1,6 +1,7 @@
 package org.openzen.zenscript.lexer;
 
 import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zencode.shared.PackedPosition;
 import org.openzen.zencode.shared.SourceFile;
 
 import java.io.IOException;
@@ -8,13 +9,22 @@ import java.io.IOException;
 public class CountingCharReader implements CharReader {
 	private final CharReader reader;
 	private final SourceFile file;
+	private final int fileIndex;
+
+	/* Set if reading from an ArrayCharReader, which is then read directly */
+	private final ArrayCharReader array;
+	private final char[] data;
 
 	private int line;
 	private int lineOffset;
 
-	public CountingCharReader(CharReader reader, SourceFile file) {
+	public CountingCharReader(CharReader reader, SourceFile file, int fileIndex) {
 		this.reader = reader;
 		this.file = file;
+		this.fileIndex = fileIndex;
+
+		array = reader instanceof ArrayCharReader ? (ArrayCharReader) reader : null;
+		data = array == null ? null : array.data;
 
 		line = 1;
 		lineOffset = 0;
@@ -24,16 +34,30 @@ public class CountingCharReader implements CharReader {
 		return new CodePosition(file, line, lineOffset, line, lineOffset);
 	}
 
+	public long getPackedPosition() {
+		return PackedPosition.pack(fileIndex, line, lineOffset);
+	}
+
 	@Override
 	public int peek() throws IOException {
+		if (data != null)
+			return array.index < data.length ? data[array.index] : -1;
+
 		return reader.peek();
 	}
 
 	@Override
 	public int next() throws IOException {
-		int ch = reader.next();
-		if (ch == -1)
-			return ch;
+		int ch;
+		if (data != null) {
+			if (array.index >= data.length)
+				return -1;
+			ch = data[array.index++];
+		} else {
+			ch = reader.next();
+			if (ch == -1)
+				return ch;
+		}
 
 		if (ch == '\n') {
 			line++;
@@ -85,7 +85,7 @@ public class DFA<T> {
 	 */
 	public DFA<T> optimize() {
 		CompiledDFA<T> compiled = compile();
-		Map<Integer, Integer>[] transitions = compiled.transitions;
+		Map<Integer, Integer>[] transitions = compiled.getTransitions();
 		int size = transitions.length;
 
 		/* Collect all edges and determine alphabet */
@@ -152,7 +152,7 @@ public class DFA<T> {
 			nodeMap.put(i, node);
 		}
 
-		for (int i = 0; i < compiled.transitions.length; i++) {
+		for (int i = 0; i < transitions.length; i++) {
 			Iterator<Integer> iter = transitions[i].keySet().iterator();
 			while (iter.hasNext()) {
 				int k = iter.next();
@@ -169,8 +169,9 @@ public class DFA<T> {
 	public String toString() {
 		StringBuilder result = new StringBuilder();
 		CompiledDFA<T> dfs = compile();
-		for (int i = 0; i < dfs.transitions.length; i++) {
-			Map<Integer, Integer> map = dfs.transitions[i];
+		Map<Integer, Integer>[] transitions = dfs.getTransitions();
+		for (int i = 0; i < transitions.length; i++) {
+			Map<Integer, Integer> map = transitions[i];
 
 			Iterator<Integer> it = map.keySet().iterator();
 			while (it.hasNext()) {
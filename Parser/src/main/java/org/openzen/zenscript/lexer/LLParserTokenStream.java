@@ -2,12 +2,25 @@ package org.openzen.zenscript.lexer;
 
 import org.openzen.zencode.shared.CodePosition;
 
-import java.util.LinkedList;
-import java.util.Stack;
+import java.util.Arrays;
 
 public class LLParserTokenStream<TT extends TokenType, T extends Token<TT>> extends WhitespaceFilteringParser<TT, T> {
-	private final LinkedList<PositionedToken> tokenMemory = new LinkedList<>();
-	private final Stack<Integer> marks = new Stack<>();
+	/*
+	 * Tokens read while a mark is set are remembered so they can be read again
+	 * after a reset. They are stored in a growable ring buffer; tokenMemoryHead
+	 * is the buffer index of token number tokenMemoryOffset. The whitespace
+	 * before each token is remembered as it was read, so that it can be taken
+	 * again while replaying.
+	 */
+	private Object[] tokenMemory = new Object[16];
+	private long[] tokenPositions = new long[16];
+	private long[] tokenPositionsBeforeWhitespace = new long[16];
+	private String[] tokenWhitespace = new String[16];
+	private int tokenMemoryHead = 0;
+	private int tokenMemorySize = 0;
+
+	private int[] marks = new int[8];
+	private int markCount = 0;
 
 	private int tokenMemoryOffset = 0;
 	private int tokenMemoryCurrent = 0;
@@ -17,41 +30,64 @@ public class LLParserTokenStream<TT extends TokenType, T extends Token<TT>> exte
 	}
 
 	public void pushMark() {
-		marks.push(tokenMemoryCurrent);
+		if (markCount == marks.length)
+			marks = Arrays.copyOf(marks, marks.length * 2);
+
+		marks[markCount++] = tokenMemoryCurrent;
 	}
 
 	public void popMark() {
-		marks.pop();
+		markCount--;
 
-		if (marks.isEmpty()) {
+		if (markCount == 0) {
+			// tokens before the current one can no longer be reached
+			int consumed = tokenMemoryCurrent - tokenMemoryOffset;
+			tokenMemoryHead = (tokenMemoryHead + consumed) & (tokenMemory.length - 1);
+			tokenMemorySize -= consumed;
 			tokenMemoryOffset = tokenMemoryCurrent;
-			tokenMemory.clear();
 		}
 	}
 
 	public void reset() {
-		tokenMemoryCurrent = marks.pop();
+		tokenMemoryCurrent = marks[--markCount];
+		updateWhitespace();
 	}
 
 	@Override
 	public T peek() {
-		if (tokenMemoryCurrent < tokenMemoryOffset + tokenMemory.size()) {
-			return tokenMemory.get((tokenMemoryCurrent) - tokenMemoryOffset).token;
+		if (isReplaying()) {
+			return getRemembered(tokenMemoryCurrent);
 		} else {
 			return super.peek();
 		}
 	}
 
+	@Override
+	public void replace(T other) {
+		if (isReplaying()) {
+			tokenMemory[getMemoryIndex(tokenMemoryCurrent)] = other;
+		} else {
+			super.replace(other);
+		}
+	}
+
 	@Override
 	public T next() throws ParseException {
-		if (tokenMemoryCurrent < tokenMemoryOffset + tokenMemory.size()) {
-			return tokenMemory.get((tokenMemoryCurrent++) - tokenMemoryOffset).token;
+		if (isReplaying()) {
+			T result = getRemembered(tokenMemoryCurrent++);
+			updateWhitespace();
+			return result;
 		} else {
+			long position = getPackedPosition();
+			long positionBeforeWhitespace = getPackedPositionBeforeWhitespace();
+			String whitespace = getLexedWhitespace();
 			T result = super.next();
-			if (marks.isEmpty()) {
-				tokenMemoryOffset++;
+			if (markCount == 0) {
+				// nothing to remember, and all remembered tokens have been read
+				tokenMemorySize = 0;
+				tokenMemoryOffset = tokenMemoryCurrent + 1;
 			} else {
-				tokenMemory.add(new PositionedToken(getPosition(), getPositionBeforeWhitespace(), result));
+				remember(position, positionBeforeWhitespace, whitespace, result);
 			}
 			tokenMemoryCurrent++;
 			return result;
@@ -60,8 +96,8 @@ public class LLParserTokenStream<TT extends TokenType, T extends Token<TT>> exte
 
 	@Override
 	public CodePosition getPosition() {
-		if (tokenMemoryCurrent < tokenMemoryOffset + tokenMemory.size()) {
-			return tokenMemory.get((tokenMemoryCurrent) - tokenMemoryOffset).position;
+		if (isReplaying()) {
+			return getFileTable().getPosition(tokenPositions[getMemoryIndex(tokenMemoryCurrent)]);
 		} else {
 			return super.getPosition();
 		}
@@ -69,13 +105,31 @@ public class LLParserTokenStream<TT extends TokenType, T extends Token<TT>> exte
 
 	@Override
 	public CodePosition getPositionBeforeWhitespace() {
-		if (tokenMemoryCurrent < tokenMemoryOffset + tokenMemory.size()) {
-			return tokenMemory.get((tokenMemoryCurrent) - tokenMemoryOffset).positionBeforeWhitespace;
+		if (isReplaying()) {
+			return getFileTable().getPosition(tokenPositionsBeforeWhitespace[getMemoryIndex(tokenMemoryCurrent)]);
 		} else {
 			return super.getPositionBeforeWhitespace();
 		}
 	}
 
+	@Override
+	public long getPackedPosition() {
+		if (isReplaying()) {
+			return tokenPositions[getMemoryIndex(tokenMemoryCurrent)];
+		} else {
+			return super.getPackedPosition();
+		}
+	}
+
+	@Override
+	public long getPackedPositionBeforeWhitespace() {
+		if (isReplaying()) {
+			return tokenPositionsBeforeWhitespace[getMemoryIndex(tokenMemoryCurrent)];
+		} else {
+			return super.getPackedPositionBeforeWhitespace();
+		}
+	}
+
 	public boolean isNext(TT type) {
 		return peek().getType() == type;
 	}
@@ -123,15 +177,55 @@ public class LLParserTokenStream<TT extends TokenType, T extends Token<TT>> exte
 		next();
 	}
 
-	private class PositionedToken {
-		public final CodePosition position;
-		public final CodePosition positionBeforeWhitespace;
-		public final T token;
+	private boolean isReplaying() {
+		return tokenMemoryCurrent < tokenMemoryOffset + tokenMemorySize;
+	}
+
+	private int getMemoryIndex(int token) {
+		return (tokenMemoryHead + token - tokenMemoryOffset) & (tokenMemory.length - 1);
+	}
 
-		public PositionedToken(CodePosition position, CodePosition positionBeforeWhitespace, T token) {
-			this.position = position;
-			this.positionBeforeWhitespace = positionBeforeWhitespace;
-			this.token = token;
+	@SuppressWarnings("unchecked")
+	private T getRemembered(int token) {
+		return (T) tokenMemory[getMemoryIndex(token)];
+	}
+
+	private void updateWhitespace() {
+		if (isReplaying())
+			setLastWhitespace(tokenWhitespace[getMemoryIndex(tokenMemoryCurrent)]);
+		else
+			setLastWhitespace(getLexedWhitespace());
+	}
+
+	private void remember(long position, long positionBeforeWhitespace, String whitespace, T token) {
+		if (tokenMemorySize == tokenMemory.length)
+			growTokenMemory();
+
+		int index = (tokenMemoryHead + tokenMemorySize++) & (tokenMemory.length - 1);
+		tokenMemory[index] = token;
+		tokenPositions[index] = position;
+		tokenPositionsBeforeWhitespace[index] = positionBeforeWhitespace;
+		tokenWhitespace[index] = whitespace;
+	}
+
+	private void growTokenMemory() {
+		int capacity = tokenMemory.length;
+		Object[] newMemory = new Object[capacity * 2];
+		long[] newPositions = new long[capacity * 2];
+		long[] newPositionsBeforeWhitespace = new long[capacity * 2];
+		String[] newWhitespace = new String[capacity * 2];
+		for (int i = 0; i < tokenMemorySize; i++) {
+			int index = (tokenMemoryHead + i) & (capacity - 1);
+			newMemory[i] = tokenMemory[index];
+			newPositions[i] = tokenPositions[index];
+			newPositionsBeforeWhitespace[i] = tokenPositionsBeforeWhitespace[index];
+			newWhitespace[i] = tokenWhitespace[index];
 		}
+
+		tokenMemory = newMemory;
+		tokenPositions = newPositions;
+		tokenPositionsBeforeWhitespace = newPositionsBeforeWhitespace;
+		tokenWhitespace = newWhitespace;
+		tokenMemoryHead = 0;
 	}
 }
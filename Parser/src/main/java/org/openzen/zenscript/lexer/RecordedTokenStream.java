@@ -0,0 +1,50 @@
+package org.openzen.zenscript.lexer;
+
+import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zencode.shared.SourceFileTable;
+
+/**
+ * Token stream that replays previously recorded tokens, including whitespace,
+ * with their original positions. The last recorded token must be an EOF token.
+ */
+public class RecordedTokenStream implements TokenStream<ZSTokenType, ZSToken> {
+	private final ZSToken[] tokens;
+	private final long[] positions;
+	private final SourceFileTable fileTable;
+	private int index = 0;
+
+	public RecordedTokenStream(ZSToken[] tokens, long[] positions, SourceFileTable fileTable) {
+		this.tokens = tokens;
+		this.positions = positions;
+		this.fileTable = fileTable;
+	}
+
+	@Override
+	public ZSToken next() {
+		return index < tokens.length - 1 ? tokens[index++] : tokens[index];
+	}
+
+	@Override
+	public CodePosition getPosition() {
+		return fileTable.getPosition(positions[index]);
+	}
+
+	public long getPackedPosition() {
+		return positions[index];
+	}
+
+	@Override
+	public long getPackedPosition(SourceFileTable fileTable) {
+		return fileTable == this.fileTable ? getPackedPosition() : TokenStream.super.getPackedPosition(fileTable);
+	}
+
+	@Override
+	public SourceFileTable getFileTable() {
+		return fileTable;
+	}
+
+	@Override
+	public ZSTokenType getEOF() {
+		return ZSTokenType.EOF;
+	}
+}
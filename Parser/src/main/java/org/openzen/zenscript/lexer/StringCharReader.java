@@ -1,23 +1,7 @@
 package org.openzen.zenscript.lexer;
 
-import java.io.IOException;
-
-public class StringCharReader implements CharReader {
-	private final char[] data;
-	private int index;
-
+public class StringCharReader extends ArrayCharReader {
 	public StringCharReader(String data) {
-		this.data = data.toCharArray();
-		this.index = 0;
-	}
-
-	@Override
-	public int peek() {
-		return index >= data.length ? -1 : data[index];
-	}
-
-	@Override
-	public int next() throws IOException {
-		return index >= data.length ? -1 : data[index++];
+		super(data.toCharArray());
 	}
 }
@@ -0,0 +1,96 @@
+package org.openzen.zenscript.lexer;
+
+/**
+ * Maps character sequences to values without having to create a string for
+ * every lookup. Used by the lexer to share tokens between all occurrences of
+ * the same identifier.
+ * <p>
+ * Not thread-safe.
+ *
+ * @param <T> value type
+ */
+public class SymbolTable<T> {
+	private String[] keys = new String[64];
+	private Object[] values = new Object[64];
+	private int size = 0;
+
+	/**
+	 * Looks up the value for the given characters.
+	 *
+	 * @param chars  character buffer
+	 * @param length number of characters in the buffer
+	 * @return value, or null if there is no such entry
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(char[] chars, int length) {
+		int mask = keys.length - 1;
+		for (int index = hash(chars, length) & mask; keys[index] != null; index = (index + 1) & mask) {
+			if (matches(keys[index], chars, length))
+				return (T) values[index];
+		}
+		return null;
+	}
+
+	/**
+	 * Adds or replaces an entry.
+	 *
+	 * @param key   key
+	 * @param value value
+	 */
+	public void put(String key, T value) {
+		if ((size + 1) * 2 > keys.length)
+			resize();
+
+		int mask = keys.length - 1;
+		int index = key.hashCode() & mask;
+		while (keys[index] != null && !keys[index].equals(key))
+			index = (index + 1) & mask;
+
+		if (keys[index] == null)
+			size++;
+		keys[index] = key;
+		values[index] = value;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	private void resize() {
+		String[] oldKeys = keys;
+		Object[] oldValues = values;
+		keys = new String[oldKeys.length * 2];
+		values = new Object[oldValues.length * 2];
+
+		int mask = keys.length - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] == null)
+				continue;
+
+			int index = oldKeys[i].hashCode() & mask;
+			while (keys[index] != null)
+				index = (index + 1) & mask;
+			keys[index] = oldKeys[i];
+			values[index] = oldValues[i];
+		}
+	}
+
+	/* Same hash as String.hashCode, so keys can be hashed without copying them */
+	private static int hash(char[] chars, int length) {
+		int hash = 0;
+		for (int i = 0; i < length; i++)
+			hash = 31 * hash + chars[i];
+		return hash;
+	}
+
+	private static boolean matches(String key, char[] chars, int length) {
+		if (key.length() != length)
+			return false;
+
+		for (int i = 0; i < length; i++)
+			if (key.charAt(i) != chars[i])
+				return false;
+
+		return true;
+	}
+}
@@ -2,4 +2,21 @@ package org.openzen.zenscript.lexer;
 
 public interface TokenFactory<T, TT> {
 	T create(TT type, String content);
+
+	/**
+	 * Creates a token from the first characters of the given buffer. The
+	 * buffer is reused by the lexer, so implementations must not keep a
+	 * reference to it.
+	 * <p>
+	 * Factories can override this to avoid creating a string for tokens whose
+	 * content is already known.
+	 *
+	 * @param type   token type
+	 * @param buffer character buffer
+	 * @param length token length
+	 * @return token
+	 */
+	default T create(TT type, char[] buffer, int length) {
+		return create(type, new String(buffer, 0, length));
+	}
 }
@@ -2,8 +2,10 @@ package org.openzen.zenscript.lexer;
 
 import org.openzen.zencode.shared.CodePosition;
 import org.openzen.zencode.shared.SourceFile;
+import org.openzen.zencode.shared.SourceFileTable;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 /**
  * Represents a token stream. A token stream reads characters from a reader and
@@ -16,11 +18,15 @@ import java.io.IOException;
  */
 public class TokenParser<T extends Token<TT>, TT extends TokenType> implements TokenStream<TT, T> {
 	private final CountingCharReader reader;
+	private final SourceFileTable fileTable;
 	private final CompiledDFA<TT> dfa;
 	private final TT eof;
 	private final TT invalid;
 	private final TokenFactory<T, TT> factory;
 
+	/* Holds the characters of the current token, reused for every token */
+	private char[] buffer = new char[64];
+
 	/**
 	 * Creates a token stream using the specified reader and DFA.
 	 *
@@ -36,10 +42,26 @@ public class TokenParser<T extends Token<TT>, TT extends TokenType> implements T
 			TT eof,
 			TT invalid,
 			TokenFactory<T, TT> factory) {
+		this(file, reader, dfa, eof, invalid, factory, new SourceFileTable());
+	}
+
+	/**
+	 * Creates a token stream using the specified reader and DFA, registering
+	 * the file in the given file table.
+	 */
+	public TokenParser(
+			SourceFile file,
+			CharReader reader,
+			CompiledDFA<TT> dfa,
+			TT eof,
+			TT invalid,
+			TokenFactory<T, TT> factory,
+			SourceFileTable fileTable) {
 		if (eof.isWhitespace()) // important for the advance() method
 			throw new IllegalArgumentException("EOF cannot be whitespace");
 
-		this.reader = new CountingCharReader(reader, file);
+		this.reader = new CountingCharReader(reader, file, fileTable.register(file));
+		this.fileTable = fileTable;
 		this.dfa = dfa;
 		this.eof = eof;
 		this.invalid = invalid;
@@ -63,6 +85,20 @@ public class TokenParser<T extends Token<TT>, TT extends TokenType> implements T
 		return reader.getPosition();
 	}
 
+	public long getPackedPosition() {
+		return reader.getPackedPosition();
+	}
+
+	@Override
+	public long getPackedPosition(SourceFileTable fileTable) {
+		return fileTable == this.fileTable ? getPackedPosition() : TokenStream.super.getPackedPosition(fileTable);
+	}
+
+	@Override
+	public SourceFileTable getFileTable() {
+		return fileTable;
+	}
+
 	public boolean hasNext() {
 		try {
 			return reader.peek() >= 0;
@@ -83,30 +119,37 @@ public class TokenParser<T extends Token<TT>, TT extends TokenType> implements T
 				return factory.create(eof, "");
 
 			int state = 0;
-			StringBuilder value = new StringBuilder();
-			while (dfa.transitions[state].containsKey(Math.min(reader.peek(), NFA.UNICODE_PLACEHOLDER))) {
-				int c = reader.next();
-				value.append((char) c);
-				state = dfa.transitions[state].get(Math.min(c, NFA.UNICODE_PLACEHOLDER));
+			int length = 0;
+			int next;
+			while ((next = dfa.transition(state, reader.peek())) != CompiledDFA.NO_TRANSITION) {
+				append(length++, reader.next());
+				state = next;
 			}
 
 			if (dfa.finals[state] != null) {
 				if (state == 0) {
-					value.append((char) reader.next());
-					return factory.create(invalid, value.toString());
+					append(length++, reader.next());
+					return factory.create(invalid, buffer, length);
 				}
 
-				return factory.create(dfa.finals[state], value.toString());
+				return factory.create(dfa.finals[state], buffer, length);
 			} else {
-				if (reader.peek() < 0 && value.length() == 0)
+				if (reader.peek() < 0 && length == 0)
 					return factory.create(eof, ""); // happens on comments at the end of files
 
-				if (value.length() == 0)
-					value.append((char) reader.next());
-				return factory.create(invalid, value.toString());
+				if (length == 0)
+					append(length++, reader.next());
+				return factory.create(invalid, buffer, length);
 			}
 		} catch (IOException ex) {
 			throw new ParseException(getPosition(), "I/O exception: " + ex.getMessage());
 		}
 	}
+
+	private void append(int index, int c) {
+		if (index == buffer.length)
+			buffer = Arrays.copyOf(buffer, buffer.length * 2);
+
+		buffer[index] = (char) c;
+	}
 }
@@ -1,11 +1,31 @@
 package org.openzen.zenscript.lexer;
 
 import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zencode.shared.PackedPosition;
+import org.openzen.zencode.shared.SourceFileTable;
 
 public interface TokenStream<TT extends TokenType, T extends Token<TT>> {
 	T next() throws ParseException;
 
 	CodePosition getPosition();
 
+	/**
+	 * Returns the position of the next token packed for the given file table,
+	 * registering its file there if needed. Streams that keep their positions
+	 * packed for that same table return them without allocating.
+	 */
+	default long getPackedPosition(SourceFileTable fileTable) {
+		CodePosition position = getPosition();
+		return PackedPosition.pack(fileTable.register(position.file), position.fromLine, position.fromLineOffset);
+	}
+
+	/**
+	 * Returns the file table this stream packs its positions for, or null if
+	 * it doesn't keep packed positions.
+	 */
+	default SourceFileTable getFileTable() {
+		return null;
+	}
+
 	TT getEOF();
 }
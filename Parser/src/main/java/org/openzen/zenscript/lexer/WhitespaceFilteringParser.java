@@ -1,16 +1,25 @@
 package org.openzen.zenscript.lexer;
 
 import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zencode.shared.SourceFileTable;
 
 public class WhitespaceFilteringParser<TT extends TokenType, T extends Token<TT>> implements TokenStream<TT, T> {
 	private final TokenStream<TT, T> stream;
+	private final SourceFileTable fileTable;
 	private T next;
-	private CodePosition position;
-	private CodePosition positionBeforeWhitespace;
+	/* positions are kept packed, and only turned into CodePositions if asked for */
+	private long position;
+	private long positionBeforeWhitespace;
+	private CodePosition positionObject;
+	private CodePosition positionBeforeWhitespaceObject;
 	private String whitespace;
+	private String lexedWhitespace;
+	private final StringBuilder whitespaceBuilder = new StringBuilder();
 
 	public WhitespaceFilteringParser(TokenStream<TT, T> stream) throws ParseException {
 		this.stream = stream;
+		SourceFileTable streamFileTable = stream.getFileTable();
+		this.fileTable = streamFileTable == null ? new SourceFileTable() : streamFileTable;
 		advance();
 	}
 
@@ -18,6 +27,18 @@ public class WhitespaceFilteringParser<TT extends TokenType, T extends Token<TT>
 		return whitespace;
 	}
 
+	/**
+	 * Returns the whitespace before the next token as it was read, even if
+	 * part of it was already taken by skipWhitespaceNewline or grabWhitespaceLine.
+	 */
+	protected String getLexedWhitespace() {
+		return lexedWhitespace;
+	}
+
+	protected void setLastWhitespace(String whitespace) {
+		this.whitespace = whitespace;
+	}
+
 	public void skipWhitespaceNewline() {
 		int index = whitespace.indexOf('\n');
 		if (index >= 0)
@@ -54,27 +75,68 @@ public class WhitespaceFilteringParser<TT extends TokenType, T extends Token<TT>
 
 	@Override
 	public CodePosition getPosition() {
-		return position;
+		if (positionObject == null)
+			positionObject = fileTable.getPosition(position);
+		return positionObject;
 	}
 
 	public CodePosition getPositionBeforeWhitespace() {
+		if (positionBeforeWhitespaceObject == null)
+			positionBeforeWhitespaceObject = fileTable.getPosition(positionBeforeWhitespace);
+		return positionBeforeWhitespaceObject;
+	}
+
+	public long getPackedPosition() {
+		return position;
+	}
+
+	@Override
+	public long getPackedPosition(SourceFileTable fileTable) {
+		return fileTable == this.fileTable ? getPackedPosition() : TokenStream.super.getPackedPosition(fileTable);
+	}
+
+	public long getPackedPositionBeforeWhitespace() {
 		return positionBeforeWhitespace;
 	}
 
+	@Override
+	public SourceFileTable getFileTable() {
+		return fileTable;
+	}
+
 	@Override
 	public TT getEOF() {
 		return stream.getEOF();
 	}
 
 	private void advance() throws ParseException {
+		readNext();
+		lexedWhitespace = whitespace;
+		positionObject = null;
+		positionBeforeWhitespaceObject = null;
+	}
+
+	private void readNext() throws ParseException {
 		whitespace = "";
-		position = stream.getPosition();
+		position = stream.getPackedPosition(fileTable);
 		positionBeforeWhitespace = position;
 		next = stream.next();
-		while (next.getType().isWhitespace()) {
-			whitespace += next.getContent();
-			position = stream.getPosition();
+		if (!next.getType().isWhitespace())
+			return;
+
+		whitespace = next.getContent();
+		position = stream.getPackedPosition(fileTable);
+		next = stream.next();
+		if (!next.getType().isWhitespace())
+			return; // single whitespace token, no need to concatenate
+
+		whitespaceBuilder.setLength(0);
+		whitespaceBuilder.append(whitespace);
+		do {
+			whitespaceBuilder.append(next.getContent());
+			position = stream.getPackedPosition(fileTable);
 			next = stream.next();
-		}
+		} while (next.getType().isWhitespace());
+		whitespace = whitespaceBuilder.toString();
 	}
 }
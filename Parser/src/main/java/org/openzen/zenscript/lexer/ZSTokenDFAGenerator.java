@@ -0,0 +1,32 @@
+package org.openzen.zenscript.lexer;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Compiles the ZenScript lexer DFA and writes it to the given file, so that
+ * {@link ZSTokenParser} can load it instead of compiling it on startup.
+ * <p>
+ * Run this (through the generateLexerDFA task) whenever {@link ZSTokenType}
+ * changes. If the stored DFA is out of date, it is detected and the DFA is
+ * compiled at runtime instead.
+ */
+public class ZSTokenDFAGenerator {
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			System.out.println("Usage: ZSTokenDFAGenerator <output file>");
+			return;
+		}
+
+		File file = new File(args[0]);
+		file.getParentFile().mkdirs();
+
+		CompiledDFA<ZSTokenType> dfa = CompiledDFA.createLexerDFA(ZSTokenType.values(), ZSTokenType.class);
+		try (OutputStream output = new BufferedOutputStream(new FileOutputStream(file))) {
+			dfa.write(output, ZSTokenType.values());
+		}
+	}
+}
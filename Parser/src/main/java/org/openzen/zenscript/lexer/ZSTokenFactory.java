@@ -1,26 +1,53 @@
 package org.openzen.zenscript.lexer;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static org.openzen.zenscript.lexer.ZSTokenType.T_IDENTIFIER;
+import static org.openzen.zenscript.lexer.ZSTokenType.T_LOCAL_IDENTIFIER;
 
+/**
+ * Creates ZenScript tokens. Keywords and fixed tokens are flyweights, and
+ * identifier tokens are shared between all occurrences of the same
+ * identifier. Sharing a factory between the files of a module thus makes all
+ * those files share their identifier strings too.
+ * <p>
+ * Not thread-safe.
+ */
 public class ZSTokenFactory implements TokenFactory<ZSToken, ZSTokenType> {
-	private static final Map<String, ZSToken> KEYWORDS = new HashMap<>();
+	private final SymbolTable<ZSToken> identifiers = new SymbolTable<>();
+	private final SymbolTable<ZSToken> localIdentifiers = new SymbolTable<>();
 
-	static {
+	public ZSTokenFactory() {
 		for (ZSTokenType type : ZSTokenType.values())
 			if (type.isKeyword)
-				KEYWORDS.put(type.flyweight.content, type.flyweight);
+				identifiers.put(type.flyweight.content, type.flyweight);
 	}
 
 	@Override
 	public ZSToken create(ZSTokenType type, String content) {
-		if (type == T_IDENTIFIER && KEYWORDS.containsKey(content))
-			return KEYWORDS.get(content);
+		if (type == T_IDENTIFIER || type == T_LOCAL_IDENTIFIER)
+			return intern(type, content.toCharArray(), content.length());
 		else if (type.flyweight != null)
 			return type.flyweight;
 
 		return new ZSToken(type, content);
 	}
+
+	@Override
+	public ZSToken create(ZSTokenType type, char[] buffer, int length) {
+		if (type == T_IDENTIFIER || type == T_LOCAL_IDENTIFIER)
+			return intern(type, buffer, length);
+		else if (type.flyweight != null)
+			return type.flyweight;
+
+		return new ZSToken(type, new String(buffer, 0, length));
+	}
+
+	private ZSToken intern(ZSTokenType type, char[] buffer, int length) {
+		SymbolTable<ZSToken> table = type == T_IDENTIFIER ? identifiers : localIdentifiers;
+		ZSToken result = table.get(buffer, length);
+		if (result == null) {
+			result = new ZSToken(type, new String(buffer, 0, length));
+			table.put(result.content, result);
+		}
+		return result;
+	}
 }
@@ -1,17 +1,28 @@
 package org.openzen.zenscript.lexer;
 
+import org.openzen.zencode.shared.CodePosition;
 import org.openzen.zencode.shared.SourceFile;
+import org.openzen.zencode.shared.SourceFileTable;
 import org.openzen.zenscript.codemodel.WhitespaceInfo;
 import org.openzen.zenscript.parser.BracketExpressionParser;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class ZSTokenParser extends LLParserTokenStream<ZSTokenType, ZSToken> {
-	private static final CompiledDFA DFA = CompiledDFA.createLexerDFA(ZSTokenType.values(), ZSTokenType.class);
+	private static final CompiledDFA<ZSTokenType> DFA = CompiledDFA.loadLexerDFA(
+			ZSTokenParser.class.getResourceAsStream(ZSTokenType.class.getSimpleName() + ".dfa"),
+			ZSTokenType.values(),
+			ZSTokenType.class);
 	public final BracketExpressionParser bracketParser;
 	private final List<ParseException> parseErrors = new ArrayList<>();
+	/**
+	 * If set, function and method bodies are only brace-matched while parsing
+	 * and are parsed when they are compiled.
+	 */
+	public boolean lazyFunctionBodies = false;
 
 	public ZSTokenParser(TokenStream<ZSTokenType, ZSToken> parser, BracketExpressionParser bracketParser) throws ParseException {
 		super(parser);
@@ -20,17 +31,49 @@ public class ZSTokenParser extends LLParserTokenStream<ZSTokenType, ZSToken> {
 	}
 
 	public static TokenParser<ZSToken, ZSTokenType> createRaw(SourceFile file, CharReader reader) {
+		return createRaw(file, reader, new ZSTokenFactory());
+	}
+
+	public static TokenParser<ZSToken, ZSTokenType> createRaw(SourceFile file, CharReader reader, ZSTokenFactory tokenFactory) {
+		return createRaw(file, reader, tokenFactory, new SourceFileTable());
+	}
+
+	public static TokenParser<ZSToken, ZSTokenType> createRaw(SourceFile file, CharReader reader, ZSTokenFactory tokenFactory, SourceFileTable fileTable) {
 		return new TokenParser<>(
 				file,
 				reader,
 				DFA,
 				ZSTokenType.EOF,
 				ZSTokenType.INVALID,
-				new ZSTokenFactory());
+				tokenFactory,
+				fileTable);
 	}
 
 	public static ZSTokenParser create(SourceFile file, BracketExpressionParser bracketParser) throws IOException, ParseException {
-		return new ZSTokenParser(createRaw(file, new ReaderCharReader(file.open())), bracketParser);
+		return create(file, bracketParser, new ZSTokenFactory());
+	}
+
+	/**
+	 * Creates a parser for the given file, using the given token factory.
+	 * Files parsed with the same factory share their identifier tokens.
+	 */
+	public static ZSTokenParser create(SourceFile file, BracketExpressionParser bracketParser, ZSTokenFactory tokenFactory) throws IOException, ParseException {
+		return create(file, bracketParser, tokenFactory, new SourceFileTable());
+	}
+
+	/**
+	 * Creates a parser for the given file, registering the file in the given
+	 * file table (usually the one of the module the file belongs to).
+	 */
+	public static ZSTokenParser create(SourceFile file, BracketExpressionParser bracketParser, ZSTokenFactory tokenFactory, SourceFileTable fileTable) throws IOException, ParseException {
+		return create(file, file.readContents(), bracketParser, tokenFactory, fileTable);
+	}
+
+	/**
+	 * Creates a parser for the given file from its already read contents.
+	 */
+	public static ZSTokenParser create(SourceFile file, char[] contents, BracketExpressionParser bracketParser, ZSTokenFactory tokenFactory, SourceFileTable fileTable) throws ParseException {
+		return new ZSTokenParser(createRaw(file, new ArrayCharReader(contents), tokenFactory, fileTable), bracketParser);
 	}
 
 	public SourceFile getFile() {
@@ -41,11 +84,111 @@ public class ZSTokenParser extends LLParserTokenStream<ZSTokenType, ZSToken> {
 		return WhitespaceInfo.from(whitespace, grabWhitespaceLine(), skipLineBefore);
 	}
 
+	/**
+	 * Skips a block enclosed in curly braces, recording its tokens and
+	 * whitespace so it can be parsed later from a {@link RecordedTokenStream}.
+	 * The whitespace after the block is recorded as well, and its first line
+	 * is consumed, as parsing the block would.
+	 */
+	public RecordedTokenStream recordBlock() throws ParseException {
+		if (peek().type != ZSTokenType.T_AOPEN)
+			throw new ParseException(getPosition(), "{ expected");
+
+		List<ZSToken> tokens = new ArrayList<>();
+		long[] positions = new long[64];
+		int depth = 0;
+		do {
+			positions = recordWhitespace(tokens, positions);
+			ZSToken token = peek();
+			if (token.type == ZSTokenType.EOF)
+				throw new ParseException(getPosition(), "} expected");
+			else if (token.type == ZSTokenType.T_AOPEN)
+				depth++;
+			else if (token.type == ZSTokenType.T_ACLOSE)
+				depth--;
+
+			long position = getPackedPosition();
+			positions = record(tokens, positions, next(), position);
+		} while (depth > 0);
+
+		positions = recordWhitespace(tokens, positions);
+		positions = record(tokens, positions, new ZSToken(ZSTokenType.EOF, ""), getPackedPosition());
+		grabWhitespaceLine();
+		return new RecordedTokenStream(tokens.toArray(new ZSToken[0]), Arrays.copyOf(positions, tokens.size()), getFileTable());
+	}
+
+	/**
+	 * Logs a syntax error. An error at the same position as the previously
+	 * logged error is ignored, as it is a consequence of that error (such as
+	 * every enclosing block reporting a missing } at the end of the file).
+	 */
 	public void logError(ParseException error) {
+		if (!parseErrors.isEmpty()) {
+			CodePosition last = parseErrors.get(parseErrors.size() - 1).position;
+			if (last.file == error.position.file
+					&& last.fromLine == error.position.fromLine
+					&& last.fromLineOffset == error.position.fromLineOffset)
+				return;
+		}
+
 		parseErrors.add(error);
 	}
 
+	/**
+	 * Skips the remainder of a statement, member or definition after a syntax
+	 * error. Tokens are skipped until after the next ; or {} block on the
+	 * current nesting level, or until the } that closes the enclosing block,
+	 * which is not skipped.
+	 */
+	public void recoverUntilEndOfStatement() throws ParseException {
+		int depth = 0;
+		while (true) {
+			switch (peek().type) {
+				case EOF:
+					return;
+				case T_SEMICOLON:
+					next();
+					if (depth == 0)
+						return;
+					break;
+				case T_AOPEN:
+					next();
+					depth++;
+					break;
+				case T_ACLOSE:
+					if (depth == 0)
+						return;
+
+					next();
+					if (--depth == 0 && !isNext(ZSTokenType.K_ELSE) && !isNext(ZSTokenType.K_CATCH) && !isNext(ZSTokenType.K_FINALLY)) {
+						optional(ZSTokenType.T_SEMICOLON);
+						return;
+					}
+					break;
+				default:
+					next();
+			}
+		}
+	}
+
 	public List<ParseException> getErrors() {
 		return parseErrors;
 	}
+
+	private long[] recordWhitespace(List<ZSToken> tokens, long[] positions) {
+		String whitespace = getLastWhitespace();
+		if (whitespace.isEmpty())
+			return positions;
+
+		return record(tokens, positions, new ZSToken(ZSTokenType.T_WHITESPACE_SPACE, whitespace), getPackedPositionBeforeWhitespace());
+	}
+
+	private static long[] record(List<ZSToken> tokens, long[] positions, ZSToken token, long position) {
+		if (tokens.size() == positions.length)
+			positions = Arrays.copyOf(positions, positions.length * 2);
+
+		positions[tokens.size()] = position;
+		tokens.add(token);
+		return positions;
+	}
 }
@@ -5,6 +5,16 @@ import org.openzen.zenscript.lexer.ParseException;
 import org.openzen.zenscript.lexer.ZSTokenParser;
 import org.openzen.zenscript.parser.expression.ParsedExpression;
 
+/**
+ * Parses bracket expressions, such as &lt;item:minecraft:stick&gt;.
+ * <p>
+ * If files are parsed concurrently (by passing an executor to ParsedFile.parse),
+ * the same bracket parser is called from multiple threads at once, so
+ * implementations must then be thread-safe. Implementations that are
+ * configured after construction (such as {@link PrefixedBracketParser}) must
+ * be fully configured before parsing starts. The token stream that is passed
+ * is only ever used by a single thread.
+ */
 public interface BracketExpressionParser {
 	/**
 	 * Parses the given bracket expression. Note that the "&lt;" token is already
@@ -15,4 +25,16 @@ public interface BracketExpressionParser {
 	 * @return parsed expression
 	 */
 	ParsedExpression parse(CodePosition position, ZSTokenParser tokens) throws ParseException;
+
+	/**
+	 * Returns a number that increases whenever this parser may produce different
+	 * expressions for the same bracket expression, for instance after a cache
+	 * of resolved expressions was invalidated. Files parsed with an older
+	 * version should be parsed again.
+	 *
+	 * @return parser version
+	 */
+	default long getVersion() {
+		return 0;
+	}
 }
@@ -0,0 +1,28 @@
+package org.openzen.zenscript.parser;
+
+import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zenscript.lexer.ParseException;
+import org.openzen.zenscript.lexer.ZSTokenParser;
+import org.openzen.zenscript.parser.expression.ParsedExpression;
+
+import java.util.function.Function;
+
+/**
+ * Parses bracket expressions into a result that does not depend on where the
+ * bracket expression occurs, so that {@link CachingBracketParser} can reuse it
+ * for every occurrence of the same bracket expression.
+ * <p>
+ * Implementations must be thread-safe if files are parsed concurrently.
+ */
+@FunctionalInterface
+public interface CacheableBracketParser {
+	/**
+	 * Parses the given bracket expression, up to and including the closing
+	 * &gt;. Note that the "&lt;" token is already processed.
+	 *
+	 * @param position position of the occurrence being parsed, only to be used for parse errors
+	 * @param tokens   tokens to be parsed
+	 * @return function that creates the parsed expression at the position of an occurrence
+	 */
+	Function<CodePosition, ParsedExpression> parse(CodePosition position, ZSTokenParser tokens) throws ParseException;
+}
@@ -0,0 +1,117 @@
+package org.openzen.zenscript.parser;
+
+import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zenscript.lexer.ParseException;
+import org.openzen.zenscript.lexer.ZSToken;
+import org.openzen.zenscript.lexer.ZSTokenParser;
+import org.openzen.zenscript.parser.expression.ParsedExpression;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bracket expression parser that remembers the results of a
+ * {@link CacheableBracketParser}, keyed on the raw text of the bracket
+ * expression. When the same bracket expression occurs again, in the same or
+ * any later parsed file, the remembered result is reused instead of being
+ * parsed again, and creates a new expression at the position of the new
+ * occurrence.
+ * <p>
+ * The wrapped parser must read bracket expressions up to and including the
+ * closing &gt;. Bracket expressions containing ${...} escapes are never cached.
+ * If resolving a bracket expression is expensive, the wrapped parser can
+ * resolve it while parsing and return a constant expression, which is then
+ * resolved only once. Such results depend on the host registry, so
+ * {@link #invalidate()} must be called whenever that registry changes.
+ * <p>
+ * This class is thread-safe if the wrapped parser is.
+ */
+public class CachingBracketParser implements BracketExpressionParser {
+	private final CacheableBracketParser parser;
+	private final Map<String, Function<CodePosition, ParsedExpression>> cache = new ConcurrentHashMap<>();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong version = new AtomicLong();
+
+	public CachingBracketParser(CacheableBracketParser parser) {
+		this.parser = parser;
+	}
+
+	/**
+	 * Forgets all remembered expressions and increases the parser version.
+	 * Statistics are kept.
+	 */
+	public void invalidate() {
+		cache.clear();
+		version.incrementAndGet();
+	}
+
+	public int size() {
+		return cache.size();
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of bracket expressions that were passed to the wrapped
+	 * parser, including the ones that cannot be cached.
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	@Override
+	public long getVersion() {
+		return version.get();
+	}
+
+	@Override
+	public ParsedExpression parse(CodePosition position, ZSTokenParser tokens) throws ParseException {
+		tokens.pushMark();
+		String key = readKey(tokens);
+		Function<CodePosition, ParsedExpression> cached = key == null ? null : cache.get(key);
+		if (cached != null) {
+			tokens.popMark();
+			hits.incrementAndGet();
+			return cached.apply(position);
+		}
+
+		tokens.reset();
+		misses.incrementAndGet();
+		Function<CodePosition, ParsedExpression> result = parser.parse(position, tokens);
+		if (key != null)
+			cache.putIfAbsent(key, result);
+		return result.apply(position);
+	}
+
+	@Override
+	public String toString() {
+		return "CachingBracketParser{size=" + cache.size() + ", hits=" + hits.get() + ", misses=" + misses.get() + "}";
+	}
+
+	/**
+	 * Reads the bracket expression up to and including the closing &gt;,
+	 * returning its raw text, or null if it cannot be cached.
+	 */
+	private static String readKey(ZSTokenParser tokens) throws ParseException {
+		StringBuilder result = new StringBuilder();
+		result.append(tokens.getLastWhitespace());
+		while (true) {
+			ZSToken token = tokens.next();
+			switch (token.type) {
+				case EOF:
+				case T_DOLLAR:
+					return null;
+				case T_GREATER:
+					return result.toString();
+				default:
+					result.append(token.content);
+					result.append(tokens.getLastWhitespace());
+			}
+		}
+	}
+}
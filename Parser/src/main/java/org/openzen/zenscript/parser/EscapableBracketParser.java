@@ -95,7 +95,7 @@ public class EscapableBracketParser implements BracketExpressionParser {
 			super(position);
 			ParsedExpression p = null;
 			for (ParsedExpression expression : expressions) {
-				p = p == null ? expression : new ParsedExpressionBinary(expression.position, p, expression, OperatorType.ADD);
+				p = p == null ? expression : new ParsedExpressionBinary(expression.getPosition(), p, expression, OperatorType.ADD);
 			}
 
 			this.call = p;
@@ -105,7 +105,7 @@ public class EscapableBracketParser implements BracketExpressionParser {
 		public IPartialExpression compile(ExpressionScope scope) throws CompileException {
 			final Expression methodCall = call.compile(scope.withHint(BasicTypeID.STRING)).eval();
 			final CallArguments arguments = new CallArguments(methodCall);
-			return new CallStaticExpression(position, targetType, method, method.getHeader(), arguments);
+			return new CallStaticExpression(getPosition(), targetType, method, method.getHeader(), arguments);
 		}
 
 		@Override
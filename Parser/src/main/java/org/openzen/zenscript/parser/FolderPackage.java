@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 public class FolderPackage {
@@ -66,15 +67,21 @@ public class FolderPackage {
 	}
 
 	public SemanticModule loadModule(ModuleSpace space, String name, BracketExpressionParser bracketParser, SemanticModule[] dependencies, FunctionParameter[] scriptParameters, ZSPackage pkg, ParserLogger logger) throws ParseException {
+		return loadModule(space, name, bracketParser, dependencies, scriptParameters, pkg, logger, null);
+	}
+
+	/**
+	 * Loads the given module, parsing its files on the given executor. See
+	 * {@link ParsedFile#parse(CompilingPackage, BracketExpressionParser, SourceFile[], Executor)}.
+	 */
+	public SemanticModule loadModule(ModuleSpace space, String name, BracketExpressionParser bracketParser, SemanticModule[] dependencies, FunctionParameter[] scriptParameters, ZSPackage pkg, ParserLogger logger, Executor executor) throws ParseException {
 		List<SourceFile> sourceFiles = files.get(name);
 		if (sourceFiles == null)
 			return null; // no such module
 
 		Module scriptModule = new Module(name);
 		CompilingPackage scriptPackage = new CompilingPackage(pkg, scriptModule);
-		ParsedFile[] files = new ParsedFile[sourceFiles.size()];
-		for (int i = 0; i < files.length; i++)
-			files[i] = ParsedFile.parse(scriptPackage, bracketParser, sourceFiles.get(i));
+		ParsedFile[] files = ParsedFile.parse(scriptPackage, bracketParser, sourceFiles.toArray(new SourceFile[0]), executor);
 
 		SemanticModule scripts = ParsedFile.compileSyntaxToSemantic(
 				dependencies,
@@ -68,5 +68,14 @@ public abstract class ParsedDefinition {
 
 	public abstract void registerMembers(BaseScope scope, PrecompilationState state);
 
+	/**
+	 * Registers the compiled definition to its package again, followed by its
+	 * inner definitions, in the order they were registered while parsing.
+	 */
+	public void registerToPackage() {
+		if (getCompiled().pkg != null)
+			getCompiled().pkg.register(getCompiled());
+	}
+
 	public abstract void compile(BaseScope scope) throws CompileException;
 }
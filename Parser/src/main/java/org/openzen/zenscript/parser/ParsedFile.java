@@ -15,17 +15,21 @@ import org.openzen.zenscript.codemodel.statement.Statement;
 import org.openzen.zenscript.codemodel.type.BasicTypeID;
 import org.openzen.zenscript.codemodel.type.ISymbol;
 import org.openzen.zenscript.lexer.ParseException;
+import org.openzen.zenscript.lexer.ZSTokenFactory;
 import org.openzen.zenscript.lexer.ZSTokenParser;
-import org.openzen.zenscript.lexer.ZSTokenType;
 import org.openzen.zenscript.parser.logger.ParserLogger;
 import org.openzen.zenscript.parser.statements.ParsedStatement;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static org.openzen.zenscript.lexer.ZSTokenType.EOF;
 import static org.openzen.zenscript.lexer.ZSTokenType.K_IMPORT;
+import static org.openzen.zenscript.lexer.ZSTokenType.T_ACLOSE;
 
 public class ParsedFile {
 	public final SourceFile file;
@@ -46,6 +50,32 @@ public class ParsedFile {
 			ModuleSpace registry,
 			FunctionParameter[] parameters,
 			ParserLogger logger) {
+		return compileSyntaxToSemantic(dependencies, pkg, files, registry, parameters, logger, null);
+	}
+
+	/**
+	 * Compiles the given parsed files into a semantic module. If an executor
+	 * is given, members with inferred types that don't depend on each other
+	 * are compiled concurrently on that executor (see
+	 * {@link PrecompilationState}), and so are the script blocks of the files,
+	 * after the definitions of all files have been compiled. In that case, the
+	 * logger must be thread-safe.
+	 * <p>
+	 * The remaining definitions are compiled sequentially, once the types of
+	 * all members are known. Script blocks are not used by other files, so they
+	 * can be compiled independently once all definitions are compiled. The
+	 * resulting script blocks are in the same order as the given files.
+	 *
+	 * @param executor executor to infer member types and compile the script blocks on, or null to compile all files sequentially
+	 */
+	public static SemanticModule compileSyntaxToSemantic(
+			SemanticModule[] dependencies,
+			CompilingPackage pkg,
+			ParsedFile[] files,
+			ModuleSpace registry,
+			FunctionParameter[] parameters,
+			ParserLogger logger,
+			Executor executor) {
 		boolean failed = false;
 		// We are considering all these files to be in the same package, so make
 		// a single PackageDefinition instance. If these files were in multiple
@@ -116,14 +146,44 @@ public class ParsedFile {
 		for (ParsedFile file : files) {
 			file.registerMembers(moduleContext, precompiler, rootPackage, pkg, expansions, globals, importErrors);
 		}
+		precompiler.inferTypes(executor, logger);
 
 		List<ScriptBlock> scripts = new ArrayList<>();
 		FunctionHeader scriptHeader = new FunctionHeader(BasicTypeID.VOID, parameters);
-		for (ParsedFile file : files) {
-			// compileCode will convert the parsed statements and expressions
-			// into semantic code. This semantic code can then be compiled
-			// to various targets.
-			file.compileCode(moduleContext, precompiler, rootPackage, pkg, expansions, scripts, globals, scriptHeader, logger, importErrors);
+		if (executor == null) {
+			for (ParsedFile file : files) {
+				// compileCode will convert the parsed statements and expressions
+				// into semantic code. This semantic code can then be compiled
+				// to various targets.
+				file.compileCode(moduleContext, precompiler, rootPackage, pkg, expansions, scripts, globals, scriptHeader, logger, importErrors);
+			}
+		} else {
+			FileScope[] scopes = new FileScope[files.length];
+			for (int i = 0; i < files.length; i++)
+				scopes[i] = files[i].compileDefinitions(moduleContext, precompiler, rootPackage, pkg, expansions, globals, logger, importErrors);
+
+			List<CompletableFuture<ScriptBlock>> futures = new ArrayList<>();
+			for (int i = 0; i < files.length; i++) {
+				ParsedFile file = files[i];
+				FileScope scope = scopes[i];
+				futures.add(CompletableFuture.supplyAsync(() -> file.compileScript(scope, pkg, scriptHeader), executor));
+			}
+
+			for (CompletableFuture<ScriptBlock> future : futures) {
+				ScriptBlock block;
+				try {
+					block = future.join();
+				} catch (CompletionException ex) {
+					if (ex.getCause() instanceof RuntimeException)
+						throw (RuntimeException) ex.getCause();
+					if (ex.getCause() instanceof Error)
+						throw (Error) ex.getCause();
+					throw ex;
+				}
+
+				if (block != null)
+					scripts.add(block);
+			}
 		}
 
 		for (CompileException error : importErrors.values()) {
@@ -153,9 +213,119 @@ public class ParsedFile {
 	}
 
 	public static ParsedFile parse(CompilingPackage compilingPackage, BracketExpressionParser bracketParser, SourceFile file) throws ParseException {
+		return parse(compilingPackage, bracketParser, file, new ZSTokenFactory());
+	}
+
+	/**
+	 * Parses the given file. Pass the same token factory for all files in a
+	 * module, so that their identifiers are shared.
+	 */
+	public static ParsedFile parse(CompilingPackage compilingPackage, BracketExpressionParser bracketParser, SourceFile file, ZSTokenFactory tokenFactory) throws ParseException {
+		return parse(compilingPackage, bracketParser, file, tokenFactory, false);
+	}
+
+	/**
+	 * Parses the given file. If lazyFunctionBodies is set, function and method
+	 * bodies are parsed when they are compiled; errors in these bodies are then
+	 * reported when compiling instead of when parsing.
+	 */
+	public static ParsedFile parse(CompilingPackage compilingPackage, BracketExpressionParser bracketParser, SourceFile file, ZSTokenFactory tokenFactory, boolean lazyFunctionBodies) throws ParseException {
+		return parse(compilingPackage, bracketParser, file, readContents(file), tokenFactory, lazyFunctionBodies);
+	}
+
+	/**
+	 * Parses the given file from its already read contents.
+	 */
+	public static ParsedFile parse(CompilingPackage compilingPackage, BracketExpressionParser bracketParser, SourceFile file, char[] contents, ZSTokenFactory tokenFactory, boolean lazyFunctionBodies) throws ParseException {
+		ZSTokenParser tokens = ZSTokenParser.create(file, contents, bracketParser, tokenFactory, compilingPackage.module.sourceFiles);
+		tokens.lazyFunctionBodies = lazyFunctionBodies;
+		return parse(compilingPackage, tokens);
+	}
+
+	/**
+	 * Parses the given files. If an executor is given, the files are parsed
+	 * concurrently on that executor; in that case, the bracket parser must be
+	 * thread-safe.
+	 * <p>
+	 * The result is the same as parsing the files one by one, in order: the
+	 * resulting array has the same order as the given files, and if parsing
+	 * fails, the exception of the first failing file is thrown.
+	 *
+	 * @param compilingPackage package to parse the files into
+	 * @param bracketParser    bracket expression parser (may be null)
+	 * @param files            files to parse
+	 * @param executor         executor to parse the files on, or null to parse them sequentially
+	 * @return parsed files
+	 * @throws ParseException if any file could not be parsed
+	 */
+	public static ParsedFile[] parse(CompilingPackage compilingPackage, BracketExpressionParser bracketParser, SourceFile[] files, Executor executor) throws ParseException {
+		return parse(compilingPackage, bracketParser, files, executor, false);
+	}
+
+	/**
+	 * Parses the given files, as {@link #parse(CompilingPackage, BracketExpressionParser, SourceFile[], Executor)}.
+	 * If lazyFunctionBodies is set, function and method bodies are parsed when
+	 * they are compiled.
+	 */
+	public static ParsedFile[] parse(CompilingPackage compilingPackage, BracketExpressionParser bracketParser, SourceFile[] files, Executor executor, boolean lazyFunctionBodies) throws ParseException {
+		return parse(compilingPackage, bracketParser, files, null, executor, lazyFunctionBodies);
+	}
+
+	/**
+	 * Parses the given files, as {@link #parse(CompilingPackage, BracketExpressionParser, SourceFile[], Executor, boolean)}.
+	 * If contents is given, it contains the already read contents of each file,
+	 * in the same order as the files, and the files are not read again.
+	 */
+	public static ParsedFile[] parse(CompilingPackage compilingPackage, BracketExpressionParser bracketParser, SourceFile[] files, char[][] contents, Executor executor, boolean lazyFunctionBodies) throws ParseException {
+		ParsedFile[] result = new ParsedFile[files.length];
+		if (executor == null) {
+			ZSTokenFactory tokenFactory = new ZSTokenFactory();
+			for (int i = 0; i < files.length; i++)
+				result[i] = parse(compilingPackage, bracketParser, files[i], contents == null ? readContents(files[i]) : contents[i], tokenFactory, lazyFunctionBodies);
+			return result;
+		}
+
+		// token factories aren't thread-safe, so every worker thread gets its own
+		ThreadLocal<ZSTokenFactory> tokenFactories = ThreadLocal.withInitial(ZSTokenFactory::new);
+		List<CompletableFuture<ParsedFile>> futures = new ArrayList<>();
+		for (int i = 0; i < files.length; i++) {
+			SourceFile file = files[i];
+			char[] fileContents = contents == null ? null : contents[i];
+			futures.add(CompletableFuture.supplyAsync(() -> {
+				try {
+					return parse(compilingPackage, bracketParser, file, fileContents == null ? readContents(file) : fileContents, tokenFactories.get(), lazyFunctionBodies);
+				} catch (ParseException ex) {
+					throw new CompletionException(ex);
+				}
+			}, executor));
+		}
+
+		for (int i = 0; i < files.length; i++) {
+			try {
+				result[i] = futures.get(i).join();
+			} catch (CompletionException ex) {
+				if (ex.getCause() instanceof ParseException)
+					throw (ParseException) ex.getCause();
+				throw ex;
+			}
+		}
+
+		// definitions (inner definitions included) register themselves to their
+		// package while being parsed; register them again in file order so
+		// duplicate names resolve the same way as when parsing sequentially
+		for (ParsedFile file : result)
+			for (ParsedDefinition definition : file.definitions)
+				definition.registerToPackage();
+
+		return result;
+	}
+
+	/**
+	 * Reads the contents of the given file, reporting read errors as parse errors.
+	 */
+	public static char[] readContents(SourceFile file) throws ParseException {
 		try {
-			ZSTokenParser tokens = ZSTokenParser.create(file, bracketParser);
-			return parse(compilingPackage, tokens);
+			return file.readContents();
 		} catch (IOException ex) {
 			throw new ParseException(new CodePosition(file, 0, 0, 0, 0), ex.getMessage());
 		}
@@ -204,22 +374,24 @@ public class ParsedFile {
 				tokens.next();
 			}
 
-			if (tokens.optional(K_IMPORT) != null) {
-				result.imports.add(ParsedImport.parse(position, tokens));
-			} else if ((tokens.optional(EOF)) != null) {
+			if ((tokens.optional(EOF)) != null)
 				break;
-			} else {
-				ParsedDefinition definition = ParsedDefinition.parse(compilingPackage, position, modifiers, annotations, tokens, null);
-				if (definition == null) {
-					try {
+
+			try {
+				if (tokens.optional(K_IMPORT) != null) {
+					result.imports.add(ParsedImport.parse(position, tokens));
+				} else {
+					ParsedDefinition definition = ParsedDefinition.parse(compilingPackage, position, modifiers, annotations, tokens, null);
+					if (definition == null) {
 						result.statements.add(ParsedStatement.parse(tokens, annotations));
-					} catch (ParseException e) {
-						tokens.logError(e);
-						tokens.recoverUntilOnToken(ZSTokenType.T_SEMICOLON);
+					} else {
+						result.definitions.add(definition);
 					}
-				} else {
-					result.definitions.add(definition);
 				}
+			} catch (ParseException e) {
+				tokens.logError(e);
+				tokens.recoverUntilEndOfStatement();
+				tokens.optional(T_ACLOSE); // unmatched }, there is no enclosing block
 			}
 		}
 
@@ -236,6 +408,10 @@ public class ParsedFile {
 		return errors;
 	}
 
+	public boolean hasDefinitions() {
+		return !definitions.isEmpty();
+	}
+
 	public void listDefinitions(PackageDefinitions definitions) {
 		for (ParsedDefinition definition : this.definitions) {
 			definitions.add(definition.getCompiled());
@@ -299,6 +475,21 @@ public class ParsedFile {
 			FunctionHeader scriptHeader,
 			CompileExceptionLogger exceptionLogger,
 			Map<String, CompileException> importErrors) {
+		FileScope scope = compileDefinitions(moduleContext, precompiler, rootPackage, modulePackage, expansions, globals, exceptionLogger, importErrors);
+		ScriptBlock block = compileScript(scope, modulePackage, scriptHeader);
+		if (block != null)
+			scripts.add(block);
+	}
+
+	private FileScope compileDefinitions(
+			ModuleTypeResolutionContext moduleContext,
+			PrecompilationState precompiler,
+			ZSPackage rootPackage,
+			CompilingPackage modulePackage,
+			List<ExpansionDefinition> expansions,
+			Map<String, ISymbol> globals,
+			CompileExceptionLogger exceptionLogger,
+			Map<String, CompileException> importErrors) {
 		FileResolutionContext context = new FileResolutionContext(moduleContext, rootPackage, modulePackage);
 		loadImports(context, rootPackage, modulePackage, importErrors);
 
@@ -310,18 +501,26 @@ public class ParsedFile {
 				exceptionLogger.logCompileException(ex);
 			}
 		}
+		return scope;
+	}
 
-		if (!statements.isEmpty() || postComment != null) {
-			StatementScope statementScope = new GlobalScriptScope(scope, scriptHeader);
-			List<Statement> statements = new ArrayList<>();
-			for (ParsedStatement statement : this.statements) {
-				statements.add(statement.compile(statementScope));
-			}
-
-			ScriptBlock block = new ScriptBlock(file, modulePackage.module, modulePackage.getPackage(), scriptHeader, statements);
-			block.setTag(WhitespacePostComment.class, postComment);
-			scripts.add(block);
+	/**
+	 * Compiles the statements of this file into a script block, or returns
+	 * null if this file has no statements.
+	 */
+	private ScriptBlock compileScript(FileScope scope, CompilingPackage modulePackage, FunctionHeader scriptHeader) {
+		if (statements.isEmpty() && postComment == null)
+			return null;
+
+		StatementScope statementScope = new GlobalScriptScope(scope, scriptHeader);
+		List<Statement> statements = new ArrayList<>();
+		for (ParsedStatement statement : this.statements) {
+			statements.add(statement.compile(statementScope));
 		}
+
+		ScriptBlock block = new ScriptBlock(file, modulePackage.module, modulePackage.getPackage(), scriptHeader, statements);
+		block.setTag(WhitespacePostComment.class, postComment);
+		return block;
 	}
 
 	private void loadImports(FileResolutionContext context, ZSPackage rootPackage, CompilingPackage modulePackage, Map<String, CompileException> importErrors) {
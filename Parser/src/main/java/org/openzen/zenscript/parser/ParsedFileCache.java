@@ -0,0 +1,156 @@
+package org.openzen.zenscript.parser;
+
+import org.openzen.zencode.shared.SourceFile;
+import org.openzen.zenscript.codemodel.context.CompilingPackage;
+import org.openzen.zenscript.lexer.ParseException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * Keeps parsed files between compilations, so that only the files that
+ * changed have to be parsed again. Files are identified by their filename and
+ * are considered unchanged if their length and content hash are the same, and
+ * if they are parsed with the same bracket parser at the same
+ * {@link BracketExpressionParser#getVersion() version}, since parsed bracket
+ * expressions may already be resolved against the host.
+ * <p>
+ * Only files that consist of imports and statements are kept. Files that
+ * declare definitions (classes, functions, expansions...) are always parsed
+ * again, as their definitions are bound to the package and compilation they
+ * were parsed for. Files that are no longer passed are removed from the cache.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class ParsedFileCache {
+	private final Map<String, Entry> entries = new HashMap<>();
+
+	/**
+	 * Parses the given files, reusing the cached result for files that didn't
+	 * change since the previous call.
+	 *
+	 * @param compilingPackage package to parse the files into
+	 * @param bracketParser    bracket expression parser (may be null)
+	 * @param files            files to parse
+	 * @param executor         executor to parse the changed files on, or null to parse them sequentially
+	 * @return parsed files, in the same order as the given files
+	 * @throws ParseException if any file could not be read or parsed
+	 */
+	public ParsedFile[] parse(CompilingPackage compilingPackage, BracketExpressionParser bracketParser, SourceFile[] files, Executor executor) throws ParseException {
+		return parse(compilingPackage, bracketParser, files, executor, false);
+	}
+
+	/**
+	 * Parses the given files as {@link #parse(CompilingPackage, BracketExpressionParser, SourceFile[], Executor)},
+	 * optionally parsing function bodies when they are compiled.
+	 */
+	public ParsedFile[] parse(CompilingPackage compilingPackage, BracketExpressionParser bracketParser, SourceFile[] files, Executor executor, boolean lazyFunctionBodies) throws ParseException {
+		return parse(compilingPackage, bracketParser, files, null, executor, lazyFunctionBodies);
+	}
+
+	/**
+	 * Parses the given files as {@link #parse(CompilingPackage, BracketExpressionParser, SourceFile[], Executor, boolean)},
+	 * using contents that were already read from the files.
+	 *
+	 * @param contents contents of each file, or null to read them here
+	 */
+	public ParsedFile[] parse(CompilingPackage compilingPackage, BracketExpressionParser bracketParser, SourceFile[] files, char[][] contents, Executor executor, boolean lazyFunctionBodies) throws ParseException {
+		if (contents == null) {
+			contents = new char[files.length][];
+			for (int i = 0; i < files.length; i++)
+				contents[i] = ParsedFile.readContents(files[i]);
+		}
+
+		long bracketVersion = bracketParser == null ? 0 : bracketParser.getVersion();
+		ParsedFile[] result = new ParsedFile[files.length];
+		Set<String> filenames = new HashSet<>();
+		long[] hashes = new long[files.length];
+		int[] lengths = new int[files.length];
+		List<Integer> changed = new ArrayList<>();
+		for (int i = 0; i < files.length; i++) {
+			filenames.add(files[i].getFilename());
+			hashes[i] = hash(contents[i]);
+			lengths[i] = contents[i].length;
+			Entry entry = entries.get(files[i].getFilename());
+			if (entry != null
+					&& entry.length == lengths[i]
+					&& entry.hash == hashes[i]
+					&& entry.bracketParser == bracketParser
+					&& entry.bracketVersion == bracketVersion) {
+				result[i] = entry.file;
+			} else {
+				changed.add(i);
+			}
+		}
+
+		// forget files that were removed
+		entries.keySet().retainAll(filenames);
+
+		SourceFile[] changedFiles = new SourceFile[changed.size()];
+		char[][] changedContents = new char[changed.size()][];
+		for (int i = 0; i < changedFiles.length; i++) {
+			changedFiles[i] = files[changed.get(i)];
+			changedContents[i] = contents[changed.get(i)];
+		}
+
+		ParsedFile[] parsed = ParsedFile.parse(compilingPackage, bracketParser, changedFiles, changedContents, executor, lazyFunctionBodies);
+		for (int i = 0; i < parsed.length; i++) {
+			int index = changed.get(i);
+			result[index] = parsed[i];
+			if (parsed[i].hasDefinitions())
+				entries.remove(files[index].getFilename());
+			else
+				entries.put(files[index].getFilename(), new Entry(parsed[i], lengths[index], hashes[index], bracketParser, bracketVersion));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Removes the cached result for the given file, if any.
+	 *
+	 * @param filename name of the file
+	 */
+	public void invalidate(String filename) {
+		entries.remove(filename);
+	}
+
+	public void clear() {
+		entries.clear();
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	static long hash(char[] contents) {
+		// 64-bit FNV-1a
+		long hash = 0xcbf29ce484222325L;
+		for (char c : contents) {
+			hash ^= c;
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	private static class Entry {
+		final ParsedFile file;
+		final int length;
+		final long hash;
+		final BracketExpressionParser bracketParser;
+		final long bracketVersion;
+
+		Entry(ParsedFile file, int length, long hash, BracketExpressionParser bracketParser, long bracketVersion) {
+			this.file = file;
+			this.length = length;
+			this.hash = hash;
+			this.bracketParser = bracketParser;
+			this.bracketVersion = bracketVersion;
+		}
+	}
+}
@@ -1,44 +1,174 @@
 package org.openzen.zenscript.parser;
 
 import org.openzen.zencode.shared.CompileException;
+import org.openzen.zencode.shared.CompileExceptionCode;
+import org.openzen.zencode.shared.logging.CompileExceptionLogger;
+import org.openzen.zenscript.codemodel.FunctionHeader;
 import org.openzen.zenscript.codemodel.member.IDefinitionMember;
+import org.openzen.zenscript.codemodel.member.PropertyMember;
 import org.openzen.zenscript.codemodel.scope.BaseScope;
+import org.openzen.zenscript.codemodel.type.BasicTypeID;
+import org.openzen.zenscript.codemodel.type.InvalidTypeID;
 import org.openzen.zenscript.codemodel.type.member.TypeMemberPreparer;
 import org.openzen.zenscript.parser.member.ParsedDefinitionMember;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Infers the types of registered members (return types of methods, types of
+ * fields and getters) before the code using them is compiled.
+ * <p>
+ * A member with an inferred type depends on the members used by its body or
+ * initializer. Instead of compiling those on demand, recursing as deep as the
+ * longest chain of such members, {@link #inferTypes} schedules members as a
+ * dependency graph. The graph is discovered while compiling, since the members
+ * a body uses are only known once its names are resolved: a member that uses
+ * another member whose type is not known yet is set aside, and compiled again
+ * once that member is done. Members are thus compiled in topological order,
+ * and members that don't depend on each other are compiled in parallel if an
+ * executor is given.
+ * <p>
+ * A member that is set aside waits for exactly one other member, so a cycle is
+ * found as soon as a member would wait for a member that (indirectly) waits for
+ * it. Since every member in such a strongly connected component needs the type
+ * of another, it cannot be inferred. The cycle is reported once, with the
+ * whole chain, at the member in it that was registered first. All members in
+ * it get an invalid type that is not reported again where they are used.
+ */
 public class PrecompilationState implements TypeMemberPreparer {
 	private final Map<IDefinitionMember, CompilableMember> members = new HashMap<>();
-	private final Set<ParsedDefinitionMember> compilingMembers = new HashSet<>();
+	// registration order, in which cycles are reported
+	private final List<CompilableMember> registered = new ArrayList<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	// the member compiled by the current thread, if it is inferring types
+	private final ThreadLocal<CompilableMember> current = new ThreadLocal<>();
+
+	// set while inferring types; guarded by the lock
+	private Executor executor;
+	private ArrayDeque<CompilableMember> queue;
+	private CompileExceptionLogger logger;
+	private int remaining;
+	private CompletableFuture<Void> inferred;
 
 	public PrecompilationState() {
 
 	}
 
 	public void register(BaseScope definitionScope, ParsedDefinitionMember member) {
-		members.put(member.getCompiled(), new CompilableMember(member, definitionScope));
+		CompilableMember cMember = new CompilableMember(member, definitionScope, registered.size());
+		members.put(member.getCompiled(), cMember);
+		registered.add(cMember);
 	}
 
+	/**
+	 * Infers the types of all registered members that need it. Members must all
+	 * be registered before. Errors are logged where they are found.
+	 *
+	 * @param executor executor to compile members on, or null to compile them on the calling thread
+	 * @param logger   logger for errors in the members; must be thread-safe if an executor is given
+	 */
+	public void inferTypes(Executor executor, CompileExceptionLogger logger) {
+		List<CompilableMember> scheduled = new ArrayList<>();
+		for (CompilableMember cMember : registered) {
+			if (isResolved(cMember.member.getCompiled()))
+				cMember.resolved = true;
+			else
+				scheduled.add(cMember);
+		}
+
+		lock.lock();
+		try {
+			this.executor = executor;
+			this.queue = executor == null ? new ArrayDeque<>() : null;
+			this.logger = logger;
+			this.remaining = scheduled.size();
+			this.inferred = new CompletableFuture<>();
+			if (remaining == 0)
+				inferred.complete(null);
+
+			for (CompilableMember cMember : scheduled)
+				submit(cMember);
+		} finally {
+			lock.unlock();
+		}
+
+		if (executor == null) {
+			while (true) {
+				CompilableMember next;
+				lock.lock();
+				try {
+					next = queue.poll();
+				} finally {
+					lock.unlock();
+				}
+
+				if (next == null)
+					break;
+				run(next);
+			}
+		}
+
+		try {
+			inferred.join();
+		} catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException)
+				throw (RuntimeException) ex.getCause();
+			if (ex.getCause() instanceof Error)
+				throw (Error) ex.getCause();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Makes sure the type of the given member is known.
+	 * <p>
+	 * While inferring types, a member that uses a member whose type is not yet
+	 * known is set aside until it is. If that member is waiting for the using
+	 * member, the cycle is reported instead.
+	 *
+	 * @return false if the type of the member could not be inferred, true otherwise
+	 * @throws CompileException if the member could not be compiled and its header is unusable
+	 */
 	public boolean precompile(IDefinitionMember member) throws CompileException {
-		if (!members.containsKey(member))
+		CompilableMember cMember = members.get(member);
+		if (cMember == null)
 			return true;
+		if (cMember.resolved)
+			return checkFailure(cMember);
 
-		CompilableMember cMember = members.get(member);
-		if (compilingMembers.contains(cMember.member))
-			return false;
+		CompilableMember waiting = current.get();
+		if (waiting == null)
+			throw new IllegalStateException("Types must be inferred before compiling code that uses them");
 
-		compilingMembers.add(cMember.member);
-		cMember.member.compile(cMember.definitionScope);
-		compilingMembers.remove(cMember.member);
-		return true;
+		lock.lock();
+		try {
+			if (cMember.resolved)
+				return checkFailure(cMember);
+
+			List<CompilableMember> cycle = findCycle(waiting, cMember);
+			if (cycle == null) {
+				waiting.waitingFor = cMember;
+				cMember.waiters.add(waiting);
+				throw Deferred.INSTANCE;
+			}
+
+			reportCycle(cycle);
+			return false;
+		} finally {
+			lock.unlock();
+		}
 	}
 
 	public void end(ParsedDefinitionMember member) {
-		compilingMembers.remove(member);
+		// members are not compiled on demand anymore, so there is nothing to end
 	}
 
 	@Override
@@ -46,13 +176,207 @@ public class PrecompilationState implements TypeMemberPreparer {
 		precompile(member);
 	}
 
-	private class CompilableMember {
+	private void run(CompilableMember cMember) {
+		current.set(cMember);
+		try {
+			while (true) {
+				try {
+					cMember.member.compile(cMember.definitionScope);
+				} catch (Deferred ex) {
+					lock.lock();
+					try {
+						if (cMember.waitingFor != null) {
+							cMember.queued = false;
+							return;
+						}
+					} finally {
+						lock.unlock();
+					}
+					// the member it waited for was done before this compilation was abandoned
+					continue;
+				} catch (CompileException ex) {
+					fail(cMember, ex);
+					return;
+				}
+
+				complete(cMember);
+				return;
+			}
+		} catch (RuntimeException | Error ex) {
+			inferred.completeExceptionally(ex);
+		} finally {
+			current.remove();
+		}
+	}
+
+	private void complete(CompilableMember cMember) {
+		IDefinitionMember compiled = cMember.member.getCompiled();
+		if (!cMember.resolved && !isResolved(compiled)) {
+			fail(cMember, new CompileException(compiled.getPosition(), CompileExceptionCode.CANNOT_INFER_RETURN_TYPE, "Cannot infer the return type of " + describe(cMember)));
+			return;
+		}
+
+		lock.lock();
+		try {
+			resolve(cMember);
+			finish();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void fail(CompilableMember cMember, CompileException error) {
+		logger.logCompileException(error);
+
+		lock.lock();
+		try {
+			if (!cMember.resolved) {
+				cMember.failure = error;
+				setInvalidType(cMember, InvalidTypeID.reportedElsewhere(error));
+				resolve(cMember);
+			}
+			finish();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// called with the lock held
+	private void submit(CompilableMember cMember) {
+		cMember.queued = true;
+		if (queue != null)
+			queue.add(cMember);
+		else
+			executor.execute(() -> run(cMember));
+	}
+
+	// called with the lock held
+	private void resolve(CompilableMember cMember) {
+		cMember.resolved = true;
+		for (CompilableMember waiter : cMember.waiters) {
+			waiter.waitingFor = null;
+			if (!waiter.queued)
+				submit(waiter);
+		}
+		cMember.waiters.clear();
+	}
+
+	// called with the lock held, once for every scheduled member
+	private void finish() {
+		if (--remaining == 0)
+			inferred.complete(null);
+	}
+
+	/**
+	 * Returns the chain of members from waiting back to waiting, if waiting
+	 * would wait for target, or null if that doesn't close a cycle.
+	 */
+	private static List<CompilableMember> findCycle(CompilableMember waiting, CompilableMember target) {
+		List<CompilableMember> chain = new ArrayList<>();
+		chain.add(waiting);
+		for (CompilableMember member = target; member != waiting; member = member.waitingFor) {
+			if (member == null)
+				return null;
+			chain.add(member);
+		}
+		return chain;
+	}
+
+	// called with the lock held
+	private void reportCycle(List<CompilableMember> cycle) {
+		int first = 0;
+		for (int i = 1; i < cycle.size(); i++) {
+			if (cycle.get(i).index < cycle.get(first).index)
+				first = i;
+		}
+
+		CompilableMember source = cycle.get(first);
+		StringBuilder description = new StringBuilder();
+		for (int i = 0; i < cycle.size(); i++)
+			description.append(describe(cycle.get((first + i) % cycle.size()))).append(" -> ");
+		description.append(describe(source));
+
+		String message = "Cannot infer the return type of " + describe(source) + " since it depends on itself: " + description;
+		CompileException error = new CompileException(source.member.getCompiled().getPosition(), CompileExceptionCode.CANNOT_INFER_RETURN_TYPE, message);
+		logger.logCompileException(error);
+
+		InvalidTypeID invalid = InvalidTypeID.reportedElsewhere(error);
+		for (CompilableMember element : cycle) {
+			element.failure = error;
+			setInvalidType(element, invalid);
+		}
+		for (CompilableMember element : cycle)
+			resolve(element);
+	}
+
+	private boolean checkFailure(CompilableMember cMember) throws CompileException {
+		if (cMember.failure == null)
+			return true;
+		if (!isResolved(cMember.member.getCompiled()))
+			throw cMember.failure;
+		return false;
+	}
+
+	private static boolean isResolved(IDefinitionMember member) {
+		FunctionHeader header = member.getHeader();
+		if (header != null)
+			return header.isResolved();
+		if (member instanceof PropertyMember)
+			return ((PropertyMember) member).getType() != BasicTypeID.UNDETERMINED;
+		return true;
+	}
+
+	/**
+	 * Sets the type of the given member, if it could not be inferred.
+	 */
+	private static void setInvalidType(CompilableMember cMember, InvalidTypeID type) {
+		IDefinitionMember compiled = cMember.member.getCompiled();
+		FunctionHeader header = compiled.getHeader();
+		if (header != null && header.getReturnType() == BasicTypeID.UNDETERMINED)
+			header.setReturnType(type);
+		else if (compiled instanceof PropertyMember && ((PropertyMember) compiled).getType() == BasicTypeID.UNDETERMINED)
+			((PropertyMember) compiled).setType(type);
+	}
+
+	private static String describe(CompilableMember member) {
+		IDefinitionMember compiled = member.member.getCompiled();
+		String description = compiled.describe();
+		FunctionHeader header = compiled.getHeader();
+		String returnType = header == null ? null : " as " + header.getReturnType();
+		if (returnType != null && description.endsWith(returnType))
+			description = description.substring(0, description.length() - returnType.length());
+
+		return compiled.getDefinition().name + "." + description;
+	}
+
+	/**
+	 * Abandons the compilation of a member that uses a member whose type is not
+	 * known yet. Members compiled by {@link #inferTypes} must let it pass, and
+	 * be ready to be compiled again.
+	 */
+	public static final class Deferred extends RuntimeException {
+		private static final Deferred INSTANCE = new Deferred();
+
+		private Deferred() {
+			super("Compilation deferred", null, false, false);
+		}
+	}
+
+	private static class CompilableMember {
 		private final ParsedDefinitionMember member;
 		private final BaseScope definitionScope;
+		private final int index;
+		private volatile boolean resolved;
+		// guarded by the state's lock
+		private boolean queued;
+		private CompilableMember waitingFor;
+		private final List<CompilableMember> waiters = new ArrayList<>();
+		private CompileException failure;
 
-		public CompilableMember(ParsedDefinitionMember member, BaseScope definitionScope) {
+		public CompilableMember(ParsedDefinitionMember member, BaseScope definitionScope, int index) {
 			this.member = member;
 			this.definitionScope = definitionScope;
+			this.index = index;
 		}
 	}
 }
@@ -22,6 +22,15 @@ public class PrefixedBracketParser implements BracketExpressionParser {
 		subParsers.put(name, parser);
 	}
 
+	@Override
+	public long getVersion() {
+		// versions only increase, so the sum changes whenever any of them does
+		long result = defaultParser == null ? 0 : defaultParser.getVersion();
+		for (BracketExpressionParser subParser : subParsers.values())
+			result += subParser.getVersion();
+		return result;
+	}
+
 	@Override
 	public ParsedExpression parse(CodePosition position, ZSTokenParser tokens) throws ParseException {
 		if (defaultParser == null) {
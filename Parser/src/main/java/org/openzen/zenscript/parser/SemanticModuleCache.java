@@ -0,0 +1,211 @@
+package org.openzen.zenscript.parser;
+
+import org.openzen.zencode.shared.SourceFile;
+import org.openzen.zenscript.codemodel.FunctionParameter;
+import org.openzen.zenscript.codemodel.ModuleSpace;
+import org.openzen.zenscript.codemodel.SemanticModule;
+import org.openzen.zenscript.codemodel.annotations.AnnotationDefinition;
+import org.openzen.zenscript.codemodel.definition.ExpansionDefinition;
+import org.openzen.zenscript.codemodel.type.ISymbol;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Memoizes whole compiled modules between compilations, so that a module is
+ * only compiled again if its sources or dependencies changed. Files are not
+ * reused individually: compiled definitions and script blocks refer directly
+ * to the types and definitions of the compilation they were created in,
+ * including those of other files in the same module, so a changed module is
+ * always compiled completely. Use {@link ParsedFileCache} to skip parsing the
+ * unchanged files of such a module.
+ * <p>
+ * A module is reused if its files (by filename, length and content hash),
+ * its dependencies, the globals, expansions and annotations of its module
+ * space, its script parameters and its bracket parser (all by identity) and
+ * the {@link BracketExpressionParser#getVersion() version} of that parser
+ * are the same as when it was stored. Any other change, whether to a
+ * signature or only to a function body, compiles the module again.
+ * <p>
+ * Since dependencies are compared by identity, modules are only reused by
+ * the engine (and type registry) they were compiled with. This class is not
+ * thread-safe.
+ */
+public class SemanticModuleCache {
+	private final Map<String, Entry> entries = new HashMap<>();
+
+	/**
+	 * Computes the fingerprint of a module with the given inputs.
+	 *
+	 * @param files         source files of the module
+	 * @param contents      contents of each source file, as they will be parsed
+	 * @param space         module space the module is compiled in
+	 * @param dependencies  modules the module depends on
+	 * @param parameters    script parameters
+	 * @param bracketParser bracket expression parser (may be null)
+	 * @return module fingerprint
+	 */
+	public static Fingerprint fingerprint(
+			SourceFile[] files,
+			char[][] contents,
+			ModuleSpace space,
+			SemanticModule[] dependencies,
+			FunctionParameter[] parameters,
+			BracketExpressionParser bracketParser) {
+		String[] filenames = new String[files.length];
+		int[] lengths = new int[files.length];
+		long[] hashes = new long[files.length];
+		for (int i = 0; i < files.length; i++) {
+			filenames[i] = files[i].getFilename();
+			lengths[i] = contents[i].length;
+			hashes[i] = ParsedFileCache.hash(contents[i]);
+		}
+
+		return new Fingerprint(
+				filenames,
+				lengths,
+				hashes,
+				dependencies.clone(),
+				new HashMap<>(space.collectGlobals()),
+				space.collectExpansions().toArray(new ExpansionDefinition[0]),
+				space.getAnnotations().clone(),
+				parameters.clone(),
+				bracketParser,
+				bracketParser == null ? 0 : bracketParser.getVersion());
+	}
+
+	/**
+	 * Returns the module stored with the given name, if it was stored with
+	 * the given fingerprint.
+	 *
+	 * @param name        module name
+	 * @param fingerprint fingerprint of the module to be compiled
+	 * @return the stored module, or null if there is none or it changed
+	 */
+	public SemanticModule get(String name, Fingerprint fingerprint) {
+		Entry entry = entries.get(name);
+		if (entry == null || !entry.fingerprint.equals(fingerprint))
+			return null;
+
+		return entry.module;
+	}
+
+	/**
+	 * Stores a compiled module, replacing any module stored with the same name.
+	 *
+	 * @param name        module name
+	 * @param fingerprint fingerprint the module was compiled from
+	 * @param module      compiled module
+	 */
+	public void put(String name, Fingerprint fingerprint, SemanticModule module) {
+		entries.put(name, new Entry(fingerprint, module));
+	}
+
+	public void invalidate(String name) {
+		entries.remove(name);
+	}
+
+	public void clear() {
+		entries.clear();
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public static final class Fingerprint {
+		private final String[] filenames;
+		private final int[] lengths;
+		private final long[] hashes;
+		private final SemanticModule[] dependencies;
+		private final Map<String, ISymbol> globals;
+		private final ExpansionDefinition[] expansions;
+		private final AnnotationDefinition[] annotations;
+		private final FunctionParameter[] parameters;
+		private final BracketExpressionParser bracketParser;
+		private final long bracketVersion;
+
+		private Fingerprint(
+				String[] filenames,
+				int[] lengths,
+				long[] hashes,
+				SemanticModule[] dependencies,
+				Map<String, ISymbol> globals,
+				ExpansionDefinition[] expansions,
+				AnnotationDefinition[] annotations,
+				FunctionParameter[] parameters,
+				BracketExpressionParser bracketParser,
+				long bracketVersion) {
+			this.filenames = filenames;
+			this.lengths = lengths;
+			this.hashes = hashes;
+			this.dependencies = dependencies;
+			this.globals = globals;
+			this.expansions = expansions;
+			this.annotations = annotations;
+			this.parameters = parameters;
+			this.bracketParser = bracketParser;
+			this.bracketVersion = bracketVersion;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o)
+				return true;
+			if (o == null || getClass() != o.getClass())
+				return false;
+
+			Fingerprint that = (Fingerprint) o;
+			return Arrays.equals(filenames, that.filenames)
+					&& Arrays.equals(lengths, that.lengths)
+					&& Arrays.equals(hashes, that.hashes)
+					&& sameElements(dependencies, that.dependencies)
+					&& sameGlobals(globals, that.globals)
+					&& sameElements(expansions, that.expansions)
+					&& sameElements(annotations, that.annotations)
+					&& sameElements(parameters, that.parameters)
+					&& bracketParser == that.bracketParser
+					&& bracketVersion == that.bracketVersion;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = Arrays.hashCode(filenames);
+			result = 31 * result + Arrays.hashCode(hashes);
+			return result;
+		}
+
+		private static boolean sameElements(Object[] a, Object[] b) {
+			if (a.length != b.length)
+				return false;
+
+			for (int i = 0; i < a.length; i++)
+				if (a[i] != b[i])
+					return false;
+
+			return true;
+		}
+
+		private static boolean sameGlobals(Map<String, ISymbol> a, Map<String, ISymbol> b) {
+			if (a.size() != b.size())
+				return false;
+
+			for (Map.Entry<String, ISymbol> entry : a.entrySet())
+				if (b.get(entry.getKey()) != entry.getValue())
+					return false;
+
+			return true;
+		}
+	}
+
+	private static class Entry {
+		final Fingerprint fingerprint;
+		final SemanticModule module;
+
+		Entry(Fingerprint fingerprint, SemanticModule module) {
+			this.fingerprint = fingerprint;
+			this.module = module;
+		}
+	}
+}
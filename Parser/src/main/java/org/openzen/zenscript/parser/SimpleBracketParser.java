@@ -49,7 +49,7 @@ public class SimpleBracketParser implements BracketExpressionParser {
 
 		@Override
 		public IPartialExpression compile(ExpressionScope scope) {
-			return new CallStaticExpression(position, targetType, method, method.getHeader(), new CallArguments(new ConstantStringExpression(position, value)));
+			return new CallStaticExpression(getPosition(), targetType, method, method.getHeader(), new CallArguments(new ConstantStringExpression(getPosition(), value)));
 		}
 
 		@Override
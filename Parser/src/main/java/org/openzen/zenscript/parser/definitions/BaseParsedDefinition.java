@@ -59,6 +59,13 @@ public abstract class BaseParsedDefinition extends ParsedDefinition {
 		}
 	}
 
+	@Override
+	public void registerToPackage() {
+		super.registerToPackage();
+		for (ParsedDefinitionMember member : members)
+			member.registerToPackage();
+	}
+
 	@Override
 	public void compile(BaseScope scope) throws CompileException {
 		if (isCompiled)
@@ -41,14 +41,7 @@ public class ParsedClass extends BaseParsedDefinition {
 		tokens.required(ZSTokenType.T_AOPEN, "{ expected");
 
 		ParsedClass result = new ParsedClass(pkg, position, modifiers, annotations, name, genericParameters, superclass, outerDefinition);
-		try {
-			while (tokens.optional(ZSTokenType.T_ACLOSE) == null) {
-				result.addMember(ParsedDefinitionMember.parse(tokens, result, null));
-			}
-		} catch (ParseException ex) {
-			tokens.logError(ex);
-			tokens.recoverUntilOnToken(ZSTokenType.T_ACLOSE);
-		}
+		ParsedDefinitionMember.parseMembers(tokens, result, null, result::addMember);
 		return result;
 	}
 
@@ -55,13 +55,7 @@ public class ParsedInterface extends BaseParsedDefinition {
 		ParsedInterface result = new ParsedInterface(pkg, position, modifiers, annotations, name, genericParameters, superInterfaces, outerDefinition);
 
 		tokens.required(ZSTokenType.T_AOPEN, "{ expected");
-		try {
-			while (tokens.optional(ZSTokenType.T_ACLOSE) == null) {
-				result.addMember(ParsedDefinitionMember.parse(tokens, result, null));
-			}
-		} catch (ParseException ex) {
-			tokens.recoverUntilOnToken(ZSTokenType.T_ACLOSE);
-		}
+		ParsedDefinitionMember.parseMembers(tokens, result, null, result::addMember);
 		return result;
 	}
 
@@ -39,14 +39,7 @@ public class ParsedStruct extends BaseParsedDefinition {
 		tokens.required(ZSTokenType.T_AOPEN, "{");
 
 		ParsedStruct result = new ParsedStruct(pkg, position, modifiers, annotations, name, parameters, outerDefinition);
-		try {
-			while (tokens.optional(ZSTokenType.T_ACLOSE) == null) {
-				result.addMember(ParsedDefinitionMember.parse(tokens, result, null));
-			}
-		} catch (ParseException ex) {
-			tokens.logError(ex);
-			tokens.recoverUntilOnToken(ZSTokenType.T_ACLOSE);
-		}
+		ParsedDefinitionMember.parseMembers(tokens, result, null, result::addMember);
 		return result;
 	}
 
@@ -59,14 +59,7 @@ public class ParsedVariant extends BaseParsedDefinition {
 		}
 
 		if (tokens.optional(ZSTokenType.T_SEMICOLON) != null) {
-			try {
-				while (tokens.optional(ZSTokenType.T_ACLOSE) == null) {
-					result.addMember(ParsedDefinitionMember.parse(tokens, result, null));
-				}
-			} catch (ParseException ex) {
-				tokens.logError(ex);
-				tokens.recoverUntilOnToken(ZSTokenType.T_ACLOSE);
-			}
+			ParsedDefinitionMember.parseMembers(tokens, result, null, result::addMember);
 		} else {
 			tokens.required(ZSTokenType.T_ACLOSE, "} expected");
 		}
@@ -17,11 +17,11 @@ public class ParsedDollarExpression extends ParsedExpression {
 		DollarEvaluator dollar = scope.getDollar();
 		if (dollar == null)
 			throw new CompileException(
-					position,
+					getPosition(),
 					CompileExceptionCode.NO_DOLLAR_HERE,
 					"No dollar expression available in this context");
 
-		return dollar.apply(position);
+		return dollar.apply(getPosition());
 	}
 
 	@Override
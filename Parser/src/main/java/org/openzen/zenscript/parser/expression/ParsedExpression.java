@@ -3,6 +3,7 @@ package org.openzen.zenscript.parser.expression;
 import org.openzen.zencode.shared.CodePosition;
 import org.openzen.zencode.shared.CompileException;
 import org.openzen.zencode.shared.CompileExceptionCode;
+import org.openzen.zencode.shared.SourceFile;
 import org.openzen.zencode.shared.StringExpansion;
 import org.openzen.zenscript.codemodel.CompareType;
 import org.openzen.zenscript.codemodel.OperatorType;
@@ -30,10 +31,65 @@ import static org.openzen.zencode.shared.StringExpansion.unescape;
 import static org.openzen.zenscript.lexer.ZSTokenType.*;
 
 public abstract class ParsedExpression {
-	public final CodePosition position;
+	/*
+	 * Binary operators are parsed by precedence climbing, using the precedence
+	 * table below (indexed by token type; 0 = not a binary operator). The
+	 * resulting trees are the same as those of a recursive descent parser with
+	 * one level per precedence: operators are left-associative, comparisons
+	 * are not associative, and || cannot follow ?? without parentheses.
+	 */
+	private static final int PRECEDENCE_COALESCE = 1;
+	private static final int PRECEDENCE_OROR = 2;
+	private static final int PRECEDENCE_ANDAND = 3;
+	private static final int PRECEDENCE_OR = 4;
+	private static final int PRECEDENCE_XOR = 5;
+	private static final int PRECEDENCE_AND = 6;
+	private static final int PRECEDENCE_COMPARE = 7;
+	private static final int PRECEDENCE_SHIFT = 8;
+	private static final int PRECEDENCE_ADD = 9;
+	private static final int PRECEDENCE_MUL = 10;
+	private static final int PRECEDENCE_UNARY = 11;
+	private static final int[] BINARY_PRECEDENCE = new int[ZSTokenType.values().length];
+
+	static {
+		setPrecedence(PRECEDENCE_COALESCE, T_COALESCE);
+		setPrecedence(PRECEDENCE_OROR, T_OROR);
+		setPrecedence(PRECEDENCE_ANDAND, T_ANDAND);
+		setPrecedence(PRECEDENCE_OR, T_OR);
+		setPrecedence(PRECEDENCE_XOR, T_XOR);
+		setPrecedence(PRECEDENCE_AND, T_AND);
+		setPrecedence(PRECEDENCE_COMPARE, T_EQUAL2, T_EQUAL3, T_NOTEQUAL, T_NOTEQUAL2, T_LESS, T_LESSEQ, T_GREATER, T_GREATEREQ, K_IN, K_IS, T_NOT);
+		setPrecedence(PRECEDENCE_SHIFT, T_SHL, T_SHR, T_USHR);
+		setPrecedence(PRECEDENCE_ADD, T_ADD, T_SUB, T_CAT);
+		setPrecedence(PRECEDENCE_MUL, T_MUL, T_DIV, T_MOD);
+	}
+
+	/* stored inline rather than as a CodePosition object, see getPosition() */
+	private final SourceFile file;
+	private final int fromLine;
+	private final int fromLineOffset;
+	private final int toLine;
+	private final int toLineOffset;
 
 	public ParsedExpression(CodePosition position) {
-		this.position = position;
+		if (position == null) {
+			this.file = null;
+			this.fromLine = this.fromLineOffset = this.toLine = this.toLineOffset = 0;
+		} else {
+			this.file = position.file;
+			this.fromLine = position.fromLine;
+			this.fromLineOffset = position.fromLineOffset;
+			this.toLine = position.toLine;
+			this.toLineOffset = position.toLineOffset;
+		}
+	}
+
+	/**
+	 * Creates the position of this expression. Nodes don't keep a CodePosition
+	 * around, since there are a lot of them, so every call creates a new one.
+	 */
+	public CodePosition getPosition() {
+		return file == null ? null : new CodePosition(file, fromLine, fromLineOffset, toLine, toLineOffset);
 	}
 
 	public static ParsedExpression parse(ZSTokenParser parser) throws ParseException {
@@ -94,10 +150,10 @@ public abstract class ParsedExpression {
 	}
 
 	private static ParsedExpression readConditionalExpression(CodePosition position, ZSTokenParser parser, ParsingOptions options) throws ParseException {
-		ParsedExpression left = readOrOrExpression(position, parser, options);
+		ParsedExpression left = readBinaryExpression(position, parser, options, PRECEDENCE_COALESCE);
 
 		if (parser.optional(T_QUEST) != null) {
-			ParsedExpression onIf = readOrOrExpression(parser.getPosition(), parser, options);
+			ParsedExpression onIf = readBinaryExpression(parser.getPosition(), parser, options, PRECEDENCE_COALESCE);
 			parser.required(T_COLON, ": expected");
 			ParsedExpression onElse = readConditionalExpression(parser.getPosition(), parser, options);
 			return new ParsedExpressionConditional(position, left, onIf, onElse);
@@ -106,120 +162,83 @@ public abstract class ParsedExpression {
 		return left;
 	}
 
-	private static ParsedExpression readOrOrExpression(CodePosition position, ZSTokenParser parser, ParsingOptions options) throws ParseException {
-		ParsedExpression left = readAndAndExpression(position, parser, options);
-
-		while (parser.optional(T_OROR) != null) {
-			ParsedExpression right = readAndAndExpression(parser.getPosition(), parser, options);
-			left = new ParsedExpressionOrOr(position, left, right);
-		}
-
-		while (parser.optional(T_COALESCE) != null) {
-			ParsedExpression right = readAndAndExpression(parser.getPosition(), parser, options);
-			left = new ParsedExpressionCoalesce(position, left, right);
-		}
-
-		return left;
-	}
-
-	private static ParsedExpression readAndAndExpression(CodePosition position, ZSTokenParser parser, ParsingOptions options) throws ParseException {
-		ParsedExpression left = readOrExpression(position, parser, options);
-
-		while (parser.optional(T_ANDAND) != null) {
-			ParsedExpression right = readOrExpression(parser.getPosition(), parser, options);
-			left = new ParsedExpressionAndAnd(position, left, right);
-		}
-		return left;
+	private static void setPrecedence(int precedence, ZSTokenType... types) {
+		for (ZSTokenType type : types)
+			BINARY_PRECEDENCE[type.ordinal()] = precedence;
 	}
 
-	private static ParsedExpression readOrExpression(CodePosition position, ZSTokenParser parser, ParsingOptions options) throws ParseException {
-		ParsedExpression left = readXorExpression(position, parser, options);
+	private static ParsedExpression readBinaryExpression(CodePosition position, ZSTokenParser parser, ParsingOptions options, int minPrecedence) throws ParseException {
+		ParsedExpression left = readUnaryExpression(position, parser, options);
 
-		while (parser.optional(T_OR) != null) {
-			ParsedExpression right = readXorExpression(parser.getPosition(), parser, options);
-			left = new ParsedExpressionBinary(position, left, right, OperatorType.OR);
-		}
-		return left;
-	}
+		// precedence of the last operator applied to left; operators binding
+		// tighter than that were already consumed by its right operand
+		int maxPrecedence = PRECEDENCE_UNARY;
+		while (true) {
+			ZSToken next = parser.peek();
+			int precedence = BINARY_PRECEDENCE[next.type.ordinal()];
+			if (precedence == 0) {
+				// Check if x-1 was scanned as T_INT instead of [T_SUB, T_INT]
+				// If so, replace the Token with the number and treat it as binary call
+				if (next.content.startsWith("-") && next.content.length() >= 2 && PRECEDENCE_ADD >= minPrecedence && PRECEDENCE_ADD <= maxPrecedence) {
+					parser.replace(new ZSToken(next.type, next.content.substring(1)));
+					ParsedExpression right = readBinaryExpression(parser.getPosition(), parser, options, PRECEDENCE_MUL);
+					left = new ParsedExpressionBinary(position, left, right, OperatorType.SUB);
+					maxPrecedence = PRECEDENCE_ADD;
+					continue;
+				}
+				break;
+			}
 
-	private static ParsedExpression readXorExpression(CodePosition position, ZSTokenParser parser, ParsingOptions options) throws ParseException {
-		ParsedExpression left = readAndExpression(position, parser, options);
+			if (precedence < minPrecedence || precedence > maxPrecedence)
+				break;
+			if (precedence == PRECEDENCE_COMPARE && maxPrecedence == PRECEDENCE_COMPARE)
+				break; // comparisons don't chain
 
-		while (parser.optional(T_XOR) != null) {
-			ParsedExpression right = readAndExpression(parser.getPosition(), parser, options);
-			left = new ParsedExpressionBinary(position, left, right, OperatorType.XOR);
+			parser.next();
+			left = readBinaryOperation(position, left, next.type, parser, options);
+			maxPrecedence = precedence;
 		}
-		return left;
-	}
-
-	private static ParsedExpression readAndExpression(CodePosition position, ZSTokenParser parser, ParsingOptions options) throws ParseException {
-		ParsedExpression left = readCompareExpression(position, parser, options);
 
-		while (parser.optional(T_AND) != null) {
-			ParsedExpression right = readCompareExpression(parser.getPosition(), parser, options);
-			left = new ParsedExpressionBinary(position, left, right, OperatorType.AND);
-		}
 		return left;
 	}
 
-	private static ParsedExpression readCompareExpression(CodePosition position, ZSTokenParser parser, ParsingOptions options) throws ParseException {
-		ParsedExpression left = readShiftExpression(position, parser, options);
-
-		switch (parser.peek().getType()) {
-			case T_EQUAL2: {
-				parser.next();
-				ParsedExpression right = readShiftExpression(parser.getPosition(), parser, options);
-				return new ParsedExpressionCompare(position, left, right, CompareType.EQ);
-			}
-			case T_EQUAL3: {
-				parser.next();
-				ParsedExpression right = readShiftExpression(parser.getPosition(), parser, options);
-				return new ParsedExpressionSame(position, left, right, false);
-			}
-			case T_NOTEQUAL: {
-				parser.next();
-				ParsedExpression right = readShiftExpression(parser.getPosition(), parser, options);
-				return new ParsedExpressionCompare(position, left, right, CompareType.NE);
-			}
-			case T_NOTEQUAL2: {
-				parser.next();
-				ParsedExpression right = readShiftExpression(parser.getPosition(), parser, options);
-				return new ParsedExpressionSame(position, left, right, true);
-			}
-			case T_LESS: {
-				parser.next();
-				ParsedExpression right = readShiftExpression(parser.getPosition(), parser, options);
-				return new ParsedExpressionCompare(position, left, right, CompareType.LT);
-			}
-			case T_LESSEQ: {
-				parser.next();
-				ParsedExpression right = readShiftExpression(parser.getPosition(), parser, options);
-				return new ParsedExpressionCompare(position, left, right, CompareType.LE);
-			}
-			case T_GREATER: {
-				parser.next();
-				ParsedExpression right = readShiftExpression(parser.getPosition(), parser, options);
-				return new ParsedExpressionCompare(position, left, right, CompareType.GT);
-			}
-			case T_GREATEREQ: {
-				parser.next();
-				ParsedExpression right = readShiftExpression(parser.getPosition(), parser, options);
-				return new ParsedExpressionCompare(position, left, right, CompareType.GE);
-			}
-			case K_IN: {
-				parser.next();
-				ParsedExpression right = readShiftExpression(parser.getPosition(), parser, options);
-				return new ParsedExpressionBinary(position, right, left, OperatorType.CONTAINS);
-			}
-			case K_IS: {
-				parser.next();
-				IParsedType type = IParsedType.parse(parser);
-				return new ParsedExpressionIs(position, left, type);
-			}
-			case T_NOT: {
-				parser.next();
+	private static ParsedExpression readBinaryOperation(CodePosition position, ParsedExpression left, ZSTokenType operator, ZSTokenParser parser, ParsingOptions options) throws ParseException {
+		switch (operator) {
+			case T_COALESCE:
+				return new ParsedExpressionCoalesce(position, left, readBinaryExpression(parser.getPosition(), parser, options, PRECEDENCE_ANDAND));
+			case T_OROR:
+				return new ParsedExpressionOrOr(position, left, readBinaryExpression(parser.getPosition(), parser, options, PRECEDENCE_ANDAND));
+			case T_ANDAND:
+				return new ParsedExpressionAndAnd(position, left, readBinaryExpression(parser.getPosition(), parser, options, PRECEDENCE_OR));
+			case T_OR:
+				return new ParsedExpressionBinary(position, left, readBinaryExpression(parser.getPosition(), parser, options, PRECEDENCE_XOR), OperatorType.OR);
+			case T_XOR:
+				return new ParsedExpressionBinary(position, left, readBinaryExpression(parser.getPosition(), parser, options, PRECEDENCE_AND), OperatorType.XOR);
+			case T_AND:
+				return new ParsedExpressionBinary(position, left, readBinaryExpression(parser.getPosition(), parser, options, PRECEDENCE_COMPARE), OperatorType.AND);
+			case T_EQUAL2:
+				return new ParsedExpressionCompare(position, left, readShiftExpression(parser, options), CompareType.EQ);
+			case T_EQUAL3:
+				return new ParsedExpressionSame(position, left, readShiftExpression(parser, options), false);
+			case T_NOTEQUAL:
+				return new ParsedExpressionCompare(position, left, readShiftExpression(parser, options), CompareType.NE);
+			case T_NOTEQUAL2:
+				return new ParsedExpressionSame(position, left, readShiftExpression(parser, options), true);
+			case T_LESS:
+				return new ParsedExpressionCompare(position, left, readShiftExpression(parser, options), CompareType.LT);
+			case T_LESSEQ:
+				return new ParsedExpressionCompare(position, left, readShiftExpression(parser, options), CompareType.LE);
+			case T_GREATER:
+				return new ParsedExpressionCompare(position, left, readShiftExpression(parser, options), CompareType.GT);
+			case T_GREATEREQ:
+				return new ParsedExpressionCompare(position, left, readShiftExpression(parser, options), CompareType.GE);
+			case K_IN:
+				return new ParsedExpressionBinary(position, readShiftExpression(parser, options), left, OperatorType.CONTAINS);
+			case K_IS:
+				return new ParsedExpressionIs(position, left, IParsedType.parse(parser));
+			case T_NOT:
 				if (parser.optional(K_IN) != null) {
-					ParsedExpression right = readShiftExpression(parser.getPosition(), parser, options);
+					ParsedExpression right = readShiftExpression(parser, options);
 					return new ParsedExpressionUnary(position, new ParsedExpressionBinary(position, right, left, OperatorType.CONTAINS), OperatorType.NOT);
 				} else if (parser.optional(K_IS) != null) {
 					IParsedType type = IParsedType.parse(parser);
@@ -227,82 +246,31 @@ public abstract class ParsedExpression {
 				} else {
 					throw new ParseException(position, "Expected in or is");
 				}
-			}
-		}
-
-		return left;
-	}
-
-	private static ParsedExpression readShiftExpression(CodePosition position, ZSTokenParser parser, ParsingOptions options) throws ParseException {
-		ParsedExpression left = readAddExpression(position, parser, options);
-
-		while (true) {
-			if (parser.optional(T_SHL) != null) {
-				ParsedExpression right = readAddExpression(parser.getPosition(), parser, options);
-				left = new ParsedExpressionBinary(position, left, right, OperatorType.SHL);
-			} else if (parser.optional(T_SHR) != null) {
-				ParsedExpression right = readAddExpression(parser.getPosition(), parser, options);
-				left = new ParsedExpressionBinary(position, left, right, OperatorType.SHR);
-			} else if (parser.optional(T_USHR) != null) {
-				ParsedExpression right = readAddExpression(parser.getPosition(), parser, options);
-				left = new ParsedExpressionBinary(position, left, right, OperatorType.USHR);
-			} else {
-				break;
-			}
-		}
-
-		return left;
-	}
-
-	private static ParsedExpression readAddExpression(CodePosition position, ZSTokenParser parser, ParsingOptions options) throws ParseException {
-		ParsedExpression left = readMulExpression(position, parser, options);
-
-		while (true) {
-			if (parser.optional(T_ADD) != null) {
-				ParsedExpression right = readMulExpression(parser.getPosition(), parser, options);
-				left = new ParsedExpressionBinary(position, left, right, OperatorType.ADD);
-			} else if (parser.optional(T_SUB) != null) {
-				ParsedExpression right = readMulExpression(parser.getPosition(), parser, options);
-				left = new ParsedExpressionBinary(position, left, right, OperatorType.SUB);
-			} else if (parser.optional(T_CAT) != null) {
-				ParsedExpression right = readMulExpression(parser.getPosition(), parser, options);
-				left = new ParsedExpressionBinary(position, left, right, OperatorType.CAT);
-			} else {
-				// Check if x-1 was scanned as T_INT instead of [T_SUB, T_INT]
-				// If so, replace the Token with the number and treat it as binary call
-				final ZSToken peek = parser.peek();
-				if (peek.content.startsWith("-") && peek.content.length() >= 2) {
-					parser.replace(new ZSToken(peek.type, peek.content.substring(1)));
-					ParsedExpression right = readMulExpression(parser.getPosition(), parser, options);
-					left = new ParsedExpressionBinary(position, left, right, OperatorType.SUB);
-				} else {
-					break;
-				}
-
-			}
+			case T_SHL:
+				return new ParsedExpressionBinary(position, left, readBinaryExpression(parser.getPosition(), parser, options, PRECEDENCE_ADD), OperatorType.SHL);
+			case T_SHR:
+				return new ParsedExpressionBinary(position, left, readBinaryExpression(parser.getPosition(), parser, options, PRECEDENCE_ADD), OperatorType.SHR);
+			case T_USHR:
+				return new ParsedExpressionBinary(position, left, readBinaryExpression(parser.getPosition(), parser, options, PRECEDENCE_ADD), OperatorType.USHR);
+			case T_ADD:
+				return new ParsedExpressionBinary(position, left, readBinaryExpression(parser.getPosition(), parser, options, PRECEDENCE_MUL), OperatorType.ADD);
+			case T_SUB:
+				return new ParsedExpressionBinary(position, left, readBinaryExpression(parser.getPosition(), parser, options, PRECEDENCE_MUL), OperatorType.SUB);
+			case T_CAT:
+				return new ParsedExpressionBinary(position, left, readBinaryExpression(parser.getPosition(), parser, options, PRECEDENCE_MUL), OperatorType.CAT);
+			case T_MUL:
+				return new ParsedExpressionBinary(position, left, readUnaryExpression(parser.getPosition(), parser, options), OperatorType.MUL);
+			case T_DIV:
+				return new ParsedExpressionBinary(position, left, readUnaryExpression(parser.getPosition(), parser, options), OperatorType.DIV);
+			case T_MOD:
+				return new ParsedExpressionBinary(position, left, readUnaryExpression(parser.getPosition(), parser, options), OperatorType.MOD);
+			default:
+				throw new AssertionError("Not a binary operator: " + operator);
 		}
-		return left;
 	}
 
-	private static ParsedExpression readMulExpression(CodePosition position, ZSTokenParser parser, ParsingOptions options) throws ParseException {
-		ParsedExpression left = readUnaryExpression(position, parser, options);
-
-		while (true) {
-			if (parser.optional(T_MUL) != null) {
-				ParsedExpression right = readUnaryExpression(parser.getPosition(), parser, options);
-				left = new ParsedExpressionBinary(position, left, right, OperatorType.MUL);
-			} else if (parser.optional(T_DIV) != null) {
-				ParsedExpression right = readUnaryExpression(parser.getPosition(), parser, options);
-				left = new ParsedExpressionBinary(position, left, right, OperatorType.DIV);
-			} else if (parser.optional(T_MOD) != null) {
-				ParsedExpression right = readUnaryExpression(parser.getPosition(), parser, options);
-				left = new ParsedExpressionBinary(position, left, right, OperatorType.MOD);
-			} else {
-				break;
-			}
-		}
-
-		return left;
+	private static ParsedExpression readShiftExpression(ZSTokenParser parser, ParsingOptions options) throws ParseException {
+		return readBinaryExpression(parser.getPosition(), parser, options, PRECEDENCE_SHIFT);
 	}
 
 	private static ParsedExpression readUnaryExpression(CodePosition position, ZSTokenParser parser, ParsingOptions options) throws ParseException {
@@ -590,15 +558,15 @@ public abstract class ParsedExpression {
 	}
 
 	public SwitchValue compileToSwitchValue(TypeID type, ExpressionScope scope) throws CompileException {
-		throw new CompileException(position, CompileExceptionCode.INVALID_SWITCH_CASE, "Invalid switch case");
+		throw new CompileException(getPosition(), CompileExceptionCode.INVALID_SWITCH_CASE, "Invalid switch case");
 	}
 
 	public ParsedFunctionHeader toLambdaHeader() throws ParseException {
-		throw new ParseException(position, "Not a valid lambda header");
+		throw new ParseException(getPosition(), "Not a valid lambda header");
 	}
 
 	public ParsedFunctionParameter toLambdaParameter() throws ParseException {
-		throw new ParseException(position, "Not a valid lambda parameter");
+		throw new ParseException(getPosition(), "Not a valid lambda parameter");
 	}
 
 	public boolean isCompatibleWith(BaseScope scope, TypeID type) {
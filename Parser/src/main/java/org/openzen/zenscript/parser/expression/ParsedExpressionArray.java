@@ -59,9 +59,9 @@ public class ParsedExpressionArray extends ParsedExpression {
 		if (couldHintType) {
 			ExpressionScope contentScope = scope.withHint(asBaseType);
 			for (int i = 0; i < contents.size(); i++)
-				cContents[i] = contents.get(i).compile(contentScope).eval().castImplicit(position, scope, asBaseType);
+				cContents[i] = contents.get(i).compile(contentScope).eval().castImplicit(getPosition(), scope, asBaseType);
 		} else if (contents.isEmpty()) {
-			throw new CompileException(position, CompileExceptionCode.UNTYPED_EMPTY_ARRAY, "Empty array with unknown type");
+			throw new CompileException(getPosition(), CompileExceptionCode.UNTYPED_EMPTY_ARRAY, "Empty array with unknown type");
 		} else {
 			ExpressionScope contentScope = scope.withoutHints();
 			TypeID resultType = null;
@@ -69,15 +69,15 @@ public class ParsedExpressionArray extends ParsedExpression {
 				cContents[i] = contents.get(i).compileKey(contentScope).eval();
 				TypeID joinedType = resultType == null ? cContents[i].type : scope.getTypeMembers(resultType).union(cContents[i].type);
 				if (joinedType == null)
-					throw new CompileException(position, CompileExceptionCode.TYPE_CANNOT_UNITE, "Could not combine " + resultType + " with " + cContents[i].type);
+					throw new CompileException(getPosition(), CompileExceptionCode.TYPE_CANNOT_UNITE, "Could not combine " + resultType + " with " + cContents[i].type);
 
 				resultType = joinedType;
 			}
 			for (int i = 0; i < contents.size(); i++)
-				cContents[i] = cContents[i].castImplicit(position, scope, resultType);
+				cContents[i] = cContents[i].castImplicit(getPosition(), scope, resultType);
 			asType = scope.getTypeRegistry().getArray(resultType, 1);
 		}
-		return new ArrayExpression(position, cContents, asType);
+		return new ArrayExpression(getPosition(), cContents, asType);
 	}
 
 	@Override
@@ -29,7 +29,7 @@ public class ParsedExpressionAssign extends ParsedExpression {
 			IPartialExpression cLeft = left.compile(scope);
 			List<TypeID> resultHints = cLeft.getAssignHints();
 			Expression cRight = right.compile(scope.withHints(resultHints)).eval();
-			return cLeft.assign(position, scope, cRight);
+			return cLeft.assign(getPosition(), scope, cRight);
 		} catch (CompileException ex) {
 			InvalidExpression invalid = new InvalidExpression(BasicTypeID.VOID, ex);
 			Expression cRight;
@@ -38,7 +38,7 @@ public class ParsedExpressionAssign extends ParsedExpression {
 			} catch (CompileException ex2) {
 				cRight = new InvalidExpression(BasicTypeID.VOID, ex2);
 			}
-			return new InvalidAssignExpression(position, invalid, cRight);
+			return new InvalidAssignExpression(getPosition(), invalid, cRight);
 		}
 	}
 
@@ -16,7 +16,7 @@ public class ParsedExpressionBool extends ParsedExpression {
 
 	@Override
 	public IPartialExpression compile(ExpressionScope scope) {
-		return new ConstantBoolExpression(position, value);
+		return new ConstantBoolExpression(getPosition(), value);
 	}
 
 	@Override
@@ -25,7 +25,7 @@ public class ParsedExpressionBracket extends ParsedExpression {
 	@Override
 	public IPartialExpression compile(ExpressionScope scope) throws CompileException {
 		if (expressions.size() != 1) {
-			throw new CompileException(position, CompileExceptionCode.BRACKET_MULTIPLE_EXPRESSIONS, "Bracket expression may have only one expression");
+			throw new CompileException(getPosition(), CompileExceptionCode.BRACKET_MULTIPLE_EXPRESSIONS, "Bracket expression may have only one expression");
 		} else {
 			return expressions.get(0).compile(scope);
 		}
@@ -37,7 +37,7 @@ public class ParsedExpressionBracket extends ParsedExpression {
 		for (ParsedExpression expression : expressions)
 			parameters.add(expression.toLambdaParameter());
 
-		return new ParsedFunctionHeader(position, parameters, ParsedTypeBasic.UNDETERMINED);
+		return new ParsedFunctionHeader(getPosition(), parameters, ParsedTypeBasic.UNDETERMINED);
 	}
 
 	@Override
@@ -42,8 +42,8 @@ public class ParsedExpressionCall extends ParsedExpression {
 					try {
 						VariantOptionRef variantOption = members.getVariantOption(variable.name);
 						FunctionHeader header = new FunctionHeader(BasicTypeID.VOID, variantOption.types);
-						CallArguments cArguments = arguments.compileCall(position, scope, null, header);
-						return new VariantValueExpression(position, hint, variantOption, cArguments.arguments);
+						CallArguments cArguments = arguments.compileCall(getPosition(), scope, null, header);
+						return new VariantValueExpression(getPosition(), hint, variantOption, cArguments.arguments);
 					} catch (CompileException ex) {
 						return new InvalidExpression(hint, ex);
 					}
@@ -55,45 +55,45 @@ public class ParsedExpressionCall extends ParsedExpression {
 			// super call (intended as first call in constructor)
 			TypeID targetType = scope.getThisType().getSuperType(scope.getTypeRegistry());
 			if (targetType == null)
-				throw new CompileException(position, CompileExceptionCode.SUPER_CALL_NO_SUPERCLASS, "Class has no superclass");
+				throw new CompileException(getPosition(), CompileExceptionCode.SUPER_CALL_NO_SUPERCLASS, "Class has no superclass");
 
 			TypeMemberGroup memberGroup = scope.getTypeMembers(targetType).getOrCreateGroup(OperatorType.CONSTRUCTOR);
-			CallArguments callArguments = arguments.compileCall(position, scope, null, memberGroup);
-			FunctionalMemberRef member = memberGroup.selectMethod(position, scope, callArguments, true, true);
+			CallArguments callArguments = arguments.compileCall(getPosition(), scope, null, memberGroup);
+			FunctionalMemberRef member = memberGroup.selectMethod(getPosition(), scope, callArguments, true, true);
 			if (!member.isConstructor())
-				throw new CompileException(position, CompileExceptionCode.INTERNAL_ERROR, "Constructor is not a constructor!");
+				throw new CompileException(getPosition(), CompileExceptionCode.INTERNAL_ERROR, "Constructor is not a constructor!");
 
-			return new ConstructorSuperCallExpression(position, targetType, member, callArguments);
+			return new ConstructorSuperCallExpression(getPosition(), targetType, member, callArguments);
 		} else if (receiver instanceof ParsedExpressionThis) {
 			// this call (intended as first call in constructor)
 			TypeID targetType = scope.getThisType();
 
 			TypeMemberGroup memberGroup = scope.getTypeMembers(targetType).getOrCreateGroup(OperatorType.CONSTRUCTOR);
-			CallArguments callArguments = arguments.compileCall(position, scope, null, memberGroup);
-			FunctionalMemberRef member = memberGroup.selectMethod(position, scope, callArguments, true, true);
+			CallArguments callArguments = arguments.compileCall(getPosition(), scope, null, memberGroup);
+			FunctionalMemberRef member = memberGroup.selectMethod(getPosition(), scope, callArguments, true, true);
 			if (!member.isConstructor())
-				throw new CompileException(position, CompileExceptionCode.INTERNAL_ERROR, "Constructor is not a constructor!");
+				throw new CompileException(getPosition(), CompileExceptionCode.INTERNAL_ERROR, "Constructor is not a constructor!");
 
-			return new ConstructorThisCallExpression(position, scope.getThisType(), member, callArguments);
+			return new ConstructorThisCallExpression(getPosition(), scope.getThisType(), member, callArguments);
 		}
 
 		IPartialExpression cReceiver = receiver.compile(scope.withoutHints());
 		List<FunctionHeader> headers = cReceiver.getPossibleFunctionHeaders(scope, scope.hints, arguments.arguments.size());
-		CallArguments callArguments = arguments.compileCall(position, scope, cReceiver.getTypeArguments(), headers);
-		return cReceiver.call(position, scope, scope.hints, callArguments);
+		CallArguments callArguments = arguments.compileCall(getPosition(), scope, cReceiver.getTypeArguments(), headers);
+		return cReceiver.call(getPosition(), scope, scope.hints, callArguments);
 	}
 
 	@Override
 	public SwitchValue compileToSwitchValue(TypeID type, ExpressionScope scope) throws CompileException {
 		if (!(receiver instanceof ParsedExpressionVariable))
-			throw new CompileException(position, CompileExceptionCode.INVALID_SWITCH_CASE, "Invalid switch case");
+			throw new CompileException(getPosition(), CompileExceptionCode.INVALID_SWITCH_CASE, "Invalid switch case");
 
 		String name = ((ParsedExpressionVariable) receiver).name;
 		TypeMembers members = scope.getTypeMembers(type);
 		if (type.isVariant()) {
 			VariantOptionRef option = members.getVariantOption(name);
 			if (option == null)
-				throw new CompileException(position, CompileExceptionCode.NO_SUCH_MEMBER, "Variant option does not exist: " + name);
+				throw new CompileException(getPosition(), CompileExceptionCode.NO_SUCH_MEMBER, "Variant option does not exist: " + name);
 
 			String[] values = new String[arguments.arguments.size()];
 			for (int i = 0; i < values.length; i++) {
@@ -108,7 +108,7 @@ public class ParsedExpressionCall extends ParsedExpression {
 
 			return new VariantOptionSwitchValue(option, values);
 		} else {
-			throw new CompileException(position, CompileExceptionCode.INVALID_SWITCH_CASE, "Invalid switch case");
+			throw new CompileException(getPosition(), CompileExceptionCode.INVALID_SWITCH_CASE, "Invalid switch case");
 		}
 	}
 
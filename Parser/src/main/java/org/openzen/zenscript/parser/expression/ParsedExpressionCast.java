@@ -30,29 +30,29 @@ public class ParsedExpressionCast extends ParsedExpression {
 		TypeID type = this.type.compile(scope);
 		return value.compile(scope.withHint(type))
 				.eval()
-				.castExplicit(position, scope, type, optional);
+				.castExplicit(getPosition(), scope, type, optional);
 	}
 
 	@Override
 	public ParsedFunctionHeader toLambdaHeader() throws ParseException {
 		if (optional)
-			throw new ParseException(position, "Not a valid lambda header");
+			throw new ParseException(getPosition(), "Not a valid lambda header");
 
 		ParsedFunctionHeader header = value.toLambdaHeader();
 		if (header.returnType != ParsedTypeBasic.UNDETERMINED)
-			throw new ParseException(position, "Lambda parameter already has a return type");
+			throw new ParseException(getPosition(), "Lambda parameter already has a return type");
 
-		return new ParsedFunctionHeader(position, header.genericParameters, header.parameters, type, null);
+		return new ParsedFunctionHeader(getPosition(), header.genericParameters, header.parameters, type, null);
 	}
 
 	@Override
 	public ParsedFunctionParameter toLambdaParameter() throws ParseException {
 		if (optional)
-			throw new ParseException(position, "Not a valid lambda header");
+			throw new ParseException(getPosition(), "Not a valid lambda header");
 
 		ParsedFunctionParameter parameter = value.toLambdaParameter();
 		if (parameter.type != ParsedTypeBasic.UNDETERMINED)
-			throw new ParseException(position, "Lambda parameter already has a type");
+			throw new ParseException(getPosition(), "Lambda parameter already has a type");
 
 		return new ParsedFunctionParameter(ParsedAnnotation.NONE, parameter.name, type, null, false);
 	}
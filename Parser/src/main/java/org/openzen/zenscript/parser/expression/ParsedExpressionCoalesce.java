@@ -27,17 +27,17 @@ public class ParsedExpressionCoalesce extends ParsedExpression {
 		Expression cLeft = left.compile(scope).eval();
 		TypeID cLeftType = cLeft.type;
 		if (!cLeftType.isOptional())
-			return new InvalidExpression(position, cLeft.type, CompileExceptionCode.COALESCE_TARGET_NOT_OPTIONAL, "Type of the first expression is not optional");
+			return new InvalidExpression(getPosition(), cLeft.type, CompileExceptionCode.COALESCE_TARGET_NOT_OPTIONAL, "Type of the first expression is not optional");
 
 		TypeID resultType = cLeftType.withoutOptional();
 		Expression cRight = right.compile(scope.withHint(resultType)).eval();
 
 		TypeMembers resultTypeMembers = scope.getTypeMembers(resultType);
 		resultType = resultTypeMembers.union(cRight.type);
-		cLeft = cLeft.castImplicit(position, scope, resultType.isOptional() ? resultType : scope.getTypeRegistry().getOptional(resultType));
-		cRight = cRight.castImplicit(position, scope, resultType);
+		cLeft = cLeft.castImplicit(getPosition(), scope, resultType.isOptional() ? resultType : scope.getTypeRegistry().getOptional(resultType));
+		cRight = cRight.castImplicit(getPosition(), scope, resultType);
 
-		return new CoalesceExpression(position, cLeft, cRight);
+		return new CoalesceExpression(getPosition(), cLeft, cRight);
 	}
 
 	@Override
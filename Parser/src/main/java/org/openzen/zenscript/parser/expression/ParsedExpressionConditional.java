@@ -35,7 +35,7 @@ public class ParsedExpressionConditional extends ParsedExpression {
 		for (TypeID hint : scope.hints) {
 			if (thenMembers.canCastImplicit(hint) && elseMembers.canCastImplicit(hint)) {
 				if (resultType != null)
-					throw new CompileException(position, CompileExceptionCode.MULTIPLE_MATCHING_HINTS, "Not sure which type to use");
+					throw new CompileException(getPosition(), CompileExceptionCode.MULTIPLE_MATCHING_HINTS, "Not sure which type to use");
 
 				resultType = hint;
 			}
@@ -45,14 +45,14 @@ public class ParsedExpressionConditional extends ParsedExpression {
 			resultType = thenMembers.union(cIfElse.type);
 
 		if (resultType == null)
-			throw new CompileException(position, CompileExceptionCode.TYPE_CANNOT_UNITE, "These types could not be unified: " + cIfThen.type + " and " + cIfElse.type);
+			throw new CompileException(getPosition(), CompileExceptionCode.TYPE_CANNOT_UNITE, "These types could not be unified: " + cIfThen.type + " and " + cIfElse.type);
 
-		cIfThen = cIfThen.castImplicit(position, scope, resultType);
-		cIfElse = cIfElse.castImplicit(position, scope, resultType);
+		cIfThen = cIfThen.castImplicit(getPosition(), scope, resultType);
+		cIfElse = cIfElse.castImplicit(getPosition(), scope, resultType);
 
 		return new ConditionalExpression(
-				position,
-				condition.compile(scope.withHints(BasicTypeID.HINT_BOOL)).eval().castImplicit(position, scope, BasicTypeID.BOOL),
+				getPosition(),
+				condition.compile(scope.withHints(BasicTypeID.HINT_BOOL)).eval().castImplicit(getPosition(), scope, BasicTypeID.BOOL),
 				cIfThen,
 				cIfElse,
 				resultType);
@@ -46,9 +46,9 @@ public class ParsedExpressionFloat extends ParsedExpression {
 	public IPartialExpression compile(ExpressionScope scope) throws CompileException {
 		// Inbuilt suffix -> Float/Double
 		if (suffix.equals("f") || suffix.equals("F"))
-			return new ConstantFloatExpression(position, (float) value);
+			return new ConstantFloatExpression(getPosition(), (float) value);
 		if (suffix.equals("d") || suffix.equals("D"))
-			return new ConstantDoubleExpression(position, value);
+			return new ConstantDoubleExpression(getPosition(), value);
 
 
 		// Check if the typeHints can give us additional information?
@@ -56,9 +56,9 @@ public class ParsedExpressionFloat extends ParsedExpression {
 			if (suffix.isEmpty()) {
 				// No suffix but expression to be known as Float or Double -> That type
 				if (hint == BasicTypeID.DOUBLE)
-					return new ConstantDoubleExpression(position, value);
+					return new ConstantDoubleExpression(getPosition(), value);
 				else if (hint == BasicTypeID.FLOAT)
-					return new ConstantFloatExpression(position, (float) value);
+					return new ConstantFloatExpression(getPosition(), (float) value);
 			} else {
 				// Suffix and TypeHint given
 				// Check <TypeHint>.<Suffix>(<value>)
@@ -67,9 +67,9 @@ public class ParsedExpressionFloat extends ParsedExpression {
 				FunctionalMemberRef method = members.getOrCreateGroup(suffix, true).getStaticMethod(1, hint);
 				if (method != null) {
 					try {
-						ParsedCallArguments parsedArguments = new ParsedCallArguments(Collections.emptyList(), Collections.singletonList(new ParsedExpressionFloat(position, value)));
-						CallArguments arguments = parsedArguments.compileCall(position, scope, TypeID.NONE, method.getHeader());
-						return method.callStatic(position, hint, method.getHeader(), arguments, scope);
+						ParsedCallArguments parsedArguments = new ParsedCallArguments(Collections.emptyList(), Collections.singletonList(new ParsedExpressionFloat(getPosition(), value)));
+						CallArguments arguments = parsedArguments.compileCall(getPosition(), scope, TypeID.NONE, method.getHeader());
+						return method.callStatic(getPosition(), hint, method.getHeader(), arguments, scope);
 					} catch (CompileException ex) {
 						return new InvalidExpression(hint, ex);
 					}
@@ -79,10 +79,10 @@ public class ParsedExpressionFloat extends ParsedExpression {
 
 		if (suffix.isEmpty()) {
 			// No suffix and no TypeHint matched -> Double, so that implicit casters will be checked
-			return new ConstantDoubleExpression(position, value);
+			return new ConstantDoubleExpression(getPosition(), value);
 		} else {
 			// Suffix but no TypeHint matched -> Error
-			throw new CompileException(position, CompileExceptionCode.INVALID_SUFFIX, "Invalid suffix: " + suffix);
+			throw new CompileException(getPosition(), CompileExceptionCode.INVALID_SUFFIX, "Invalid suffix: " + suffix);
 		}
 	}
 
@@ -45,7 +45,7 @@ public class ParsedExpressionFunction extends ParsedExpression {
 				FunctionTypeID functionHint = (FunctionTypeID) hint.getNormalized();
 				if (header.canOverride(scope, functionHint.header)) {
 					if (header != definedHeader)
-						return new InvalidExpression(position, hint, CompileExceptionCode.MULTIPLE_MATCHING_HINTS, "Ambiguity trying to resolve function types, can't decide for the type");
+						return new InvalidExpression(getPosition(), hint, CompileExceptionCode.MULTIPLE_MATCHING_HINTS, "Ambiguity trying to resolve function types, can't decide for the type");
 
 					header = functionHint.header.forLambda(definedHeader);
 					type = functionHint;
@@ -69,7 +69,7 @@ public class ParsedExpressionFunction extends ParsedExpression {
 				if(genericHeader.getReturnType() != BasicTypeID.UNDETERMINED) {
 					returnType = genericHeader.getReturnType();
 				} else {
-					returnType = new InvalidTypeID(position, CompileExceptionCode.CANNOT_INFER_RETURN_TYPE, "Could not infer return type");
+					returnType = new InvalidTypeID(getPosition(), CompileExceptionCode.CANNOT_INFER_RETURN_TYPE, "Could not infer return type");
 				}
 			}
 
@@ -84,7 +84,7 @@ public class ParsedExpressionFunction extends ParsedExpression {
 				Map<TypeParameter, TypeID> inferredTypes = returnType.inferTypeParameters(scope.getMemberCache(), genericHeader
 						.getReturnType());
 				if (inferredTypes == null) {
-					throw new CompileException(position, CompileExceptionCode.TYPE_ARGUMENTS_NOT_INFERRABLE, "Could not infer generic type parameters");
+					throw new CompileException(getPosition(), CompileExceptionCode.TYPE_ARGUMENTS_NOT_INFERRABLE, "Could not infer generic type parameters");
 				}
 
 				scope.genericInferenceMap.putAll(inferredTypes);
@@ -92,13 +92,13 @@ public class ParsedExpressionFunction extends ParsedExpression {
 
 		}
 
-		final FunctionHeader thatOtherHeader = genericHeader.withGenericArguments(new GenericMapper(position, scope.getTypeRegistry(), scope.genericInferenceMap));
+		final FunctionHeader thatOtherHeader = genericHeader.withGenericArguments(new GenericMapper(getPosition(), scope.getTypeRegistry(), scope.genericInferenceMap));
 		if (thatOtherHeader.getReturnType() == BasicTypeID.UNDETERMINED) {
 			thatOtherHeader.setReturnType(header.getReturnType());
 		}
 		if (type == null)
 			type = scope.getTypeRegistry().getFunction(thatOtherHeader);
-		return new FunctionExpression(position, type, closure, header, statements);
+		return new FunctionExpression(getPosition(), type, closure, header, statements);
 	}
 
 	@Override
@@ -48,12 +48,12 @@ public class ParsedExpressionIndex extends ParsedExpression {
 		@Override
 		public Expression eval() throws CompileException {
 			TypeMemberGroup members = scope.getTypeMembers(target.type).getOrCreateGroup(OperatorType.INDEXGET);
-			List<TypeID>[] predictedTypes = members.predictCallTypes(position, scope, scope.hints, indexes.size());
+			List<TypeID>[] predictedTypes = members.predictCallTypes(getPosition(), scope, scope.hints, indexes.size());
 			Expression[] arguments = new Expression[indexes.size()];
 			for (int i = 0; i < arguments.length; i++)
 				arguments[i] = indexes.get(i).compile(scope.createInner(predictedTypes[i], this::getLength)).eval();
 
-			return members.call(position, scope, target, new CallArguments(arguments), false);
+			return members.call(getPosition(), scope, target, new CallArguments(arguments), false);
 		}
 
 		@Override
@@ -92,7 +92,7 @@ public class ParsedExpressionIndex extends ParsedExpression {
 		@Override
 		public List<TypeID> getAssignHints() {
 			TypeMemberGroup members = scope.getTypeMembers(target.type).getOrCreateGroup(OperatorType.INDEXSET);
-			List<TypeID>[] predictedTypes = members.predictCallTypes(position, scope, scope.hints, indexes.size() + 1);
+			List<TypeID>[] predictedTypes = members.predictCallTypes(getPosition(), scope, scope.hints, indexes.size() + 1);
 			return predictedTypes[indexes.size()];
 		}
 
@@ -95,57 +95,57 @@ public class ParsedExpressionInt extends ParsedExpression {
 	@Override
 	public Expression compile(ExpressionScope scope) throws CompileException {
 		if (suffix.equals("L") || suffix.equals("l"))
-			return new ConstantLongExpression(position, value);
+			return new ConstantLongExpression(getPosition(), value);
 		if (suffix.equals("UL") || suffix.equals("ul"))
-			return new ConstantULongExpression(position, value);
+			return new ConstantULongExpression(getPosition(), value);
 		if (suffix.equals("U") || suffix.equals("u"))
-			return new ConstantUIntExpression(position, (int) value);
+			return new ConstantUIntExpression(getPosition(), (int) value);
 		if (suffix.equals("D") || suffix.equals("d"))
-			return new ConstantDoubleExpression(position, value);
+			return new ConstantDoubleExpression(getPosition(), value);
 		if (suffix.equals("F") || suffix.equals("f"))
-			return new ConstantFloatExpression(position, value);
+			return new ConstantFloatExpression(getPosition(), value);
 
 		for (TypeID hint : scope.hints) {
 			if (suffix.isEmpty() && (hint instanceof BasicTypeID)) {
 				switch ((BasicTypeID) hint) {
 					case SBYTE:
-						return new ConstantSByteExpression(position, (byte) value);
+						return new ConstantSByteExpression(getPosition(), (byte) value);
 					case BYTE:
 						if (negative)
 							break;
 
-						return new ConstantByteExpression(position, (int) (value & 0xFF));
+						return new ConstantByteExpression(getPosition(), (int) (value & 0xFF));
 					case SHORT:
-						return new ConstantShortExpression(position, (short) value);
+						return new ConstantShortExpression(getPosition(), (short) value);
 					case USHORT:
 						if (negative)
 							break;
 
-						return new ConstantUShortExpression(position, (int) (value & 0xFFFF));
+						return new ConstantUShortExpression(getPosition(), (int) (value & 0xFFFF));
 					case INT:
-						return new ConstantIntExpression(position, (int) value);
+						return new ConstantIntExpression(getPosition(), (int) value);
 					case UINT:
 						if (negative)
 							break;
 
-						return new ConstantUIntExpression(position, (int) value);
+						return new ConstantUIntExpression(getPosition(), (int) value);
 					case LONG:
-						return new ConstantLongExpression(position, value);
+						return new ConstantLongExpression(getPosition(), value);
 					case ULONG:
 						if (negative)
 							break;
 
-						return new ConstantULongExpression(position, value);
+						return new ConstantULongExpression(getPosition(), value);
 					case USIZE:
 						if (negative)
 							break;
 
-						return new ConstantUSizeExpression(position, value);
+						return new ConstantUSizeExpression(getPosition(), value);
 					case CHAR:
 						if (negative)
 							break;
 
-						return new ConstantCharExpression(position, (char) value);
+						return new ConstantCharExpression(getPosition(), (char) value);
 					default:
 				}
 			} else if (!suffix.isEmpty()) {
@@ -153,9 +153,9 @@ public class ParsedExpressionInt extends ParsedExpression {
 				FunctionalMemberRef method = members.getOrCreateGroup(suffix, true).getStaticMethod(1, hint);
 				if (method != null) {
 					try {
-						ParsedCallArguments parsedArguments = new ParsedCallArguments(Collections.emptyList(), Collections.singletonList(new ParsedExpressionInt(position, negative, value, "")));
-						CallArguments arguments = parsedArguments.compileCall(position, scope, TypeID.NONE, method.getHeader());
-						method.callStatic(position, hint, method.getHeader(), arguments, scope);
+						ParsedCallArguments parsedArguments = new ParsedCallArguments(Collections.emptyList(), Collections.singletonList(new ParsedExpressionInt(getPosition(), negative, value, "")));
+						CallArguments arguments = parsedArguments.compileCall(getPosition(), scope, TypeID.NONE, method.getHeader());
+						method.callStatic(getPosition(), hint, method.getHeader(), arguments, scope);
 					} catch (CompileException ex) {
 						return new InvalidExpression(hint, ex);
 					}
@@ -165,18 +165,18 @@ public class ParsedExpressionInt extends ParsedExpression {
 
 		if (suffix.isEmpty()) {
 			if (value <= Integer.MAX_VALUE && value >= Integer.MIN_VALUE)
-				return new ConstantIntExpression(position, (int) value);
+				return new ConstantIntExpression(getPosition(), (int) value);
 			else
-				return new ConstantLongExpression(position, value);
+				return new ConstantLongExpression(getPosition(), value);
 		} else {
-			throw new CompileException(position, CompileExceptionCode.INVALID_SUFFIX, "Invalid suffix: " + suffix);
+			throw new CompileException(getPosition(), CompileExceptionCode.INVALID_SUFFIX, "Invalid suffix: " + suffix);
 		}
 	}
 
 	@Override
 	public SwitchValue compileToSwitchValue(TypeID type, ExpressionScope scope) throws CompileException {
 		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
-			throw new CompileException(position, CompileExceptionCode.INVALID_SWITCH_CASE, "value is too large for a switch case");
+			throw new CompileException(getPosition(), CompileExceptionCode.INVALID_SWITCH_CASE, "value is too large for a switch case");
 
 		return new IntSwitchValue((int) value);
 	}
@@ -24,7 +24,7 @@ public class ParsedExpressionIs extends ParsedExpression {
 	public IPartialExpression compile(ExpressionScope scope) throws CompileException {
 		TypeID isType = type.compile(scope);
 		Expression expression = this.expression.compile(scope.withHint(isType)).eval();
-		return new IsExpression(position, expression, isType);
+		return new IsExpression(getPosition(), expression, isType);
 	}
 
 	@Override
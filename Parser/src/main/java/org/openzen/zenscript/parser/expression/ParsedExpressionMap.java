@@ -61,8 +61,8 @@ public class ParsedExpressionMap extends ParsedExpression {
 					FunctionalMemberRef constructor = scope
 							.getTypeMembers(hint)
 							.getOrCreateGroup(OperatorType.CONSTRUCTOR)
-							.selectMethod(position, scope, CallArguments.EMPTY, true, true);
-					return new NewExpression(position, hint, constructor, CallArguments.EMPTY);
+							.selectMethod(getPosition(), scope, CallArguments.EMPTY, true, true);
+					return new NewExpression(getPosition(), hint, constructor, CallArguments.EMPTY);
 				} catch (CompileException ex) {
 					return new InvalidExpression(ex.position, hint, ex.code, ex.getMessage());
 				}
@@ -73,8 +73,8 @@ public class ParsedExpressionMap extends ParsedExpression {
 			FunctionalMemberRef constructor = scope
 					.getTypeMembers(usedHint)
 					.getOrCreateGroup(OperatorType.CONSTRUCTOR)
-					.selectMethod(position, scope, CallArguments.EMPTY, true, true);
-			return new NewExpression(position, usedHint, constructor, CallArguments.EMPTY);
+					.selectMethod(getPosition(), scope, CallArguments.EMPTY, true, true);
+			return new NewExpression(getPosition(), usedHint, constructor, CallArguments.EMPTY);
 		}
 
 		// TODO: check if this should still be commented out
@@ -94,7 +94,7 @@ public class ParsedExpressionMap extends ParsedExpression {
 
 		for (int i = 0; i < keys.size(); i++) {
 			if (keys.get(i) == null)
-				throw new CompileException(position, CompileExceptionCode.MISSING_MAP_KEY, "Missing key");
+				throw new CompileException(getPosition(), CompileExceptionCode.MISSING_MAP_KEY, "Missing key");
 
 			cKeys[i] = keys.get(i).compileKey(scope.withHints(keyHints));
 			cValues[i] = values.get(i).compile(scope.withHints(valueHints)).eval();
@@ -112,10 +112,10 @@ public class ParsedExpressionMap extends ParsedExpression {
 			}
 		}
 		if (keyType == null)
-			throw new CompileException(position, CompileExceptionCode.UNTYPED_EMPTY_MAP, "Empty map without known type");
+			throw new CompileException(getPosition(), CompileExceptionCode.UNTYPED_EMPTY_MAP, "Empty map without known type");
 
 		for (int i = 0; i < cKeys.length; i++)
-			cKeys[i] = cKeys[i].castImplicit(position, scope, keyType);
+			cKeys[i] = cKeys[i].castImplicit(getPosition(), scope, keyType);
 
 		TypeID valueType = null;
 		for (Expression value : cValues) {
@@ -129,13 +129,13 @@ public class ParsedExpressionMap extends ParsedExpression {
 			}
 		}
 		if (valueType == null)
-			throw new CompileException(position, CompileExceptionCode.UNTYPED_EMPTY_MAP, "Empty map without known type");
+			throw new CompileException(getPosition(), CompileExceptionCode.UNTYPED_EMPTY_MAP, "Empty map without known type");
 
 		for (int i = 0; i < cValues.length; i++)
-			cValues[i] = cValues[i].castImplicit(position, scope, valueType);
+			cValues[i] = cValues[i].castImplicit(getPosition(), scope, valueType);
 
 		AssocTypeID asType = scope.getTypeRegistry().getAssociative(keyType, valueType);
-		return new MapExpression(position, cKeys, cValues, asType);
+		return new MapExpression(getPosition(), cKeys, cValues, asType);
 	}
 
 	@Override
@@ -33,7 +33,7 @@ public class ParsedExpressionMember extends ParsedExpression {
 		IPartialExpression cValue = value.compile(scope.withoutHints());
 		TypeID[] typeArguments = IParsedType.compileTypes(genericParameters, scope);
 		IPartialExpression member = cValue.getMember(
-				position,
+				getPosition(),
 				scope,
 				scope.hints,
 				new GenericName(this.member, typeArguments));
@@ -41,9 +41,9 @@ public class ParsedExpressionMember extends ParsedExpression {
 			Expression cValueExpression = cValue.eval();
 			TypeMembers members = scope.getTypeMembers(cValueExpression.type);
 			if (members.hasOperator(OperatorType.MEMBERGETTER) || members.hasOperator(OperatorType.MEMBERSETTER)) {
-				return new PartialDynamicMemberExpression(position, cValueExpression, members, this.member, scope);
+				return new PartialDynamicMemberExpression(getPosition(), cValueExpression, members, this.member, scope);
 			} else {
-				throw new CompileException(position, CompileExceptionCode.NO_SUCH_MEMBER, "Member not found: " + this.member);
+				throw new CompileException(getPosition(), CompileExceptionCode.NO_SUCH_MEMBER, "Member not found: " + this.member);
 			}
 		}
 
@@ -12,7 +12,7 @@ public class ParsedExpressionNull extends ParsedExpression {
 
 	@Override
 	public IPartialExpression compile(ExpressionScope scope) {
-		return new NullExpression(position);
+		return new NullExpression(getPosition());
 	}
 
 	@Override
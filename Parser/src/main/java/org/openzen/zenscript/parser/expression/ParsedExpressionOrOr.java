@@ -21,9 +21,9 @@ public class ParsedExpressionOrOr extends ParsedExpression {
 
 	@Override
 	public IPartialExpression compile(ExpressionScope scope) throws CompileException {
-		Expression cLeft = left.compile(scope.withHints(BasicTypeID.HINT_BOOL)).eval().castImplicit(position, scope, BasicTypeID.BOOL);
-		Expression cRight = right.compile(scope.withHints(BasicTypeID.HINT_BOOL)).eval().castImplicit(position, scope, BasicTypeID.BOOL);
-		return new OrOrExpression(position, cLeft, cRight);
+		Expression cLeft = left.compile(scope.withHints(BasicTypeID.HINT_BOOL)).eval().castImplicit(getPosition(), scope, BasicTypeID.BOOL);
+		Expression cRight = right.compile(scope.withHints(BasicTypeID.HINT_BOOL)).eval().castImplicit(getPosition(), scope, BasicTypeID.BOOL);
+		return new OrOrExpression(getPosition(), cLeft, cRight);
 	}
 
 	@Override
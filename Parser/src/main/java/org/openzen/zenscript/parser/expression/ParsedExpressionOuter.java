@@ -21,9 +21,9 @@ public class ParsedExpressionOuter extends ParsedExpression {
 	public IPartialExpression compile(ExpressionScope scope) throws CompileException {
 		TypeID thisType = scope.getThisType();
 		if (!(thisType instanceof DefinitionTypeID))
-			throw new CompileException(position, CompileExceptionCode.USING_THIS_OUTSIDE_TYPE, "Not in a type");
+			throw new CompileException(getPosition(), CompileExceptionCode.USING_THIS_OUTSIDE_TYPE, "Not in a type");
 
-		return scope.getOuterInstance(position);
+		return scope.getOuterInstance(getPosition());
 	}
 
 	@Override
@@ -21,7 +21,7 @@ public class ParsedExpressionPostCall extends ParsedExpression {
 	@Override
 	public IPartialExpression compile(ExpressionScope scope) throws CompileException {
 		Expression cValue = value.compile(scope).eval();
-		return scope.getTypeMembers(cValue.type).getOrCreateGroup(operator).callPostfix(position, scope, cValue);
+		return scope.getTypeMembers(cValue.type).getOrCreateGroup(operator).callPostfix(getPosition(), scope, cValue);
 	}
 
 	@Override
@@ -42,7 +42,7 @@ public class ParsedExpressionRange extends ParsedExpression {
 		Expression to = this.to.compile(scope.withHints(toHints)).eval();
 
 		TypeID baseType = scope.getTypeMembers(from.type).union(to.type);
-		return new RangeExpression(position, scope.getTypeRegistry().getRange(baseType), from, to);
+		return new RangeExpression(getPosition(), scope.getTypeRegistry().getRange(baseType), from, to);
 	}
 
 	@Override
@@ -31,7 +31,7 @@ public class ParsedExpressionSame extends ParsedExpression {
 		Expression cRight = right.compile(scope.withHint(cLeft.type)).eval();
 		return scope.getTypeMembers(cLeft.type)
 				.getOrCreateGroup(inverse ? OperatorType.NOTSAME : OperatorType.SAME)
-				.call(position, scope, cLeft, new CallArguments(cRight), false);
+				.call(getPosition(), scope, cLeft, new CallArguments(cRight), false);
 	}
 
 	@Override
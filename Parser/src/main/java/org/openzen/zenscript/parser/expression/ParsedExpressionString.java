@@ -27,22 +27,22 @@ public class ParsedExpressionString extends ParsedExpression {
 	@Override
 	public IPartialExpression compile(ExpressionScope scope) {
 		if (value.length() == 1 && (singleQuote || scope.hints.contains(BasicTypeID.CHAR)))
-			return new ConstantCharExpression(position, value.charAt(0));
+			return new ConstantCharExpression(getPosition(), value.charAt(0));
 
-		return new ConstantStringExpression(position, value);
+		return new ConstantStringExpression(getPosition(), value);
 	}
 
 	@Override
 	public SwitchValue compileToSwitchValue(TypeID type, ExpressionScope scope) throws CompileException {
 		if (type == BasicTypeID.CHAR) {
 			if (value.length() != 1)
-				throw new CompileException(position, CompileExceptionCode.INVALID_SWITCH_CASE, "char value expected but string given");
+				throw new CompileException(getPosition(), CompileExceptionCode.INVALID_SWITCH_CASE, "char value expected but string given");
 
 			return new CharSwitchValue(value.charAt(0));
 		} else if (type == BasicTypeID.STRING) {
 			return new StringSwitchValue(value);
 		} else {
-			throw new CompileException(position, CompileExceptionCode.INVALID_SWITCH_CASE, "Can only use string keys for string values");
+			throw new CompileException(getPosition(), CompileExceptionCode.INVALID_SWITCH_CASE, "Can only use string keys for string values");
 		}
 	}
 
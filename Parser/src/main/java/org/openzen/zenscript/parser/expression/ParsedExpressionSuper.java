@@ -18,9 +18,9 @@ public class ParsedExpressionSuper extends ParsedExpression {
 		TypeID type = scope.getThisType();
 		TypeID targetType = type.getSuperType(scope.getTypeRegistry());
 		if (targetType == null)
-			throw new CompileException(position, CompileExceptionCode.SUPER_CALL_NO_SUPERCLASS, "Type has no superclass");
+			throw new CompileException(getPosition(), CompileExceptionCode.SUPER_CALL_NO_SUPERCLASS, "Type has no superclass");
 
-		return new PartialTypeExpression(position, targetType, null);
+		return new PartialTypeExpression(getPosition(), targetType, null);
 	}
 
 	@Override
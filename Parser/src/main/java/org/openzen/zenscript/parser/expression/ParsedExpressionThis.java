@@ -12,7 +12,7 @@ public class ParsedExpressionThis extends ParsedExpression {
 
 	@Override
 	public IPartialExpression compile(ExpressionScope scope) {
-		return new ThisExpression(position, scope.getThisType());
+		return new ThisExpression(getPosition(), scope.getThisType());
 	}
 
 	@Override
@@ -22,7 +22,7 @@ public class ParsedExpressionUnary extends ParsedExpression {
 	public IPartialExpression compile(ExpressionScope scope) throws CompileException {
 		Expression cValue = value.compile(scope).eval();
 		return scope.getTypeMembers(cValue.type)
-				.unary(position, scope, operator, cValue);
+				.unary(getPosition(), scope, operator, cValue);
 	}
 
 	@Override
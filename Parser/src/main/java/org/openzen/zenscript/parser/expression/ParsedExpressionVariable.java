@@ -42,17 +42,17 @@ public class ParsedExpressionVariable extends ParsedExpression {
 	@Override
 	public IPartialExpression compile(ExpressionScope scope) throws CompileException {
 		TypeID[] typeArguments = IParsedType.compileTypes(this.typeArguments, scope);
-		IPartialExpression result = scope.get(position, new GenericName(name, typeArguments));
+		IPartialExpression result = scope.get(getPosition(), new GenericName(name, typeArguments));
 		if (result == null) {
 			for (TypeID hint : scope.hints) {
 				TypeMembers members = scope.getTypeMembers(hint);
 				EnumConstantMember member = members.getEnumMember(name);
 				if (member != null)
-					return new EnumConstantExpression(position, hint, member);
+					return new EnumConstantExpression(getPosition(), hint, member);
 
 				VariantOptionRef option = members.getVariantOption(name);
 				if (option != null)
-					return new VariantValueExpression(position, hint, option);
+					return new VariantValueExpression(getPosition(), hint, option);
 			}
 
 			StringBuilder builder = new StringBuilder("No such symbol: " + name);
@@ -65,7 +65,7 @@ public class ParsedExpressionVariable extends ParsedExpression {
 				});
 			}
 
-			throw new CompileException(position, CompileExceptionCode.UNDEFINED_VARIABLE, builder.toString());
+			throw new CompileException(getPosition(), CompileExceptionCode.UNDEFINED_VARIABLE, builder.toString());
 		} else {
 			return result;
 		}
@@ -73,7 +73,7 @@ public class ParsedExpressionVariable extends ParsedExpression {
 
 	@Override
 	public Expression compileKey(ExpressionScope scope) {
-		return new ConstantStringExpression(position, name);
+		return new ConstantStringExpression(getPosition(), name);
 	}
 
 	@Override
@@ -82,25 +82,25 @@ public class ParsedExpressionVariable extends ParsedExpression {
 		if (type.isEnum()) {
 			EnumConstantMember member = members.getEnumMember(name);
 			if (member == null)
-				throw new CompileException(position, CompileExceptionCode.NO_SUCH_MEMBER, "Enum member does not exist: " + name);
+				throw new CompileException(getPosition(), CompileExceptionCode.NO_SUCH_MEMBER, "Enum member does not exist: " + name);
 
 			return new EnumConstantSwitchValue(member);
 		} else if (type.isVariant()) {
 			VariantOptionRef option = members.getVariantOption(name);
 			if (option == null)
-				throw new CompileException(position, CompileExceptionCode.NO_SUCH_MEMBER, "Variant option does not exist: " + name);
+				throw new CompileException(getPosition(), CompileExceptionCode.NO_SUCH_MEMBER, "Variant option does not exist: " + name);
 			if (option.types.length > 0)
-				throw new CompileException(position, CompileExceptionCode.MISSING_VARIANT_CASEPARAMETERS, "Variant case is missing parameters");
+				throw new CompileException(getPosition(), CompileExceptionCode.MISSING_VARIANT_CASEPARAMETERS, "Variant case is missing parameters");
 
 			return new VariantOptionSwitchValue(option, new String[0]);
 		} else {
-			throw new CompileException(position, CompileExceptionCode.INVALID_SWITCH_CASE, "Invalid switch case");
+			throw new CompileException(getPosition(), CompileExceptionCode.INVALID_SWITCH_CASE, "Invalid switch case");
 		}
 	}
 
 	@Override
 	public ParsedFunctionHeader toLambdaHeader() {
-		return new ParsedFunctionHeader(position, Collections.singletonList(toLambdaParameter()), ParsedTypeBasic.UNDETERMINED);
+		return new ParsedFunctionHeader(getPosition(), Collections.singletonList(toLambdaParameter()), ParsedTypeBasic.UNDETERMINED);
 	}
 
 	@Override
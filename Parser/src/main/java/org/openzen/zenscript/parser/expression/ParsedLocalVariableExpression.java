@@ -24,11 +24,11 @@ public class ParsedLocalVariableExpression extends ParsedExpression {
 		TypeMembers members = scope.getTypeMembers(scope.getThisType());
 		TypeMemberGroup group = members.getGroup(name);
 		if (group == null)
-			throw new CompileException(position, CompileExceptionCode.NO_SUCH_MEMBER, "No such field: " + name);
+			throw new CompileException(getPosition(), CompileExceptionCode.NO_SUCH_MEMBER, "No such field: " + name);
 		if (group.getField() == null)
-			throw new CompileException(position, CompileExceptionCode.NO_SUCH_MEMBER, "No such field: " + name);
+			throw new CompileException(getPosition(), CompileExceptionCode.NO_SUCH_MEMBER, "No such field: " + name);
 
-		return new GetFieldExpression(position, new ThisExpression(position, scope.getThisType()), group.getField());
+		return new GetFieldExpression(getPosition(), new ThisExpression(getPosition(), scope.getThisType()), group.getField());
 	}
 
 	@Override
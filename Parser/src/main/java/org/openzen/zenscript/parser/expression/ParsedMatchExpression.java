@@ -38,10 +38,10 @@ public class ParsedMatchExpression extends ParsedExpression {
 			TypeID oldResult = result;
 			result = scope.getTypeMembers(result).union(cCases[i].value.type);
 			if (result == null)
-				throw new CompileException(position, CompileExceptionCode.TYPE_CANNOT_UNITE, "Matches have different types: " + oldResult + " and " + cCases[i].value.type);
+				throw new CompileException(getPosition(), CompileExceptionCode.TYPE_CANNOT_UNITE, "Matches have different types: " + oldResult + " and " + cCases[i].value.type);
 		}
 
-		return new MatchExpression(position, cValue, result, cCases);
+		return new MatchExpression(getPosition(), cValue, result, cCases);
 	}
 
 	@Override
@@ -56,7 +56,7 @@ public class ParsedNewExpression extends ParsedExpression {
 	@Override
 	public IPartialExpression compile(ExpressionScope scope) {
 		TypeID type = this.type.compile(scope);
-		return compile(position, type, arguments, scope);
+		return compile(getPosition(), type, arguments, scope);
 	}
 
 	@Override
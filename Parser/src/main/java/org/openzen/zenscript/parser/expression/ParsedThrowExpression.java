@@ -25,7 +25,7 @@ public class ParsedThrowExpression extends ParsedExpression {
 		if (scope.getResultTypeHints().size() == 1)
 			resultType = scope.getResultTypeHints().get(0);
 
-		return new ThrowExpression(position, resultType, cValue);
+		return new ThrowExpression(getPosition(), resultType, cValue);
 	}
 
 	@Override
@@ -30,25 +30,25 @@ public class ParsedTryRethrowExpression extends ParsedExpression {
 			// expression throws
 			if (scope.getFunctionHeader() == null || scope.getFunctionHeader().thrownType != null) {
 				// rethrow as exception
-				return new TryRethrowAsExceptionExpression(position, cSource.type, cSource, cSource.thrownType);
+				return new TryRethrowAsExceptionExpression(getPosition(), cSource.type, cSource, cSource.thrownType);
 			} else {
 				// rethrow as result
 				TypeID resultType = scope.getTypeRegistry().getForDefinition(result, cSource.type, cSource.thrownType);
-				return new TryRethrowAsResultExpression(position, resultType, cSource);
+				return new TryRethrowAsResultExpression(getPosition(), resultType, cSource);
 			}
 		} else {
 			// expression
 			if (cSource.type instanceof DefinitionTypeID) {
 				DefinitionTypeID sourceType = (DefinitionTypeID) cSource.type;
 				if (sourceType.definition == result) {
-					return new TryRethrowAsResultExpression(position, sourceType.typeArguments[0], cSource);
+					return new TryRethrowAsResultExpression(getPosition(), sourceType.typeArguments[0], cSource);
 				}
 			}
 
 			if (scope.getFunctionHeader() == null)
-				throw new CompileException(position, CompileExceptionCode.TRY_RETHROW_NOT_A_RESULT, "type is not a Result type, cannot convert");
+				throw new CompileException(getPosition(), CompileExceptionCode.TRY_RETHROW_NOT_A_RESULT, "type is not a Result type, cannot convert");
 
-			throw new CompileException(position, CompileExceptionCode.TRY_RETHROW_NOT_A_RESULT, "this expression doesn't throw an exception nor returns a result");
+			throw new CompileException(getPosition(), CompileExceptionCode.TRY_RETHROW_NOT_A_RESULT, "this expression doesn't throw an exception nor returns a result");
 		}
 	}
 
@@ -17,7 +17,7 @@ public class ParsedTypeExpression extends ParsedExpression {
 
 	@Override
 	public IPartialExpression compile(ExpressionScope scope) {
-		return new PartialTypeExpression(position, type.compile(scope), null);
+		return new PartialTypeExpression(getPosition(), type.compile(scope), null);
 	}
 
 	@Override
@@ -11,6 +11,7 @@ import org.openzen.zenscript.codemodel.scope.BaseScope;
 import org.openzen.zenscript.codemodel.scope.ExpressionScope;
 import org.openzen.zenscript.codemodel.type.BasicTypeID;
 import org.openzen.zenscript.parser.ParsedAnnotation;
+import org.openzen.zenscript.parser.PrecompilationState;
 import org.openzen.zenscript.parser.expression.ParsedExpression;
 import org.openzen.zenscript.parser.type.IParsedType;
 
@@ -63,6 +64,16 @@ public class ParsedConst extends ParsedDefinitionMember {
 			return;
 		isCompiled = true;
 
+		try {
+			compileMember(scope);
+		} catch (PrecompilationState.Deferred ex) {
+			// compiled again once the member it waits for is known
+			isCompiled = false;
+			throw ex;
+		}
+	}
+
+	private void compileMember(BaseScope scope) throws CompileException {
 		compiled.annotations = ParsedAnnotation.compileForMember(annotations, compiled, scope);
 
 		if (expression != null) {
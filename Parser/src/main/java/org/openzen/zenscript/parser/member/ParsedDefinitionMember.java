@@ -24,6 +24,7 @@ import org.openzen.zenscript.parser.type.IParsedType;
 import org.openzen.zenscript.parser.type.ParsedTypeBasic;
 
 import java.util.Map;
+import java.util.function.Consumer;
 
 public abstract class ParsedDefinitionMember {
 	public final HighLevelDefinition definition;
@@ -34,6 +35,25 @@ public abstract class ParsedDefinitionMember {
 		this.annotations = annotations;
 	}
 
+	/**
+	 * Parses members until the } that closes the definition or implementation
+	 * body. A member with a syntax error is skipped after logging the error, so
+	 * that the remaining members are still parsed.
+	 */
+	public static void parseMembers(ZSTokenParser tokens, ParsedDefinition forDefinition, ParsedImplementation forImplementation, Consumer<ParsedDefinitionMember> members) throws ParseException {
+		while (tokens.optional(ZSTokenType.T_ACLOSE) == null) {
+			if (tokens.isNext(ZSTokenType.EOF))
+				throw new ParseException(tokens.getPosition(), "} expected");
+
+			try {
+				members.accept(parse(tokens, forDefinition, forImplementation));
+			} catch (ParseException ex) {
+				tokens.logError(ex);
+				tokens.recoverUntilEndOfStatement();
+			}
+		}
+	}
+
 	public static ParsedDefinitionMember parse(ZSTokenParser tokens, ParsedDefinition forDefinition, ParsedImplementation forImplementation) throws ParseException {
 		CodePosition start = tokens.getPosition();
 		ParsedAnnotation[] annotations = ParsedAnnotation.parseAnnotations(tokens);
@@ -181,9 +201,7 @@ public abstract class ParsedDefinitionMember {
 				ParsedImplementation implementation = new ParsedImplementation(start, forDefinition.getCompiled(), modifiers, annotations, type);
 				if (tokens.optional(ZSTokenType.T_SEMICOLON) == null) {
 					tokens.required(ZSTokenType.T_AOPEN, "{ expected");
-					while (tokens.optional(ZSTokenType.T_ACLOSE) == null) {
-						implementation.addMember(ParsedDefinitionMember.parse(tokens, forDefinition, implementation));
-					}
+					parseMembers(tokens, forDefinition, implementation, implementation::addMember);
 				}
 				return implementation;
 			}
@@ -354,10 +372,21 @@ public abstract class ParsedDefinitionMember {
 	public void registerInnerTypes(Map<String, ParsedDefinition> innerTypes) {
 	}
 
+	public void registerToPackage() {
+	}
+
 	public abstract IDefinitionMember getCompiled();
 
 	public abstract void compile(BaseScope scope) throws CompileException;
 
+	/**
+	 * Checks if this member is being compiled right now, that is, if it is used
+	 * by something compiled from its own body.
+	 */
+	public boolean isCompiling() {
+		return false;
+	}
+
 	public void registerMembers(BaseScope scope, PrecompilationState state) {
 	}
 }
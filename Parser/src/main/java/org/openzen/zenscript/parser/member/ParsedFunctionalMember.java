@@ -12,6 +12,7 @@ import org.openzen.zenscript.codemodel.scope.TypeScope;
 import org.openzen.zenscript.codemodel.type.BasicTypeID;
 import org.openzen.zenscript.codemodel.type.TypeID;
 import org.openzen.zenscript.parser.ParsedAnnotation;
+import org.openzen.zenscript.parser.PrecompilationState;
 import org.openzen.zenscript.parser.statements.ParsedFunctionBody;
 
 public abstract class ParsedFunctionalMember extends ParsedDefinitionMember {
@@ -20,6 +21,7 @@ public abstract class ParsedFunctionalMember extends ParsedDefinitionMember {
 	protected final ParsedImplementation implementation;
 	protected final ParsedFunctionBody body;
 	private boolean isCompiled = false;
+	private boolean isCompiling = false;
 
 	public ParsedFunctionalMember(
 			CodePosition position,
@@ -59,11 +61,26 @@ public abstract class ParsedFunctionalMember extends ParsedDefinitionMember {
 			return;
 		isCompiled = true;
 
+		try {
+			compileMember(scope);
+		} catch (PrecompilationState.Deferred ex) {
+			// compiled again once the member it waits for is known
+			isCompiled = false;
+			throw ex;
+		}
+	}
+
+	private void compileMember(BaseScope scope) throws CompileException {
 		inferHeaders(scope);
 
 		FunctionScope innerScope = new FunctionScope(position, scope, getCompiled().header);
 		getCompiled().annotations = ParsedAnnotation.compileForMember(annotations, getCompiled(), scope);
-		getCompiled().setBody(body.compile(innerScope, getCompiled().header));
+		isCompiling = true;
+		try {
+			getCompiled().setBody(body.compile(innerScope, getCompiled().header));
+		} finally {
+			isCompiling = false;
+		}
 
 		if (getCompiled().header.getReturnType() == BasicTypeID.UNDETERMINED) {
 			if (getCompiled().body == null)
@@ -78,5 +95,10 @@ public abstract class ParsedFunctionalMember extends ParsedDefinitionMember {
 		}
 	}
 
+	@Override
+	public boolean isCompiling() {
+		return isCompiling;
+	}
+
 	protected abstract void fillOverride(TypeScope scope, TypeID baseType) throws CompileException;
 }
@@ -14,6 +14,7 @@ import org.openzen.zenscript.codemodel.scope.FunctionScope;
 import org.openzen.zenscript.codemodel.scope.TypeScope;
 import org.openzen.zenscript.codemodel.type.TypeID;
 import org.openzen.zenscript.parser.ParsedAnnotation;
+import org.openzen.zenscript.parser.PrecompilationState;
 import org.openzen.zenscript.parser.statements.ParsedFunctionBody;
 import org.openzen.zenscript.parser.type.IParsedType;
 
@@ -84,6 +85,16 @@ public class ParsedGetter extends ParsedDefinitionMember {
 			return;
 		isCompiled = true;
 
+		try {
+			compileMember(scope);
+		} catch (PrecompilationState.Deferred ex) {
+			// compiled again once the member it waits for is known
+			isCompiled = false;
+			throw ex;
+		}
+	}
+
+	private void compileMember(BaseScope scope) throws CompileException {
 		inferHeaders(scope);
 
 		FunctionHeader header = new FunctionHeader(compiled.getType());
@@ -29,6 +29,11 @@ public class ParsedInnerDefinition extends ParsedDefinitionMember {
 		inner.put(innerDefinition.getCompiled().name, innerDefinition);
 	}
 
+	@Override
+	public void registerToPackage() {
+		innerDefinition.registerToPackage();
+	}
+
 	@Override
 	public void linkTypes(TypeResolutionContext context) {
 		if (typesCompiled)
@@ -24,13 +24,13 @@ public class ParsedLambdaFunctionBody implements ParsedFunctionBody {
 		try {
 			if (header.getReturnType() == BasicTypeID.VOID) {
 				Expression value = this.value.compile(new ExpressionScope(scope)).eval();
-				return new ExpressionStatement(value.position, value);
+				return new ExpressionStatement(value.getPosition(), value);
 			} else {
 				Expression returnValue = value
 						.compile(new ExpressionScope(scope, header.getReturnType()))
 						.eval()
-						.castImplicit(value.position, scope, header.getReturnType());
-				return new ReturnStatement(value.position, returnValue);
+						.castImplicit(value.getPosition(), scope, header.getReturnType());
+				return new ReturnStatement(value.getPosition(), returnValue);
 			}
 		} catch (CompileException ex) {
 			return new InvalidStatement(ex);
@@ -0,0 +1,71 @@
+package org.openzen.zenscript.parser.statements;
+
+import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zencode.shared.CompileExceptionCode;
+import org.openzen.zenscript.codemodel.FunctionHeader;
+import org.openzen.zenscript.codemodel.scope.StatementScope;
+import org.openzen.zenscript.codemodel.statement.BlockStatement;
+import org.openzen.zenscript.codemodel.statement.InvalidStatement;
+import org.openzen.zenscript.codemodel.statement.Statement;
+import org.openzen.zenscript.lexer.ParseException;
+import org.openzen.zenscript.lexer.RecordedTokenStream;
+import org.openzen.zenscript.lexer.ZSTokenParser;
+import org.openzen.zenscript.parser.BracketExpressionParser;
+import org.openzen.zenscript.parser.ParsedAnnotation;
+
+import java.util.List;
+
+/**
+ * Function body of which only the tokens have been recorded. The body is
+ * parsed the first time it is compiled; parse errors are then reported as
+ * invalid statements.
+ */
+public class ParsedLazyFunctionBody implements ParsedFunctionBody {
+	private final CodePosition position;
+	private final BracketExpressionParser bracketParser;
+	private RecordedTokenStream tokens;
+	private ParsedFunctionBody parsed;
+	private Statement[] errors;
+
+	public ParsedLazyFunctionBody(CodePosition position, RecordedTokenStream tokens, BracketExpressionParser bracketParser) {
+		this.position = position;
+		this.tokens = tokens;
+		this.bracketParser = bracketParser;
+	}
+
+	@Override
+	public Statement compile(StatementScope scope, FunctionHeader header) {
+		if (parsed == null && errors == null)
+			parse();
+
+		if (errors != null)
+			return errors.length == 1 ? errors[0] : new BlockStatement(position, errors);
+
+		return parsed.compile(scope, header);
+	}
+
+	private void parse() {
+		try {
+			ZSTokenParser parser = new ZSTokenParser(tokens, bracketParser);
+			ParsedStatementBlock block = ParsedStatement.parseBlock(parser, ParsedAnnotation.NONE, true);
+			if (parser.getErrors().isEmpty())
+				parsed = new ParsedStatementsFunctionBody(block);
+			else
+				setErrors(parser.getErrors());
+		} catch (ParseException ex) {
+			errors = new Statement[]{toStatement(ex)};
+		}
+
+		tokens = null; // no longer needed
+	}
+
+	private void setErrors(List<ParseException> exceptions) {
+		errors = new Statement[exceptions.size()];
+		for (int i = 0; i < errors.length; i++)
+			errors[i] = toStatement(exceptions.get(i));
+	}
+
+	private static Statement toStatement(ParseException ex) {
+		return new InvalidStatement(ex.position, CompileExceptionCode.PARSE_ERROR, ex.message);
+	}
+}
@@ -34,7 +34,7 @@ public abstract class ParsedStatement {
 		if (tokens.optional(T_AOPEN) != null) {
 			List<ParsedStatement> statements = new ArrayList<>();
 			while (tokens.optional(T_ACLOSE) == null)
-				statements.add(ParsedStatement.parse(tokens));
+				parseInBlock(tokens, null, false, statements);
 
 			return new ParsedStatementsFunctionBody(new ParsedStatementBlock(position, ParsedAnnotation.NONE, null, null, statements));
 		} else {
@@ -50,6 +50,8 @@ public abstract class ParsedStatement {
 			return parseLambdaBody(tokens, false);
 		else if (tokens.optional(T_SEMICOLON) != null)
 			return new ParsedEmptyFunctionBody(tokens.getPosition());
+		else if (tokens.lazyFunctionBodies)
+			return new ParsedLazyFunctionBody(tokens.getPosition(), tokens.recordBlock(), tokens.bracketParser);
 		else
 			return new ParsedStatementsFunctionBody(parseBlock(tokens, ParsedAnnotation.NONE, true));
 	}
@@ -63,7 +65,7 @@ public abstract class ParsedStatement {
 		ArrayList<ParsedStatement> statements = new ArrayList<>();
 		boolean firstContent = true;
 		while (parser.optional(T_ACLOSE) == null) {
-			statements.add(parse(parser, annotations, firstContent));
+			parseInBlock(parser, annotations, firstContent, statements);
 			firstContent = false;
 		}
 
@@ -72,6 +74,27 @@ public abstract class ParsedStatement {
 		return new ParsedStatementBlock(position, annotations, whitespace, postComment, statements);
 	}
 
+	/**
+	 * Parses a statement inside a block and adds it to the given statements.
+	 * If annotations is null, the statement's annotations are parsed as well.
+	 * A statement with a syntax error is skipped after logging the error, so
+	 * that the rest of the block is still parsed.
+	 */
+	private static void parseInBlock(ZSTokenParser parser, ParsedAnnotation[] annotations, boolean isFirst, List<ParsedStatement> statements) throws ParseException {
+		if (parser.isNext(EOF))
+			throw new ParseException(parser.getPosition(), "} expected");
+
+		try {
+			if (annotations == null)
+				statements.add(parse(parser));
+			else
+				statements.add(parse(parser, annotations, isFirst));
+		} catch (ParseException ex) {
+			parser.logError(ex);
+			parser.recoverUntilEndOfStatement();
+		}
+	}
+
 	public static ParsedStatement parse(ZSTokenParser parser) throws ParseException {
 		ParsedAnnotation[] annotations = ParsedAnnotation.parseAnnotations(parser);
 		return parse(parser, annotations);
@@ -287,7 +310,7 @@ public abstract class ParsedStatement {
 					} else if (currentCase == null) {
 						throw new ParseException(parser.getPosition(), "Statement in switch outside case");
 					} else {
-						currentCase.statements.add(ParsedStatement.parse(parser));
+						parseInBlock(parser, null, false, currentCase.statements);
 					}
 				}
 
@@ -0,0 +1,76 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.classes;
+
+import org.junit.jupiter.api.Test;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ScriptBuilder;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ZenCodeTest;
+
+public class ClassHierarchy extends ZenCodeTest {
+
+	@Test
+	public void indirectSubclassCanBePassedAsSuperclass() {
+		ScriptBuilder.create()
+				.add("public virtual class MyBaseClass {")
+				.add("    public print() as void {")
+				.add("        println('Hello from MyBaseClass');")
+				.add("    }")
+				.add("}")
+				.add("")
+				.add("public virtual class MyMiddleClass : MyBaseClass {}")
+				.add("public class MyChildClass : MyMiddleClass {}")
+				.add("")
+				.add("function printBase(value as MyBaseClass) as void {")
+				.add("    value.print();")
+				.add("}")
+				.add("")
+				.add("for i in 0 .. 3")
+				.add("    printBase(new MyChildClass());")
+				.execute(this);
+
+		logger.assertPrintOutputSize(3);
+		for (int i = 0; i < 3; i++)
+			logger.assertPrintOutput(i, "Hello from MyBaseClass");
+	}
+
+	@Test
+	public void implementedInterfaceIsInherited() {
+		ScriptBuilder.create()
+				.add("public interface MyInterface {")
+				.add("    print() as void;")
+				.add("}")
+				.add("")
+				.add("public virtual class MyBaseClass {")
+				.add("    public implements MyInterface {")
+				.add("        print() as void {")
+				.add("            println('Hello from MyInterface');")
+				.add("        }")
+				.add("    }")
+				.add("}")
+				.add("")
+				.add("public class MyChildClass : MyBaseClass {}")
+				.add("")
+				.add("function printInterface(value as MyInterface) as void {")
+				.add("    value.print();")
+				.add("}")
+				.add("")
+				.add("printInterface(new MyChildClass());")
+				.execute(this);
+
+		logger.assertPrintOutputSize(1);
+		logger.assertPrintOutput(0, "Hello from MyInterface");
+	}
+
+	@Test
+	public void unrelatedClassCannotBePassedAsSuperclass() {
+		ScriptBuilder.create()
+				.add("public virtual class MyBaseClass {}")
+				.add("public class MyOtherClass {}")
+				.add("")
+				.add("function accept(value as MyBaseClass) as void {}")
+				.add("")
+				.add("accept(new MyOtherClass());")
+				.execute(this, ScriptBuilder.LogTolerance.ALLOW_ERRORS);
+
+		logger.errors().assertLineContains(0, "No matching method found");
+		logger.errors().assertLine(1, "Parameter 0: cannot cast MyOtherClass to MyBaseClass");
+	}
+}
@@ -0,0 +1,80 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.classes;
+
+import org.junit.jupiter.api.Test;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ScriptBuilder;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ZenCodeTest;
+
+public class InferredReturnTypes extends ZenCodeTest {
+
+	@Test
+	public void returnTypesAreInferredAlongCalls() {
+		ScriptBuilder.create()
+				.add("public class A {")
+				.add("    public static value() => B.value() + 1;")
+				.add("}")
+				.add("public class B {")
+				.add("    public static value() => C.value() + 1;")
+				.add("}")
+				.add("public class C {")
+				.add("    public static value() => 1;")
+				.add("}")
+				.add("")
+				.add("println(A.value());")
+				.execute(this);
+
+		logger.assertPrintOutputSize(1);
+		logger.assertPrintOutput(0, "3");
+	}
+
+	@Test
+	public void longChainsAreInferredWithoutDeepRecursion() {
+		final int length = 2000;
+		ScriptBuilder builder = ScriptBuilder.create();
+		for (int i = 0; i < length; i++) {
+			builder.add("public class C" + i + " {")
+					.add("    public static value() => C" + (i + 1) + ".value() + 1;")
+					.add("}");
+		}
+		builder.add("public class C" + length + " {")
+				.add("    public static value() => 0;")
+				.add("}")
+				.add("")
+				.add("println(C0.value());")
+				.execute(this);
+
+		logger.assertPrintOutputSize(1);
+		logger.assertPrintOutput(0, String.valueOf(length));
+	}
+
+	@Test
+	public void recursionWithExplicitReturnTypeIsAllowed() {
+		ScriptBuilder.create()
+				.add("public class Maths {")
+				.add("    public static isEven(n as int) as bool => n == 0 ? true : isOdd(n - 1);")
+				.add("    public static isOdd(n as int) as bool => n == 0 ? false : isEven(n - 1);")
+				.add("}")
+				.add("")
+				.add("println(Maths.isEven(10));")
+				.execute(this);
+
+		logger.assertPrintOutputSize(1);
+		logger.assertPrintOutput(0, "true");
+	}
+
+	@Test
+	public void mutuallyDependentReturnTypesAreReported() {
+		ScriptBuilder.create()
+				.add("public class A {")
+				.add("    public static value() => B.value() + 1;")
+				.add("}")
+				.add("public class B {")
+				.add("    public static value() => A.value() + 1;")
+				.add("}")
+				.add("")
+				.add("println(A.value());")
+				.execute(this, ScriptBuilder.LogTolerance.ALLOW_ERRORS);
+
+		logger.errors().assertSize(1);
+		logger.errors().assertLineContains(0, "Cannot infer the return type of A.value() since it depends on itself: A.value() -> B.value() -> A.value()");
+	}
+}
@@ -0,0 +1,74 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.expansions;
+
+import org.junit.jupiter.api.Test;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ScriptBuilder;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ZenCodeTest;
+
+public class ExpansionLookup extends ZenCodeTest {
+
+	@Test
+	public void TestThatExpansionsOnlyApplyToTheirTarget() {
+		ScriptBuilder.create()
+				.add("public expand int {")
+				.add("    public describe() as string => \"int\";")
+				.add("}")
+				.add("public expand string {")
+				.add("    public describe() as string => \"string\";")
+				.add("}")
+				.add("public expand int[] {")
+				.add("    public describe() as string => \"int[]\";")
+				.add("}")
+				.add("public expand string? {")
+				.add("    public describe() as string => \"string?\";")
+				.add("}")
+				.add("")
+				.add("println((1 as int).describe());")
+				.add("println(\"a\".describe());")
+				.add("println([1, 2].describe());")
+				.add("var s = \"b\" as string?;")
+				.add("println(s.describe());")
+				.execute(this);
+
+		logger.assertPrintOutputSize(4);
+		logger.assertPrintOutput(0, "int");
+		logger.assertPrintOutput(1, "string");
+		logger.assertPrintOutput(2, "int[]");
+		logger.assertPrintOutput(3, "string?");
+	}
+
+	@Test
+	public void TestThatGenericExpansionsApplyToEveryMatchingType() {
+		ScriptBuilder.create()
+				.add("public expand <T> T[] {")
+				.add("    public second() as T => this[1];")
+				.add("}")
+				.add("public expand string[] {")
+				.add("    public joinedLength() as usize => this[0].length + this[1].length;")
+				.add("}")
+				.add("")
+				.add("println([\"ab\", \"cde\"].second());")
+				.add("println([\"x\" as string?, null].second() == null);")
+				.add("println([\"ab\", \"cde\"].joinedLength());")
+				.execute(this);
+
+		logger.assertPrintOutputSize(3);
+		logger.assertPrintOutput(0, "cde");
+		logger.assertPrintOutput(1, "true");
+		logger.assertPrintOutput(2, "5");
+	}
+
+	@Test
+	public void TestThatExpansionOfOtherTypeIsNotFound() {
+		ScriptBuilder.create()
+				.add("public expand int[] {")
+				.add("    public describe() as string => \"int[]\";")
+				.add("}")
+				.add("")
+				.add("println([1, 2].describe());")
+				.add("println([true].describe());")
+				.execute(this, ScriptBuilder.LogTolerance.ALLOW_ERRORS);
+
+		logger.errors().assertSize(1);
+		logger.errors().assertLineContains(0, "No such member: describe");
+	}
+}
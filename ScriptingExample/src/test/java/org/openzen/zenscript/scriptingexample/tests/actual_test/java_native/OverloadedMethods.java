@@ -0,0 +1,274 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.java_native;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openzen.zencode.java.ZenCodeGlobals;
+import org.openzen.zencode.java.ZenCodeType;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ScriptBuilder;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ZenCodeTest;
+
+import java.util.List;
+
+public class OverloadedMethods extends ZenCodeTest {
+	private static final String[] OUTPUTS = {"\"a\"", "1 as int", "1 as long", "1.0 as double", "1.0 as float", "true", "[\"a\"] as string[]", "[1] as int[]"};
+	private static final String[] OUTPUT_TYPES = {"string", "int", "long", "double", "float", "bool", "string[]", "int[]"};
+
+	@Test
+	public void TestThatExactOverloadsAreSelected() {
+		ScriptBuilder builder = ScriptBuilder.create();
+		for (String output : OUTPUTS) {
+			builder.add("println(getRecipes().addShaped(" + output + ", \"x\"));");
+			builder.add("println(getRecipes().addShapeless(" + output + ", [\"x\"], 2));");
+		}
+		builder.execute(this);
+
+		logger.assertPrintOutputSize(OUTPUTS.length * 2);
+		for (int i = 0; i < OUTPUTS.length; i++) {
+			logger.assertPrintOutput(i * 2, "addShaped(" + OUTPUT_TYPES[i] + ", string)");
+			logger.assertPrintOutput(i * 2 + 1, "addShapeless(" + OUTPUT_TYPES[i] + ", string[], int)");
+		}
+	}
+
+	@Test
+	public void TestThatRepeatedCallsSelectTheSameOverload() {
+		ScriptBuilder.create()
+				.add("for i in 0 .. 3 {")
+				.add("    println(getRecipes().addShaped(i, \"x\", i));")
+				.add("    println(getRecipes().addShaped(\"a\", \"x\", i));")
+				.add("}")
+				.execute(this);
+
+		logger.assertPrintOutputSize(6);
+		for (int i = 0; i < 3; i++) {
+			logger.assertPrintOutput(i * 2, "addShaped(int, string, int)");
+			logger.assertPrintOutput(i * 2 + 1, "addShaped(string, string, int)");
+		}
+	}
+
+	@Test
+	public void TestThatImplicitConversionsAreStillFound() {
+		ScriptBuilder.create()
+				.add("println(getRecipes().addShaped(\"a\", \"x\", 1 as short));")
+				.add("println(getRecipes().convert(1));")
+				.execute(this);
+
+		logger.assertPrintOutputSize(2);
+		logger.assertPrintOutput(0, "addShaped(string, string, int)");
+		logger.assertPrintOutput(1, "convert(long)");
+	}
+
+	@Test
+	public void TestThatRepeatedAmbiguousCallsAreReported() {
+		ScriptBuilder.create()
+				.add("println(getRecipes().addShaped(1 as short, \"x\"));")
+				.add("println(getRecipes().addShaped(1 as short, \"x\"));")
+				.execute(this, ScriptBuilder.LogTolerance.ALLOW_ERRORS);
+
+		// each error is followed by the two candidates
+		logger.errors().assertSize(6);
+		for (int i = 0; i < 2; i++) {
+			logger.errors().assertLineContains(i * 3, "Ambiguous call; multiple methods match");
+			logger.errors().assertLineContains(i * 3 + 1, "Function A: ");
+			logger.errors().assertLineContains(i * 3 + 2, "Function B: ");
+		}
+	}
+
+	@Test
+	@Tag("benchmark")
+	public void overloadResolutionBenchmark() {
+		ScriptBuilder builder = ScriptBuilder.create();
+		builder.add("var recipes = getRecipes();");
+		for (int i = 0; i < 1000; i++) {
+			String output = OUTPUTS[i % OUTPUTS.length];
+			builder.add("recipes.addShaped(" + output + ", \"x\", " + i + ");");
+			builder.add("recipes.addShapeless(" + output + ", [\"x\"]);");
+		}
+
+		long start = System.nanoTime();
+		builder.execute(this);
+		long elapsed = System.nanoTime() - start;
+		logger.assertNoErrors();
+		System.out.printf("Compiled and ran 2000 calls to 32 overloads: %.1f ms%n", elapsed / 1e6);
+	}
+
+	@Override
+	public List<Class<?>> getRequiredClasses() {
+		final List<Class<?>> requiredClasses = super.getRequiredClasses();
+		requiredClasses.add(Recipes.class);
+		return requiredClasses;
+	}
+
+	@SuppressWarnings("unused")
+	@ZenCodeType.Name("test_module.java_native.Recipes")
+	public static final class Recipes {
+		@ZenCodeGlobals.Global
+		public static Recipes getRecipes() {
+			return new Recipes();
+		}
+
+		@ZenCodeType.Method
+		public String convert(long value) {
+			return "convert(long)";
+		}
+
+		@ZenCodeType.Method
+		public String addShaped(String output, String name) {
+			return "addShaped(string, string)";
+		}
+
+		@ZenCodeType.Method
+		public String addShaped(int output, String name) {
+			return "addShaped(int, string)";
+		}
+
+		@ZenCodeType.Method
+		public String addShaped(long output, String name) {
+			return "addShaped(long, string)";
+		}
+
+		@ZenCodeType.Method
+		public String addShaped(double output, String name) {
+			return "addShaped(double, string)";
+		}
+
+		@ZenCodeType.Method
+		public String addShaped(float output, String name) {
+			return "addShaped(float, string)";
+		}
+
+		@ZenCodeType.Method
+		public String addShaped(boolean output, String name) {
+			return "addShaped(bool, string)";
+		}
+
+		@ZenCodeType.Method
+		public String addShaped(String[] output, String name) {
+			return "addShaped(string[], string)";
+		}
+
+		@ZenCodeType.Method
+		public String addShaped(int[] output, String name) {
+			return "addShaped(int[], string)";
+		}
+
+		@ZenCodeType.Method
+		public String addShaped(String output, String name, int count) {
+			return "addShaped(string, string, int)";
+		}
+
+		@ZenCodeType.Method
+		public String addShaped(int output, String name, int count) {
+			return "addShaped(int, string, int)";
+		}
+
+		@ZenCodeType.Method
+		public String addShaped(long output, String name, int count) {
+			return "addShaped(long, string, int)";
+		}
+
+		@ZenCodeType.Method
+		public String addShaped(double output, String name, int count) {
+			return "addShaped(double, string, int)";
+		}
+
+		@ZenCodeType.Method
+		public String addShaped(float output, String name, int count) {
+			return "addShaped(float, string, int)";
+		}
+
+		@ZenCodeType.Method
+		public String addShaped(boolean output, String name, int count) {
+			return "addShaped(bool, string, int)";
+		}
+
+		@ZenCodeType.Method
+		public String addShaped(String[] output, String name, int count) {
+			return "addShaped(string[], string, int)";
+		}
+
+		@ZenCodeType.Method
+		public String addShaped(int[] output, String name, int count) {
+			return "addShaped(int[], string, int)";
+		}
+
+		@ZenCodeType.Method
+		public String addShapeless(String output, String[] inputs) {
+			return "addShapeless(string, string[])";
+		}
+
+		@ZenCodeType.Method
+		public String addShapeless(int output, String[] inputs) {
+			return "addShapeless(int, string[])";
+		}
+
+		@ZenCodeType.Method
+		public String addShapeless(long output, String[] inputs) {
+			return "addShapeless(long, string[])";
+		}
+
+		@ZenCodeType.Method
+		public String addShapeless(double output, String[] inputs) {
+			return "addShapeless(double, string[])";
+		}
+
+		@ZenCodeType.Method
+		public String addShapeless(float output, String[] inputs) {
+			return "addShapeless(float, string[])";
+		}
+
+		@ZenCodeType.Method
+		public String addShapeless(boolean output, String[] inputs) {
+			return "addShapeless(bool, string[])";
+		}
+
+		@ZenCodeType.Method
+		public String addShapeless(String[] output, String[] inputs) {
+			return "addShapeless(string[], string[])";
+		}
+
+		@ZenCodeType.Method
+		public String addShapeless(int[] output, String[] inputs) {
+			return "addShapeless(int[], string[])";
+		}
+
+		@ZenCodeType.Method
+		public String addShapeless(String output, String[] inputs, int count) {
+			return "addShapeless(string, string[], int)";
+		}
+
+		@ZenCodeType.Method
+		public String addShapeless(int output, String[] inputs, int count) {
+			return "addShapeless(int, string[], int)";
+		}
+
+		@ZenCodeType.Method
+		public String addShapeless(long output, String[] inputs, int count) {
+			return "addShapeless(long, string[], int)";
+		}
+
+		@ZenCodeType.Method
+		public String addShapeless(double output, String[] inputs, int count) {
+			return "addShapeless(double, string[], int)";
+		}
+
+		@ZenCodeType.Method
+		public String addShapeless(float output, String[] inputs, int count) {
+			return "addShapeless(float, string[], int)";
+		}
+
+		@ZenCodeType.Method
+		public String addShapeless(boolean output, String[] inputs, int count) {
+			return "addShapeless(bool, string[], int)";
+		}
+
+		@ZenCodeType.Method
+		public String addShapeless(String[] output, String[] inputs, int count) {
+			return "addShapeless(string[], string[], int)";
+		}
+
+		@ZenCodeType.Method
+		public String addShapeless(int[] output, String[] inputs, int count) {
+			return "addShapeless(int[], string[], int)";
+		}
+	}
+}
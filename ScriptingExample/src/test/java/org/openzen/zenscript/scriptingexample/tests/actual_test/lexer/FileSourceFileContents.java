@@ -0,0 +1,45 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.lexer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openzen.zencode.shared.FileSourceFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class FileSourceFileContents {
+	private static final String LINE = "craftingTable.addShaped('你好', <item:minecraft:stick>, [[ünïcödé, 🙂]]);\n";
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void smallFileIsDecoded() throws IOException {
+		assertReadsBack(LINE);
+	}
+
+	@Test
+	public void largeFileIsDecoded() throws IOException {
+		StringBuilder content = new StringBuilder();
+		while (content.length() < 2 * 1024 * 1024)
+			content.append(LINE);
+
+		assertReadsBack(content.toString());
+	}
+
+	@Test
+	public void emptyFileIsDecoded() throws IOException {
+		assertReadsBack("");
+	}
+
+	private void assertReadsBack(String content) throws IOException {
+		File file = directory.resolve("test.zs").toFile();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+		Assertions.assertEquals(content, new String(new FileSourceFile("test.zs", file).readContents()));
+	}
+}
@@ -0,0 +1,128 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.lexer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openzen.zencode.shared.LiteralSourceFile;
+import org.openzen.zenscript.lexer.CompiledDFA;
+import org.openzen.zenscript.lexer.ParseException;
+import org.openzen.zenscript.lexer.StringCharReader;
+import org.openzen.zenscript.lexer.TokenFactory;
+import org.openzen.zenscript.lexer.TokenParser;
+import org.openzen.zenscript.lexer.WhitespaceFilteringParser;
+import org.openzen.zenscript.lexer.ZSToken;
+import org.openzen.zenscript.lexer.ZSTokenFactory;
+import org.openzen.zenscript.lexer.ZSTokenParser;
+import org.openzen.zenscript.lexer.ZSTokenType;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Allocation benchmark for the lexer, using a large generated corpus of recipe-like scripts.
+ */
+public class LexerAllocations {
+	private static final int SCRIPT_COUNT = 50;
+	private static final int LINES_PER_SCRIPT = 1000;
+	private static final CompiledDFA<ZSTokenType> DFA = CompiledDFA.createLexerDFA(ZSTokenType.values(), ZSTokenType.class);
+
+	@Test
+	public void identifiersAreSharedBetweenFiles() throws ParseException {
+		ZSTokenFactory factory = new ZSTokenFactory();
+		List<ZSToken> first = lex("val recipes = craftingTable;", factory);
+		List<ZSToken> second = lex("recipes.add(craftingTable, val);", factory);
+
+		Assertions.assertSame(first.get(1), second.get(0));
+		Assertions.assertSame(first.get(3), second.get(4));
+		Assertions.assertSame(ZSTokenType.K_VAL.flyweight, second.get(6));
+	}
+
+	@Test
+	@Tag("benchmark")
+	public void sharedFactoryAllocatesLess() throws ParseException {
+		com.sun.management.ThreadMXBean threads = getThreadMXBean();
+		Assumptions.assumeTrue(threads != null, "Allocation measurement not supported");
+
+		List<String> corpus = createCorpus();
+		// warm up
+		lexCorpus(corpus, new StringTokenFactory());
+		lexCorpus(corpus, null);
+
+		long threadId = Thread.currentThread().getId();
+		long start = threads.getThreadAllocatedBytes(threadId);
+		int tokens = lexCorpus(corpus, new StringTokenFactory());
+		long stringFactoryBytes = threads.getThreadAllocatedBytes(threadId) - start;
+
+		start = threads.getThreadAllocatedBytes(threadId);
+		lexCorpus(corpus, null);
+		long sharedFactoryBytes = threads.getThreadAllocatedBytes(threadId) - start;
+
+		System.out.printf("Lexed %d tokens: %.1f bytes/token without interning, %.1f bytes/token with a shared factory%n",
+				tokens,
+				stringFactoryBytes / (double) tokens,
+				sharedFactoryBytes / (double) tokens);
+		Assertions.assertTrue(sharedFactoryBytes < stringFactoryBytes);
+	}
+
+	private static List<String> createCorpus() {
+		List<String> corpus = new ArrayList<>();
+		for (int i = 0; i < SCRIPT_COUNT; i++) {
+			StringBuilder script = new StringBuilder();
+			script.append("// generated recipes ").append(i).append('\n');
+			for (int j = 0; j < LINES_PER_SCRIPT; j++) {
+				script.append("craftingTable.addShaped(\"recipe_").append(i).append('_').append(j)
+						.append("\", <item:minecraft:stick> * ").append(j % 64 + 1)
+						.append(", [[<item:minecraft:planks>, <item:minecraft:air>], [recipes, val]]);\n");
+			}
+			corpus.add(script.toString());
+		}
+		return corpus;
+	}
+
+	/* Lexes all scripts; if no factory is given, one factory is shared between all scripts */
+	private static int lexCorpus(List<String> corpus, TokenFactory<ZSToken, ZSTokenType> factory) throws ParseException {
+		ZSTokenFactory sharedFactory = new ZSTokenFactory();
+		int tokens = 0;
+		for (int i = 0; i < corpus.size(); i++) {
+			LiteralSourceFile file = new LiteralSourceFile("corpus_" + i + ".zs", corpus.get(i));
+			TokenParser<ZSToken, ZSTokenType> raw = factory == null
+					? ZSTokenParser.createRaw(file, new StringCharReader(corpus.get(i)), sharedFactory)
+					: new TokenParser<>(file, new StringCharReader(corpus.get(i)), DFA, ZSTokenType.EOF, ZSTokenType.INVALID, factory);
+			WhitespaceFilteringParser<ZSTokenType, ZSToken> parser = new WhitespaceFilteringParser<>(raw);
+			while (parser.next().getType() != ZSTokenType.EOF)
+				tokens++;
+		}
+		return tokens;
+	}
+
+	private static List<ZSToken> lex(String script, ZSTokenFactory factory) throws ParseException {
+		LiteralSourceFile file = new LiteralSourceFile("lexer_test.zs", script);
+		WhitespaceFilteringParser<ZSTokenType, ZSToken> parser = new WhitespaceFilteringParser<>(
+				ZSTokenParser.createRaw(file, new StringCharReader(script), factory));
+
+		List<ZSToken> result = new ArrayList<>();
+		ZSToken token;
+		while ((token = parser.next()).getType() != ZSTokenType.EOF)
+			result.add(token);
+		return result;
+	}
+
+	private static com.sun.management.ThreadMXBean getThreadMXBean() {
+		java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (!(threads instanceof com.sun.management.ThreadMXBean))
+			return null;
+
+		com.sun.management.ThreadMXBean result = (com.sun.management.ThreadMXBean) threads;
+		return result.isThreadAllocatedMemorySupported() ? result : null;
+	}
+
+	/* Creates a new string and token for every non-fixed token, as the lexer used to do */
+	private static class StringTokenFactory implements TokenFactory<ZSToken, ZSTokenType> {
+		@Override
+		public ZSToken create(ZSTokenType type, String content) {
+			return type.flyweight != null && !type.isKeyword ? type.flyweight : new ZSToken(type, content);
+		}
+	}
+}
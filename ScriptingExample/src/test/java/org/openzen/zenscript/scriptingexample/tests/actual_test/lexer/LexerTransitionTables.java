@@ -0,0 +1,96 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.lexer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openzen.zencode.shared.LiteralSourceFile;
+import org.openzen.zenscript.lexer.CompiledDFA;
+import org.openzen.zenscript.lexer.NFA;
+import org.openzen.zenscript.lexer.ParseException;
+import org.openzen.zenscript.lexer.StringCharReader;
+import org.openzen.zenscript.lexer.TokenParser;
+import org.openzen.zenscript.lexer.ZSToken;
+import org.openzen.zenscript.lexer.ZSTokenFactory;
+import org.openzen.zenscript.lexer.ZSTokenType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks that the dense transition tables in {@link CompiledDFA} tokenize exactly like the transition maps they are
+ * built from.
+ */
+public class LexerTransitionTables {
+	private static final CompiledDFA<ZSTokenType> DFA = CompiledDFA.createLexerDFA(ZSTokenType.values(), ZSTokenType.class);
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"println('Hello World');",
+			"val x = 1.5e-3f + 0x1F_FF - 12_000L;\r\n\tvar y as string = \"a\\\"b\\u0041\";",
+			"/* multi\n * line */ // single\n# script comment",
+			"# comment at the end of the file",
+			"for i in 0 .. 10 { a[i] ~= b?.c ?? d; x <<= 2; y >>>= 3; }",
+			"val s = '你好' + \"ünïcödé\";",
+			"<item:minecraft:stick> * 3 $local @\"wysiwyg\" § `",
+			"public class Foo<T> : Bar { this(value as T) { super(); } }",
+	})
+	public void tablesMatchTransitionMaps(String script) throws ParseException, IOException {
+		LiteralSourceFile file = new LiteralSourceFile("lexer_test.zs", script);
+		TokenParser<ZSToken, ZSTokenType> parser = new TokenParser<>(
+				file,
+				script,
+				DFA,
+				ZSTokenType.EOF,
+				ZSTokenType.INVALID,
+				new ZSTokenFactory());
+
+		List<String> actual = new ArrayList<>();
+		ZSToken token;
+		do {
+			token = parser.next();
+			actual.add(token.toString());
+		} while (token.getType() != ZSTokenType.EOF);
+
+		Assertions.assertEquals(lexWithTransitionMaps(script), actual);
+	}
+
+	/* Reference lexer which walks the (boxed) transition maps, as the lexer used to do */
+	private static List<String> lexWithTransitionMaps(String script) throws IOException {
+		ZSTokenFactory factory = new ZSTokenFactory();
+		StringCharReader reader = new StringCharReader(script);
+		List<String> result = new ArrayList<>();
+		while (true) {
+			if (reader.peek() < 0) {
+				result.add(factory.create(ZSTokenType.EOF, "").toString());
+				return result;
+			}
+
+			int state = 0;
+			StringBuilder value = new StringBuilder();
+			while (DFA.getTransitions()[state].containsKey(Math.min(reader.peek(), NFA.UNICODE_PLACEHOLDER))) {
+				int c = reader.next();
+				value.append((char) c);
+				state = DFA.getTransitions()[state].get(Math.min(c, NFA.UNICODE_PLACEHOLDER));
+			}
+
+			if (DFA.finals[state] != null) {
+				if (state == 0) {
+					value.append((char) reader.next());
+					result.add(factory.create(ZSTokenType.INVALID, value.toString()).toString());
+				} else {
+					result.add(factory.create(DFA.finals[state], value.toString()).toString());
+				}
+			} else {
+				if (reader.peek() < 0 && value.length() == 0) {
+					result.add(factory.create(ZSTokenType.EOF, "").toString());
+					return result;
+				}
+
+				if (value.length() == 0)
+					value.append((char) reader.next());
+				result.add(factory.create(ZSTokenType.INVALID, value.toString()).toString());
+			}
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.lexer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openzen.zenscript.lexer.CompiledDFA;
+import org.openzen.zenscript.lexer.ZSTokenParser;
+import org.openzen.zenscript.lexer.ZSTokenType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+public class SerializedLexerDFA {
+	private static final CompiledDFA<ZSTokenType> COMPILED = CompiledDFA.createLexerDFA(ZSTokenType.values(), ZSTokenType.class);
+
+	@Test
+	public void shippedDFAMatchesTokenTypes() throws IOException {
+		try (InputStream input = ZSTokenParser.class.getResourceAsStream("ZSTokenType.dfa")) {
+			Assertions.assertNotNull(input, "Precompiled lexer DFA is missing, run generateLexerDFA");
+
+			CompiledDFA<ZSTokenType> loaded = CompiledDFA.read(input, ZSTokenType.values(), ZSTokenType.class);
+			Assertions.assertNotNull(loaded, "Precompiled lexer DFA is out of date, run generateLexerDFA");
+			assertSameDFA(COMPILED, loaded);
+		}
+	}
+
+	@Test
+	public void writtenDFACanBeReadBack() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		COMPILED.write(output, ZSTokenType.values());
+
+		CompiledDFA<ZSTokenType> loaded = CompiledDFA.read(new ByteArrayInputStream(output.toByteArray()), ZSTokenType.values(), ZSTokenType.class);
+		Assertions.assertNotNull(loaded);
+		assertSameDFA(COMPILED, loaded);
+	}
+
+	@Test
+	public void changedTokenTypesAreDetected() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		COMPILED.write(output, ZSTokenType.values());
+
+		ZSTokenType[] changed = Arrays.copyOf(ZSTokenType.values(), ZSTokenType.values().length - 1);
+		Assertions.assertNull(CompiledDFA.read(new ByteArrayInputStream(output.toByteArray()), changed, ZSTokenType.class));
+	}
+
+	private static void assertSameDFA(CompiledDFA<ZSTokenType> expected, CompiledDFA<ZSTokenType> actual) {
+		Assertions.assertArrayEquals(expected.finals, actual.finals);
+		Assertions.assertArrayEquals(expected.getTransitions(), actual.getTransitions());
+		for (int state = 0; state < expected.finals.length; state++)
+			for (int c = -1; c <= 0x10000; c++)
+				Assertions.assertEquals(expected.transition(state, c), actual.transition(state, c));
+	}
+}
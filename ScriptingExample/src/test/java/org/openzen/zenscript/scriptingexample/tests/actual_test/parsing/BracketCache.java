@@ -0,0 +1,104 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.parsing;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zencode.shared.CompileException;
+import org.openzen.zenscript.lexer.ParseException;
+import org.openzen.zenscript.lexer.ZSTokenParser;
+import org.openzen.zenscript.lexer.ZSTokenType;
+import org.openzen.zenscript.parser.BracketExpressionParser;
+import org.openzen.zenscript.parser.CacheableBracketParser;
+import org.openzen.zenscript.parser.CachingBracketParser;
+import org.openzen.zenscript.parser.expression.ParsedExpression;
+import org.openzen.zenscript.parser.expression.ParsedExpressionString;
+import org.openzen.zenscript.parser.expression.ParsedExpressionVariable;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ZenCodeTest;
+
+import java.util.function.Function;
+
+public class BracketCache extends ZenCodeTest {
+	private final CountingBracketParser counting = new CountingBracketParser();
+	private final CachingBracketParser caching = new CachingBracketParser(counting);
+
+	@Test
+	public void repeatedBracketsAreParsedOnce() {
+		addScript(String.join("\n",
+				"println(<item:stick>);",
+				"println(<item:stick>);",
+				"println(<item : spaced  out>);",
+				"println(<item : spaced  out>);"));
+		executeEngine();
+
+		logger.assertNoErrors();
+		logger.assertPrintOutputSize(4);
+		logger.assertPrintOutput(0, "item:stick");
+		logger.assertPrintOutput(1, "item:stick");
+		logger.assertPrintOutput(2, "item : spaced  out");
+		logger.assertPrintOutput(3, "item : spaced  out");
+		Assertions.assertEquals(2, counting.calls);
+		Assertions.assertEquals(2, caching.getHits());
+		Assertions.assertEquals(2, caching.getMisses());
+		Assertions.assertEquals(2, caching.size());
+	}
+
+	@Test
+	public void invalidateParsesAgain() throws CompileException {
+		addScript("println(<item:stick>);");
+		executeEngine();
+
+		beforeEach();
+		executeEngine();
+		Assertions.assertEquals(1, counting.calls);
+		Assertions.assertEquals(1, caching.getHits());
+
+		Assertions.assertEquals(0, caching.getVersion());
+		caching.invalidate();
+		Assertions.assertEquals(0, caching.size());
+		Assertions.assertEquals(1, caching.getVersion());
+
+		beforeEach();
+		executeEngine();
+		logger.assertNoErrors();
+		logger.assertPrintOutput(0, "item:stick");
+		Assertions.assertEquals(2, counting.calls);
+		Assertions.assertEquals(2, caching.getMisses());
+	}
+
+	@Test
+	public void reusedBracketsReportErrorsAtEachOccurrence() {
+		addScript("println(<missing>);", "first.zs");
+		addScript("\nprintln(<missing>);", "second.zs");
+		executeEngine(true);
+
+		Assertions.assertEquals(1, counting.calls);
+		Assertions.assertEquals(1, caching.getHits());
+		logger.errors().assertSize(2);
+		logger.errors().assertLineContains(0, "first.zs:1:");
+		logger.errors().assertLineContains(1, "second.zs:2:");
+	}
+
+	@Override
+	public BracketExpressionParser getBEP() {
+		return caching;
+	}
+
+	private static class CountingBracketParser implements CacheableBracketParser {
+		private int calls = 0;
+
+		@Override
+		public Function<CodePosition, ParsedExpression> parse(CodePosition position, ZSTokenParser tokens) throws ParseException {
+			calls++;
+			StringBuilder string = new StringBuilder();
+			while (tokens.optional(ZSTokenType.T_GREATER) == null) {
+				string.append(tokens.next().content);
+				string.append(tokens.getLastWhitespace());
+			}
+
+			String value = string.toString();
+			if (value.equals("missing"))
+				return at -> new ParsedExpressionVariable(at, "missing", null);
+			return at -> new ParsedExpressionString(at, value, false);
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.parsing;
+
+import org.junit.jupiter.api.Test;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ZenCodeTest;
+
+public class ErrorRecovery extends ZenCodeTest {
+	@Test
+	public void allStatementErrorsAreReported() {
+		addScript(String.join("\n",
+				"println('a');",
+				"val x = ;",
+				"println('b')",
+				"println('c');",
+				"if (true) {",
+				"    val y = 1 +;",
+				"    println('d');",
+				"}",
+				"val z = );",
+				"println('e');"));
+		executeEngine(true);
+
+		logger.errors().assertSize(4);
+		logger.errors().assertLineContains(0, "test_script_0.zs:2:");
+		logger.errors().assertLineContains(1, "test_script_0.zs:4:");
+		logger.errors().assertLineContains(2, "test_script_0.zs:6:");
+		logger.errors().assertLineContains(3, "test_script_0.zs:9:");
+	}
+
+	@Test
+	public void allMemberAndDefinitionErrorsAreReported() {
+		addScript(String.join("\n",
+				"public class A {",
+				"    public foo( as int { return 1; }",
+				"    public bar() as int { return 2 +; }",
+				"    public baz() as int { return 3; }",
+				"}",
+				"class {",
+				"    public x() as void {}",
+				"}",
+				"function f() as void { val q = ; }",
+				"println('ok');"));
+		executeEngine(true);
+
+		logger.errors().assertSize(4);
+		logger.errors().assertLineContains(0, "test_script_0.zs:2:");
+		logger.errors().assertLineContains(1, "test_script_0.zs:3:");
+		logger.errors().assertLineContains(2, "test_script_0.zs:6:");
+		logger.errors().assertLineContains(3, "test_script_0.zs:9:");
+	}
+
+	@Test
+	public void errorsInEveryFileAreReported() {
+		addScript(String.join("\n",
+				"class {}",
+				"println(;"));
+		addScript(String.join("\n",
+				"function g() as void {",
+				"    val a = 1",
+				"    val b = ;",
+				"}",
+				"}"));
+		executeEngine(true);
+
+		logger.errors().assertSize(5);
+		logger.errors().assertLineContains(0, "test_script_0.zs:1:");
+		logger.errors().assertLineContains(1, "test_script_0.zs:2:");
+		logger.errors().assertLineContains(2, "test_script_0.zs:2:");
+		logger.errors().assertLineContains(3, "test_script_1.zs:3:");
+		logger.errors().assertLineContains(4, "test_script_1.zs:5:");
+	}
+
+	@Test
+	public void missingBraceIsReportedOnce() {
+		addScript(String.join("\n",
+				"public class A {",
+				"    public foo() as void {",
+				"        if (true) {",
+				"            println('x');"));
+		executeEngine(true);
+
+		logger.errors().assertSize(1);
+		logger.errors().assertLineContains(0, "} expected");
+	}
+}
@@ -0,0 +1,197 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.parsing;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zencode.shared.LiteralSourceFile;
+import org.openzen.zenscript.lexer.ParseException;
+import org.openzen.zenscript.lexer.ZSTokenParser;
+import org.openzen.zenscript.parser.expression.ParsedExpression;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Checks that binary expressions are parsed into the same trees (including
+ * positions) as the recursive descent parser did, and benchmarks expression
+ * parsing on literal-heavy input.
+ */
+public class ExpressionPrecedence {
+	private static final String[] EXPRESSIONS = {
+			"a + b * c - d / e % f",
+			"a * b + c",
+			"a << 2 + b >> c >>> d",
+			"a & b | c ^ d & e",
+			"a && b || c && d",
+			"a || b ?? c ?? d",
+			"a ?? b || c",
+			"a < b < c",
+			"a == b & c != d",
+			"a === b | a !== b",
+			"a <= b && a >= b || a > b",
+			"x in list && x !in other",
+			"x is string || x !is int",
+			"a < b & c < d < e",
+			"a + b ! c",
+			"a ? b + 1 : c ? d : e",
+			"x = y = z + 1",
+			"x += 1 * 2",
+			"x ~= 'a' ~ 'b'",
+			"x -= 1",
+			"-a * -b",
+			"!a && !b",
+			"x -1",
+			"x - 1",
+			"10-1",
+			"x -1 * 2",
+			"a ~ b ~ c",
+			"a.b(c)[d] + e.f as int * 2",
+			"[1, 2 + 3, 4 * 5]",
+			"(a + b) * c",
+			"1 .. 10 + 2",
+			"f(1, 2.5, 'three', \"four\", 5L, true, null)",
+	};
+
+	/* Output of the recursive descent parser for each of the expressions above */
+	private static final String[] EXPECTED = {
+			"ParsedExpressionBinary(left=ParsedExpressionBinary(left=ParsedExpressionVariable(name=a, typeArguments=null, position=1:0-1:1), right=ParsedExpressionBinary(left=ParsedExpressionVariable(name=b, typeArguments=null, position=1:4-1:5), right=ParsedExpressionVariable(name=c, typeArguments=null, position=1:8-1:9), operator=MUL, position=1:4-1:4), operator=ADD, position=1:0-1:0), right=ParsedExpressionBinary(left=ParsedExpressionBinary(left=ParsedExpressionVariable(name=d, typeArguments=null, position=1:12-1:13), right=ParsedExpressionVariable(name=e, typeArguments=null, position=1:16-1:17), operator=DIV, position=1:12-1:12), right=ParsedExpressionVariable(name=f, typeArguments=null, position=1:20-1:21), operator=MOD, position=1:12-1:12), operator=SUB, position=1:0-1:0) next=EOF:",
+			"ParsedExpressionBinary(left=ParsedExpressionBinary(left=ParsedExpressionVariable(name=a, typeArguments=null, position=1:0-1:1), right=ParsedExpressionVariable(name=b, typeArguments=null, position=1:4-1:5), operator=MUL, position=1:0-1:0), right=ParsedExpressionVariable(name=c, typeArguments=null, position=1:8-1:9), operator=ADD, position=1:0-1:0) next=EOF:",
+			"ParsedExpressionBinary(left=ParsedExpressionBinary(left=ParsedExpressionBinary(left=ParsedExpressionVariable(name=a, typeArguments=null, position=1:0-1:1), right=ParsedExpressionBinary(left=ParsedExpressionInt(negative=false, value=2, suffix=, position=1:5-1:5), right=ParsedExpressionVariable(name=b, typeArguments=null, position=1:9-1:10), operator=ADD, position=1:5-1:5), operator=SHL, position=1:0-1:0), right=ParsedExpressionVariable(name=c, typeArguments=null, position=1:14-1:15), operator=SHR, position=1:0-1:0), right=ParsedExpressionVariable(name=d, typeArguments=null, position=1:20-1:21), operator=USHR, position=1:0-1:0) next=EOF:",
+			"ParsedExpressionBinary(left=ParsedExpressionBinary(left=ParsedExpressionVariable(name=a, typeArguments=null, position=1:0-1:1), right=ParsedExpressionVariable(name=b, typeArguments=null, position=1:4-1:5), operator=AND, position=1:0-1:0), right=ParsedExpressionBinary(left=ParsedExpressionVariable(name=c, typeArguments=null, position=1:8-1:9), right=ParsedExpressionBinary(left=ParsedExpressionVariable(name=d, typeArguments=null, position=1:12-1:13), right=ParsedExpressionVariable(name=e, typeArguments=null, position=1:16-1:17), operator=AND, position=1:12-1:12), operator=XOR, position=1:8-1:8), operator=OR, position=1:0-1:0) next=EOF:",
+			"ParsedExpressionOrOr(left=ParsedExpressionAndAnd(left=ParsedExpressionVariable(name=a, typeArguments=null, position=1:0-1:1), right=ParsedExpressionVariable(name=b, typeArguments=null, position=1:5-1:6), position=1:0-1:0), right=ParsedExpressionAndAnd(left=ParsedExpressionVariable(name=c, typeArguments=null, position=1:10-1:11), right=ParsedExpressionVariable(name=d, typeArguments=null, position=1:15-1:16), position=1:10-1:10), position=1:0-1:0) next=EOF:",
+			"ParsedExpressionCoalesce(left=ParsedExpressionCoalesce(left=ParsedExpressionOrOr(left=ParsedExpressionVariable(name=a, typeArguments=null, position=1:0-1:1), right=ParsedExpressionVariable(name=b, typeArguments=null, position=1:5-1:6), position=1:0-1:0), right=ParsedExpressionVariable(name=c, typeArguments=null, position=1:10-1:11), position=1:0-1:0), right=ParsedExpressionVariable(name=d, typeArguments=null, position=1:15-1:16), position=1:0-1:0) next=EOF:",
+			"ParsedExpressionCoalesce(left=ParsedExpressionVariable(name=a, typeArguments=null, position=1:0-1:1), right=ParsedExpressionVariable(name=b, typeArguments=null, position=1:5-1:6), position=1:0-1:0) next=T_OROR:||",
+			"ParsedExpressionCompare(left=ParsedExpressionVariable(name=a, typeArguments=[], position=1:0-1:1), right=ParsedExpressionVariable(name=b, typeArguments=[], position=1:4-1:5), type=LT, position=1:0-1:0) next=T_LESS:<",
+			"ParsedExpressionBinary(left=ParsedExpressionCompare(left=ParsedExpressionVariable(name=a, typeArguments=null, position=1:0-1:1), right=ParsedExpressionVariable(name=b, typeArguments=null, position=1:5-1:6), type=EQ, position=1:0-1:0), right=ParsedExpressionCompare(left=ParsedExpressionVariable(name=c, typeArguments=null, position=1:9-1:10), right=ParsedExpressionVariable(name=d, typeArguments=null, position=1:14-1:15), type=NE, position=1:9-1:9), operator=AND, position=1:0-1:0) next=EOF:",
+			"ParsedExpressionBinary(left=ParsedExpressionSame(left=ParsedExpressionVariable(name=a, typeArguments=null, position=1:0-1:1), right=ParsedExpressionVariable(name=b, typeArguments=null, position=1:6-1:7), inverse=false, position=1:0-1:0), right=ParsedExpressionSame(left=ParsedExpressionVariable(name=a, typeArguments=null, position=1:10-1:11), right=ParsedExpressionVariable(name=b, typeArguments=null, position=1:16-1:17), inverse=true, position=1:10-1:10), operator=OR, position=1:0-1:0) next=EOF:",
+			"ParsedExpressionOrOr(left=ParsedExpressionAndAnd(left=ParsedExpressionCompare(left=ParsedExpressionVariable(name=a, typeArguments=null, position=1:0-1:1), right=ParsedExpressionVariable(name=b, typeArguments=null, position=1:5-1:6), type=LE, position=1:0-1:0), right=ParsedExpressionCompare(left=ParsedExpressionVariable(name=a, typeArguments=null, position=1:10-1:11), right=ParsedExpressionVariable(name=b, typeArguments=null, position=1:15-1:16), type=GE, position=1:10-1:10), position=1:0-1:0), right=ParsedExpressionCompare(left=ParsedExpressionVariable(name=a, typeArguments=null, position=1:20-1:21), right=ParsedExpressionVariable(name=b, typeArguments=null, position=1:24-1:25), type=GT, position=1:20-1:20), position=1:0-1:0) next=EOF:",
+			"ParsedExpressionAndAnd(left=ParsedExpressionBinary(left=ParsedExpressionVariable(name=list, typeArguments=null, position=1:5-1:9), right=ParsedExpressionVariable(name=x, typeArguments=null, position=1:0-1:1), operator=CONTAINS, position=1:0-1:0), right=ParsedExpressionUnary(value=ParsedExpressionBinary(left=ParsedExpressionVariable(name=other, typeArguments=null, position=1:19-1:24), right=ParsedExpressionVariable(name=x, typeArguments=null, position=1:13-1:14), operator=CONTAINS, position=1:13-1:13), operator=NOT, position=1:13-1:13), position=1:0-1:0) next=EOF:",
+			"ParsedExpressionOrOr(left=ParsedExpressionIs(expression=ParsedExpressionVariable(name=x, typeArguments=null, position=1:0-1:1), type=STRING, position=1:0-1:0), right=ParsedExpressionUnary(value=ParsedExpressionIs(expression=ParsedExpressionVariable(name=x, typeArguments=null, position=1:15-1:16), type=INT, position=1:15-1:15), operator=NOT, position=1:15-1:15), position=1:0-1:0) next=EOF:",
+			"ParsedExpressionBinary(left=ParsedExpressionCompare(left=ParsedExpressionVariable(name=a, typeArguments=[], position=1:0-1:1), right=ParsedExpressionVariable(name=b, typeArguments=null, position=1:4-1:5), type=LT, position=1:0-1:0), right=ParsedExpressionCompare(left=ParsedExpressionVariable(name=c, typeArguments=[], position=1:8-1:9), right=ParsedExpressionVariable(name=d, typeArguments=[], position=1:12-1:13), type=LT, position=1:8-1:8), operator=AND, position=1:0-1:0) next=T_LESS:<",
+			"error 1:0-1:0 Expected in or is",
+			"ParsedExpressionConditional(condition=ParsedExpressionVariable(name=a, typeArguments=null, position=1:0-1:1), ifThen=ParsedExpressionBinary(left=ParsedExpressionVariable(name=b, typeArguments=null, position=1:4-1:5), right=ParsedExpressionInt(negative=false, value=1, suffix=, position=1:8-1:8), operator=ADD, position=1:4-1:4), ifElse=ParsedExpressionConditional(condition=ParsedExpressionVariable(name=c, typeArguments=null, position=1:12-1:13), ifThen=ParsedExpressionVariable(name=d, typeArguments=null, position=1:16-1:17), ifElse=ParsedExpressionVariable(name=e, typeArguments=null, position=1:20-1:21), position=1:12-1:12), position=1:0-1:0) next=EOF:",
+			"ParsedExpressionAssign(left=ParsedExpressionVariable(name=x, typeArguments=null, position=1:0-1:1), right=ParsedExpressionAssign(left=ParsedExpressionVariable(name=y, typeArguments=null, position=1:4-1:5), right=ParsedExpressionBinary(left=ParsedExpressionVariable(name=z, typeArguments=null, position=1:8-1:9), right=ParsedExpressionInt(negative=false, value=1, suffix=, position=1:12-1:12), operator=ADD, position=1:8-1:8), position=1:4-1:4), position=1:0-1:0) next=EOF:",
+			"ParsedExpressionOpAssign(left=ParsedExpressionVariable(name=x, typeArguments=null, position=1:0-1:1), right=ParsedExpressionBinary(left=ParsedExpressionInt(negative=false, value=1, suffix=, position=1:5-1:5), right=ParsedExpressionInt(negative=false, value=2, suffix=, position=1:9-1:9), operator=MUL, position=1:5-1:5), operator=ADDASSIGN, position=1:0-1:0) next=EOF:",
+			"ParsedExpressionOpAssign(left=ParsedExpressionVariable(name=x, typeArguments=null, position=1:0-1:1), right=ParsedExpressionBinary(left=ParsedExpressionString(value=a, singleQuote=true, position=1:5-1:5), right=ParsedExpressionString(value=b, singleQuote=true, position=1:11-1:11), operator=CAT, position=1:5-1:5), operator=CATASSIGN, position=1:0-1:0) next=EOF:",
+			"error 1:2-1:2 Type expected (got =)",
+			"ParsedExpressionBinary(left=ParsedExpressionUnary(value=ParsedExpressionVariable(name=a, typeArguments=null, position=1:1-1:2), operator=NEG, position=1:0-1:0), right=ParsedExpressionUnary(value=ParsedExpressionVariable(name=b, typeArguments=null, position=1:6-1:7), operator=NEG, position=1:5-1:5), operator=MUL, position=1:0-1:0) next=EOF:",
+			"ParsedExpressionAndAnd(left=ParsedExpressionUnary(value=ParsedExpressionVariable(name=a, typeArguments=null, position=1:1-1:2), operator=NOT, position=1:0-1:0), right=ParsedExpressionUnary(value=ParsedExpressionVariable(name=b, typeArguments=null, position=1:7-1:8), operator=NOT, position=1:6-1:6), position=1:0-1:0) next=EOF:",
+			"ParsedExpressionBinary(left=ParsedExpressionVariable(name=x, typeArguments=null, position=1:0-1:1), right=ParsedExpressionInt(negative=false, value=1, suffix=, position=1:2-1:2), operator=SUB, position=1:0-1:0) next=EOF:",
+			"ParsedExpressionBinary(left=ParsedExpressionVariable(name=x, typeArguments=null, position=1:0-1:1), right=ParsedExpressionInt(negative=false, value=1, suffix=, position=1:4-1:4), operator=SUB, position=1:0-1:0) next=EOF:",
+			"ParsedExpressionBinary(left=ParsedExpressionInt(negative=false, value=10, suffix=, position=1:0-1:0), right=ParsedExpressionInt(negative=false, value=1, suffix=, position=1:2-1:2), operator=SUB, position=1:0-1:0) next=EOF:",
+			"ParsedExpressionBinary(left=ParsedExpressionVariable(name=x, typeArguments=null, position=1:0-1:1), right=ParsedExpressionBinary(left=ParsedExpressionInt(negative=false, value=1, suffix=, position=1:2-1:2), right=ParsedExpressionInt(negative=false, value=2, suffix=, position=1:7-1:7), operator=MUL, position=1:2-1:2), operator=SUB, position=1:0-1:0) next=EOF:",
+			"ParsedExpressionBinary(left=ParsedExpressionBinary(left=ParsedExpressionVariable(name=a, typeArguments=null, position=1:0-1:1), right=ParsedExpressionVariable(name=b, typeArguments=null, position=1:4-1:5), operator=CAT, position=1:0-1:0), right=ParsedExpressionVariable(name=c, typeArguments=null, position=1:8-1:9), operator=CAT, position=1:0-1:0) next=EOF:",
+			"ParsedExpressionBinary(left=ParsedExpressionIndex(value=ParsedExpressionCall(receiver=ParsedExpressionMember(value=ParsedExpressionVariable(name=a, typeArguments=null, position=1:0-1:1), member=b, genericParameters=null, position=1:0-1:3), arguments=ParsedCallArguments(arguments=[ParsedExpressionVariable(name=c, typeArguments=null, position=1:4-1:5)], typeArguments=null), position=1:0-1:0), indexes=[ParsedExpressionVariable(name=d, typeArguments=null, position=1:7-1:8)], position=1:0-1:0), right=ParsedExpressionBinary(left=ParsedExpressionCast(value=ParsedExpressionMember(value=ParsedExpressionVariable(name=e, typeArguments=null, position=1:12-1:13), member=f, genericParameters=null, position=1:12-1:15), type=INT, optional=false, position=1:12-1:12), right=ParsedExpressionInt(negative=false, value=2, suffix=, position=1:25-1:25), operator=MUL, position=1:12-1:12), operator=ADD, position=1:0-1:0) next=EOF:",
+			"ParsedExpressionArray(contents=[ParsedExpressionInt(negative=false, value=1, suffix=, position=1:1-1:1), ParsedExpressionBinary(left=ParsedExpressionInt(negative=false, value=2, suffix=, position=1:4-1:4), right=ParsedExpressionInt(negative=false, value=3, suffix=, position=1:8-1:8), operator=ADD, position=1:4-1:4), ParsedExpressionBinary(left=ParsedExpressionInt(negative=false, value=4, suffix=, position=1:11-1:11), right=ParsedExpressionInt(negative=false, value=5, suffix=, position=1:15-1:15), operator=MUL, position=1:11-1:11)], position=1:0-1:0) next=EOF:",
+			"ParsedExpressionBinary(left=ParsedExpressionBracket(expressions=[ParsedExpressionBinary(left=ParsedExpressionVariable(name=a, typeArguments=null, position=1:1-1:2), right=ParsedExpressionVariable(name=b, typeArguments=null, position=1:5-1:6), operator=ADD, position=1:1-1:1)], position=1:0-1:0), right=ParsedExpressionVariable(name=c, typeArguments=null, position=1:10-1:11), operator=MUL, position=1:0-1:0) next=EOF:",
+			"ParsedExpressionRange(from=ParsedExpressionInt(negative=false, value=1, suffix=, position=1:0-1:0), to=ParsedExpressionBinary(left=ParsedExpressionInt(negative=false, value=10, suffix=, position=1:5-1:5), right=ParsedExpressionInt(negative=false, value=2, suffix=, position=1:10-1:10), operator=ADD, position=1:5-1:5), position=1:0-1:11) next=EOF:",
+			"ParsedExpressionCall(receiver=ParsedExpressionVariable(name=f, typeArguments=null, position=1:0-1:1), arguments=ParsedCallArguments(arguments=[ParsedExpressionInt(negative=false, value=1, suffix=, position=1:2-1:2), ParsedExpressionFloat(value=2.5, suffix=, position=1:5-1:5), ParsedExpressionString(value=three, singleQuote=true, position=1:10-1:10), ParsedExpressionString(value=four, singleQuote=false, position=1:19-1:19), ParsedExpressionInt(negative=false, value=5, suffix=L, position=1:27-1:27), ParsedExpressionBool(value=true, position=1:31-1:31), ParsedExpressionNull(position=1:37-1:37)], typeArguments=null), position=1:0-1:0) next=EOF:",
+	};
+
+	@Test
+	public void parsesSameTreesAsRecursiveDescent() {
+		for (int i = 0; i < EXPRESSIONS.length; i++)
+			Assertions.assertEquals(EXPECTED[i], parseAndDump(EXPRESSIONS[i]), EXPRESSIONS[i]);
+	}
+
+	@Test
+	@Tag("benchmark")
+	public void literalHeavyBenchmark() throws IOException, ParseException {
+		StringBuilder corpus = new StringBuilder();
+		for (int i = 0; i < 2000; i++)
+			corpus.append("recipes.add('recipe_").append(i).append("', ").append(i)
+					.append(", [1, 2, 3.5, 'a', \"b\", true, null, ").append(i % 64).append(" * 2, 4, 5L])\n");
+		String script = corpus.toString();
+
+		int expressions = 0;
+		long best = Long.MAX_VALUE;
+		for (int run = 0; run < 10; run++) {
+			ZSTokenParser tokens = ZSTokenParser.create(new LiteralSourceFile("corpus.zs", script), null);
+			long start = System.nanoTime();
+			expressions = 0;
+			while (tokens.hasNext()) {
+				ParsedExpression.parse(tokens);
+				expressions++;
+			}
+			best = Math.min(best, System.nanoTime() - start);
+		}
+
+		System.out.printf("Parsed %d literal-heavy expressions: %.1f us (best of 10)%n", expressions, best / 1e3);
+	}
+
+	private static String parseAndDump(String expression) {
+		try {
+			ZSTokenParser tokens = ZSTokenParser.create(new LiteralSourceFile("expression.zs", expression), null);
+			ParsedExpression result = ParsedExpression.parse(tokens);
+			return dump(result) + " next=" + tokens.peek();
+		} catch (ParseException ex) {
+			return "error " + dump(ex.position) + " " + ex.message;
+		} catch (IOException ex) {
+			throw new AssertionError(ex);
+		}
+	}
+
+	/* Renders parser objects by reflection, so every field of every node is compared */
+	private static String dump(Object value) {
+		if (value == null)
+			return "null";
+		if (value instanceof CodePosition) {
+			CodePosition position = (CodePosition) value;
+			return position.fromLine + ":" + position.fromLineOffset + "-" + position.toLine + ":" + position.toLineOffset;
+		}
+		if (value instanceof List) {
+			StringBuilder result = new StringBuilder("[");
+			for (Object element : (List<?>) value) {
+				if (result.length() > 1)
+					result.append(", ");
+				result.append(dump(element));
+			}
+			return result.append("]").toString();
+		}
+		if (value instanceof Object[]) {
+			StringBuilder result = new StringBuilder("[");
+			for (Object element : (Object[]) value) {
+				if (result.length() > 1)
+					result.append(", ");
+				result.append(dump(element));
+			}
+			return result.append("]").toString();
+		}
+		if (value instanceof Enum || value instanceof String || value instanceof Number || value instanceof Boolean)
+			return String.valueOf(value);
+		if (!value.getClass().getName().startsWith("org.openzen.zenscript.parser"))
+			return value.getClass().getSimpleName();
+
+		StringBuilder result = new StringBuilder(value.getClass().getSimpleName()).append("(");
+		boolean first = true;
+		for (Class<?> type = value.getClass(); type != Object.class; type = type.getSuperclass()) {
+			if (type == ParsedExpression.class) {
+				/* positions are stored inline, compare them as one */
+				if (!first)
+					result.append(", ");
+				first = false;
+				result.append("position=").append(dump(((ParsedExpression) value).getPosition()));
+				continue;
+			}
+
+			for (Field field : type.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers()))
+					continue;
+
+				field.setAccessible(true);
+				if (!first)
+					result.append(", ");
+				first = false;
+				try {
+					result.append(field.getName()).append("=").append(dump(field.get(value)));
+				} catch (IllegalAccessException ex) {
+					throw new AssertionError(ex);
+				}
+			}
+		}
+		return result.append(")").toString();
+	}
+}
@@ -0,0 +1,108 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.parsing;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zenscript.codemodel.GenericName;
+import org.openzen.zenscript.codemodel.Modifiers;
+import org.openzen.zenscript.codemodel.Module;
+import org.openzen.zenscript.codemodel.annotations.AnnotationDefinition;
+import org.openzen.zenscript.codemodel.context.CompilingPackage;
+import org.openzen.zenscript.codemodel.context.FileResolutionContext;
+import org.openzen.zenscript.codemodel.context.ModuleTypeResolutionContext;
+import org.openzen.zenscript.codemodel.definition.ClassDefinition;
+import org.openzen.zenscript.codemodel.definition.ZSPackage;
+import org.openzen.zenscript.codemodel.expression.ConstantStringExpression;
+import org.openzen.zenscript.codemodel.expression.ExpressionSymbol;
+import org.openzen.zenscript.codemodel.partial.PartialGlobalExpression;
+import org.openzen.zenscript.codemodel.partial.PartialTypeExpression;
+import org.openzen.zenscript.codemodel.scope.FileScope;
+import org.openzen.zenscript.codemodel.type.GlobalTypeRegistry;
+import org.openzen.zenscript.codemodel.type.ISymbol;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ScriptBuilder;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ZenCodeTest;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class IdentifierLookup extends ZenCodeTest {
+	private static final int LOOKUPS = 1000000;
+
+	@Test
+	public void localsAreFoundFromInnerBlocksAndShadowTypes() {
+		ScriptBuilder.create()
+				.add("public class Box {")
+				.add("    public static value() as int => 1;")
+				.add("}")
+				.add("")
+				.add("println(Box.value());")
+				.add("val total = 2;")
+				.add("{")
+				.add("    val inner = total + 1;")
+				.add("    println(inner);")
+				.add("}")
+				.add("println(total);")
+				.add("val Box = 4;")
+				.add("println(Box);")
+				.execute(this);
+
+		logger.assertPrintOutputSize(4);
+		logger.assertPrintOutput(0, "1");
+		logger.assertPrintOutput(1, "3");
+		logger.assertPrintOutput(2, "2");
+		logger.assertPrintOutput(3, "4");
+	}
+
+	@Test
+	public void typesAndGlobalsAreResolvedFromFileScope() {
+		FileScope scope = createFileScope();
+		GenericName type = new GenericName("Maths");
+		GenericName global = new GenericName("greeting");
+
+		// the second lookup of each name is answered from the cache
+		for (int i = 0; i < 2; i++) {
+			Assertions.assertTrue(scope.get(CodePosition.BUILTIN, type) instanceof PartialTypeExpression);
+			Assertions.assertTrue(scope.get(CodePosition.BUILTIN, global) instanceof PartialGlobalExpression);
+		}
+	}
+
+	@Test
+	@Tag("benchmark")
+	public void lookupBenchmark() {
+		FileScope scope = createFileScope();
+		GenericName type = new GenericName("Maths");
+		GenericName global = new GenericName("greeting");
+		for (int i = 0; i < LOOKUPS; i++) {
+			scope.get(CodePosition.BUILTIN, type);
+			scope.get(CodePosition.BUILTIN, global);
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < LOOKUPS; i++) {
+			scope.get(CodePosition.BUILTIN, type);
+			scope.get(CodePosition.BUILTIN, global);
+		}
+		long elapsed = System.nanoTime() - start;
+
+		System.out.printf("Resolved %d type and %d global names in a file scope: %.1f ms%n", LOOKUPS, LOOKUPS, elapsed / 1e6);
+	}
+
+	/**
+	 * Creates a file scope with a class named Maths and a global named greeting.
+	 */
+	private static FileScope createFileScope() {
+		ZSPackage root = ZSPackage.createRoot();
+		Module module = new Module("scripts");
+		ZSPackage scripts = root.getOrCreatePackage("scripts");
+		root.register(new ClassDefinition(CodePosition.BUILTIN, module, root, "Maths", Modifiers.PUBLIC));
+		Map<String, ISymbol> globals = new HashMap<>();
+		globals.put("greeting", new ExpressionSymbol((position, scope) -> new ConstantStringExpression(position, "hello")));
+
+		GlobalTypeRegistry registry = new GlobalTypeRegistry(root);
+		CompilingPackage compiling = new CompilingPackage(scripts, module);
+		ModuleTypeResolutionContext moduleContext = new ModuleTypeResolutionContext(registry, new AnnotationDefinition[0], root, compiling, globals);
+		return new FileScope(new FileResolutionContext(moduleContext, root, compiling), Collections.emptyList(), globals);
+	}
+}
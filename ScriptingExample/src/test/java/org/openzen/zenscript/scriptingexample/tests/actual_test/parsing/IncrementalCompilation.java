@@ -0,0 +1,160 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.parsing;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openzen.zencode.shared.LiteralSourceFile;
+import org.openzen.zencode.shared.SourceFile;
+import org.openzen.zenscript.codemodel.FunctionParameter;
+import org.openzen.zenscript.codemodel.ModuleSpace;
+import org.openzen.zenscript.codemodel.SemanticModule;
+import org.openzen.zenscript.codemodel.definition.ZSPackage;
+import org.openzen.zenscript.codemodel.expression.ConstantStringExpression;
+import org.openzen.zenscript.codemodel.expression.ExpressionSymbol;
+import org.openzen.zenscript.codemodel.type.GlobalTypeRegistry;
+import org.openzen.zenscript.lexer.ParseException;
+import org.openzen.zenscript.parser.BracketExpressionParser;
+import org.openzen.zenscript.parser.CachingBracketParser;
+import org.openzen.zenscript.parser.ParsedFileCache;
+import org.openzen.zenscript.parser.SemanticModuleCache;
+import org.openzen.zenscript.scriptingexample.tests.helpers.FunctionParameterList;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ZenCodeTest;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+
+public class IncrementalCompilation extends ZenCodeTest {
+	private static final String GREETER = "public function greet() as string => 'hello';";
+	private static final String CALLER = "println(greet());";
+
+	// cached modules are bound to their script parameters
+	private FunctionParameterList parameters;
+
+	@Test
+	public void unchangedModulesAreReused() throws ParseException {
+		engine.moduleCache = new SemanticModuleCache();
+		SemanticModule first = compile(GREETER, CALLER);
+		SemanticModule second = compile(GREETER, CALLER);
+		Assertions.assertSame(first, second);
+
+		addScript(GREETER, "greeter.zs");
+		addScript(CALLER, "caller.zs");
+		executeEngine();
+		logger.assertNoErrors();
+		logger.assertPrintOutputSize(1);
+		logger.assertPrintOutput(0, "hello");
+	}
+
+	@Test
+	public void bodyEditsAreCompiledAgain() throws ParseException {
+		engine.moduleCache = new SemanticModuleCache();
+		SemanticModule first = compile(GREETER, CALLER);
+		SemanticModule second = compile("public function greet() as string => 'hi';", CALLER);
+		Assertions.assertNotSame(first, second);
+
+		addScript("public function greet() as string => 'hi';", "greeter.zs");
+		addScript(CALLER, "caller.zs");
+		executeEngine();
+		logger.assertNoErrors();
+		logger.assertPrintOutputSize(1);
+		logger.assertPrintOutput(0, "hi");
+	}
+
+	@Test
+	public void signatureEditsAreCheckedAgainstCallers() throws ParseException {
+		engine.moduleCache = new SemanticModuleCache();
+		SemanticModule first = compile(GREETER, CALLER);
+		SemanticModule second = compile("public function greet(name as string) as string => 'hello ' + name;", CALLER);
+
+		Assertions.assertTrue(first.isValid());
+		Assertions.assertFalse(second.isValid());
+		Assertions.assertEquals(1, engine.moduleCache.size());
+	}
+
+	@Test
+	public void bracketParserInvalidationCompilesAgain() throws ParseException {
+		engine.moduleCache = new SemanticModuleCache();
+		CachingBracketParser brackets = new CachingBracketParser((position, tokens) -> {
+			throw new ParseException(position, "No bracket expressions expected");
+		});
+		SemanticModule first = compile(GREETER, CALLER, brackets);
+		SemanticModule second = compile(GREETER, CALLER, brackets);
+		Assertions.assertSame(first, second);
+
+		brackets.invalidate();
+		SemanticModule third = compile(GREETER, CALLER, brackets);
+		Assertions.assertNotSame(first, third);
+	}
+
+	@Test
+	public void sourcesAreReadOnce() throws ParseException {
+		engine.moduleCache = new SemanticModuleCache();
+		engine.parseCache = new ParsedFileCache();
+		CountingSourceFile greeter = new CountingSourceFile("greeter.zs", GREETER);
+		CountingSourceFile caller = new CountingSourceFile("caller.zs", CALLER);
+		engine.createScriptedModule("script_tests", new SourceFile[]{greeter, caller}, getBEP(), getParameters().getParameters());
+
+		Assertions.assertEquals(1, greeter.reads);
+		Assertions.assertEquals(1, caller.reads);
+	}
+
+	@Test
+	public void spaceGlobalsArePartOfTheFingerprint() {
+		ModuleSpace space = new ModuleSpace(new GlobalTypeRegistry(ZSPackage.createRoot()), new ArrayList<>());
+		SourceFile[] files = {new LiteralSourceFile("greeter.zs", GREETER)};
+		char[][] contents = {GREETER.toCharArray()};
+
+		SemanticModuleCache.Fingerprint first = SemanticModuleCache.fingerprint(files, contents, space, SemanticModule.NONE, FunctionParameter.NONE, null);
+		SemanticModuleCache.Fingerprint second = SemanticModuleCache.fingerprint(files, contents, space, SemanticModule.NONE, FunctionParameter.NONE, null);
+		Assertions.assertEquals(first, second);
+
+		space.addGlobal("greeting", new ExpressionSymbol((position, scope) -> new ConstantStringExpression(position, "hello")));
+		SemanticModuleCache.Fingerprint third = SemanticModuleCache.fingerprint(files, contents, space, SemanticModule.NONE, FunctionParameter.NONE, null);
+		Assertions.assertNotEquals(first, third);
+	}
+
+	@Override
+	public FunctionParameterList getParameters() {
+		if (parameters == null)
+			parameters = super.getParameters();
+		return parameters;
+	}
+
+	private SemanticModule compile(String greeter, String caller) throws ParseException {
+		return compile(greeter, caller, getBEP());
+	}
+
+	private SemanticModule compile(String greeter, String caller, BracketExpressionParser bracketParser) throws ParseException {
+		return engine.createScriptedModule("script_tests", new SourceFile[]{
+				new LiteralSourceFile("greeter.zs", greeter),
+				new LiteralSourceFile("caller.zs", caller)
+		}, bracketParser, getParameters().getParameters());
+	}
+
+	private static class CountingSourceFile implements SourceFile {
+		private final String filename;
+		private final String contents;
+		private int reads;
+
+		CountingSourceFile(String filename, String contents) {
+			this.filename = filename;
+			this.contents = contents;
+		}
+
+		@Override
+		public String getFilename() {
+			return filename;
+		}
+
+		@Override
+		public Reader open() {
+			reads++;
+			return new StringReader(contents);
+		}
+
+		@Override
+		public void update(String content) {
+			throw new AssertionError("Cannot update counting source files");
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.parsing;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openzen.zencode.shared.CompileException;
+import org.openzen.zencode.shared.LiteralSourceFile;
+import org.openzen.zencode.shared.SourceFile;
+import org.openzen.zenscript.codemodel.Module;
+import org.openzen.zenscript.codemodel.context.CompilingPackage;
+import org.openzen.zenscript.codemodel.definition.ZSPackage;
+import org.openzen.zenscript.lexer.ParseException;
+import org.openzen.zenscript.lexer.ZSTokenType;
+import org.openzen.zenscript.parser.CachingBracketParser;
+import org.openzen.zenscript.parser.ParsedFile;
+import org.openzen.zenscript.parser.ParsedFileCache;
+import org.openzen.zenscript.parser.expression.ParsedExpressionString;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ZenCodeTest;
+
+public class IncrementalParsing extends ZenCodeTest {
+	@Test
+	public void onlyChangedFilesAreParsed() throws ParseException {
+		ParsedFileCache cache = new ParsedFileCache();
+		ParsedFile[] first = cache.parse(createPackage(), null, new SourceFile[]{
+				new LiteralSourceFile("a.zs", "println('a');"),
+				new LiteralSourceFile("b.zs", "println('b');"),
+				new LiteralSourceFile("c.zs", "function c() {}"),
+		}, null);
+		ParsedFile[] second = cache.parse(createPackage(), null, new SourceFile[]{
+				new LiteralSourceFile("a.zs", "println('a');"),
+				new LiteralSourceFile("b.zs", "println('B');"),
+				new LiteralSourceFile("c.zs", "function c() {}"),
+		}, null);
+
+		Assertions.assertSame(first[0], second[0]);
+		Assertions.assertNotSame(first[1], second[1]);
+		Assertions.assertNotSame(first[2], second[2], "files with definitions must always be parsed again");
+		Assertions.assertEquals(2, cache.size());
+
+		cache.parse(createPackage(), null, new SourceFile[]{new LiteralSourceFile("b.zs", "println('B');")}, null);
+		Assertions.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void bracketParserChangesParseAgain() throws ParseException {
+		ParsedFileCache cache = new ParsedFileCache();
+		CachingBracketParser brackets = new CachingBracketParser((position, tokens) -> {
+			tokens.required(ZSTokenType.T_GREATER, "> expected");
+			return at -> new ParsedExpressionString(at, "", false);
+		});
+		SourceFile[] files = {new LiteralSourceFile("a.zs", "println(<>);")};
+
+		ParsedFile first = cache.parse(createPackage(), brackets, files, null)[0];
+		Assertions.assertSame(first, cache.parse(createPackage(), brackets, files, null)[0]);
+
+		brackets.invalidate();
+		ParsedFile second = cache.parse(createPackage(), brackets, files, null)[0];
+		Assertions.assertNotSame(first, second, "files must be parsed again after the bracket parser is invalidated");
+		Assertions.assertNotSame(second, cache.parse(createPackage(), null, files, null)[0], "files must be parsed again with another bracket parser");
+	}
+
+	@Test
+	public void cachedFilesCompileInNewEngine() throws CompileException {
+		ParsedFileCache cache = new ParsedFileCache();
+		addScript("println('a');");
+		addScript("println('b');");
+
+		engine.parseCache = cache;
+		executeEngine();
+		logger.assertNoErrors();
+		logger.assertPrintOutputSize(2);
+
+		// reload with a fresh engine, as a dev loop would
+		beforeEach();
+		engine.parseCache = cache;
+		executeEngine();
+		logger.assertNoErrors();
+		logger.assertPrintOutputSize(2);
+		logger.assertPrintOutput(0, "a");
+		logger.assertPrintOutput(1, "b");
+	}
+
+	private static CompilingPackage createPackage() {
+		return new CompilingPackage(new ZSPackage(ZSPackage.createRoot(), "scripts"), new Module("scripts"));
+	}
+}
@@ -0,0 +1,46 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.parsing;
+
+import org.junit.jupiter.api.Test;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ZenCodeTest;
+
+public class LazyFunctionBodies extends ZenCodeTest {
+	@Test
+	public void lazyBodiesAreCompiled() {
+		engine.lazyFunctionBodies = true;
+		addScript(String.join("\n",
+				"public class Counter {",
+				"    var value as int; // trailing comment",
+				"    public this(value as int) { this.value = value; }",
+				"    public increment() as int {",
+				"        if (value > 0) { value += 1; } else { value = 1; }",
+				"        return value;",
+				"    }",
+				"    public get doubled as int => value * 2;",
+				"}",
+				"",
+				"function describe(counter as Counter) as string {",
+				"    /* nested { braces } in comments */",
+				"    return 'value ' + counter.increment() + ', doubled ' + counter.doubled;",
+				"}",
+				"",
+				"println(describe(new Counter(1)));"));
+		executeEngine();
+
+		logger.assertNoErrors();
+		logger.assertPrintOutputSize(1);
+		logger.assertPrintOutput(0, "value 2, doubled 4");
+	}
+
+	@Test
+	public void syntaxErrorsInLazyBodiesAreReported() {
+		engine.lazyFunctionBodies = true;
+		addScript(String.join("\n",
+				"function broken() as void {",
+				"    val x = ;",
+				"}",
+				"println('hello');"));
+		executeEngine(true);
+
+		logger.errors().assertLineContains(0, "test_script_0.zs:2:");
+	}
+}
@@ -0,0 +1,101 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.parsing;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zencode.shared.LiteralSourceFile;
+import org.openzen.zencode.shared.PackedPosition;
+import org.openzen.zencode.shared.SourceFile;
+import org.openzen.zencode.shared.SourceFileTable;
+import org.openzen.zenscript.lexer.ArrayCharReader;
+import org.openzen.zenscript.lexer.ParseException;
+import org.openzen.zenscript.lexer.TokenStream;
+import org.openzen.zenscript.lexer.ZSToken;
+import org.openzen.zenscript.lexer.ZSTokenFactory;
+import org.openzen.zenscript.lexer.ZSTokenParser;
+import org.openzen.zenscript.lexer.ZSTokenType;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+public class PackedPositions {
+	@Test
+	public void packedPositionsRoundTrip() {
+		long position = PackedPosition.pack(513, 1_234_567, 89);
+		Assertions.assertEquals(513, PackedPosition.getFileIndex(position));
+		Assertions.assertEquals(1_234_567, PackedPosition.getLine(position));
+		Assertions.assertEquals(89, PackedPosition.getLineOffset(position));
+
+		long max = PackedPosition.pack(PackedPosition.MAX_FILES - 1, PackedPosition.MAX_LINE, PackedPosition.MAX_LINE_OFFSET);
+		Assertions.assertEquals(PackedPosition.MAX_FILES - 1, PackedPosition.getFileIndex(max));
+		Assertions.assertEquals(PackedPosition.MAX_LINE, PackedPosition.getLine(max));
+		Assertions.assertEquals(PackedPosition.MAX_LINE_OFFSET, PackedPosition.getLineOffset(max));
+	}
+
+	@Test
+	public void positionsOutOfRangeAreSaturated() {
+		long position = PackedPosition.pack(3, PackedPosition.MAX_LINE + 1, PackedPosition.MAX_LINE_OFFSET + 100);
+		Assertions.assertEquals(3, PackedPosition.getFileIndex(position));
+		Assertions.assertEquals(PackedPosition.MAX_LINE, PackedPosition.getLine(position));
+		Assertions.assertEquals(PackedPosition.MAX_LINE_OFFSET, PackedPosition.getLineOffset(position));
+
+		Assertions.assertThrows(IllegalArgumentException.class, () -> PackedPosition.pack(PackedPosition.MAX_FILES, 1, 0));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> PackedPosition.pack(0, -1, 0));
+	}
+
+	@Test
+	public void veryLongLinesCanBeLexed() throws ParseException {
+		char[] contents = new char[PackedPosition.MAX_LINE_OFFSET + 10];
+		Arrays.fill(contents, ' ');
+		contents[contents.length - 1] = 'x';
+		SourceFile file = new LiteralSourceFile("long.zs", new String(contents));
+
+		ZSTokenParser parser = ZSTokenParser.create(file, contents, null, new ZSTokenFactory(), new SourceFileTable());
+		Assertions.assertEquals(new CodePosition(file, 1, PackedPosition.MAX_LINE_OFFSET, 1, PackedPosition.MAX_LINE_OFFSET), parser.getPosition());
+		Assertions.assertEquals("x", parser.next().content);
+	}
+
+	@Test
+	public void streamsWithoutFileTableArePacked() throws ParseException {
+		SourceFile file = new LiteralSourceFile("a.zs", "\n  println(x);");
+		TokenStream<ZSTokenType, ZSToken> raw = ZSTokenParser.createRaw(file, new ArrayCharReader("\n  println(x);".toCharArray()));
+		TokenStream<ZSTokenType, ZSToken> plain = new TokenStream<ZSTokenType, ZSToken>() {
+			@Override
+			public ZSToken next() throws ParseException {
+				return raw.next();
+			}
+
+			@Override
+			public CodePosition getPosition() {
+				return raw.getPosition();
+			}
+
+			@Override
+			public ZSTokenType getEOF() {
+				return raw.getEOF();
+			}
+		};
+
+		ZSTokenParser parser = new ZSTokenParser(plain, null);
+		Assertions.assertEquals(new CodePosition(file, 2, 2, 2, 2), parser.getPosition());
+		Assertions.assertEquals(file, parser.getFileTable().getFile(0));
+	}
+
+	@Test
+	public void filesShareModuleTable() throws IOException, ParseException {
+		SourceFileTable table = new SourceFileTable();
+		SourceFile a = new LiteralSourceFile("a.zs", "val x = 1;");
+		SourceFile b = new LiteralSourceFile("b.zs", "\n  println(x);");
+		ZSTokenParser parserA = ZSTokenParser.create(a, null, new ZSTokenFactory(), table);
+		ZSTokenParser parserB = ZSTokenParser.create(b, null, new ZSTokenFactory(), table);
+
+		Assertions.assertEquals(2, table.size());
+		Assertions.assertEquals(0, table.register(a));
+		Assertions.assertEquals(1, PackedPosition.getFileIndex(parserB.getPackedPosition()));
+
+		parserA.next();
+		Assertions.assertEquals(new CodePosition(a, 1, 4, 1, 4), parserA.getPosition());
+		Assertions.assertEquals(new CodePosition(b, 2, 2, 2, 2), parserB.getPosition());
+		Assertions.assertEquals(new CodePosition(b, 1, 0, 1, 0), parserB.getPositionBeforeWhitespace());
+	}
+}
@@ -0,0 +1,54 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.parsing;
+
+import org.junit.jupiter.api.Test;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ZenCodeTest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class ParallelCompilation extends ZenCodeTest {
+	private static final int SCRIPT_COUNT = 64;
+
+	@Test
+	public void scriptBlocksStayInOrder() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			engine.compileExecutor = executor;
+			for (int i = 0; i < SCRIPT_COUNT; i++)
+				addScript("println('" + i + "');");
+			executeEngine();
+		} finally {
+			executor.shutdown();
+		}
+
+		logger.assertNoErrors();
+		logger.assertPrintOutputSize(SCRIPT_COUNT);
+		for (int i = 0; i < SCRIPT_COUNT; i++)
+			logger.assertPrintOutput(i, Integer.toString(i));
+	}
+
+	@Test
+	public void scriptsUseDefinitionsOfOtherFiles() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			engine.compileExecutor = executor;
+			engine.parseExecutor = executor;
+			for (int i = 0; i < SCRIPT_COUNT; i++) {
+				// every file calls a method defined in the next file
+				int next = (i + 1) % SCRIPT_COUNT;
+				addScript("public class Values" + i + " {\n"
+						+ "    public static value() as int => " + i + " * 2;\n"
+						+ "}\n"
+						+ "println(Values" + next + ".value() + 1);");
+			}
+			executeEngine();
+		} finally {
+			executor.shutdown();
+		}
+
+		logger.assertNoErrors();
+		logger.assertPrintOutputSize(SCRIPT_COUNT);
+		for (int i = 0; i < SCRIPT_COUNT; i++)
+			logger.assertPrintOutput(i, Integer.toString((i + 1) % SCRIPT_COUNT * 2 + 1));
+	}
+}
@@ -0,0 +1,96 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.parsing;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openzen.zencode.shared.LiteralSourceFile;
+import org.openzen.zencode.shared.SourceFile;
+import org.openzen.zenscript.codemodel.HighLevelDefinition;
+import org.openzen.zenscript.codemodel.Module;
+import org.openzen.zenscript.codemodel.context.CompilingPackage;
+import org.openzen.zenscript.codemodel.definition.ZSPackage;
+import org.openzen.zenscript.lexer.ParseException;
+import org.openzen.zenscript.parser.ParsedFile;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ZenCodeTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class ParallelParsing extends ZenCodeTest {
+	private static final int SCRIPT_COUNT = 64;
+
+	@Test
+	public void scriptsRunInOrder() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			engine.parseExecutor = executor;
+			for (int i = 0; i < SCRIPT_COUNT; i++)
+				addScript("println('" + i + "');");
+			executeEngine();
+		} finally {
+			executor.shutdown();
+		}
+
+		logger.assertNoErrors();
+		logger.assertPrintOutputSize(SCRIPT_COUNT);
+		for (int i = 0; i < SCRIPT_COUNT; i++)
+			logger.assertPrintOutput(i, Integer.toString(i));
+	}
+
+	@Test
+	public void parseErrorsAreLoggedInOrder() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			engine.parseExecutor = executor;
+			for (int i = 0; i < SCRIPT_COUNT; i++)
+				addScript(i % 8 == 3 ? "val x = ;" : "println('" + i + "');");
+			executeEngine(true);
+		} finally {
+			executor.shutdown();
+		}
+
+		logger.errors().assertSize(SCRIPT_COUNT / 8);
+		for (int i = 0; i < SCRIPT_COUNT / 8; i++)
+			logger.errors().assertLineContains(i, "test_script_" + (i * 8 + 3) + ".zs");
+	}
+
+	@Test
+	public void duplicateNamesResolveAsInSequentialParsing() throws ParseException {
+		SourceFile[] files = {
+				new LiteralSourceFile("item.zs", "public class Item {}"),
+				new LiteralSourceFile("outer.zs", "public class Outer { public class Item {} }")
+		};
+
+		Module module = new Module("scripts");
+		ZSPackage pkg = new ZSPackage(ZSPackage.createRoot(), "scripts");
+		ParsedFile.parse(new CompilingPackage(pkg, module), null, files, new ReversingExecutor(files.length));
+
+		HighLevelDefinition item = pkg.getDefinition("Item");
+		// the inner definition of the last file registered last
+		Assertions.assertNotNull(item.outerDefinition);
+		Assertions.assertEquals("Outer", item.outerDefinition.name);
+	}
+
+	/**
+	 * Runs the given number of tasks in reverse order of submission, once all
+	 * of them have been submitted.
+	 */
+	private static class ReversingExecutor implements Executor {
+		private final int tasks;
+		private final List<Runnable> submitted = new ArrayList<>();
+
+		ReversingExecutor(int tasks) {
+			this.tasks = tasks;
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			submitted.add(command);
+			if (submitted.size() == tasks)
+				for (int i = tasks - 1; i >= 0; i--)
+					submitted.get(i).run();
+		}
+	}
+}
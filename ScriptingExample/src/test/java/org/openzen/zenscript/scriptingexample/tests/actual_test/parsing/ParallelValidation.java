@@ -0,0 +1,58 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.parsing;
+
+import org.junit.jupiter.api.Test;
+import org.openzen.zenscript.scriptingexample.tests.helpers.ZenCodeTest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class ParallelValidation extends ZenCodeTest {
+	private static final int SCRIPT_COUNT = 32;
+
+	@Test
+	public void validModulesStayValid() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			engine.validationExecutor = executor;
+			for (int i = 0; i < SCRIPT_COUNT; i++) {
+				addScript("public class Values" + i + " {\n"
+						+ "    public static value() as int => " + i + ";\n"
+						+ "}\n"
+						+ "println(Values" + i + ".value());");
+			}
+			executeEngine();
+		} finally {
+			executor.shutdown();
+		}
+
+		logger.assertNoErrors();
+		logger.assertPrintOutputSize(SCRIPT_COUNT);
+		for (int i = 0; i < SCRIPT_COUNT; i++)
+			logger.assertPrintOutput(i, Integer.toString(i));
+	}
+
+	@Test
+	public void errorsAreLoggedInSourceOrder() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			engine.validationExecutor = executor;
+			for (int i = 0; i < SCRIPT_COUNT; i++) {
+				addScript("public class Values" + i + " {\n"
+						+ "    public this() {}\n"
+						+ "    public this() {}\n"
+						+ "}\n"
+						+ "return;");
+			}
+			executeEngine(true);
+		} finally {
+			executor.shutdown();
+		}
+
+		// script blocks are validated before definitions, as in a sequential run
+		logger.errors().assertSize(SCRIPT_COUNT * 2);
+		for (int i = 0; i < SCRIPT_COUNT; i++) {
+			logger.errors().assertLine(i, "ERROR test_script_" + i + ".zs:5:0: Cannot return from a script");
+			logger.errors().assertLineContains(SCRIPT_COUNT + i, "test_script_" + i + ".zs:3:4: Duplicate constructor");
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.parsing;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zencode.shared.LiteralSourceFile;
+import org.openzen.zenscript.lexer.ParseException;
+import org.openzen.zenscript.lexer.ZSToken;
+import org.openzen.zenscript.lexer.ZSTokenParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests (and benchmarks) the backtracking token memory of the parser token stream.
+ */
+public class TokenMemory {
+	@Test
+	public void resetReplaysTokensAndPositions() throws IOException, ParseException {
+		ZSTokenParser tokens = create(createScript(100));
+		tokens.next(); // read some tokens without a mark
+		tokens.next();
+
+		tokens.pushMark();
+		List<ZSToken> read = new ArrayList<>();
+		List<CodePosition> positions = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			positions.add(tokens.getPosition());
+			read.add(tokens.next());
+			if (i == 100)
+				tokens.pushMark();
+			if (i == 200)
+				tokens.popMark();
+		}
+
+		tokens.reset();
+		for (int i = 0; i < 300; i++) {
+			Assertions.assertEquals(positions.get(i), tokens.getPosition());
+			Assertions.assertSame(read.get(i), tokens.peek());
+			Assertions.assertSame(read.get(i), tokens.next());
+		}
+	}
+
+	@Test
+	public void popMarkKeepsUnreadTokens() throws IOException, ParseException {
+		String script = createScript(10);
+		String expected = readAll(create(script)).toString();
+
+		ZSTokenParser tokens = create(script);
+		List<ZSToken> actual = new ArrayList<>();
+		tokens.pushMark();
+		for (int i = 0; i < 40; i++)
+			tokens.next();
+		tokens.reset();
+
+		tokens.pushMark();
+		for (int i = 0; i < 10; i++)
+			actual.add(tokens.next());
+		tokens.popMark();
+
+		while (tokens.hasNext())
+			actual.add(tokens.next());
+		Assertions.assertEquals(expected, actual.toString());
+	}
+
+	@Test
+	@Tag("benchmark")
+	public void backtrackingBenchmark() throws IOException, ParseException {
+		String script = createScript(5000);
+		int tokenCount = readAll(create(script)).size();
+
+		long start = System.nanoTime();
+		int operations = 0;
+		for (int run = 0; run < 5; run++) {
+			ZSTokenParser tokens = create(script);
+
+			// long speculative parse over the whole file
+			tokens.pushMark();
+			while (tokens.hasNext())
+				tokens.next();
+			tokens.reset();
+
+			// followed by many short nested speculations
+			while (tokens.hasNext()) {
+				tokens.pushMark();
+				tokens.next();
+				tokens.pushMark();
+				for (int i = 0; i < 8 && tokens.hasNext(); i++)
+					tokens.next();
+				tokens.reset();
+				tokens.popMark();
+				operations++;
+			}
+		}
+
+		long elapsed = System.nanoTime() - start;
+		System.out.printf("Backtracked over %d tokens with %d marks: %.1f ms%n", tokenCount * 5, operations * 2, elapsed / 1e6);
+	}
+
+	private static ZSTokenParser create(String script) throws IOException, ParseException {
+		return ZSTokenParser.create(new LiteralSourceFile("token_memory.zs", script), null);
+	}
+
+	private static List<ZSToken> readAll(ZSTokenParser tokens) throws ParseException {
+		List<ZSToken> result = new ArrayList<>();
+		while (tokens.hasNext())
+			result.add(tokens.next());
+		return result;
+	}
+
+	private static String createScript(int lines) {
+		StringBuilder result = new StringBuilder();
+		for (int i = 0; i < lines; i++)
+			result.append("recipes.addShaped(\"recipe_").append(i).append("\", (x as int) => x * ").append(i).append(", [[a, b], [c]]);\n");
+		return result.toString();
+	}
+}
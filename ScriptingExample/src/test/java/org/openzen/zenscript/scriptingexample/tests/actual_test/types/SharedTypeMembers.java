@@ -0,0 +1,139 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.types;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zenscript.codemodel.Modifiers;
+import org.openzen.zenscript.codemodel.Module;
+import org.openzen.zenscript.codemodel.definition.ClassDefinition;
+import org.openzen.zenscript.codemodel.definition.ExpansionDefinition;
+import org.openzen.zenscript.codemodel.definition.ZSPackage;
+import org.openzen.zenscript.codemodel.member.ref.GetterMemberRef;
+import org.openzen.zenscript.codemodel.type.BasicTypeID;
+import org.openzen.zenscript.codemodel.type.GlobalTypeRegistry;
+import org.openzen.zenscript.codemodel.type.TypeID;
+import org.openzen.zenscript.codemodel.type.member.LocalMemberCache;
+import org.openzen.zenscript.codemodel.type.member.SharedMemberCache;
+import org.openzen.zenscript.codemodel.type.member.TypeMembers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SharedTypeMembers {
+	private static final List<ExpansionDefinition> NO_EXPANSIONS = Collections.emptyList();
+	private static final int THREADS = 8;
+
+	@Test
+	public void membersAreSharedBetweenCaches() {
+		GlobalTypeRegistry registry = new GlobalTypeRegistry(ZSPackage.createRoot());
+		registry.shareMembers(NO_EXPANSIONS);
+
+		TypeMembers first = new LocalMemberCache(registry, NO_EXPANSIONS).get(BasicTypeID.STRING);
+		TypeMembers second = new LocalMemberCache(registry, NO_EXPANSIONS).get(BasicTypeID.STRING);
+
+		// every cache gets its own copy, with the same members
+		Assertions.assertNotSame(first, second);
+		Assertions.assertSame(getLength(first), getLength(second));
+		Assertions.assertEquals(1, registry.getSharedMemberCache(NO_EXPANSIONS).size());
+	}
+
+	@Test
+	public void membersAreNotSharedByDefault() {
+		GlobalTypeRegistry registry = new GlobalTypeRegistry(ZSPackage.createRoot());
+		Assertions.assertNull(registry.getSharedMemberCache(NO_EXPANSIONS));
+
+		TypeMembers first = new LocalMemberCache(registry, NO_EXPANSIONS).get(BasicTypeID.STRING);
+		TypeMembers second = new LocalMemberCache(registry, NO_EXPANSIONS).get(BasicTypeID.STRING);
+		Assertions.assertNotSame(getLength(first), getLength(second));
+	}
+
+	@Test
+	public void definitionsAreNotShared() {
+		GlobalTypeRegistry registry = new GlobalTypeRegistry(ZSPackage.createRoot());
+		ClassDefinition definition = new ClassDefinition(CodePosition.BUILTIN, new Module("test"), ZSPackage.createRoot(), "Test", Modifiers.PUBLIC);
+		TypeID type = registry.getForDefinition(definition);
+
+		Assertions.assertTrue(SharedMemberCache.isShareable(registry.getArray(registry.getOptional(BasicTypeID.STRING), 2)));
+		Assertions.assertFalse(SharedMemberCache.isShareable(type));
+		Assertions.assertFalse(SharedMemberCache.isShareable(registry.getArray(type, 1)));
+
+		registry.shareMembers(NO_EXPANSIONS);
+		new LocalMemberCache(registry, NO_EXPANSIONS).get(type);
+		Assertions.assertEquals(0, registry.getSharedMemberCache(NO_EXPANSIONS).size());
+	}
+
+	@Test
+	public void sharingAgainReplacesMembersOfOwner() {
+		GlobalTypeRegistry registry = new GlobalTypeRegistry(ZSPackage.createRoot());
+		Object owner = new Object();
+		List<ExpansionDefinition> expansions = Collections.singletonList(
+				new ExpansionDefinition(CodePosition.BUILTIN, new Module("test"), ZSPackage.createRoot(), Modifiers.PUBLIC, null));
+
+		registry.shareMembers(owner, NO_EXPANSIONS);
+		SharedMemberCache first = registry.getSharedMemberCache(NO_EXPANSIONS);
+		registry.shareMembers(owner, NO_EXPANSIONS);
+		Assertions.assertSame(first, registry.getSharedMemberCache(NO_EXPANSIONS));
+
+		registry.shareMembers(owner, expansions);
+		Assertions.assertNull(registry.getSharedMemberCache(NO_EXPANSIONS));
+		Assertions.assertNotNull(registry.getSharedMemberCache(expansions));
+	}
+
+	@Test
+	public void concurrentCachesShareMembers() throws Exception {
+		GlobalTypeRegistry registry = new GlobalTypeRegistry(ZSPackage.createRoot());
+		registry.shareMembers(NO_EXPANSIONS);
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<GetterMemberRef>> futures = new ArrayList<>();
+			for (int i = 0; i < THREADS; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					LocalMemberCache cache = new LocalMemberCache(registry, NO_EXPANSIONS);
+					cache.get(registry.getArray(BasicTypeID.INT, 1));
+					cache.get(registry.getOptional(BasicTypeID.STRING));
+					return getLength(cache.get(BasicTypeID.STRING));
+				}));
+			}
+
+			start.countDown();
+			GetterMemberRef length = futures.get(0).get();
+			for (Future<GetterMemberRef> future : futures)
+				Assertions.assertSame(length, future.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@Tag("benchmark")
+	public void memberBuildingBenchmark() {
+		for (boolean shared : new boolean[]{false, true}) {
+			GlobalTypeRegistry registry = new GlobalTypeRegistry(ZSPackage.createRoot());
+			if (shared)
+				registry.shareMembers(NO_EXPANSIONS);
+
+			long start = System.nanoTime();
+			for (int i = 0; i < 2000; i++) {
+				LocalMemberCache cache = new LocalMemberCache(registry, NO_EXPANSIONS);
+				cache.get(BasicTypeID.STRING);
+				cache.get(BasicTypeID.INT);
+				cache.get(registry.getArray(BasicTypeID.STRING, 1));
+			}
+			long elapsed = System.nanoTime() - start;
+			System.out.printf("Built members for 2000 caches (shared: %b): %.1f ms%n", shared, elapsed / 1e6);
+		}
+	}
+
+	private static GetterMemberRef getLength(TypeMembers members) {
+		return members.getGroup("length").getGetter();
+	}
+}
@@ -0,0 +1,90 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.types;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zenscript.codemodel.Modifiers;
+import org.openzen.zenscript.codemodel.Module;
+import org.openzen.zenscript.codemodel.definition.ClassDefinition;
+import org.openzen.zenscript.codemodel.definition.ExpansionDefinition;
+import org.openzen.zenscript.codemodel.definition.ZSPackage;
+import org.openzen.zenscript.codemodel.generic.ParameterTypeBound;
+import org.openzen.zenscript.codemodel.generic.TypeParameter;
+import org.openzen.zenscript.codemodel.type.ArrayTypeID;
+import org.openzen.zenscript.codemodel.type.BasicTypeID;
+import org.openzen.zenscript.codemodel.type.GlobalTypeRegistry;
+import org.openzen.zenscript.codemodel.type.TypeID;
+import org.openzen.zenscript.codemodel.type.member.LocalMemberCache;
+
+import java.util.Collections;
+
+public class TypeHashing {
+	private static final int LOOKUPS = 1000000;
+
+	@Test
+	public void equalTypesHaveEqualHashCodes() {
+		GlobalTypeRegistry registry = new GlobalTypeRegistry(ZSPackage.createRoot());
+		ClassDefinition definition = createGenericClass();
+
+		TypeID first = createNestedType(registry, definition);
+		int hashCode = first.hashCode();
+		TypeID second = createNestedType(registry, definition);
+
+		Assertions.assertSame(first, second);
+		Assertions.assertEquals(hashCode, second.hashCode());
+	}
+
+	@Test
+	public void genericTypesFollowBoundChanges() {
+		GlobalTypeRegistry registry = new GlobalTypeRegistry(ZSPackage.createRoot());
+		TypeParameter parameter = new TypeParameter(CodePosition.BUILTIN, "T");
+		ArrayTypeID array = new ArrayTypeID(registry, registry.getGeneric(parameter), 1);
+		array.hashCode();
+
+		// bounds may be added after types using the parameter have been created
+		parameter.addBound(new ParameterTypeBound(CodePosition.BUILTIN, BasicTypeID.STRING));
+		ArrayTypeID other = new ArrayTypeID(registry, registry.getGeneric(parameter), 1);
+		Assertions.assertEquals(array, other);
+		Assertions.assertEquals(array.hashCode(), other.hashCode());
+	}
+
+	@Test
+	@Tag("benchmark")
+	public void typeLookupBenchmark() {
+		GlobalTypeRegistry registry = new GlobalTypeRegistry(ZSPackage.createRoot());
+		ClassDefinition definition = createGenericClass();
+		LocalMemberCache cache = new LocalMemberCache(registry, Collections.<ExpansionDefinition>emptyList());
+
+		// builds the members and warms up both paths
+		TypeID type = createNestedType(registry, definition);
+		for (int i = 0; i < LOOKUPS; i++) {
+			createNestedType(registry, definition);
+			cache.get(type);
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < LOOKUPS; i++)
+			createNestedType(registry, definition);
+		long interning = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		for (int i = 0; i < LOOKUPS; i++)
+			cache.get(type);
+		long lookups = System.nanoTime() - start;
+
+		System.out.printf("Interned %d nested types: %.1f ms, %d member cache lookups: %.1f ms%n", LOOKUPS, interning / 1e6, LOOKUPS, lookups / 1e6);
+	}
+
+	private static ClassDefinition createGenericClass() {
+		ClassDefinition definition = new ClassDefinition(CodePosition.BUILTIN, new Module("test"), ZSPackage.createRoot(), "Test", Modifiers.PUBLIC);
+		definition.setTypeParameters(new TypeParameter[]{new TypeParameter(CodePosition.BUILTIN, "T")});
+		return definition;
+	}
+
+	// Test<int[string]>?[][]
+	private static TypeID createNestedType(GlobalTypeRegistry registry, ClassDefinition definition) {
+		TypeID assoc = registry.getAssociative(BasicTypeID.STRING, BasicTypeID.INT);
+		return registry.getArray(registry.getOptional(registry.getForDefinition(definition, assoc)), 2);
+	}
+}
@@ -0,0 +1,91 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.types;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openzen.zenscript.codemodel.definition.ZSPackage;
+import org.openzen.zenscript.codemodel.type.BasicTypeID;
+import org.openzen.zenscript.codemodel.type.GlobalTypeRegistry;
+import org.openzen.zenscript.codemodel.type.TypeID;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TypeRegistryConcurrency {
+	private static final int THREADS = 8;
+
+	@Test
+	public void concurrentInterningReturnsSameInstances() throws Exception {
+		GlobalTypeRegistry registry = new GlobalTypeRegistry(ZSPackage.createRoot());
+		List<List<TypeID>> results = internConcurrently(registry, THREADS, 1);
+
+		List<TypeID> first = results.get(0);
+		for (List<TypeID> result : results) {
+			Assertions.assertEquals(first.size(), result.size());
+			for (int i = 0; i < first.size(); i++)
+				Assertions.assertSame(first.get(i), result.get(i), "type " + first.get(i) + " interned twice");
+		}
+
+		// interning afterwards must still return the same instances
+		List<TypeID> again = internTypes(registry);
+		for (int i = 0; i < first.size(); i++)
+			Assertions.assertSame(first.get(i), again.get(i));
+	}
+
+	@Test
+	@Tag("benchmark")
+	public void contentionBenchmark() throws Exception {
+		for (int threads : new int[]{1, 2, 4, THREADS}) {
+			GlobalTypeRegistry registry = new GlobalTypeRegistry(ZSPackage.createRoot());
+			long start = System.nanoTime();
+			internConcurrently(registry, threads, 200);
+			long elapsed = System.nanoTime() - start;
+			System.out.printf("Interned %d types from %d threads: %.1f ms%n", threads * 200 * internTypes(registry).size(), threads, elapsed / 1e6);
+		}
+	}
+
+	private static List<List<TypeID>> internConcurrently(GlobalTypeRegistry registry, int threads, int runs) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<List<TypeID>>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					List<TypeID> result = null;
+					for (int run = 0; run < runs; run++)
+						result = internTypes(registry);
+					return result;
+				}));
+			}
+
+			start.countDown();
+			List<List<TypeID>> results = new ArrayList<>();
+			for (Future<List<TypeID>> future : futures)
+				results.add(future.get());
+			return results;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static List<TypeID> internTypes(GlobalTypeRegistry registry) {
+		List<TypeID> result = new ArrayList<>();
+		for (BasicTypeID base : new BasicTypeID[]{BasicTypeID.INT, BasicTypeID.STRING, BasicTypeID.BOOL, BasicTypeID.DOUBLE}) {
+			for (int dimension = 1; dimension <= 8; dimension++) {
+				TypeID array = registry.getArray(base, dimension);
+				TypeID optional = registry.getOptional(array);
+				result.add(array);
+				result.add(optional);
+				result.add(registry.getArray(optional, dimension));
+				result.add(registry.getAssociative(BasicTypeID.STRING, optional));
+				result.add(registry.getRange(base));
+			}
+		}
+		return result;
+	}
+}
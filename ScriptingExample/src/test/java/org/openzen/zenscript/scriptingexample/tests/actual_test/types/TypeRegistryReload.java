@@ -0,0 +1,85 @@
+package org.openzen.zenscript.scriptingexample.tests.actual_test.types;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openzen.zencode.shared.CodePosition;
+import org.openzen.zenscript.codemodel.FunctionHeader;
+import org.openzen.zenscript.codemodel.Modifiers;
+import org.openzen.zenscript.codemodel.Module;
+import org.openzen.zenscript.codemodel.definition.ClassDefinition;
+import org.openzen.zenscript.codemodel.definition.ZSPackage;
+import org.openzen.zenscript.codemodel.type.BasicTypeID;
+import org.openzen.zenscript.codemodel.type.GlobalTypeRegistry;
+import org.openzen.zenscript.codemodel.type.TypeID;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TypeRegistryReload {
+	private static final int RELOADS = 500;
+
+	@Test
+	public void weakRegistryStaysBoundedOverReloads() throws InterruptedException {
+		GlobalTypeRegistry registry = new GlobalTypeRegistry(ZSPackage.createRoot(), true);
+		int initial = registry.getInternedTypeCount();
+
+		List<WeakReference<TypeID>> dropped = new ArrayList<>();
+		for (int i = 0; i < RELOADS; i++)
+			dropped.add(new WeakReference<>(reload(registry)));
+
+		// garbage collection is only a hint, so wait until it actually collected the dropped types
+		for (int attempt = 0; attempt < 100 && !allCleared(dropped); attempt++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		Assertions.assertTrue(allCleared(dropped), "dropped types were not collected");
+
+		Assertions.assertTrue(registry.getInternedTypeCount() <= initial + 50,
+				"registry kept " + registry.getInternedTypeCount() + " types after " + RELOADS + " reloads");
+	}
+
+	@Test
+	public void strongRegistryKeepsTypes() {
+		GlobalTypeRegistry registry = new GlobalTypeRegistry(ZSPackage.createRoot());
+		int initial = registry.getInternedTypeCount();
+
+		for (int i = 0; i < RELOADS; i++)
+			reload(registry);
+
+		Assertions.assertTrue(registry.getInternedTypeCount() >= initial + RELOADS * 5);
+	}
+
+	@Test
+	public void weakRegistryInternsReferencedTypes() {
+		GlobalTypeRegistry registry = new GlobalTypeRegistry(ZSPackage.createRoot(), true);
+		TypeID array = registry.getArray(BasicTypeID.STRING, 2);
+		System.gc();
+
+		Assertions.assertSame(array, registry.getArray(BasicTypeID.STRING, 2));
+		Assertions.assertSame(registry.getOptional(array), registry.getOptional(array));
+	}
+
+	/**
+	 * Simulates loading a script with a class, and using types based on it.
+	 * Returns the type of the class, which the caller should drop like the rest.
+	 */
+	private static TypeID reload(GlobalTypeRegistry registry) {
+		Module module = new Module("scripts");
+		ClassDefinition definition = new ClassDefinition(CodePosition.BUILTIN, module, ZSPackage.createRoot(), "Reloaded", Modifiers.PUBLIC);
+		TypeID type = registry.getForDefinition(definition);
+		registry.getArray(type, 1);
+		registry.getOptional(type);
+		registry.getAssociative(BasicTypeID.STRING, type);
+		registry.getFunction(new FunctionHeader(type, type));
+		return type;
+	}
+
+	private static boolean allCleared(List<WeakReference<TypeID>> references) {
+		for (WeakReference<TypeID> reference : references) {
+			if (reference.get() != null)
+				return false;
+		}
+		return true;
+	}
+}
@@ -42,6 +42,31 @@ public final class CodePosition {
 		return new CodePosition(file, fromLine, fromLineOffset, fromLine, fromLineOffset + characters);
 	}
 
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof CodePosition))
+			return false;
+
+		CodePosition other = (CodePosition) o;
+		return file == other.file
+				&& fromLine == other.fromLine
+				&& fromLineOffset == other.fromLineOffset
+				&& toLine == other.toLine
+				&& toLineOffset == other.toLineOffset;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = System.identityHashCode(file);
+		result = 31 * result + fromLine;
+		result = 31 * result + fromLineOffset;
+		result = 31 * result + toLine;
+		result = 31 * result + toLineOffset;
+		return result;
+	}
+
 	public String toString() {
 		return fromLine == 0 && fromLineOffset == 0 ? file.getFilename() : file.getFilename() + ":" + Integer.toString(fromLine) + ":" + Integer.toString(fromLineOffset);
 	}
@@ -6,7 +6,13 @@
 package org.openzen.zencode.shared;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
 
 /**
  * @author Hoofdgebruiker
@@ -32,6 +38,23 @@ public class FileSourceFile implements SourceFile {
 				StandardCharsets.UTF_8);
 	}
 
+	/**
+	 * Reads the file in a single bulk read and decodes it directly into a
+	 * character array.
+	 */
+	@Override
+	public char[] readContents() throws IOException {
+		byte[] bytes = Files.readAllBytes(file.toPath());
+		CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		// UTF-8 never decodes to more characters than it has bytes
+		CharBuffer chars = CharBuffer.allocate(bytes.length);
+		decoder.decode(ByteBuffer.wrap(bytes), chars, true);
+		decoder.flush(chars);
+		return chars.position() == chars.capacity() ? chars.array() : Arrays.copyOf(chars.array(), chars.position());
+	}
+
 	@Override
 	public void update(String content) throws IOException {
 		try (OutputStreamWriter writer = new OutputStreamWriter(new BufferedOutputStream(new FileOutputStream(file, false)), StandardCharsets.UTF_8)) {
@@ -18,6 +18,11 @@ public final class LiteralSourceFile implements SourceFile {
 		return new StringReader(contents);
 	}
 
+	@Override
+	public char[] readContents() {
+		return contents.toCharArray();
+	}
+
 	@Override
 	public void update(String contents) throws IOException {
 		throw new AssertionError("Cannot update literal source files");
@@ -0,0 +1,51 @@
+package org.openzen.zencode.shared;
+
+/**
+ * Encodes a position (file, line and line offset) in a single long, so that
+ * positions can be stored in primitive arrays and fields instead of as
+ * {@link CodePosition} objects. The file is stored as its index in a
+ * {@link SourceFileTable}, which is needed to turn the position back into a
+ * CodePosition.
+ * <p>
+ * Layout: 20 bits file index, 22 bits line, 22 bits line offset. Lines and
+ * line offsets that don't fit are saturated to {@link #MAX_LINE} and
+ * {@link #MAX_LINE_OFFSET}, so errors past those still point to the right file.
+ */
+public final class PackedPosition {
+	public static final int MAX_FILES = 1 << 20;
+	public static final int MAX_LINE = (1 << 22) - 1;
+	public static final int MAX_LINE_OFFSET = (1 << 22) - 1;
+
+	private PackedPosition() {
+	}
+
+	/**
+	 * Packs the given position, saturating the line and line offset.
+	 *
+	 * @throws IllegalArgumentException if the file index, line or line offset is negative, or the file index is out of range
+	 */
+	public static long pack(int fileIndex, int line, int lineOffset) {
+		if (fileIndex < 0 || fileIndex >= MAX_FILES)
+			throw new IllegalArgumentException("File index out of range: " + fileIndex);
+		if (line < 0)
+			throw new IllegalArgumentException("Negative line: " + line);
+		if (lineOffset < 0)
+			throw new IllegalArgumentException("Negative line offset: " + lineOffset);
+
+		line = Math.min(line, MAX_LINE);
+		lineOffset = Math.min(lineOffset, MAX_LINE_OFFSET);
+		return ((long) fileIndex << 44) | ((long) line << 22) | lineOffset;
+	}
+
+	public static int getFileIndex(long position) {
+		return (int) (position >>> 44);
+	}
+
+	public static int getLine(long position) {
+		return (int) (position >>> 22) & MAX_LINE;
+	}
+
+	public static int getLineOffset(long position) {
+		return (int) position & MAX_LINE_OFFSET;
+	}
+}
@@ -2,6 +2,7 @@ package org.openzen.zencode.shared;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.Arrays;
 
 public interface SourceFile {
 	String getFilename();
@@ -9,4 +10,26 @@ public interface SourceFile {
 	Reader open() throws IOException;
 
 	void update(String content) throws IOException;
+
+	/**
+	 * Reads the entire contents of this file at once. Implementations can
+	 * override this if they can provide the contents more efficiently than
+	 * by reading them from {@link #open()}.
+	 *
+	 * @return file contents
+	 * @throws IOException if the file could not be read
+	 */
+	default char[] readContents() throws IOException {
+		try (Reader reader = open()) {
+			char[] buffer = new char[4096];
+			int length = 0;
+			int read;
+			while ((read = reader.read(buffer, length, buffer.length - length)) >= 0) {
+				length += read;
+				if (length == buffer.length)
+					buffer = Arrays.copyOf(buffer, buffer.length * 2);
+			}
+			return Arrays.copyOf(buffer, length);
+		}
+	}
 }
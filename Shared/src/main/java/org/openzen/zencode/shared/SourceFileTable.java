@@ -0,0 +1,63 @@
+package org.openzen.zencode.shared;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Numbers source files, so that positions in them can be stored as
+ * {@link PackedPosition}s. Files may be registered from multiple threads.
+ * <p>
+ * Files are looked up far more often than they are registered (every time a
+ * packed position is resolved), so lookups read the file array without
+ * locking. Only registration is synchronized.
+ */
+public final class SourceFileTable {
+	private final Map<SourceFile, Integer> indices = new IdentityHashMap<>();
+	private volatile SourceFile[] files = new SourceFile[16];
+	/* written after the file is stored, so that a reader that sees the new size also sees the file */
+	private volatile int size = 0;
+
+	/**
+	 * Returns the index of the given file, registering it if needed.
+	 *
+	 * @throws IllegalStateException if the table already contains {@link PackedPosition#MAX_FILES} files
+	 */
+	public synchronized int register(SourceFile file) {
+		Integer index = indices.get(file);
+		if (index != null)
+			return index;
+
+		int count = size;
+		if (count == PackedPosition.MAX_FILES)
+			throw new IllegalStateException("Too many source files: " + file.getFilename());
+
+		if (count == files.length)
+			files = Arrays.copyOf(files, Math.min(count * 2, PackedPosition.MAX_FILES));
+
+		files[count] = file;
+		indices.put(file, count);
+		size = count + 1;
+		return count;
+	}
+
+	public SourceFile getFile(int index) {
+		if (index >= size)
+			throw new IndexOutOfBoundsException("No such file: " + index);
+
+		return files[index];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Creates the CodePosition for the given packed position.
+	 */
+	public CodePosition getPosition(long position) {
+		int line = PackedPosition.getLine(position);
+		int lineOffset = PackedPosition.getLineOffset(position);
+		return new CodePosition(getFile(PackedPosition.getFileIndex(position)), line, lineOffset, line, lineOffset);
+	}
+}
@@ -19,6 +19,9 @@ import org.openzen.zenscript.validator.visitors.StatementValidator;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * @author Hoofdgebruiker
@@ -38,22 +41,73 @@ public class Validator {
 	}
 
 	public static SemanticModule validate(SemanticModule module, ValidatorLogger logger) {
+		return validate(module, logger, null);
+	}
+
+	/**
+	 * Validates the given module. If an executor is given, each script block
+	 * and definition is validated concurrently by its own validator. Their
+	 * logs are merged in the same order as a sequential validation, and are
+	 * passed to the logger from the calling thread.
+	 *
+	 * @param module   normalized module
+	 * @param logger   logger for the validation log
+	 * @param executor executor to validate on, or null to validate sequentially
+	 * @return validated (or invalid) module
+	 */
+	public static SemanticModule validate(SemanticModule module, ValidatorLogger logger, Executor executor) {
 		if (module.state != SemanticModule.State.NORMALIZED)
 			throw new IllegalStateException("Module is not yet normalized");
 
-		Validator validator = new Validator(module.registry, module.expansions, module.annotations);
-		for (ScriptBlock script : module.scripts) {
-			validator.validate(script);
-		}
-		for (HighLevelDefinition definition : module.definitions.getAll()) {
-			validator.validate(definition);
+		List<Validator> validators = new ArrayList<>();
+		if (executor == null) {
+			Validator validator = new Validator(module.registry, module.expansions, module.annotations);
+			for (ScriptBlock script : module.scripts) {
+				validator.validate(script);
+			}
+			for (HighLevelDefinition definition : module.definitions.getAll()) {
+				validator.validate(definition);
+			}
+			validators.add(validator);
+		} else {
+			List<CompletableFuture<Validator>> futures = new ArrayList<>();
+			for (ScriptBlock script : module.scripts) {
+				futures.add(CompletableFuture.supplyAsync(() -> {
+					Validator validator = new Validator(module.registry, module.expansions, module.annotations);
+					validator.validate(script);
+					return validator;
+				}, executor));
+			}
+			for (HighLevelDefinition definition : module.definitions.getAll()) {
+				futures.add(CompletableFuture.supplyAsync(() -> {
+					Validator validator = new Validator(module.registry, module.expansions, module.annotations);
+					validator.validate(definition);
+					return validator;
+				}, executor));
+			}
+
+			for (CompletableFuture<Validator> future : futures) {
+				try {
+					validators.add(future.join());
+				} catch (CompletionException ex) {
+					if (ex.getCause() instanceof RuntimeException)
+						throw (RuntimeException) ex.getCause();
+					if (ex.getCause() instanceof Error)
+						throw (Error) ex.getCause();
+					throw ex;
+				}
+			}
 		}
 
-		for (ValidationLogEntry entry : validator.getLog()) {
-			logger.logValidationLogEntry(entry);
+		boolean hasErrors = false;
+		for (Validator validator : validators) {
+			for (ValidationLogEntry entry : validator.getLog()) {
+				logger.logValidationLogEntry(entry);
+			}
+			hasErrors |= validator.hasErrors();
 		}
 
-		SemanticModule.State state = validator.hasErrors() ? SemanticModule.State.INVALID : SemanticModule.State.VALIDATED;
+		SemanticModule.State state = hasErrors ? SemanticModule.State.INVALID : SemanticModule.State.VALIDATED;
 		return new SemanticModule(
 				module.module,
 				module.dependencies,
@@ -93,6 +147,14 @@ public class Validator {
 		hasErrors = true;
 	}
 
+	/**
+	 * Marks the module as invalid because of an error that is already reported,
+	 * without reporting it again.
+	 */
+	public void logReportedError() {
+		hasErrors = true;
+	}
+
 	public void logWarning(ValidationLogEntry.Code code, CodePosition position, String message) {
 		log.add(new ValidationLogEntry(ValidationLogEntry.Kind.WARNING, code, position, message));
 	}
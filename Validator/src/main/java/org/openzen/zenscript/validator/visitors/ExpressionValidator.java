@@ -47,13 +47,13 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 		if (expression.left.type != BasicTypeID.BOOL) {
 			validator.logError(
 					ValidationLogEntry.Code.INVALID_OPERAND_TYPE,
-					expression.position,
+					expression.getPosition(),
 					"left hand side operand of && must be a bool");
 		}
 		if (expression.right.type != BasicTypeID.BOOL) {
 			validator.logError(
 					ValidationLogEntry.Code.INVALID_OPERAND_TYPE,
-					expression.position,
+					expression.getPosition(),
 					"right hand side operand of && must be a bool");
 		}
 		return null;
@@ -65,7 +65,7 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 			if (!element.type.equals(expression.arrayType.elementType)) {
 				validator.logError(
 						ValidationLogEntry.Code.INVALID_OPERAND_TYPE,
-						expression.position,
+						expression.getPosition(),
 						"array element expression type " + element.type + " doesn't match array type " + expression.arrayType.elementType);
 			}
 			element.accept(this);
@@ -76,10 +76,10 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 	@Override
 	public Void visitCompare(CompareExpression expression) {
 		if (!expression.right.type.equals(expression.operator.getHeader().parameters[0].type))
-			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.position, "comparison has invalid right type!");
+			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.getPosition(), "comparison has invalid right type!");
 
-		checkMemberAccess(expression.position, expression.operator);
-		checkNotStatic(expression.position, expression.operator);
+		checkMemberAccess(expression.getPosition(), expression.operator);
+		checkNotStatic(expression.getPosition(), expression.operator);
 
 		expression.left.accept(this);
 		expression.right.accept(this);
@@ -90,23 +90,23 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 	public Void visitCall(CallExpression expression) {
 		expression.target.accept(this);
 
-		checkMemberAccess(expression.position, expression.member);
-		checkCallArguments(expression.position, expression.member.getHeader(), expression.instancedHeader, expression.arguments);
-		checkNotStatic(expression.position, expression.member);
+		checkMemberAccess(expression.getPosition(), expression.member);
+		checkCallArguments(expression.getPosition(), expression.member.getHeader(), expression.instancedHeader, expression.arguments);
+		checkNotStatic(expression.getPosition(), expression.member);
 		return null;
 	}
 
 	@Override
 	public Void visitCallStatic(CallStaticExpression expression) {
-		checkMemberAccess(expression.position, expression.member);
-		checkCallArguments(expression.position, expression.member.getHeader(), expression.instancedHeader, expression.arguments);
-		checkStatic(expression.position, expression.member);
+		checkMemberAccess(expression.getPosition(), expression.member);
+		checkCallArguments(expression.getPosition(), expression.member.getHeader(), expression.instancedHeader, expression.arguments);
+		checkStatic(expression.getPosition(), expression.member);
 		return null;
 	}
 
 	@Override
 	public Void visitConst(ConstExpression expression) {
-		checkMemberAccess(expression.position, expression.constant);
+		checkMemberAccess(expression.getPosition(), expression.constant);
 		return null;
 	}
 
@@ -137,7 +137,7 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 
 	@Override
 	public Void visitCast(CastExpression expression) {
-		checkMemberAccess(expression.position, expression.member);
+		checkMemberAccess(expression.getPosition(), expression.member);
 		return expression.target.accept(this);
 	}
 
@@ -145,7 +145,7 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 	public Void visitCheckNull(CheckNullExpression expression) {
 		expression.value.accept(this);
 		if (!expression.value.type.isOptional()) {
-			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.position, "target of a null check is not optional");
+			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.getPosition(), "target of a null check is not optional");
 		}
 		return null;
 	}
@@ -155,7 +155,7 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 		expression.left.accept(this);
 		expression.right.accept(this);
 		if (!expression.left.type.isOptional()) {
-			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.position, "target of a null coalesce is not optional");
+			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.getPosition(), "target of a null coalesce is not optional");
 		}
 		return null;
 	}
@@ -166,7 +166,7 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 		expression.ifThen.accept(this);
 		expression.ifElse.accept(this);
 		if (expression.condition.type != BasicTypeID.BOOL) {
-			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.position, "conditional expression condition must be a bool");
+			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.getPosition(), "conditional expression condition must be a bool");
 		}
 		return null;
 	}
@@ -244,28 +244,28 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 	@Override
 	public Void visitConstructorThisCall(ConstructorThisCallExpression expression) {
 		if (!scope.isConstructor()) {
-			validator.logError(ValidationLogEntry.Code.CONSTRUCTOR_FORWARD_OUTSIDE_CONSTRUCTOR, expression.position, "Can only forward constructors inside constructors");
+			validator.logError(ValidationLogEntry.Code.CONSTRUCTOR_FORWARD_OUTSIDE_CONSTRUCTOR, expression.getPosition(), "Can only forward constructors inside constructors");
 		}
 		if (!scope.isFirstStatement()) {
-			validator.logError(ValidationLogEntry.Code.CONSTRUCTOR_FORWARD_NOT_FIRST_STATEMENT, expression.position, "Constructor forwarder must be first expression");
+			validator.logError(ValidationLogEntry.Code.CONSTRUCTOR_FORWARD_NOT_FIRST_STATEMENT, expression.getPosition(), "Constructor forwarder must be first expression");
 		}
 		scope.markConstructorForwarded();
-		checkCallArguments(expression.position, expression.constructor.getHeader(), expression.constructor.getHeader(), expression.arguments);
+		checkCallArguments(expression.getPosition(), expression.constructor.getHeader(), expression.constructor.getHeader(), expression.arguments);
 		return null;
 	}
 
 	@Override
 	public Void visitConstructorSuperCall(ConstructorSuperCallExpression expression) {
-		checkMemberAccess(expression.position, expression.constructor);
+		checkMemberAccess(expression.getPosition(), expression.constructor);
 
 		if (!scope.isConstructor()) {
-			validator.logError(ValidationLogEntry.Code.CONSTRUCTOR_FORWARD_OUTSIDE_CONSTRUCTOR, expression.position, "Can only forward constructors inside constructors");
+			validator.logError(ValidationLogEntry.Code.CONSTRUCTOR_FORWARD_OUTSIDE_CONSTRUCTOR, expression.getPosition(), "Can only forward constructors inside constructors");
 		}
 		if (!scope.isFirstStatement()) {
-			validator.logError(ValidationLogEntry.Code.CONSTRUCTOR_FORWARD_NOT_FIRST_STATEMENT, expression.position, "Constructor forwarder must be first expression");
+			validator.logError(ValidationLogEntry.Code.CONSTRUCTOR_FORWARD_NOT_FIRST_STATEMENT, expression.getPosition(), "Constructor forwarder must be first expression");
 		}
 		scope.markConstructorForwarded();
-		checkCallArguments(expression.position, expression.constructor.getHeader(), expression.constructor.getHeader(), expression.arguments);
+		checkCallArguments(expression.getPosition(), expression.constructor.getHeader(), expression.constructor.getHeader(), expression.arguments);
 		return null;
 	}
 
@@ -274,7 +274,7 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 		if (!scope.isEnumConstantInitialized(expression.value)) {
 			validator.logError(
 					ValidationLogEntry.Code.ENUM_CONSTANT_NOT_YET_INITIALIZED,
-					expression.position,
+					expression.getPosition(),
 					"Using an enum constant that is not yet initialized: " + expression.value.name);
 		}
 		return null;
@@ -289,14 +289,14 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 
 	@Override
 	public Void visitGetField(GetFieldExpression expression) {
-		checkFieldAccess(expression.position, expression.field);
-		checkNotStatic(expression.position, expression.field);
+		checkFieldAccess(expression.getPosition(), expression.field);
+		checkNotStatic(expression.getPosition(), expression.field);
 
 		expression.target.accept(this);
 		if (expression.target instanceof ThisExpression && !scope.isFieldInitialized(expression.field.member)) {
 			validator.logError(
 					ValidationLogEntry.Code.FIELD_NOT_YET_INITIALIZED,
-					expression.position,
+					expression.getPosition(),
 					"Using a field that was not yet initialized");
 		}
 		return null;
@@ -310,7 +310,7 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 	@Override
 	public Void visitGetLocalVariable(GetLocalVariableExpression expression) {
 		if (!scope.isLocalVariableInitialized(expression.variable)) {
-			validator.logError(ValidationLogEntry.Code.LOCAL_VARIABLE_NOT_YET_INITIALIZED, expression.position, "Local variable not yet initialized");
+			validator.logError(ValidationLogEntry.Code.LOCAL_VARIABLE_NOT_YET_INITIALIZED, expression.getPosition(), "Local variable not yet initialized");
 		}
 		return null;
 	}
@@ -318,22 +318,22 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 	@Override
 	public Void visitGetMatchingVariantField(GetMatchingVariantField expression) {
 		if (expression.index >= expression.value.parameters.length) {
-			validator.logError(ValidationLogEntry.Code.MATCHING_VARIANT_FIELD_INVALID, expression.position, "Invalid matching variant field");
+			validator.logError(ValidationLogEntry.Code.MATCHING_VARIANT_FIELD_INVALID, expression.getPosition(), "Invalid matching variant field");
 		}
 		return null;
 	}
 
 	@Override
 	public Void visitGetStaticField(GetStaticFieldExpression expression) {
-		checkFieldAccess(expression.position, expression.field);
-		checkStatic(expression.position, expression.field);
+		checkFieldAccess(expression.getPosition(), expression.field);
+		checkStatic(expression.getPosition(), expression.field);
 		return null;
 	}
 
 	@Override
 	public Void visitGetter(GetterExpression expression) {
-		checkMemberAccess(expression.position, expression.getter);
-		checkNotStatic(expression.position, expression.getter);
+		checkMemberAccess(expression.getPosition(), expression.getter);
+		checkNotStatic(expression.getPosition(), expression.getter);
 		return expression.target.accept(this);
 	}
 
@@ -350,13 +350,19 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 	@Override
 	public Void visitInterfaceCast(InterfaceCastExpression expression) {
 		expression.value.accept(this);
-		new TypeValidator(validator, expression.position).validate(TypeContext.CAST_TARGET_TYPE, expression.type);
+		new TypeValidator(validator, expression.getPosition()).validate(TypeContext.CAST_TARGET_TYPE, expression.type);
 		return null;
 	}
 
 	@Override
 	public Void visitInvalid(InvalidExpression expression) {
-		validator.logError(ValidationLogEntry.Code.INVALID_EXPRESSION, expression.position, expression.message);
+		// invalid because of an error that is reported elsewhere
+		if (expression.type instanceof InvalidTypeID && ((InvalidTypeID) expression.type).reported) {
+			validator.logReportedError();
+			return null;
+		}
+
+		validator.logError(ValidationLogEntry.Code.INVALID_EXPRESSION, expression.getPosition(), expression.message);
 		return null;
 	}
 
@@ -370,7 +376,7 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 	@Override
 	public Void visitIs(IsExpression expression) {
 		expression.value.accept(this);
-		new TypeValidator(validator, expression.position).validate(TypeContext.TYPE_CHECK_TYPE, expression.isType);
+		new TypeValidator(validator, expression.getPosition()).validate(TypeContext.TYPE_CHECK_TYPE, expression.isType);
 		return null;
 	}
 
@@ -389,10 +395,10 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 			key.accept(this);
 			value.accept(this);
 			if (!key.type.equals(type.keyType)) {
-				validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, key.position, "Key type " + key.type + " must match the associative array key type " + type.keyType);
+				validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, key.getPosition(), "Key type " + key.type + " must match the associative array key type " + type.keyType);
 			}
 			if (!value.type.equals(type.valueType)) {
-				validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, key.position, "Value type " + value.type + " must match the associative array value type " + type.valueType);
+				validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, key.getPosition(), "Value type " + value.type + " must match the associative array value type " + type.valueType);
 			}
 		}
 		return null;
@@ -411,17 +417,17 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 			for (MatchExpression.Case case_ : expression.cases) {
 				if (case_.key == null) {
 					if (hasDefault)
-						validator.logError(ValidationLogEntry.Code.DUPLICATE_DEFAULT_CASE, expression.position, "Duplicate default in match");
+						validator.logError(ValidationLogEntry.Code.DUPLICATE_DEFAULT_CASE, expression.getPosition(), "Duplicate default in match");
 
 					hasDefault = true;
 				} else if (case_.key instanceof VariantOptionSwitchValue) {
 					VariantDefinition.Option option = ((VariantOptionSwitchValue) case_.key).option.getOption();
 					if (options.contains(option))
-						validator.logError(ValidationLogEntry.Code.DUPLICATE_CASE, expression.position, "Duplicate case in match: " + option.name);
+						validator.logError(ValidationLogEntry.Code.DUPLICATE_CASE, expression.getPosition(), "Duplicate case in match: " + option.name);
 
 					options.add(option);
 				} else {
-					validator.logError(ValidationLogEntry.Code.INVALID_CASE, expression.position, "Invalid case: must be default or option value");
+					validator.logError(ValidationLogEntry.Code.INVALID_CASE, expression.getPosition(), "Invalid case: must be default or option value");
 				}
 			}
 
@@ -429,7 +435,7 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 				VariantDefinition variant = (VariantDefinition) ((DefinitionTypeID) expression.value.type).definition;
 				for (VariantDefinition.Option option : variant.options) {
 					if (!options.contains(option))
-						validator.logError(ValidationLogEntry.Code.INCOMPLETE_MATCH, expression.position, "Incomplete match: missing option for " + option.name);
+						validator.logError(ValidationLogEntry.Code.INCOMPLETE_MATCH, expression.getPosition(), "Incomplete match: missing option for " + option.name);
 				}
 			}
 		} else if (expression.type.isEnum()) {
@@ -437,17 +443,17 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 			for (MatchExpression.Case case_ : expression.cases) {
 				if (case_.key == null) {
 					if (hasDefault)
-						validator.logError(ValidationLogEntry.Code.DUPLICATE_DEFAULT_CASE, expression.position, "Duplicate default in match");
+						validator.logError(ValidationLogEntry.Code.DUPLICATE_DEFAULT_CASE, expression.getPosition(), "Duplicate default in match");
 
 					hasDefault = true;
 				} else if (case_.key instanceof EnumConstantSwitchValue) {
 					EnumConstantMember option = ((EnumConstantSwitchValue) case_.key).constant;
 					if (options.contains(option))
-						validator.logError(ValidationLogEntry.Code.DUPLICATE_CASE, expression.position, "Duplicate case in match: " + option.name);
+						validator.logError(ValidationLogEntry.Code.DUPLICATE_CASE, expression.getPosition(), "Duplicate case in match: " + option.name);
 
 					options.add(option);
 				} else {
-					validator.logError(ValidationLogEntry.Code.INVALID_CASE, expression.position, "Invalid case: must be default or enum value");
+					validator.logError(ValidationLogEntry.Code.INVALID_CASE, expression.getPosition(), "Invalid case: must be default or enum value");
 				}
 			}
 
@@ -455,31 +461,31 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 				EnumDefinition enum_ = (EnumDefinition) ((DefinitionTypeID) expression.value.type).definition;
 				for (EnumConstantMember option : enum_.enumConstants) {
 					if (!options.contains(option))
-						validator.logError(ValidationLogEntry.Code.INCOMPLETE_MATCH, expression.position, "Incomplete match: missing option for " + option.name);
+						validator.logError(ValidationLogEntry.Code.INCOMPLETE_MATCH, expression.getPosition(), "Incomplete match: missing option for " + option.name);
 				}
 			}
 		} else {
 			for (MatchExpression.Case case_ : expression.cases) {
 				if (case_.key == null) {
 					if (hasDefault)
-						validator.logError(ValidationLogEntry.Code.DUPLICATE_DEFAULT_CASE, expression.position, "Duplicate default in match");
+						validator.logError(ValidationLogEntry.Code.DUPLICATE_DEFAULT_CASE, expression.getPosition(), "Duplicate default in match");
 
 					hasDefault = true;
 				}
 			}
 
 			if (!hasDefault)
-				validator.logError(ValidationLogEntry.Code.INCOMPLETE_MATCH, expression.position, "Incomplete match: must have a default option");
+				validator.logError(ValidationLogEntry.Code.INCOMPLETE_MATCH, expression.getPosition(), "Incomplete match: must have a default option");
 		}
 		return null;
 	}
 
 	@Override
 	public Void visitNew(NewExpression expression) {
-		new TypeValidator(validator, expression.position).validate(TypeContext.CONSTRUCTOR_TYPE, expression.constructor.getOwnerType());
-		checkMemberAccess(expression.position, expression.constructor);
+		new TypeValidator(validator, expression.getPosition()).validate(TypeContext.CONSTRUCTOR_TYPE, expression.constructor.getOwnerType());
+		checkMemberAccess(expression.getPosition(), expression.constructor);
 		checkCallArguments(
-				expression.position,
+				expression.getPosition(),
 				expression.constructor.getHeader(),
 				expression.instancedHeader,
 				expression.arguments);
@@ -497,9 +503,9 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 		expression.right.accept(this);
 
 		if (expression.left.type != BasicTypeID.BOOL)
-			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.position, "Left hand side of || expression is not a bool");
+			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.getPosition(), "Left hand side of || expression is not a bool");
 		if (expression.right.type != BasicTypeID.BOOL)
-			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.position, "Right hand side of || expression is not a bool");
+			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.getPosition(), "Right hand side of || expression is not a bool");
 
 		return null;
 	}
@@ -508,7 +514,7 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 	public Void visitPanic(PanicExpression expression) {
 		expression.value.accept(this);
 		if (expression.value.type != BasicTypeID.STRING)
-			validator.logError(ValidationLogEntry.Code.PANIC_ARGUMENT_NO_STRING, expression.position, "Argument to a panic must be a string");
+			validator.logError(ValidationLogEntry.Code.PANIC_ARGUMENT_NO_STRING, expression.getPosition(), "Argument to a panic must be a string");
 
 		return null;
 	}
@@ -521,8 +527,8 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 
 	@Override
 	public Void visitPostCall(PostCallExpression expression) {
-		checkMemberAccess(expression.position, expression.member);
-		checkNotStatic(expression.position, expression.member);
+		checkMemberAccess(expression.getPosition(), expression.member);
+		checkNotStatic(expression.getPosition(), expression.member);
 
 		expression.target.accept(this);
 		// TODO: is target a valid increment target?
@@ -536,10 +542,10 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 
 		RangeTypeID rangeType = (RangeTypeID) expression.type;
 		if (!expression.from.type.equals(rangeType.baseType)) {
-			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.position, "From operand is not a " + rangeType.baseType.toString());
+			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.getPosition(), "From operand is not a " + rangeType.baseType.toString());
 		}
 		if (!expression.to.type.equals(rangeType.baseType)) {
-			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.position, "To operand is not a " + rangeType.baseType.toString());
+			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.getPosition(), "To operand is not a " + rangeType.baseType.toString());
 		}
 		return null;
 	}
@@ -553,20 +559,20 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 
 	@Override
 	public Void visitSetField(SetFieldExpression expression) {
-		checkFieldAccess(expression.position, expression.field);
-		checkNotStatic(expression.position, expression.field);
+		checkFieldAccess(expression.getPosition(), expression.field);
+		checkNotStatic(expression.getPosition(), expression.field);
 
 		expression.target.accept(this);
 		expression.value.accept(this);
 		if (!expression.value.type.equals(expression.field.getType())) {
 			validator.logError(
 					ValidationLogEntry.Code.INVALID_SOURCE_TYPE,
-					expression.position,
+					expression.getPosition(),
 					"Trying to set a field of type " + expression.field.getType() + " to a value of type " + expression.value.type);
 		}
 		if (expression.field.isFinal()) {
 			if (!(expression.target instanceof ThisExpression && scope.isConstructor())) {
-				validator.logError(ValidationLogEntry.Code.SETTING_FINAL_FIELD, expression.position, "Cannot set a final field");
+				validator.logError(ValidationLogEntry.Code.SETTING_FINAL_FIELD, expression.getPosition(), "Cannot set a final field");
 			}
 		}
 		return null;
@@ -578,7 +584,7 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 		if (!expression.value.type.equals(expression.parameter.type)) {
 			validator.logError(
 					ValidationLogEntry.Code.INVALID_SOURCE_TYPE,
-					expression.position,
+					expression.getPosition(),
 					"Trying to set a parameter of type " + expression.parameter.type + " to a value of type " + expression.value.type);
 		}
 		return null;
@@ -590,32 +596,32 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 		if (!expression.value.type.equals(expression.variable.type)) {
 			validator.logError(
 					ValidationLogEntry.Code.INVALID_SOURCE_TYPE,
-					expression.position,
+					expression.getPosition(),
 					"Trying to set a variable of type " + expression.variable.type + " to a value of type " + expression.value.type);
 		}
 		if (expression.variable.isFinal) {
-			validator.logError(ValidationLogEntry.Code.SETTING_FINAL_VARIABLE, expression.position, "Trying to set final variable " + expression.variable.name);
+			validator.logError(ValidationLogEntry.Code.SETTING_FINAL_VARIABLE, expression.getPosition(), "Trying to set final variable " + expression.variable.name);
 		}
 		return null;
 	}
 
 	@Override
 	public Void visitSetStaticField(SetStaticFieldExpression expression) {
-		checkFieldAccess(expression.position, expression.field);
-		checkStatic(expression.position, expression.field);
+		checkFieldAccess(expression.getPosition(), expression.field);
+		checkStatic(expression.getPosition(), expression.field);
 
 		expression.value.accept(this);
 		if (!expression.value.type.equals(expression.field.getType())) {
 			validator.logError(
 					ValidationLogEntry.Code.INVALID_SOURCE_TYPE,
-					expression.position,
+					expression.getPosition(),
 					"Trying to set a static field of type " + expression.field.getType() + " to a value of type " + expression.value.type);
 		}
 		if (expression.field.isFinal()) {
 			if (!scope.isStaticInitializer() || expression.field.member.definition != scope.getDefinition()) {
 				validator.logError(
 						ValidationLogEntry.Code.SETTING_FINAL_FIELD,
-						expression.position,
+						expression.getPosition(),
 						"Trying to set final field " + expression.field.member.name);
 			}
 		}
@@ -624,15 +630,15 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 
 	@Override
 	public Void visitSetter(SetterExpression expression) {
-		checkMemberAccess(expression.position, expression.setter);
-		checkNotStatic(expression.position, expression.setter);
+		checkMemberAccess(expression.getPosition(), expression.setter);
+		checkNotStatic(expression.getPosition(), expression.setter);
 
 		expression.target.accept(this);
 		expression.value.accept(this);
 		if (!expression.value.type.equals(expression.setter.getType())) {
 			validator.logError(
 					ValidationLogEntry.Code.INVALID_SOURCE_TYPE,
-					expression.position,
+					expression.getPosition(),
 					"Trying to set a property of type " + expression.setter.getType() + " to a value of type " + expression.value.type);
 		}
 		return null;
@@ -640,21 +646,21 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 
 	@Override
 	public Void visitStaticGetter(StaticGetterExpression expression) {
-		checkMemberAccess(expression.position, expression.getter);
-		checkStatic(expression.position, expression.getter);
+		checkMemberAccess(expression.getPosition(), expression.getter);
+		checkStatic(expression.getPosition(), expression.getter);
 		return null;
 	}
 
 	@Override
 	public Void visitStaticSetter(StaticSetterExpression expression) {
-		checkMemberAccess(expression.position, expression.setter);
-		checkStatic(expression.position, expression.setter);
+		checkMemberAccess(expression.getPosition(), expression.setter);
+		checkStatic(expression.getPosition(), expression.setter);
 
 		expression.value.accept(this);
 		if (!expression.value.type.equals(expression.setter.getType())) {
 			validator.logError(
 					ValidationLogEntry.Code.INVALID_SOURCE_TYPE,
-					expression.position,
+					expression.getPosition(),
 					"Trying to set a static property of type " + expression.setter.getType() + " to a value of type " + expression.value.type);
 		}
 		return null;
@@ -675,7 +681,7 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 	@Override
 	public Void visitThis(ThisExpression expression) {
 		if (!scope.hasThis()) {
-			validator.logError(ValidationLogEntry.Code.THIS_IN_STATIC_SCOPE, expression.position, "Cannot use this in a static scope");
+			validator.logError(ValidationLogEntry.Code.THIS_IN_STATIC_SCOPE, expression.getPosition(), "Cannot use this in a static scope");
 		}
 
 		return null;
@@ -707,13 +713,13 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 	@Override
 	public Void visitVariantValue(VariantValueExpression expression) {
 		if (expression.getNumberOfArguments() != expression.option.types.length) {
-			validator.logError(ValidationLogEntry.Code.INVALID_CALL_ARGUMENT, expression.position, "Invalid number of variant arguments for variant element " + expression.option.getName());
+			validator.logError(ValidationLogEntry.Code.INVALID_CALL_ARGUMENT, expression.getPosition(), "Invalid number of variant arguments for variant element " + expression.option.getName());
 		}
 		for (int i = 0; i < expression.getNumberOfArguments(); i++) {
 			if (!expression.arguments[i].type.equals(expression.option.types[i])) {
 				validator.logError(
 						ValidationLogEntry.Code.INVALID_CALL_ARGUMENT,
-						expression.position,
+						expression.getPosition(),
 						"Invalid variant argument for argument " + i + ": " + expression.arguments[i].type + " given but " + expression.option.types[i] + " expected");
 			}
 		}
@@ -724,7 +730,7 @@ public class ExpressionValidator implements ExpressionVisitor<Void> {
 	public Void visitWrapOptional(WrapOptionalExpression expression) {
 		expression.value.accept(this);
 		if (expression.value.type.isOptional()) {
-			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.position, "expression value is already optional");
+			validator.logError(ValidationLogEntry.Code.INVALID_OPERAND_TYPE, expression.getPosition(), "expression value is already optional");
 		}
 		return null;
 	}
@@ -66,7 +66,7 @@ public class StatementValidator implements StatementVisitor<Void> {
 		if (statement.condition.type != BasicTypeID.BOOL) {
 			validator.logError(
 					ValidationLogEntry.Code.INVALID_CONDITION_TYPE,
-					statement.position,
+					statement.getPosition(),
 					"condition must be a boolean expression");
 		}
 
@@ -97,7 +97,7 @@ public class StatementValidator implements StatementVisitor<Void> {
 		validateInnerBlock(
 				statement.content,
 				Arrays.stream(statement.loopVariables)
-						.peek(it -> validateUniqueVariableName(it.position, it.name))
+						.peek(it -> validateUniqueVariableName(it.getPosition(), it.name))
 						.map(it -> it.name)
 						.toArray(String[]::new)
 		);
@@ -119,7 +119,7 @@ public class StatementValidator implements StatementVisitor<Void> {
 
 	@Override
 	public Void visitInvalid(InvalidStatement statement) {
-		validator.logError(ValidationLogEntry.Code.INVALID_STATEMENT, statement.position, statement.message);
+		validator.logError(ValidationLogEntry.Code.INVALID_STATEMENT, statement.getPosition(), statement.message);
 		return null;
 	}
 
@@ -136,7 +136,7 @@ public class StatementValidator implements StatementVisitor<Void> {
 	@Override
 	public Void visitReturn(ReturnStatement statement) {
 		if (scope.getFunctionHeader() == null) {
-			validator.logError(ValidationLogEntry.Code.SCRIPT_CANNOT_RETURN, statement.position, "Cannot return from a script");
+			validator.logError(ValidationLogEntry.Code.SCRIPT_CANNOT_RETURN, statement.getPosition(), "Cannot return from a script");
 			return null;
 		}
 
@@ -146,12 +146,12 @@ public class StatementValidator implements StatementVisitor<Void> {
 					new StatementExpressionScope()));
 
 			if (scope.getFunctionHeader().getReturnType() == BasicTypeID.VOID) {
-				validator.logError(ValidationLogEntry.Code.INVALID_RETURN_TYPE, statement.position, "Function return type is void; cannot return a value");
+				validator.logError(ValidationLogEntry.Code.INVALID_RETURN_TYPE, statement.getPosition(), "Function return type is void; cannot return a value");
 			} else if (!statement.value.type.equals(scope.getFunctionHeader().getReturnType())) {
-				validator.logError(ValidationLogEntry.Code.INVALID_RETURN_TYPE, statement.position, "Invalid return type: " + statement.value.type);
+				validator.logError(ValidationLogEntry.Code.INVALID_RETURN_TYPE, statement.getPosition(), "Invalid return type: " + statement.value.type);
 			}
 		} else if (scope.getFunctionHeader().getReturnType() != BasicTypeID.VOID) {
-			validator.logError(ValidationLogEntry.Code.INVALID_RETURN_TYPE, statement.position, "Missing return value");
+			validator.logError(ValidationLogEntry.Code.INVALID_RETURN_TYPE, statement.getPosition(), "Missing return value");
 		}
 
 		firstStatement = false;
@@ -184,18 +184,18 @@ public class StatementValidator implements StatementVisitor<Void> {
 	@Override
 	public Void visitTryCatch(TryCatchStatement statement) {
 		if (statement.resource != null) {
-			validateUniqueVariableName(statement.position, statement.resource.name);
+			validateUniqueVariableName(statement.getPosition(), statement.resource.name);
 			if (statement.resource.initializer == null) {
 				validator.logError(
 						ValidationLogEntry.Code.TRY_CATCH_RESOURCE_REQUIRES_INITIALIZER,
-						statement.position,
+						statement.getPosition(),
 						"try with resource requires initializer");
 			}
 		}
 
 		statement.content.accept(this);
 		for (CatchClause catchClause : statement.catchClauses) {
-			validateUniqueVariableName(catchClause.exceptionVariable.position, catchClause.exceptionVariable.name);
+			validateUniqueVariableName(catchClause.exceptionVariable.getPosition(), catchClause.exceptionVariable.name);
 			validateInnerBlock(catchClause.content, catchClause.exceptionVariable.name);
 		}
 
@@ -205,7 +205,7 @@ public class StatementValidator implements StatementVisitor<Void> {
 
 	@Override
 	public Void visitVar(VarStatement statement) {
-		validateUniqueVariableName(statement.position, statement.name);
+		validateUniqueVariableName(statement.getPosition(), statement.name);
 		this.variables.trackVariable(statement.name);
 		if (statement.initializer != null) {
 			statement.initializer.accept(new ExpressionValidator(validator, new StatementExpressionScope()));
@@ -230,7 +230,7 @@ public class StatementValidator implements StatementVisitor<Void> {
 		if (condition.type != BasicTypeID.BOOL) {
 			validator.logError(
 					ValidationLogEntry.Code.INVALID_CONDITION_TYPE,
-					condition.position,
+					condition.getPosition(),
 					"condition must be a boolean expression");
 		}
 	}
@@ -59,7 +59,10 @@ public class TypeValidator implements TypeVisitorWithContext<TypeContext, Void,
 
 	@Override
 	public Void visitInvalid(TypeContext context, InvalidTypeID type) {
-		validator.logError(ValidationLogEntry.Code.INVALID_TYPE, type.position, type.message);
+		if (type.reported)
+			validator.logReportedError();
+		else
+			validator.logError(ValidationLogEntry.Code.INVALID_TYPE, type.position, type.message);
 		return null;
 	}
 